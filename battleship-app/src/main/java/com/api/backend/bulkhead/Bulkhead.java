@@ -0,0 +1,166 @@
+package com.api.backend.bulkhead;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The Bulkhead class bounds the requests of an endpoint class: at most its
+ * number of threads run at once, at most its queue of others wait for one of
+ * them, for at most the queue timeout, and together they hold at most its share
+ * of the database connections. A request finding the queue full is rejected
+ * at once, so a burst of one class never takes the servlet threads or the
+ * connections of another. The request thread knows its bulkhead while it runs,
+ * so that the {@link PartitionedDataSource} can charge its connections to it.
+ */
+public class Bulkhead {
+
+	/**
+	 * The outcome of a request entering a bulkhead.
+	 */
+	public enum Admission {
+		ADMITTED, QUEUE_FULL, QUEUE_TIMEOUT
+	}
+
+	private static final ThreadLocal<Bulkhead> CURRENT = new ThreadLocal<>();
+
+	private final EndpointClass endpointClass;
+
+	private final int threads;
+
+	private final int queue;
+
+	private final Semaphore running;
+
+	private final AtomicInteger waiting = new AtomicInteger();
+
+	private final int maxConnections;
+
+	private final Semaphore connections;
+
+	private final long connectionTimeoutMillis;
+
+	/**
+	 * Instantiates a new bulkhead.
+	 *
+	 * @param endpointClass           the endpoint class isolated
+	 * @param threads                 the number of requests running at once
+	 * @param queue                   the number of requests waiting to run
+	 * @param maxConnections          the number of connections held at once
+	 * @param connectionTimeoutMillis how long a request waits for a connection
+	 */
+	public Bulkhead(EndpointClass endpointClass, int threads, int queue, int maxConnections,
+			long connectionTimeoutMillis) {
+		if (threads < 1 || queue < 0 || maxConnections < 1) {
+			throw new IllegalArgumentException("Invalid bulkhead of " + endpointClass.getName());
+		}
+		this.endpointClass = endpointClass;
+		this.threads = threads;
+		this.queue = queue;
+		this.running = new Semaphore(threads, true);
+		this.maxConnections = maxConnections;
+		this.connections = new Semaphore(maxConnections, true);
+		this.connectionTimeoutMillis = connectionTimeoutMillis;
+	}
+
+	/**
+	 * Returns the bulkhead of the request running on the current thread.
+	 *
+	 * @return the bulkhead, or null outside the bulkheads
+	 */
+	public static Bulkhead current() {
+		return CURRENT.get();
+	}
+
+	/**
+	 * Lets the current thread run a request of the bulkhead, waiting in its queue
+	 * while all its threads are busy. An admitted request must {@link #exit()}.
+	 *
+	 * @param queueTimeoutMillis how long the request may wait in the queue
+	 * @return whether the request was admitted, or why not
+	 * @throws InterruptedException if the thread is interrupted while waiting
+	 */
+	public Admission enter(long queueTimeoutMillis) throws InterruptedException {
+		if (!running.tryAcquire()) {
+			if (waiting.incrementAndGet() > queue) {
+				waiting.decrementAndGet();
+				return Admission.QUEUE_FULL;
+			}
+			try {
+				if (!running.tryAcquire(queueTimeoutMillis, TimeUnit.MILLISECONDS)) {
+					return Admission.QUEUE_TIMEOUT;
+				}
+			} finally {
+				waiting.decrementAndGet();
+			}
+		}
+		CURRENT.set(this);
+		return Admission.ADMITTED;
+	}
+
+	/**
+	 * Ends an admitted request on the current thread.
+	 */
+	public void exit() {
+		CURRENT.remove();
+		running.release();
+	}
+
+	/**
+	 * Waits for a connection of the bulkhead share.
+	 *
+	 * @return false if none was freed within the connection timeout
+	 * @throws InterruptedException if the thread is interrupted while waiting
+	 */
+	public boolean acquireConnection() throws InterruptedException {
+		return connections.tryAcquire(connectionTimeoutMillis, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Gives back a connection of the bulkhead share.
+	 */
+	public void releaseConnection() {
+		connections.release();
+	}
+
+	public EndpointClass getEndpointClass() {
+		return endpointClass;
+	}
+
+	/**
+	 * Returns the number of servlet threads the bulkhead may hold, running or
+	 * waiting.
+	 *
+	 * @return the threads and the queue
+	 */
+	public int getCapacity() {
+		return threads + queue;
+	}
+
+	/**
+	 * Returns the number of requests waiting to run.
+	 *
+	 * @return the queue depth
+	 */
+	public int getQueueDepth() {
+		return waiting.get();
+	}
+
+	/**
+	 * Returns the number of requests running.
+	 *
+	 * @return the active requests
+	 */
+	public int getActive() {
+		return threads - running.availablePermits();
+	}
+
+	/**
+	 * Returns the number of connections held by the requests of the bulkhead.
+	 *
+	 * @return the connections in use
+	 */
+	public int getConnectionsInUse() {
+		return maxConnections - connections.availablePermits();
+	}
+}
@@ -0,0 +1,34 @@
+package com.api.backend.bulkhead;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * BulkheadConfig is a configuration class partitioning the connection pool
+ * between the bulkheads.
+ */
+@Configuration
+public class BulkheadConfig {
+
+	/**
+	 * Wraps the data source in a {@link PartitionedDataSource}. It is static so
+	 * that it does not initialize this configuration ahead of the other beans.
+	 *
+	 * @return the post processor wrapping the data source
+	 */
+	@Bean
+	public static BeanPostProcessor partitionedDataSourcePostProcessor() {
+		return new BeanPostProcessor() {
+			@Override
+			public Object postProcessAfterInitialization(Object bean, String beanName) {
+				if (bean instanceof DataSource && !(bean instanceof PartitionedDataSource)) {
+					return new PartitionedDataSource((DataSource) bean);
+				}
+				return bean;
+			}
+		};
+	}
+}
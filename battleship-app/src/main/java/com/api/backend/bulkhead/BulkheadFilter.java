@@ -0,0 +1,121 @@
+package com.api.backend.bulkhead;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.api.backend.bulkhead.Bulkhead.Admission;
+import com.api.backend.filter.RequestPaths;
+import com.api.backend.response.ErrorResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * The BulkheadFilter class runs every request inside the {@link Bulkhead} of
+ * its {@link EndpointClass}, right after the security filters. Requests
+ * finding their bulkhead queue full, or waiting in it longer than the queue
+ * timeout, are rejected with 503 and a Retry-After header.
+ */
+@Component
+@Order(SecurityProperties.DEFAULT_FILTER_ORDER + 1)
+public class BulkheadFilter extends OncePerRequestFilter {
+
+	private final Bulkheads bulkheads;
+
+	private final boolean enabled;
+
+	private final long queueTimeoutMillis;
+
+	private final String retryAfterSeconds;
+
+	private final byte[] fullBody;
+
+	private final Map<EndpointClass, Map<Admission, Counter>> rejected = new EnumMap<>(EndpointClass.class);
+
+	/**
+	 * Instantiates a new bulkhead filter.
+	 *
+	 * @param bulkheads          the bulkheads of the endpoint classes
+	 * @param meterRegistry      the registry of the rejection metrics
+	 * @param objectMapper       the object mapper writing the rejection body
+	 * @param env                the env
+	 * @param enabled            whether requests run in the bulkheads
+	 * @param queueTimeoutMillis how long a request may wait in a bulkhead queue
+	 * @param retryAfterSeconds  the delay advised to rejected clients
+	 * @throws IOException if the rejection body cannot be written
+	 */
+	@Autowired
+	public BulkheadFilter(Bulkheads bulkheads, MeterRegistry meterRegistry, ObjectMapper objectMapper,
+			Environment env, @Value("${game.bulkhead.enabled:true}") boolean enabled,
+			@Value("${game.bulkhead.queue-timeout-ms:2000}") long queueTimeoutMillis,
+			@Value("${game.bulkhead.retry-after-seconds:1}") int retryAfterSeconds) throws IOException {
+		this.bulkheads = bulkheads;
+		this.enabled = enabled;
+		this.queueTimeoutMillis = queueTimeoutMillis;
+		this.retryAfterSeconds = Integer.toString(retryAfterSeconds);
+		this.fullBody = objectMapper.writeValueAsBytes(new ErrorResponse("Service Unavailable.",
+				Collections.singletonList(env.getProperty("BulkheadFilter.FULL"))));
+		for (EndpointClass endpointClass : EndpointClass.values()) {
+			Map<Admission, Counter> counters = new EnumMap<>(Admission.class);
+			counters.put(Admission.QUEUE_FULL, rejected(meterRegistry, endpointClass, "queue-full"));
+			counters.put(Admission.QUEUE_TIMEOUT, rejected(meterRegistry, endpointClass, "queue-timeout"));
+			rejected.put(endpointClass, counters);
+		}
+	}
+
+	@Override
+	protected boolean shouldNotFilter(HttpServletRequest request) {
+		return !enabled;
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+			throws ServletException, IOException {
+		EndpointClass endpointClass = EndpointClass.of(RequestPaths.pathWithinApplication(request));
+		Bulkhead bulkhead = bulkheads.get(endpointClass);
+		Admission admission;
+		try {
+			admission = bulkhead.enter(queueTimeoutMillis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			admission = Admission.QUEUE_TIMEOUT;
+		}
+		if (admission != Admission.ADMITTED) {
+			rejected.get(endpointClass).get(admission).increment();
+			response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+			response.setHeader(HttpHeaders.RETRY_AFTER, retryAfterSeconds);
+			response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+			response.getOutputStream().write(fullBody);
+			return;
+		}
+		try {
+			chain.doFilter(request, response);
+		} finally {
+			bulkhead.exit();
+		}
+	}
+
+	private static Counter rejected(MeterRegistry meterRegistry, EndpointClass endpointClass, String reason) {
+		return Counter.builder("game.bulkhead.rejected").description("Requests rejected by a full bulkhead")
+				.tag("class", endpointClass.getName()).tag("reason", reason).register(meterRegistry);
+	}
+}
@@ -0,0 +1,78 @@
+package com.api.backend.bulkhead;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * The Bulkheads class holds the {@link Bulkhead} of every endpoint class, sized
+ * from the {@code game.bulkhead.<name>.threads}, {@code .queue} and
+ * {@code .connections} properties. The queue depth, active requests and
+ * connections in use of each bulkhead are exposed as metrics. The bulkheads
+ * only isolate the endpoint classes if the servlet threads can hold all their
+ * running and waiting requests at once, which is checked at startup.
+ */
+@Component
+public class Bulkheads {
+
+	private static final Logger logger = LogManager.getLogger(Bulkheads.class);
+
+	private final Map<EndpointClass, Bulkhead> bulkheads = new EnumMap<>(EndpointClass.class);
+
+	/**
+	 * Instantiates the bulkheads.
+	 *
+	 * @param meterRegistry           the registry of the bulkhead metrics
+	 * @param env                     the env holding the bulkhead sizes
+	 * @param connectionTimeoutMillis how long a request waits for a connection
+	 *                                of its bulkhead
+	 */
+	@Autowired
+	public Bulkheads(MeterRegistry meterRegistry, Environment env,
+			@Value("${game.bulkhead.connection-timeout-ms:30000}") long connectionTimeoutMillis) {
+		int capacity = 0;
+		for (EndpointClass endpointClass : EndpointClass.values()) {
+			String prefix = "game.bulkhead." + endpointClass.getName();
+			Bulkhead bulkhead = new Bulkhead(endpointClass,
+					env.getProperty(prefix + ".threads", Integer.class, endpointClass.getDefaultThreads()),
+					env.getProperty(prefix + ".queue", Integer.class, endpointClass.getDefaultQueue()),
+					env.getProperty(prefix + ".connections", Integer.class, endpointClass.getDefaultConnections()),
+					connectionTimeoutMillis);
+			bulkheads.put(endpointClass, bulkhead);
+			capacity += bulkhead.getCapacity();
+			Gauge.builder("game.bulkhead.queue.depth", bulkhead, Bulkhead::getQueueDepth)
+					.description("Requests waiting in a bulkhead queue").tag("class", endpointClass.getName())
+					.register(meterRegistry);
+			Gauge.builder("game.bulkhead.active", bulkhead, Bulkhead::getActive)
+					.description("Requests running in a bulkhead").tag("class", endpointClass.getName())
+					.register(meterRegistry);
+			Gauge.builder("game.bulkhead.connections", bulkhead, Bulkhead::getConnectionsInUse)
+					.description("Connections held by the requests of a bulkhead").tag("class", endpointClass.getName())
+					.register(meterRegistry);
+		}
+		int servletThreads = env.getProperty("server.tomcat.threads.max", Integer.class, 200);
+		if (capacity > servletThreads) {
+			logger.warn("The bulkheads hold up to {} requests but only {} servlet threads are configured", capacity,
+					servletThreads);
+		}
+	}
+
+	/**
+	 * Returns the bulkhead of an endpoint class.
+	 *
+	 * @param endpointClass the endpoint class
+	 * @return the bulkhead
+	 */
+	public Bulkhead get(EndpointClass endpointClass) {
+		return bulkheads.get(endpointClass);
+	}
+}
@@ -0,0 +1,81 @@
+package com.api.backend.bulkhead;
+
+/**
+ * The EndpointClass enum splits the requests into classes isolated from each
+ * other by a {@link Bulkhead}: each class has its own running requests, queue
+ * and share of the database connections, read from the {@code game.bulkhead.<name>}
+ * properties.
+ */
+public enum EndpointClass {
+
+	/**
+	 * Game play turns.
+	 */
+	GAMEPLAY("gameplay", 64, 64, 6),
+
+	/**
+	 * Game, turn, leaderboard and ship reads.
+	 */
+	GAME_READ("game-read", 24, 24, 2),
+
+	/**
+	 * Joining, listing the available players and creating games.
+	 */
+	LOBBY("lobby", 8, 8, 1),
+
+	/**
+	 * Actuator, API docs, Swagger UI and H2 console.
+	 */
+	OPERATIONS("operations", 2, 4, 1);
+
+	private final String name;
+
+	private final int defaultThreads;
+
+	private final int defaultQueue;
+
+	private final int defaultConnections;
+
+	EndpointClass(String name, int defaultThreads, int defaultQueue, int defaultConnections) {
+		this.name = name;
+		this.defaultThreads = defaultThreads;
+		this.defaultQueue = defaultQueue;
+		this.defaultConnections = defaultConnections;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public int getDefaultThreads() {
+		return defaultThreads;
+	}
+
+	public int getDefaultQueue() {
+		return defaultQueue;
+	}
+
+	public int getDefaultConnections() {
+		return defaultConnections;
+	}
+
+	/**
+	 * Classifies a request by its path within the application.
+	 *
+	 * @param path the request path, without the context path
+	 * @return the endpoint class
+	 */
+	public static EndpointClass of(String path) {
+		if (!path.startsWith("/game/v1/")) {
+			return OPERATIONS;
+		}
+		if (path.startsWith("/game/v1/gameplay")) {
+			return GAMEPLAY;
+		}
+		if (path.startsWith("/game/v1/availableplayers") || path.startsWith("/game/v1/joingame")
+				|| path.startsWith("/game/v1/creategame")) {
+			return LOBBY;
+		}
+		return GAME_READ;
+	}
+}
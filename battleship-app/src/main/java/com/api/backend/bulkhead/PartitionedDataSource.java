@@ -0,0 +1,90 @@
+package com.api.backend.bulkhead;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * The PartitionedDataSource class splits the connection pool between the
+ * bulkheads. A request running in a {@link Bulkhead} takes a connection of its
+ * share before borrowing one from the pool and gives it back when the
+ * connection is closed, so one endpoint class cannot hold the connections
+ * another needs. Threads outside the bulkheads, such as the event consumers
+ * and the cache refresh threads, borrow from the pool directly.
+ */
+public class PartitionedDataSource extends DelegatingDataSource {
+
+	/**
+	 * Instantiates a new partitioned data source.
+	 *
+	 * @param targetDataSource the connection pool
+	 */
+	public PartitionedDataSource(DataSource targetDataSource) {
+		super(targetDataSource);
+	}
+
+	@Override
+	public Connection getConnection() throws SQLException {
+		Bulkhead bulkhead = acquire();
+		return bulkhead == null ? super.getConnection() : borrow(bulkhead, null, null);
+	}
+
+	@Override
+	public Connection getConnection(String username, String password) throws SQLException {
+		Bulkhead bulkhead = acquire();
+		return bulkhead == null ? super.getConnection(username, password) : borrow(bulkhead, username, password);
+	}
+
+	private static Bulkhead acquire() throws SQLException {
+		Bulkhead bulkhead = Bulkhead.current();
+		if (bulkhead == null) {
+			return null;
+		}
+		try {
+			if (!bulkhead.acquireConnection()) {
+				throw new SQLTransientConnectionException(
+						"No connection of the " + bulkhead.getEndpointClass().getName() + " bulkhead available");
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new SQLTransientConnectionException("Interrupted while waiting for a connection", e);
+		}
+		return bulkhead;
+	}
+
+	private Connection borrow(Bulkhead bulkhead, String username, String password) throws SQLException {
+		Connection connection;
+		try {
+			connection = username == null ? super.getConnection() : super.getConnection(username, password);
+		} catch (SQLException | RuntimeException e) {
+			bulkhead.releaseConnection();
+			throw e;
+		}
+		AtomicBoolean closed = new AtomicBoolean();
+		return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+				new Class<?>[] { Connection.class }, (proxy, method, args) -> {
+					if ("close".equals(method.getName())) {
+						if (closed.compareAndSet(false, true)) {
+							try {
+								connection.close();
+							} finally {
+								bulkhead.releaseConnection();
+							}
+						}
+						return null;
+					}
+					try {
+						return method.invoke(connection, args);
+					} catch (InvocationTargetException e) {
+						throw e.getCause();
+					}
+				});
+	}
+}
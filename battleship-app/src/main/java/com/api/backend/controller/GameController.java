@@ -0,0 +1,402 @@
+package com.api.backend.controller;
+
+import java.text.MessageFormat;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.env.Environment;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.api.backend.dto.GameDTO;
+import com.api.backend.dto.GameTurnDTO;
+import com.api.backend.dto.GameViewType;
+import com.api.backend.dto.PlayerDTO;
+import com.api.backend.dto.PlayerStatsDTO;
+import com.api.backend.dto.ShipDTO;
+import com.api.backend.exception.ValidationException;
+import com.api.backend.filter.RateLimiter;
+import com.api.backend.request.GameCreationRequest;
+import com.api.backend.request.GamePlayRequest;
+import com.api.backend.request.PlayerInputRequest;
+import com.api.backend.response.GamePlayResponse;
+import com.api.backend.service.GameService;
+import com.api.backend.service.GameShipService;
+import com.api.backend.service.PlayerService;
+import com.api.backend.utils.CachedGameView;
+import com.api.backend.utils.Constants;
+import com.api.backend.utils.StaleWhileRevalidateCache;
+import com.api.backend.utils.StaleWhileRevalidateCache.Served;
+
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+
+import io.swagger.v3.oas.annotations.OpenAPIDefinition;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+
+/**
+ * The Class GameController handles HTTP requests and responses related to the game functionalities.
+ */
+@RestController
+@OpenAPIDefinition(info = @io.swagger.v3.oas.annotations.info.Info(title = "Battleship APIs", version = "1.0.0"))
+@RequestMapping("/game/v1")
+public class GameController {
+
+	private final GameService gameService;
+	
+	private final GameShipService gameShipService;
+	
+	private final PlayerService playerService;
+
+	private final RateLimiter rateLimiter;
+
+	private final Environment env;
+
+	/**
+	 * Instantiates a new Game Controller with the necessary services.
+	 *
+	 * @param gameService the game service to handle game-related operations
+	 * @param gameShipService the game ship service to manage ships
+	 * @param playerService the player service to handle player-related operations
+	 * @param rateLimiter the rate limiter of the game play turns per game player
+	 * @param env the env
+	 */
+	@Autowired
+	public GameController(GameService gameService, GameShipService gameShipService, PlayerService playerService,
+			RateLimiter rateLimiter, Environment env) {
+		this.gameService = gameService;
+		this.gameShipService = gameShipService;
+		this.playerService = playerService;
+		this.rateLimiter = rateLimiter;
+		this.env = env;
+	}
+
+	/**
+	 * API endpoint to create a new player who joins the game.
+	 *
+	 * @param playerDTO the player DTO containing player details
+	 * @return the response entity with the created player's details
+	 */
+	@PostMapping("/joingame")
+	@Operation(summary = "API used to create player in the backend who has joined the game")
+	@ApiResponses(value = { @ApiResponse(responseCode = "200", description = "Player created successfully"),
+			@ApiResponse(responseCode = "400", description = "Invalid player details are shared") })
+	public ResponseEntity<PlayerDTO> joinGame(@RequestBody @Validated PlayerInputRequest playerDTO) {
+
+		return ResponseEntity.ok(playerService.createPlayer(playerDTO));
+
+	}
+
+	/**
+	 * API endpoint to get a list of available players who are ready to play the game.
+	 *
+	 * @return the response entity containing the list of available players
+	 */
+	@GetMapping("/availableplayers")
+	@Operation(summary = "API used to get available players who are ready to play the game")
+	@ApiResponses(value = {
+			@ApiResponse(responseCode = "200", description = "List of players retrieved successfully") })
+	public ResponseEntity<List<PlayerDTO>> getAvailablePlayers() {
+
+		return ResponseEntity.ok(playerService.fetchAllAvailablePlayers());
+
+	}
+
+	/**
+	 * API endpoint to page through the leaderboard of the players who completed a
+	 * game.
+	 *
+	 * @param from  the rank of the first player of the page, starting at 1
+	 * @param limit the maximum number of players to return
+	 * @return the response entity containing the player statistics, best ranked first
+	 */
+	@GetMapping("/leaderboard")
+	@Operation(summary = "API used to get the players ranked by wins, then by fewest average turns to win")
+	@ApiResponses(value = { @ApiResponse(responseCode = "200", description = "Leaderboard retrieved successfully"),
+			@ApiResponse(responseCode = "400", description = "Invalid rank range") })
+	public ResponseEntity<List<PlayerStatsDTO>> fetchLeaderboard(@RequestParam(defaultValue = "1") int from,
+			@RequestParam(defaultValue = "20") int limit) {
+
+		return ResponseEntity.ok(gameService.fetchLeaderboard(from, limit));
+
+	}
+
+	/**
+	 * API endpoint to get the statistics and leaderboard rank of a player.
+	 *
+	 * @param playerId the player ID
+	 * @return the response entity containing the player statistics
+	 */
+	@GetMapping("/players/{playerId}/stats")
+	@Operation(summary = "API used to get the game statistics and rank of a player")
+	@ApiResponses(value = { @ApiResponse(responseCode = "200", description = "Player statistics retrieved successfully"),
+			@ApiResponse(responseCode = "400", description = "The player has not completed any game") })
+	public ResponseEntity<PlayerStatsDTO> fetchPlayerStats(@PathVariable Long playerId) {
+
+		return ResponseEntity.ok(gameService.fetchPlayerStats(playerId));
+
+	}
+
+	/**
+	 * API endpoint to create a new game with two players.
+	 *
+	 * @param requests the list of game creation requests containing player details
+	 * @return the response entity with the status message of the game creation process
+	 */
+	@PostMapping("/creategame")
+	@Operation(summary = "API used to create a new game with two players")
+	@ApiResponses(value = { @ApiResponse(responseCode = "200", description = "Game created successfully"),
+			@ApiResponse(responseCode = "400", description = "Invalid game creation request") })
+	public ResponseEntity<String> createGame(@RequestBody List<GameCreationRequest> requests) {
+
+		String response = gameService.createGame(requests);
+		return ResponseEntity.ok(response);
+
+	}
+
+	/**
+	 * API endpoint to retrieve game information for several game IDs in one call.
+	 *
+	 * @param ids    the game IDs to fetch game details
+	 * @param view   the game representation: summary, board, full or compact
+	 * @param fields the top level game properties to return, all when omitted
+	 * @return the response entity containing the game details in the requested order
+	 */
+	@GetMapping("/games")
+	@Operation(summary = "API used to retrieve information of several games")
+	@ApiResponses(value = {
+			@ApiResponse(responseCode = "200", description = "Games information retrieved successfully"),
+			@ApiResponse(responseCode = "400", description = "Invalid or too many game ids") })
+	public ResponseEntity<MappingJacksonValue> fetchGames(@RequestParam List<String> ids,
+			@RequestParam(defaultValue = "full") String view, @RequestParam(required = false) Set<String> fields) {
+
+		return ResponseEntity.ok(toGameView(gameService.fetchGamesDetails(ids), toViewType(view), fields));
+
+	}
+
+	/**
+	 * API endpoint to retrieve game information for a long list of game IDs sent in the request body.
+	 *
+	 * @param ids    the game IDs to fetch game details
+	 * @param view   the game representation: summary, board, full or compact
+	 * @param fields the top level game properties to return, all when omitted
+	 * @return the response entity containing the game details in the requested order
+	 */
+	@PostMapping("/games")
+	@Operation(summary = "API used to retrieve information of a long list of games")
+	@ApiResponses(value = {
+			@ApiResponse(responseCode = "200", description = "Games information retrieved successfully"),
+			@ApiResponse(responseCode = "400", description = "Invalid or too many game ids") })
+	public ResponseEntity<MappingJacksonValue> fetchGamesByPost(@RequestBody List<String> ids,
+			@RequestParam(defaultValue = "full") String view, @RequestParam(required = false) Set<String> fields) {
+
+		return ResponseEntity.ok(toGameView(gameService.fetchGamesDetails(ids), toViewType(view), fields));
+
+	}
+
+	/**
+	 * API endpoint to list the most recently created games with a status.
+	 *
+	 * @param status the game status, ongoing or completed
+	 * @param limit  the maximum number of games to return
+	 * @param fields the top level game properties to return, all when omitted
+	 * @return the response entity containing the game summaries, newest first
+	 */
+	@GetMapping("/games/status/{status}")
+	@Operation(summary = "API used to list the most recent games with a status")
+	@ApiResponses(value = {
+			@ApiResponse(responseCode = "200", description = "Game summaries retrieved successfully"),
+			@ApiResponse(responseCode = "400", description = "Invalid status or limit") })
+	public ResponseEntity<MappingJacksonValue> fetchGamesByStatus(@PathVariable String status,
+			@RequestParam(defaultValue = "100") int limit, @RequestParam(required = false) Set<String> fields) {
+
+		return ResponseEntity
+				.ok(toGameView(gameService.fetchGamesByStatus(status, limit), GameViewType.SUMMARY, fields));
+
+	}
+
+	/**
+	 * API endpoint to retrieve game information for a given game ID. The summary
+	 * view only reads game status, current player, winner and ship statuses. The
+	 * age of the served game state in milliseconds is returned in a response
+	 * header. With a turn number, the game is rebuilt as it was after that turn.
+	 *
+	 * @param gameId the game ID to fetch game details
+	 * @param view   the game representation: summary, board, full or compact
+	 * @param fields the top level game properties to return, all when omitted
+	 * @param atTurn the turn after which to show the game, 0 for its start, the
+	 *               current state when omitted
+	 * @return the response entity containing the game details
+	 */
+	@GetMapping("/{gameId}")
+	@Operation(summary = "API used to retrieve game information")
+	@ApiResponses(value = {
+			@ApiResponse(responseCode = "200", description = "Game information retrieved successfully"),
+			@ApiResponse(responseCode = "400", description = "Invalid game id, view or turn") })
+	public ResponseEntity<MappingJacksonValue> fetchGameDetails(@PathVariable String gameId,
+			@RequestParam(defaultValue = "full") String view, @RequestParam(required = false) Set<String> fields,
+			@RequestParam(required = false) Integer atTurn) {
+
+		GameViewType viewType = toViewType(view);
+		if (atTurn != null) {
+			return ResponseEntity.ok(toGameView(gameService.fetchGameAtTurn(gameId, atTurn), viewType, fields));
+		}
+		Served<MappingJacksonValue> served = StaleWhileRevalidateCache.withServedAge(() -> {
+			if (viewType == GameViewType.SUMMARY) {
+				return toGameView(gameService.fetchGameSummary(gameId), viewType, fields);
+			}
+			return toCachedGameView(gameService.fetchGameDetails(gameId), gameId, viewType, fields);
+		});
+		if (served.getAge() < 0) {
+			return ResponseEntity.ok(served.getValue());
+		}
+		return ResponseEntity.ok().header(Constants.GAME_AGE_HEADER, Long.toString(served.getAge()))
+				.body(served.getValue());
+
+	}
+
+	/**
+	 * API endpoint to page through the turn history of a game.
+	 *
+	 * @param gameId the game ID
+	 * @param from   the first turn number of the page, starting at 1
+	 * @param limit  the maximum number of turns to return
+	 * @return the response entity containing the turns in turn order
+	 */
+	@GetMapping("/{gameId}/turns")
+	@Operation(summary = "API used to page through the turns played in a game")
+	@ApiResponses(value = { @ApiResponse(responseCode = "200", description = "Turns retrieved successfully"),
+			@ApiResponse(responseCode = "400", description = "Invalid game id or turn range") })
+	public ResponseEntity<List<GameTurnDTO>> fetchGameTurns(@PathVariable String gameId,
+			@RequestParam(defaultValue = "1") int from, @RequestParam(defaultValue = "100") int limit) {
+
+		return ResponseEntity.ok(gameService.fetchGameTurns(gameId, from, limit));
+
+	}
+
+	/**
+	 * API endpoint to perform a game play turn based on the provided game play request.
+	 * The turns left in the rate limit of the game player are returned in a response header.
+	 *
+	 * @param request the game play request containing player and grid details
+	 * @return the response entity containing the game play response
+	 */
+	@PostMapping("/gameplay")
+	@Operation(summary = "API used to perform a game play turn")
+	@ApiResponses(value = { @ApiResponse(responseCode = "200", description = "Game play turn executed successfully"),
+			@ApiResponse(responseCode = "400", description = "Invalid game play request"),
+			@ApiResponse(responseCode = "429", description = "Too many turns sent for the game player") })
+	public ResponseEntity<GamePlayResponse> gamePlay(@RequestBody @Validated GamePlayRequest request) {
+
+		GamePlayResponse response;
+
+		long remaining = rateLimiter.consumeTurn(request.getCurrentPlayer());
+		response = gameService.playerTurn(request);
+		if (remaining < 0) {
+			return ResponseEntity.ok(response);
+		}
+		return ResponseEntity.ok().header(Constants.PLAYER_RATE_LIMIT_REMAINING_HEADER, Long.toString(remaining))
+				.body(response);
+
+	}
+
+	/**
+	 * API endpoint to get the list of available ships.
+	 *
+	 * @return the response entity containing the list of available ships
+	 */
+	@GetMapping("/ships")
+	@Operation(summary = "API used to get the list of available ships")
+	@ApiResponses(value = { @ApiResponse(responseCode = "200", description = "List of ships retrieved successfully") })
+	public ResponseEntity<List<ShipDTO>> getShips() {
+
+		List<ShipDTO> ships = gameShipService.getShips();
+		return ResponseEntity.ok(ships);
+
+	}
+
+	/**
+	 * Wraps games with the Jackson view and property filter requested by the client.
+	 *
+	 * @param games    the game or list of games to serialize
+	 * @param viewType the game representation
+	 * @param fields   the top level game properties to return, all when null or empty
+	 * @return the games with their serialization settings
+	 */
+	private MappingJacksonValue toGameView(Object games, GameViewType viewType, Set<String> fields) {
+		return withViewAndFields(new MappingJacksonValue(games), viewType, fields);
+	}
+
+	/**
+	 * Wraps a game served by the games cache so that its encoded bytes are reused
+	 * until the next turn of the game. Only the whole views are cached, at most
+	 * one per view type and game; a sparse fieldset is written from the cached
+	 * game without keeping its bytes.
+	 *
+	 * @param game     the cached game
+	 * @param gameId   the game id
+	 * @param viewType the game representation
+	 * @param fields   the top level game properties to return, all when null or empty
+	 * @return the game with its serialization settings
+	 */
+	private MappingJacksonValue toCachedGameView(GameDTO game, String gameId, GameViewType viewType,
+			Set<String> fields) {
+		if (fields != null && !fields.isEmpty()) {
+			return toGameView(game, viewType, fields);
+		}
+		return withViewAndFields(new CachedGameView(game, gameId, viewType.name()), viewType, fields);
+	}
+
+	/**
+	 * Resolves the requested game representation.
+	 *
+	 * @param view the case insensitive view name
+	 * @return the view type
+	 * @throws ValidationException if the name is not a known view
+	 */
+	private GameViewType toViewType(String view) {
+		GameViewType viewType = GameViewType.fromValue(view);
+		if (viewType == null) {
+			throw new ValidationException(MessageFormat.format(env.getProperty("GameController.UNKNOWN_VIEW"), view));
+		}
+		return viewType;
+	}
+
+	/**
+	 * Sets the Jackson view and the property filter of the requested fields.
+	 *
+	 * @param value    the value to serialize
+	 * @param viewType the game representation
+	 * @param fields   the top level game properties to return, all when null or empty
+	 * @return the value with its serialization settings
+	 * @throws ValidationException if a field is not a game property
+	 */
+	private MappingJacksonValue withViewAndFields(MappingJacksonValue value, GameViewType viewType,
+			Set<String> fields) {
+		value.setSerializationView(viewType.getJsonView());
+		if (fields != null && !fields.isEmpty()) {
+			Set<String> unknown = new TreeSet<>(fields);
+			unknown.removeAll(Constants.GAME_FIELDS);
+			if (!unknown.isEmpty()) {
+				throw new ValidationException(MessageFormat.format(env.getProperty("GameController.UNKNOWN_FIELDS"),
+						unknown, new TreeSet<>(Constants.GAME_FIELDS)));
+			}
+			value.setFilters(new SimpleFilterProvider().addFilter(Constants.GAME_FIELDS_FILTER,
+					SimpleBeanPropertyFilter.filterOutAllExcept(fields)));
+		}
+		return value;
+	}
+
+}
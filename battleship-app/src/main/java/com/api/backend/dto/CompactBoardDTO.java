@@ -0,0 +1,32 @@
+package com.api.backend.dto;
+
+import com.api.backend.engine.CellEncoding;
+import com.fasterxml.jackson.annotation.JsonView;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * The CompactBoardDTO class holds the game board of a player as encoded cell
+ * sets. Cells are indexed {@code row * size + column} and can be decoded with
+ * {@code BoardCodec} from the battleship engine module; ship cells are found on
+ * each game ship with the same encoding.
+ */
+@JsonView(GameViews.Compact.class)
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class CompactBoardDTO {
+
+	private int size;
+
+	private CellEncoding encoding;
+
+	private String shots;
+
+	private String hits;
+
+}
@@ -5,11 +5,17 @@ import java.util.UUID;
 
 import javax.validation.constraints.NotNull;
 
+import com.api.backend.utils.Constants;
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fasterxml.jackson.annotation.JsonView;
+
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+@JsonFilter(Constants.GAME_FIELDS_FILTER)
+@JsonView(GameViews.Summary.class)
 @Data
 @Builder
 @AllArgsConstructor
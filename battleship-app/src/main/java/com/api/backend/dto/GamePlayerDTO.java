@@ -0,0 +1,37 @@
+package com.api.backend.dto;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonView;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@JsonView(GameViews.Summary.class)
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class GamePlayerDTO {
+
+	private Long gamePlayerId;
+
+	private PlayerDTO player;
+
+	private List<GameShipDTO> gameShips;
+
+	private Integer shotsFired;
+
+	private Integer shotsHit;
+
+	private Integer shipsRemaining;
+
+	@JsonView(GameViews.Board.class)
+	private List<GameGridDTO> gameBoard;
+
+	@JsonView(GameViews.Compact.class)
+	private CompactBoardDTO compactBoard;
+
+}
\ No newline at end of file
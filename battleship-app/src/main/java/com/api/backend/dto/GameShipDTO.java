@@ -2,11 +2,14 @@ package com.api.backend.dto;
 
 import java.util.List;
 
+import com.fasterxml.jackson.annotation.JsonView;
+
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+@JsonView(GameViews.Summary.class)
 @Data
 @Builder
 @AllArgsConstructor
@@ -19,6 +22,10 @@ public class GameShipDTO {
 	
 	private String shipStatus;
 	
+	@JsonView(GameViews.Full.class)
 	private List<GameGridDTO> gameShipGrids;
 
+	@JsonView(GameViews.Compact.class)
+	private String cells;
+
 }
\ No newline at end of file
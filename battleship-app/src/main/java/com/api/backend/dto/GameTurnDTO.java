@@ -1,7 +1,5 @@
 package com.api.backend.dto;
 
-import java.util.List;
-
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -11,14 +9,16 @@ import lombok.NoArgsConstructor;
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor
-public class GamePlayerDTO {
+public class GameTurnDTO {
+
+	private int turnNumber;
 
 	private Long gamePlayerId;
 
-	private PlayerDTO player;
+	private int rowIndex;
 
-	private List<GameShipDTO> gameShips;
+	private int columnIndex;
 
-	private List<GameGridDTO> gameBoard;
+	private String result;
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,37 @@
+package com.api.backend.dto;
+
+import java.util.Locale;
+
+/**
+ * The GameViewType enum lists the game representations a client can request.
+ */
+public enum GameViewType {
+	SUMMARY(GameViews.Summary.class),
+	BOARD(GameViews.Board.class),
+	FULL(GameViews.Full.class),
+	COMPACT(GameViews.Compact.class);
+
+	private final Class<?> jsonView;
+
+	GameViewType(Class<?> jsonView) {
+		this.jsonView = jsonView;
+	}
+
+	public Class<?> getJsonView() {
+		return jsonView;
+	}
+
+	/**
+	 * Resolves a view type from its case insensitive name.
+	 *
+	 * @param value the view name
+	 * @return the view type, or null if the name is not a known view
+	 */
+	public static GameViewType fromValue(String value) {
+		try {
+			return valueOf(value.toUpperCase(Locale.ROOT));
+		} catch (IllegalArgumentException e) {
+			return null;
+		}
+	}
+}
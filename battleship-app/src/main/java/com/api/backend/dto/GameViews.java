@@ -0,0 +1,36 @@
+package com.api.backend.dto;
+
+/**
+ * The GameViews class holds the Jackson views used to serialize sparse game
+ * representations. Each view includes the properties of the views it extends.
+ */
+public final class GameViews {
+
+	private GameViews() {
+	}
+
+	/**
+	 * Game status, current player, winner and ship statuses.
+	 */
+	public interface Summary {
+	}
+
+	/**
+	 * Summary plus the game board of every player.
+	 */
+	public interface Board extends Summary {
+	}
+
+	/**
+	 * Board plus the grids of every ship.
+	 */
+	public interface Full extends Board {
+	}
+
+	/**
+	 * Summary plus the shot, hit and ship cells of every player encoded as
+	 * bitsets instead of grid objects.
+	 */
+	public interface Compact extends Summary {
+	}
+}
@@ -3,11 +3,14 @@ package com.api.backend.dto;
 import javax.validation.constraints.Pattern;
 import javax.validation.constraints.Size;
 
+import com.fasterxml.jackson.annotation.JsonView;
+
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+@JsonView(GameViews.Summary.class)
 @Data
 @Builder
 @AllArgsConstructor
@@ -0,0 +1,34 @@
+package com.api.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class PlayerStatsDTO {
+
+	private Integer rank;
+
+	private Long playerId;
+
+	private String playerName;
+
+	private Integer gamesPlayed;
+
+	private Integer wins;
+
+	private Integer losses;
+
+	private Long shotsFired;
+
+	private Long shotsHit;
+
+	private Double hitRate;
+
+	private Double averageTurnsToWin;
+
+}
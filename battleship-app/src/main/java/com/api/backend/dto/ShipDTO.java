@@ -1,10 +1,13 @@
 package com.api.backend.dto;
 
+import com.fasterxml.jackson.annotation.JsonView;
+
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+@JsonView(GameViews.Summary.class)
 @Data
 @Builder
 @AllArgsConstructor
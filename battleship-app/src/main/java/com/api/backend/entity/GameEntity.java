@@ -9,12 +9,18 @@ import javax.persistence.Entity;
 import javax.persistence.EnumType;
 import javax.persistence.Enumerated;
 import javax.persistence.GeneratedValue;
-import javax.persistence.GenerationType;
 import javax.persistence.Id;
 import javax.persistence.JoinColumn;
+import javax.persistence.NamedAttributeNode;
+import javax.persistence.NamedEntityGraph;
+import javax.persistence.NamedSubgraph;
 import javax.persistence.OneToOne;
 import javax.persistence.Table;
 
+import org.hibernate.annotations.GenericGenerator;
+
+import com.api.backend.utils.GameIdGenerator;
+
 import lombok.Data;
 import lombok.ToString;
 
@@ -22,10 +28,18 @@ import lombok.ToString;
 @Entity
 @ToString(exclude = {"player1", "player2", "currentPlayer", "winner"})
 @Table(name = "Game")
+@NamedEntityGraph(name = GameEntity.PLAYERS_GRAPH, attributeNodes = {
+		@NamedAttributeNode(value = "player1", subgraph = "gamePlayer"),
+		@NamedAttributeNode(value = "player2", subgraph = "gamePlayer"), @NamedAttributeNode("currentPlayer"),
+		@NamedAttributeNode("winner") }, subgraphs = @NamedSubgraph(name = "gamePlayer", attributeNodes = @NamedAttributeNode("player")))
 public class GameEntity {
 
+	/** Fetch plan loading the game with both game players and their players in one query. */
+	public static final String PLAYERS_GRAPH = "Game.players";
+
 	@Id
-	@GeneratedValue(strategy = GenerationType.AUTO)
+	@GeneratedValue(generator = GameIdGenerator.NAME)
+	@GenericGenerator(name = GameIdGenerator.NAME, strategy = "com.api.backend.utils.GameIdGenerator")
 	@Column(columnDefinition = "BINARY(16)")
 	private UUID gameId;
 
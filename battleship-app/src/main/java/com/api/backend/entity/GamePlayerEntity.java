@@ -41,6 +41,15 @@ public class GamePlayerEntity {
 	@JsonIgnoreProperties("gamePlayer")
 	private List<GameGridEntity> gameBoard;
 
+	/** Number of shots fired by this player at the opponent's board. */
+	private int shotsFired;
+
+	/** Number of those shots which hit an opponent ship. */
+	private int shotsHit;
+
+	/** Number of ships of this player not sunk yet, the opponent wins when it reaches zero. */
+	private int shipsRemaining;
+
 	// helpers for bidirectional relationships
 	public void addGameShip(GameShipEntity gameShip) {
 		if (gameShips == null) {
@@ -42,6 +42,9 @@ public class GameShipEntity {
 	@Enumerated(EnumType.STRING)
 	private ShipStatus shipStatus;
 
+	/** Number of cells of the ship already attacked, the ship is sunk when it reaches the ship length. */
+	private int hitCount;
+
 	@ManyToOne
 	@JoinColumn(name = "gamePlayerid", nullable = false)
 	private GamePlayerEntity gamePlayer;
@@ -0,0 +1,50 @@
+package com.api.backend.entity;
+
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.FetchType;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.JoinColumn;
+import javax.persistence.ManyToOne;
+import javax.persistence.Table;
+
+import lombok.Data;
+import lombok.ToString;
+
+/**
+ * A played turn: its number within the game, the game player who fired, the
+ * attacked cell as {@code row * size + column} and what the shot did. Every
+ * {@code Constants.TURN_CHECKPOINT_INTERVAL} turns the attacked cells of both
+ * boards after the turn are stored with it, so that a board is rebuilt from
+ * the closest checkpoint instead of from the first turn.
+ */
+@Data
+@Entity
+@ToString(exclude = {"game"})
+@Table(name = "GameTurn", indexes = @Index(name = "GameTurn_game_turn", columnList = "gameId, turnNumber", unique = true))
+public class GameTurnEntity {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long gameTurnId;
+
+	@ManyToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = "gameId", nullable = false)
+	private GameEntity game;
+
+	private int turnNumber;
+
+	private Long gamePlayerId;
+
+	private byte cell;
+
+	@Enumerated(EnumType.ORDINAL)
+	private TurnResult result;
+
+	private byte[] checkpoint;
+
+}
@@ -0,0 +1,7 @@
+package com.api.backend.entity;
+
+public enum TurnResult {
+MISS,
+HIT,
+SUNK
+}
@@ -0,0 +1,56 @@
+package com.api.backend.event;
+
+import java.util.UUID;
+
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * The GameEvent class is a slot of the game event ring. Slots are allocated once
+ * with the ring and overwritten by every event published into them, so a
+ * consumer must copy what it keeps before returning from its handler. Only the
+ * properties of the event type are set, the others are null.
+ */
+@Getter
+@ToString
+public class GameEvent {
+
+	private GameEventType type;
+
+	private UUID gameId;
+
+	private Long gamePlayerId;
+
+	private Integer rowIndex;
+
+	private Integer columnIndex;
+
+	private String shipName;
+
+	private Long winnerId;
+
+	private long timestamp;
+
+	/**
+	 * Overwrites the slot with a new event.
+	 *
+	 * @param type         the event type
+	 * @param gameId       the game id
+	 * @param gamePlayerId the game player who fired, for shot events
+	 * @param rowIndex     the attacked row, for shot events
+	 * @param columnIndex  the attacked column, for shot events
+	 * @param shipName     the name of the sunk ship
+	 * @param winnerId     the game player who won the completed game
+	 */
+	void set(GameEventType type, UUID gameId, Long gamePlayerId, Integer rowIndex, Integer columnIndex,
+			String shipName, Long winnerId) {
+		this.type = type;
+		this.gameId = gameId;
+		this.gamePlayerId = gamePlayerId;
+		this.rowIndex = rowIndex;
+		this.columnIndex = columnIndex;
+		this.shipName = shipName;
+		this.winnerId = winnerId;
+		this.timestamp = System.currentTimeMillis();
+	}
+}
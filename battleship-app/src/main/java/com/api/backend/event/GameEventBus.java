@@ -0,0 +1,200 @@
+package com.api.backend.event;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.api.backend.entity.ShipStatus;
+import com.api.backend.request.GameShipLocationRequest;
+import com.api.backend.response.GamePlayResponse;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * The GameEventBus class publishes the domain events of the games, game created,
+ * shot fired, ship sunk and game completed, to the {@link GameEventHandler}
+ * beans. Events are published once the transaction that produced them commits,
+ * into a {@link GameEventRing} read by one thread per handler, so side work
+ * hung off a turn adds no latency to the request. A full ring drops shot, sunk
+ * and created events, but never the completion of a game, which is handed to
+ * every consumer outside the ring instead. Each consumer's lag, the published
+ * events, the events dropped per type and the overflowed events are exposed as
+ * metrics.
+ */
+@Component
+public class GameEventBus implements SmartLifecycle {
+
+	private static final Logger logger = LogManager.getLogger(GameEventBus.class);
+
+	private final GameEventRing ring;
+
+	private final List<GameEventProcessor> processors = new ArrayList<>();
+
+	private final List<Thread> threads = new ArrayList<>();
+
+	/**
+	 * Instantiates a new game event bus and its ring.
+	 *
+	 * @param handlers      the consumers of the events
+	 * @param meterRegistry the registry of the ring metrics
+	 * @param capacity      the number of events the ring holds, a power of two
+	 * @param waitStrategy  how idle consumers wait: blocking, sleeping, yielding
+	 *                      or busy-spin
+	 */
+	@Autowired
+	public GameEventBus(List<GameEventHandler> handlers, MeterRegistry meterRegistry,
+			@Value("${game.events.capacity:4096}") int capacity,
+			@Value("${game.events.wait-strategy:blocking}") String waitStrategy) {
+		WaitStrategy strategy = WaitStrategy.valueOf(waitStrategy.toUpperCase(Locale.ROOT).replace('-', '_'));
+		this.ring = new GameEventRing(capacity, strategy);
+		for (GameEventHandler handler : handlers) {
+			GameEventProcessor processor = new GameEventProcessor(AopUtils.getTargetClass(handler).getSimpleName(),
+					ring, handler, strategy);
+			processors.add(processor);
+			Gauge.builder("game.events.lag", processor, GameEventProcessor::getLag)
+					.description("Events published but not yet handled by the consumer")
+					.tag("consumer", processor.getName()).register(meterRegistry);
+		}
+		FunctionCounter.builder("game.events.published", ring, published -> published.getCursor() + 1)
+				.description("Events claimed in the game event ring").register(meterRegistry);
+		for (GameEventType type : GameEventType.values()) {
+			if (type.isDroppable()) {
+				FunctionCounter.builder("game.events.dropped", ring, dropped -> dropped.getDropped(type))
+						.description("Events dropped because the slowest consumer was a full ring behind")
+						.tag("type", type.name().toLowerCase(Locale.ROOT)).register(meterRegistry);
+			}
+		}
+		FunctionCounter.builder("game.events.overflowed", ring, GameEventRing::getOverflowed)
+				.description("Events delivered outside the full ring because they cannot be dropped")
+				.register(meterRegistry);
+	}
+
+	/**
+	 * Publishes the creation of a game.
+	 *
+	 * @param gameId the id of the created game
+	 */
+	public void gameCreated(UUID gameId) {
+		afterCommit(() -> ring.publish(GameEventType.GAME_CREATED, gameId, null, null, null, null, null));
+	}
+
+	/**
+	 * Publishes the events of a played turn: the shot, the ship it sank if any,
+	 * and the completion of the game if the fleet is sunk.
+	 *
+	 * @param gameId       the game id
+	 * @param gamePlayerId the game player who fired
+	 * @param attackedGrid the attacked location
+	 * @param response     the result of the turn
+	 */
+	public void turnPlayed(UUID gameId, Long gamePlayerId, GameShipLocationRequest attackedGrid,
+			GamePlayResponse response) {
+		afterCommit(() -> {
+			ring.publish(GameEventType.SHOT_FIRED, gameId, gamePlayerId, attackedGrid.getRowIndex(),
+					attackedGrid.getColumnIndex(), null, null);
+			if (response.getGameShipHitOrSunked() != null
+					&& ShipStatus.SUNK.toString().equals(response.getGameShipHitOrSunked().getGameShipStatus())) {
+				ring.publish(GameEventType.SHIP_SUNK, gameId, gamePlayerId, attackedGrid.getRowIndex(),
+						attackedGrid.getColumnIndex(), response.getGameShipHitOrSunked().getGameShipName(), null);
+			}
+			if (response.getGameWinnerId() != null && !ring.publish(GameEventType.GAME_COMPLETED, gameId, null,
+					null, null, null, response.getGameWinnerId())) {
+				overflow(GameEventType.GAME_COMPLETED, gameId, response.getGameWinnerId());
+			}
+		});
+	}
+
+	/**
+	 * Hands an event the full ring refused to every consumer, each with a copy
+	 * of its own.
+	 *
+	 * @param type     the event type
+	 * @param gameId   the game id
+	 * @param winnerId the game player who won the completed game
+	 */
+	private void overflow(GameEventType type, UUID gameId, Long winnerId) {
+		logger.warn("Game event ring full, handing {} of game {} to the consumers directly", type, gameId);
+		for (GameEventProcessor processor : processors) {
+			GameEvent event = new GameEvent();
+			event.set(type, gameId, null, null, null, null, winnerId);
+			processor.overflow(event);
+		}
+	}
+
+	/**
+	 * Runs a publication once the current transaction commits, or right away
+	 * outside a transaction. Events of a rolled back transaction are never
+	 * published.
+	 *
+	 * @param publication the publication
+	 */
+	private void afterCommit(Runnable publication) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			publication.run();
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				publication.run();
+			}
+		});
+	}
+
+	/**
+	 * Returns the ring of the bus.
+	 *
+	 * @return the ring
+	 */
+	public GameEventRing getRing() {
+		return ring;
+	}
+
+	@Override
+	public synchronized void start() {
+		if (!threads.isEmpty()) {
+			return;
+		}
+		for (GameEventProcessor processor : processors) {
+			processor.resume();
+			Thread thread = new Thread(processor, "game-events-" + processor.getName());
+			thread.setDaemon(true);
+			thread.start();
+			threads.add(thread);
+		}
+		logger.info("Game event bus started with {} consumers: {}", processors.size(), ring);
+	}
+
+	@Override
+	public synchronized void stop() {
+		processors.forEach(GameEventProcessor::halt);
+		ring.signalAll();
+		for (Thread thread : threads) {
+			try {
+				thread.join(TimeUnit.SECONDS.toMillis(1));
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+		threads.clear();
+	}
+
+	@Override
+	public boolean isRunning() {
+		return !threads.isEmpty();
+	}
+}
@@ -0,0 +1,20 @@
+package com.api.backend.event;
+
+/**
+ * The GameEventHandler interface is implemented by the consumers of the game
+ * event bus. Every handler bean gets its own thread and sees every event in
+ * publication order, in batches of the events published since its last wake
+ * up.
+ */
+public interface GameEventHandler {
+
+	/**
+	 * Handles an event. The event slot is reused once the handler returns.
+	 *
+	 * @param event      the event
+	 * @param sequence   the sequence number of the event, -1 for an event
+	 *                   delivered outside the full ring
+	 * @param endOfBatch whether the event is the last of the available batch
+	 */
+	void onEvent(GameEvent event, long sequence, boolean endOfBatch);
+}
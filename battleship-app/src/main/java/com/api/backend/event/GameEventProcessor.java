@@ -0,0 +1,134 @@
+package com.api.backend.event;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * The GameEventProcessor class runs a game event handler on a thread of its
+ * own. It hands the handler every event published since its last batch, then
+ * advances its sequence once, which frees the slots of the whole batch for the
+ * publishers. Events the full ring refused although they are not droppable are
+ * handed over through an overflow queue, drained before every batch. A handler
+ * failure is logged and the event skipped.
+ */
+final class GameEventProcessor implements Runnable {
+
+	private static final Logger logger = LogManager.getLogger(GameEventProcessor.class);
+
+	private final String name;
+
+	private final GameEventRing ring;
+
+	private final GameEventHandler handler;
+
+	private final WaitStrategy waitStrategy;
+
+	private final AtomicLong sequence;
+
+	private final Queue<GameEvent> overflow = new ConcurrentLinkedQueue<>();
+
+	private volatile boolean running = true;
+
+	/**
+	 * Instantiates a new processor reading the events published from now on.
+	 *
+	 * @param name         the consumer name
+	 * @param ring         the ring to read
+	 * @param handler      the handler of the events
+	 * @param waitStrategy how to wait when no event is available
+	 */
+	GameEventProcessor(String name, GameEventRing ring, GameEventHandler handler, WaitStrategy waitStrategy) {
+		this.name = name;
+		this.ring = ring;
+		this.handler = handler;
+		this.waitStrategy = waitStrategy;
+		this.sequence = ring.addConsumer();
+	}
+
+	@Override
+	public void run() {
+		long next = sequence.get() + 1;
+		int attempt = 0;
+		while (running) {
+			drainOverflow();
+			long available = ring.highestPublished(next);
+			if (available < next) {
+				try {
+					waitStrategy.idle(next, attempt++, ring);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					return;
+				}
+				continue;
+			}
+			attempt = 0;
+			for (long current = next; current <= available; current++) {
+				try {
+					handler.onEvent(ring.get(current), current, current == available);
+				} catch (RuntimeException e) {
+					logger.error("Game event consumer {} failed on event {}: {}", name, current, e.getMessage());
+				}
+			}
+			sequence.set(available);
+			next = available + 1;
+		}
+	}
+
+	/**
+	 * Queues an event the ring refused, for the handler to see with its next
+	 * batch. The queue only ever holds events that are not droppable, such as
+	 * the completion of a game, which happens once per game.
+	 *
+	 * @param event a copy of the event, owned by the processor
+	 */
+	void overflow(GameEvent event) {
+		overflow.add(event);
+	}
+
+	/**
+	 * Hands the handler the overflowed events, out of the ring order and with
+	 * a sequence number of -1.
+	 */
+	private void drainOverflow() {
+		GameEvent event;
+		while ((event = overflow.poll()) != null) {
+			try {
+				handler.onEvent(event, -1, overflow.isEmpty());
+			} catch (RuntimeException e) {
+				logger.error("Game event consumer {} failed on overflowed event {}: {}", name, event,
+						e.getMessage());
+			}
+		}
+	}
+
+	/**
+	 * Lets a halted processor run again.
+	 */
+	void resume() {
+		running = true;
+	}
+
+	/**
+	 * Stops the processor after its current batch.
+	 */
+	void halt() {
+		running = false;
+	}
+
+	/**
+	 * Returns the number of claimed events the consumer has not read yet.
+	 *
+	 * @return the lag
+	 */
+	long getLag() {
+		return ring.getCursor() - sequence.get() + overflow.size();
+	}
+
+	String getName() {
+		return name;
+	}
+}
@@ -0,0 +1,263 @@
+package com.api.backend.event;
+
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * The GameEventRing class is a bounded, preallocated ring of game events shared
+ * by any number of publishers and consumers without locks. A publisher claims
+ * the next sequence number with a compare and set, overwrites the slot and marks
+ * it published; each consumer follows with a sequence of its own and reads every
+ * published event in order. A slot is reused only once every consumer has read
+ * it.
+ * <p>
+ * Publishing never waits: when the slowest consumer is a full ring behind, the
+ * event is refused, so that consumers can never slow down the requests
+ * publishing events. A refused event is counted as dropped if its type is
+ * droppable, and as overflowed otherwise, for the publisher to deliver it
+ * another way.
+ */
+public class GameEventRing {
+
+	private final GameEvent[] slots;
+
+	private final int mask;
+
+	/** The sequence number last published in each slot. */
+	private final AtomicLongArray published;
+
+	/** The highest claimed sequence number. */
+	private final AtomicLong cursor = new AtomicLong(-1);
+
+	private final AtomicLongArray dropped = new AtomicLongArray(GameEventType.values().length);
+
+	private final AtomicLong overflowed = new AtomicLong();
+
+	private final WaitStrategy waitStrategy;
+
+	private final ReentrantLock lock = new ReentrantLock();
+
+	private final Condition publication = lock.newCondition();
+
+	private final AtomicInteger waiters = new AtomicInteger();
+
+	private volatile AtomicLong[] consumerSequences = new AtomicLong[0];
+
+	/**
+	 * Instantiates a new game event ring with all its slots.
+	 *
+	 * @param capacity     the number of slots, a power of two
+	 * @param waitStrategy how idle consumers wait for events
+	 * @throws IllegalArgumentException if the capacity is not a power of two
+	 */
+	public GameEventRing(int capacity, WaitStrategy waitStrategy) {
+		if (capacity < 1 || Integer.bitCount(capacity) != 1) {
+			throw new IllegalArgumentException("Game event ring capacity must be a power of two: " + capacity);
+		}
+		this.slots = new GameEvent[capacity];
+		for (int i = 0; i < capacity; i++) {
+			slots[i] = new GameEvent();
+		}
+		this.mask = capacity - 1;
+		long[] none = new long[capacity];
+		Arrays.fill(none, -1L);
+		this.published = new AtomicLongArray(none);
+		this.waitStrategy = waitStrategy;
+	}
+
+	/**
+	 * Publishes an event, or refuses it when the ring is full.
+	 *
+	 * @param type         the event type
+	 * @param gameId       the game id
+	 * @param gamePlayerId the game player who fired, for shot events
+	 * @param rowIndex     the attacked row, for shot events
+	 * @param columnIndex  the attacked column, for shot events
+	 * @param shipName     the name of the sunk ship
+	 * @param winnerId     the game player who won the completed game
+	 * @return true if the event was published, false if it was refused
+	 */
+	public boolean publish(GameEventType type, UUID gameId, Long gamePlayerId, Integer rowIndex,
+			Integer columnIndex, String shipName, Long winnerId) {
+		long sequence = claim();
+		if (sequence < 0) {
+			if (type.isDroppable()) {
+				dropped.incrementAndGet(type.ordinal());
+			} else {
+				overflowed.incrementAndGet();
+			}
+			return false;
+		}
+		slots[(int) sequence & mask].set(type, gameId, gamePlayerId, rowIndex, columnIndex, shipName, winnerId);
+		published.set((int) sequence & mask, sequence);
+		if (waitStrategy == WaitStrategy.BLOCKING && waiters.get() > 0) {
+			signalAll();
+		}
+		return true;
+	}
+
+	/**
+	 * Claims the next sequence number unless its slot still holds an event that
+	 * a consumer has not read.
+	 *
+	 * @return the claimed sequence number, or -1 when the ring is full
+	 */
+	private long claim() {
+		long current;
+		long next;
+		do {
+			current = cursor.get();
+			next = current + 1;
+			if (next - slots.length > minimumConsumerSequence()) {
+				return -1;
+			}
+		} while (!cursor.compareAndSet(current, next));
+		return next;
+	}
+
+	private long minimumConsumerSequence() {
+		long minimum = Long.MAX_VALUE;
+		for (AtomicLong sequence : consumerSequences) {
+			minimum = Math.min(minimum, sequence.get());
+		}
+		return minimum == Long.MAX_VALUE ? cursor.get() : minimum;
+	}
+
+	/**
+	 * Registers a consumer, which reads the events published from now on.
+	 *
+	 * @return the sequence number of the last event read by the consumer, for
+	 *         the consumer to advance
+	 */
+	synchronized AtomicLong addConsumer() {
+		AtomicLong sequence = new AtomicLong(cursor.get());
+		AtomicLong[] sequences = Arrays.copyOf(consumerSequences, consumerSequences.length + 1);
+		sequences[sequences.length - 1] = sequence;
+		consumerSequences = sequences;
+		return sequence;
+	}
+
+	/**
+	 * Returns the highest sequence number published without gaps from a sequence
+	 * on. Publishers may complete out of order, so a later published event stays
+	 * invisible until every event before it is published.
+	 *
+	 * @param from the first sequence number to check
+	 * @return the last sequence number readable in order, below {@code from} when
+	 *         none is
+	 */
+	long highestPublished(long from) {
+		long claimed = cursor.get();
+		for (long sequence = from; sequence <= claimed; sequence++) {
+			if (published.get((int) sequence & mask) != sequence) {
+				return sequence - 1;
+			}
+		}
+		return claimed;
+	}
+
+	/**
+	 * Returns the slot of a published event.
+	 *
+	 * @param sequence the sequence number
+	 * @return the event
+	 */
+	GameEvent get(long sequence) {
+		return slots[(int) sequence & mask];
+	}
+
+	/**
+	 * Waits until an event is published or the timeout elapses.
+	 *
+	 * @param sequence the sequence number of the awaited event
+	 * @param nanos    the maximum time to wait
+	 * @throws InterruptedException if the thread is interrupted
+	 */
+	void awaitPublication(long sequence, long nanos) throws InterruptedException {
+		waiters.incrementAndGet();
+		lock.lock();
+		try {
+			long remaining = nanos;
+			while (published.get((int) sequence & mask) != sequence && remaining > 0) {
+				remaining = publication.awaitNanos(remaining);
+			}
+		} finally {
+			lock.unlock();
+			waiters.decrementAndGet();
+		}
+	}
+
+	/**
+	 * Wakes up every consumer blocked waiting for an event.
+	 */
+	void signalAll() {
+		lock.lock();
+		try {
+			publication.signalAll();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Returns the sequence number of the last claimed event.
+	 *
+	 * @return the cursor, -1 before the first event
+	 */
+	public long getCursor() {
+		return cursor.get();
+	}
+
+	/**
+	 * Returns the number of events dropped because the ring was full.
+	 *
+	 * @return the dropped events
+	 */
+	public long getDropped() {
+		long total = 0;
+		for (GameEventType type : GameEventType.values()) {
+			total += dropped.get(type.ordinal());
+		}
+		return total;
+	}
+
+	/**
+	 * Returns the number of events of a type dropped because the ring was full.
+	 *
+	 * @param type the event type
+	 * @return the dropped events
+	 */
+	public long getDropped(GameEventType type) {
+		return dropped.get(type.ordinal());
+	}
+
+	/**
+	 * Returns the number of events refused by the full ring although their type
+	 * is not droppable.
+	 *
+	 * @return the overflowed events
+	 */
+	public long getOverflowed() {
+		return overflowed.get();
+	}
+
+	/**
+	 * Returns the number of slots.
+	 *
+	 * @return the capacity
+	 */
+	public int getCapacity() {
+		return slots.length;
+	}
+
+	@Override
+	public String toString() {
+		return "GameEventRing[capacity=" + slots.length + ", cursor=" + cursor.get() + ", dropped=" + getDropped()
+				+ ", overflowed=" + overflowed.get() + ", waitStrategy=" + waitStrategy + "]";
+	}
+}
@@ -0,0 +1,32 @@
+package com.api.backend.event;
+
+/**
+ * The GameEventType enum lists the domain events published on the game event
+ * bus. An event a consumer cannot afford to miss is not droppable: when the ring
+ * is full it is handed to the consumers outside the ring instead.
+ */
+public enum GameEventType {
+
+	GAME_CREATED(true),
+
+	SHOT_FIRED(true),
+
+	SHIP_SUNK(true),
+
+	GAME_COMPLETED(false);
+
+	private final boolean droppable;
+
+	GameEventType(boolean droppable) {
+		this.droppable = droppable;
+	}
+
+	/**
+	 * Returns whether the event may be dropped on a full ring.
+	 *
+	 * @return true if the event may be dropped
+	 */
+	public boolean isDroppable() {
+		return droppable;
+	}
+}
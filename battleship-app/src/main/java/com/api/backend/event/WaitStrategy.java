@@ -0,0 +1,78 @@
+package com.api.backend.event;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * The WaitStrategy enum decides how an idle consumer of the game event ring
+ * waits for the next event, trading latency for CPU: busy spinning burns a core
+ * per consumer, blocking costs the publisher a signal per event.
+ */
+public enum WaitStrategy {
+
+	/**
+	 * Spins on the cursor, for the lowest latency on a dedicated core.
+	 */
+	BUSY_SPIN {
+		@Override
+		void idle(long sequence, int attempt, GameEventRing ring) {
+			Thread.onSpinWait();
+		}
+	},
+
+	/**
+	 * Spins briefly, then yields the core to other threads.
+	 */
+	YIELDING {
+		@Override
+		void idle(long sequence, int attempt, GameEventRing ring) {
+			if (attempt < SPIN_TRIES) {
+				Thread.onSpinWait();
+			} else {
+				Thread.yield();
+			}
+		}
+	},
+
+	/**
+	 * Spins, yields, then parks for a short while between checks.
+	 */
+	SLEEPING {
+		@Override
+		void idle(long sequence, int attempt, GameEventRing ring) {
+			if (attempt < SPIN_TRIES) {
+				Thread.onSpinWait();
+			} else if (attempt < 2 * SPIN_TRIES) {
+				Thread.yield();
+			} else {
+				LockSupport.parkNanos(SLEEP_NANOS);
+			}
+		}
+	},
+
+	/**
+	 * Sleeps until a publisher signals an event.
+	 */
+	BLOCKING {
+		@Override
+		void idle(long sequence, int attempt, GameEventRing ring) throws InterruptedException {
+			ring.awaitPublication(sequence, BLOCK_NANOS);
+		}
+	};
+
+	private static final int SPIN_TRIES = 100;
+
+	private static final long SLEEP_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+
+	private static final long BLOCK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+	/**
+	 * Waits once for the next event to be published.
+	 *
+	 * @param sequence the sequence number of the awaited event
+	 * @param attempt  the number of waits since the consumer last found an event
+	 * @param ring     the ring the consumer reads
+	 * @throws InterruptedException if the consumer thread is interrupted
+	 */
+	abstract void idle(long sequence, int attempt, GameEventRing ring) throws InterruptedException;
+}
@@ -18,4 +18,16 @@ public class BattleshipApplicationException extends RuntimeException {
 	public BattleshipApplicationException(String message) {
 		super(message);
 	}
+
+	/**
+	 * Constructs a new BattleshipApplicationException that may skip its stack
+	 * trace. Suppressed exceptions are disabled along with it, so that an
+	 * instance without a stack trace can be shared.
+	 *
+	 * @param message            the error message that describes the exception
+	 * @param writableStackTrace whether the stack trace is filled in
+	 */
+	protected BattleshipApplicationException(String message, boolean writableStackTrace) {
+		super(message, null, writableStackTrace, writableStackTrace);
+	}
 }
@@ -0,0 +1,33 @@
+package com.api.backend.exception;
+
+/**
+ * The InvalidMoveException class represents an expected rejection of a game play
+ * turn, such as a shot out of turn, off the board or at an attacked cell. It is a
+ * sub-class of the ValidationException, so it is answered like any other
+ * validation failure.
+ * <p>
+ * Rejected turns are frequent and their cause is fully described by the
+ * {@link MoveRejection}, so the exception records no stack trace and one
+ * instance per rejection is shared, see {@link MoveRejectionCatalog}.
+ */
+public class InvalidMoveException extends ValidationException {
+
+	private static final long serialVersionUID = 1L;
+
+	private final MoveRejection rejection;
+
+	/**
+	 * Constructs a new InvalidMoveException without a stack trace.
+	 *
+	 * @param rejection the reason of the rejection
+	 * @param message   the error message that describes the rejection
+	 */
+	public InvalidMoveException(MoveRejection rejection, String message) {
+		super(message, false);
+		this.rejection = rejection;
+	}
+
+	public MoveRejection getRejection() {
+		return rejection;
+	}
+}
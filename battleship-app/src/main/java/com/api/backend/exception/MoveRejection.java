@@ -0,0 +1,28 @@
+package com.api.backend.exception;
+
+/**
+ * The MoveRejection enum lists the expected reasons for rejecting a game play
+ * turn, each with the key of its message in the configuration properties.
+ */
+public enum MoveRejection {
+
+	INVALID_GAME_ID("GameService.INVALID_GAME_ID"),
+
+	PLAYER_NOT_FOUND("GameService.PLAYER_NOT_FOUND"),
+
+	PLAYER_TURN_OVER("GameService.PLAYER_TURN-OVER"),
+
+	COORDINATES_NOT_EXISTS("GameGridService.COORDINATES_NOT_EXISTS"),
+
+	ALREADY_ATTACKED("GameGridService.ALREADY_ATTACKED");
+
+	private final String messageKey;
+
+	MoveRejection(String messageKey) {
+		this.messageKey = messageKey;
+	}
+
+	public String getMessageKey() {
+		return messageKey;
+	}
+}
@@ -0,0 +1,42 @@
+package com.api.backend.exception;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+/**
+ * The MoveRejectionCatalog class resolves the message of every
+ * {@link MoveRejection} once at startup and keeps one stackless
+ * {@link InvalidMoveException} per rejection, so that rejecting a turn neither
+ * looks up a property nor fills in a stack trace.
+ */
+@Component
+public class MoveRejectionCatalog {
+
+	private final Map<MoveRejection, InvalidMoveException> rejections = new EnumMap<>(MoveRejection.class);
+
+	/**
+	 * Instantiates a new move rejection catalog.
+	 *
+	 * @param env the env holding the rejection messages
+	 */
+	@Autowired
+	public MoveRejectionCatalog(Environment env) {
+		for (MoveRejection rejection : MoveRejection.values()) {
+			rejections.put(rejection, new InvalidMoveException(rejection, env.getProperty(rejection.getMessageKey())));
+		}
+	}
+
+	/**
+	 * Returns the shared exception of a rejection, ready to be thrown.
+	 *
+	 * @param rejection the reason of the rejection
+	 * @return the exception of the rejection
+	 */
+	public InvalidMoveException get(MoveRejection rejection) {
+		return rejections.get(rejection);
+	}
+}
@@ -0,0 +1,28 @@
+package com.api.backend.exception;
+
+/**
+ * The RateLimitExceededException class represents a request rejected because
+ * its caller used up the rate limit of the endpoint. It carries the number of
+ * seconds after which the caller has earned a new request.
+ */
+public class RateLimitExceededException extends BattleshipApplicationException {
+
+	private static final long serialVersionUID = 1L;
+
+	private final long retryAfterSeconds;
+
+	/**
+	 * Constructs a new RateLimitExceededException without a stack trace.
+	 *
+	 * @param message           the error message that describes the rejection
+	 * @param retryAfterSeconds the delay after which the request may be retried
+	 */
+	public RateLimitExceededException(String message, long retryAfterSeconds) {
+		super(message, false);
+		this.retryAfterSeconds = retryAfterSeconds;
+	}
+
+	public long getRetryAfterSeconds() {
+		return retryAfterSeconds;
+	}
+}
@@ -20,4 +20,14 @@ public class ValidationException extends BattleshipApplicationException {
     public ValidationException(String message) {
         super(message);
     }
+
+    /**
+     * Constructs a new ValidationException that may skip its stack trace.
+     *
+     * @param message the error message that describes the exception
+     * @param writableStackTrace whether the stack trace is filled in
+     */
+    protected ValidationException(String message, boolean writableStackTrace) {
+        super(message, writableStackTrace);
+    }
 }
@@ -0,0 +1,119 @@
+package com.api.backend.filter;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The AdaptiveConcurrencyLimit class bounds the number of requests in flight
+ * with a limit that follows the observed latency (additive increase,
+ * multiplicative decrease). A request slower than the latency threshold cuts the
+ * limit by the backoff ratio, at most once per round of requests: only a request
+ * started after the last cut can cut again. A request completing while at least
+ * half of the limit is in use raises the limit by one. The limit therefore
+ * settles just below the concurrency at which latency degrades, and requests
+ * above it are rejected instead of queued.
+ */
+public class AdaptiveConcurrencyLimit {
+
+	private static final long NEVER = Long.MIN_VALUE;
+
+	private final int minLimit;
+
+	private final int maxLimit;
+
+	private final long latencyThresholdNanos;
+
+	private final double backoffRatio;
+
+	private final AtomicInteger limit;
+
+	private final AtomicInteger inFlight = new AtomicInteger();
+
+	private final AtomicLong lastDecreaseNanos = new AtomicLong(NEVER);
+
+	/**
+	 * Instantiates a new adaptive concurrency limit.
+	 *
+	 * @param initialLimit          the limit before any latency is observed
+	 * @param minLimit              the lowest limit
+	 * @param maxLimit              the highest limit
+	 * @param latencyThresholdNanos the latency above which the limit is lowered
+	 * @param backoffRatio          the factor applied to the limit when lowered,
+	 *                              between 0 and 1
+	 */
+	public AdaptiveConcurrencyLimit(int initialLimit, int minLimit, int maxLimit, long latencyThresholdNanos,
+			double backoffRatio) {
+		if (minLimit < 1 || minLimit > maxLimit || backoffRatio <= 0 || backoffRatio >= 1) {
+			throw new IllegalArgumentException("Invalid concurrency limit settings");
+		}
+		this.minLimit = minLimit;
+		this.maxLimit = maxLimit;
+		this.latencyThresholdNanos = latencyThresholdNanos;
+		this.backoffRatio = backoffRatio;
+		this.limit = new AtomicInteger(Math.min(maxLimit, Math.max(minLimit, initialLimit)));
+	}
+
+	/**
+	 * Admits a request if the requests in flight leave room for its priority.
+	 *
+	 * @param priority the request priority
+	 * @return true if the request was admitted and must be released
+	 */
+	public boolean tryAcquire(RequestPriority priority) {
+		int allowed = priority.allowedInFlight(limit.get());
+		int current;
+		do {
+			current = inFlight.get();
+			if (current >= allowed) {
+				return false;
+			}
+		} while (!inFlight.compareAndSet(current, current + 1));
+		return true;
+	}
+
+	/**
+	 * Releases an admitted request and adapts the limit to its latency.
+	 *
+	 * @param startNanos the {@link System#nanoTime()} at which the request was
+	 *                   admitted
+	 * @param endNanos   the {@link System#nanoTime()} at which it completed
+	 */
+	public void release(long startNanos, long endNanos) {
+		int current = inFlight.getAndDecrement();
+		if (endNanos - startNanos > latencyThresholdNanos) {
+			long lastDecrease = lastDecreaseNanos.get();
+			boolean startedAfterDecrease = lastDecrease == NEVER || startNanos - lastDecrease > 0;
+			if (startedAfterDecrease && lastDecreaseNanos.compareAndSet(lastDecrease, endNanos)) {
+				limit.updateAndGet(value -> Math.max(minLimit, (int) (value * backoffRatio)));
+			}
+		} else if (current * 2 >= limit.get()) {
+			limit.updateAndGet(value -> Math.min(maxLimit, value + 1));
+		}
+	}
+
+	/**
+	 * Releases an admitted request whose latency is not a sample of the game
+	 * service, leaving the limit unchanged.
+	 */
+	public void release() {
+		inFlight.decrementAndGet();
+	}
+
+	/**
+	 * Returns the current limit.
+	 *
+	 * @return the limit
+	 */
+	public int getLimit() {
+		return limit.get();
+	}
+
+	/**
+	 * Returns the number of admitted requests not released yet.
+	 *
+	 * @return the requests in flight
+	 */
+	public int getInFlight() {
+		return inFlight.get();
+	}
+}
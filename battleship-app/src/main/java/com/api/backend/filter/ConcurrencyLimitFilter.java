@@ -0,0 +1,135 @@
+package com.api.backend.filter;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.api.backend.response.ErrorResponse;
+import com.api.backend.utils.Constants;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * The ConcurrencyLimitFilter class sheds load before it queues on the servlet
+ * and connection pools. Every request must fit in the share of the
+ * {@link AdaptiveConcurrencyLimit} of its {@link RequestPriority}; the others
+ * are rejected at once with 503 and a Retry-After header. It runs ahead of the
+ * security filters, so that a rejected request does not even pay for checking
+ * its credentials. The limit only adapts to the latency sampled by the
+ * {@link LatencySampleFilter}, which excludes authentication and non-game
+ * requests. The limit, the requests in flight and the rejected requests per
+ * priority are exposed as metrics.
+ */
+@Component
+@Order(SecurityProperties.DEFAULT_FILTER_ORDER - 10)
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+	private final AdaptiveConcurrencyLimit limit;
+
+	private final boolean enabled;
+
+	private final String retryAfterSeconds;
+
+	private final Map<RequestPriority, Counter> rejected = new EnumMap<>(RequestPriority.class);
+
+	private final byte[] overloadedBody;
+
+	/**
+	 * Instantiates a new concurrency limit filter.
+	 *
+	 * @param meterRegistry      the registry of the limit metrics
+	 * @param objectMapper       the object mapper writing the rejection body
+	 * @param env                the env
+	 * @param enabled            whether requests are limited
+	 * @param initialLimit       the limit before any latency is observed
+	 * @param minLimit           the lowest limit
+	 * @param maxLimit           the highest limit
+	 * @param latencyThresholdMs the latency above which the limit is lowered
+	 * @param retryAfterSeconds  the delay advised to rejected clients
+	 * @throws IOException if the rejection body cannot be written
+	 */
+	@Autowired
+	public ConcurrencyLimitFilter(MeterRegistry meterRegistry, ObjectMapper objectMapper, Environment env,
+			@Value("${game.concurrency.enabled:true}") boolean enabled,
+			@Value("${game.concurrency.initial-limit:50}") int initialLimit,
+			@Value("${game.concurrency.min-limit:4}") int minLimit,
+			@Value("${game.concurrency.max-limit:400}") int maxLimit,
+			@Value("${game.concurrency.latency-threshold-ms:250}") long latencyThresholdMs,
+			@Value("${game.concurrency.retry-after-seconds:1}") int retryAfterSeconds) throws IOException {
+		this.limit = new AdaptiveConcurrencyLimit(initialLimit, minLimit, maxLimit,
+				TimeUnit.MILLISECONDS.toNanos(latencyThresholdMs), 0.9);
+		this.enabled = enabled;
+		this.retryAfterSeconds = Integer.toString(retryAfterSeconds);
+		this.overloadedBody = objectMapper.writeValueAsBytes(new ErrorResponse("Service Unavailable.",
+				Collections.singletonList(env.getProperty("ConcurrencyLimitFilter.OVERLOADED"))));
+		Gauge.builder("game.concurrency.limit", limit, AdaptiveConcurrencyLimit::getLimit)
+				.description("Requests allowed in flight").register(meterRegistry);
+		Gauge.builder("game.concurrency.in-flight", limit, AdaptiveConcurrencyLimit::getInFlight)
+				.description("Requests in flight").register(meterRegistry);
+		for (RequestPriority priority : RequestPriority.values()) {
+			rejected.put(priority, Counter.builder("game.concurrency.rejected")
+					.description("Requests rejected over the concurrency limit")
+					.tag("priority", priority.name().toLowerCase(Locale.ROOT)).register(meterRegistry));
+		}
+	}
+
+	@Override
+	protected boolean shouldNotFilter(HttpServletRequest request) {
+		return !enabled;
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+			throws ServletException, IOException {
+		RequestPriority priority = RequestPriority.of(RequestPaths.pathWithinApplication(request));
+		if (!limit.tryAcquire(priority)) {
+			rejected.get(priority).increment();
+			response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+			response.setHeader(HttpHeaders.RETRY_AFTER, retryAfterSeconds);
+			response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+			response.getOutputStream().write(overloadedBody);
+			return;
+		}
+		try {
+			chain.doFilter(request, response);
+		} finally {
+			Object sampleStart = request.getAttribute(Constants.LATENCY_SAMPLE_START_ATTRIBUTE);
+			if (sampleStart instanceof Long) {
+				limit.release((Long) sampleStart, System.nanoTime());
+			} else {
+				limit.release();
+			}
+		}
+	}
+
+	/**
+	 * Returns the adaptive limit shared by all requests.
+	 *
+	 * @return the limit
+	 */
+	public AdaptiveConcurrencyLimit getLimit() {
+		return limit;
+	}
+}
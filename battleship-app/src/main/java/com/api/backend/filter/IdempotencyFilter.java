@@ -0,0 +1,282 @@
+package com.api.backend.filter;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.Principal;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ReadListener;
+import javax.servlet.ServletException;
+import javax.servlet.ServletInputStream;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletRequestWrapper;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import com.api.backend.response.ErrorResponse;
+import com.api.backend.utils.Constants;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * The IdempotencyFilter class makes game creation and game play turns safe to
+ * retry. A request sent with an {@code Idempotency-Key} header is run once per
+ * principal, endpoint and key: its response is kept in the
+ * {@link IdempotencyStore} and replayed, with an {@code Idempotent-Replayed}
+ * header, to the repeats within the time to live. A repeat must send the same
+ * body, compared by its SHA-256 digest, or it is rejected with 422. A repeat
+ * arriving while the first request runs waits briefly for its response, then
+ * is rejected with 409. Responses a retry may change,
+ * server errors and rate limit rejections, are not kept. It runs after the
+ * security filters, so that keys are scoped to the authenticated principal,
+ * and before the rate limit, so that replays do not use the budget.
+ */
+@Component
+@Order(SecurityProperties.DEFAULT_FILTER_ORDER + 5)
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+	private final IdempotencyStore store;
+
+	private final boolean enabled;
+
+	private final long inFlightWaitMillis;
+
+	private final byte[] invalidKeyBody;
+
+	private final byte[] inFlightBody;
+
+	private final byte[] keyReusedBody;
+
+	private final byte[] bodyTooLargeBody;
+
+	private final Counter replayed;
+
+	/**
+	 * Instantiates a new idempotency filter.
+	 *
+	 * @param meterRegistry      the registry of the idempotency metrics
+	 * @param objectMapper       the object mapper writing the rejection bodies
+	 * @param env                the env
+	 * @param enabled            whether idempotency keys are honoured
+	 * @param maxEntries         the maximum number of responses kept
+	 * @param ttlMillis          how long a response is replayed
+	 * @param inFlightWaitMillis how long a repeat waits for the first request
+	 * @throws IOException if the rejection bodies cannot be written
+	 */
+	@Autowired
+	public IdempotencyFilter(MeterRegistry meterRegistry, ObjectMapper objectMapper, Environment env,
+			@Value("${game.idempotency.enabled:true}") boolean enabled,
+			@Value("${game.idempotency.max-entries:65536}") int maxEntries,
+			@Value("${game.idempotency.ttl-ms:600000}") long ttlMillis,
+			@Value("${game.idempotency.in-flight-wait-ms:300}") long inFlightWaitMillis) throws IOException {
+		this.store = new IdempotencyStore(maxEntries, TimeUnit.MILLISECONDS.toNanos(ttlMillis));
+		this.enabled = enabled;
+		this.inFlightWaitMillis = inFlightWaitMillis;
+		this.invalidKeyBody = objectMapper.writeValueAsBytes(new ErrorResponse("Validation Failed.",
+				Collections.singletonList(env.getProperty("IdempotencyFilter.INVALID_KEY"))));
+		this.inFlightBody = objectMapper.writeValueAsBytes(new ErrorResponse("Conflict.",
+				Collections.singletonList(env.getProperty("IdempotencyFilter.IN_FLIGHT"))));
+		this.keyReusedBody = objectMapper.writeValueAsBytes(new ErrorResponse("Validation Failed.",
+				Collections.singletonList(env.getProperty("IdempotencyFilter.KEY_REUSED"))));
+		this.bodyTooLargeBody = objectMapper.writeValueAsBytes(new ErrorResponse("Validation Failed.",
+				Collections.singletonList(env.getProperty("IdempotencyFilter.BODY_TOO_LARGE"))));
+		this.replayed = Counter.builder("game.idempotency.replayed").description("Responses replayed to a repeat")
+				.register(meterRegistry);
+		Gauge.builder("game.idempotency.entries", store, IdempotencyStore::size).description("Responses kept")
+				.register(meterRegistry);
+	}
+
+	@Override
+	protected boolean shouldNotFilter(HttpServletRequest request) {
+		if (!enabled || !HttpMethod.POST.matches(request.getMethod())
+				|| request.getHeader(Constants.IDEMPOTENCY_KEY_HEADER) == null) {
+			return true;
+		}
+		String path = RequestPaths.pathWithinApplication(request);
+		for (String idempotentPath : Constants.IDEMPOTENT_PATHS) {
+			if (idempotentPath.equals(path)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+			throws ServletException, IOException {
+		String idempotencyKey = request.getHeader(Constants.IDEMPOTENCY_KEY_HEADER);
+		if (idempotencyKey.isBlank() || idempotencyKey.length() > Constants.MAX_IDEMPOTENCY_KEY_LENGTH) {
+			reject(response, HttpStatus.BAD_REQUEST, invalidKeyBody);
+			return;
+		}
+		byte[] body = readBody(request);
+		if (body == null) {
+			reject(response, HttpStatus.PAYLOAD_TOO_LARGE, bodyTooLargeBody);
+			return;
+		}
+		byte[] fingerprint = sha256(body);
+		Principal principal = request.getUserPrincipal();
+		String key = (principal == null ? "" : principal.getName()) + ' ' + RequestPaths.pathWithinApplication(request)
+				+ ' ' + idempotencyKey;
+		while (true) {
+			CompletableFuture<IdempotentResponse> flight = new CompletableFuture<>();
+			IdempotencyStore.Entry first = store.claim(key, fingerprint, flight, System.nanoTime());
+			if (first == null) {
+				run(new ReadBodyRequest(request, body), response, chain, key, flight);
+				return;
+			}
+			if (!first.matches(fingerprint)) {
+				reject(response, HttpStatus.UNPROCESSABLE_ENTITY, keyReusedBody);
+				return;
+			}
+			IdempotentResponse original;
+			try {
+				original = first.getResponse().get(inFlightWaitMillis, TimeUnit.MILLISECONDS);
+			} catch (TimeoutException | ExecutionException e) {
+				reject(response, HttpStatus.CONFLICT, inFlightBody);
+				return;
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				reject(response, HttpStatus.CONFLICT, inFlightBody);
+				return;
+			}
+			if (original != null) {
+				replayed.increment();
+				response.setHeader(Constants.IDEMPOTENT_REPLAY_HEADER, "true");
+				original.writeTo(response);
+				return;
+			}
+			// the first request was not kept, so this repeat runs in its place
+		}
+	}
+
+	private void run(HttpServletRequest request, HttpServletResponse response, FilterChain chain, String key,
+			CompletableFuture<IdempotentResponse> flight) throws ServletException, IOException {
+		ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+		IdempotentResponse original = null;
+		try {
+			chain.doFilter(request, wrapper);
+			if (isReplayable(wrapper.getStatus())) {
+				original = IdempotentResponse.of(wrapper);
+			}
+			wrapper.copyBodyToResponse();
+		} finally {
+			if (original == null) {
+				store.release(key, flight);
+			}
+			flight.complete(original);
+		}
+	}
+
+	/**
+	 * Reads the whole request body, so that it can be fingerprinted before the
+	 * handler reads it again.
+	 *
+	 * @param request the request
+	 * @return the body, or null if it is larger than
+	 *         {@link Constants#MAX_IDEMPOTENT_BODY_BYTES}
+	 * @throws IOException if the body cannot be read
+	 */
+	private static byte[] readBody(HttpServletRequest request) throws IOException {
+		if (request.getContentLengthLong() > Constants.MAX_IDEMPOTENT_BODY_BYTES) {
+			return null;
+		}
+		byte[] body = request.getInputStream().readNBytes(Constants.MAX_IDEMPOTENT_BODY_BYTES + 1);
+		return body.length > Constants.MAX_IDEMPOTENT_BODY_BYTES ? null : body;
+	}
+
+	private static byte[] sha256(byte[] body) {
+		try {
+			return MessageDigest.getInstance("SHA-256").digest(body);
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 is not available", e);
+		}
+	}
+
+	private static boolean isReplayable(int status) {
+		return status < HttpStatus.INTERNAL_SERVER_ERROR.value() && status != HttpStatus.TOO_MANY_REQUESTS.value();
+	}
+
+	private static void reject(HttpServletResponse response, HttpStatus status, byte[] body) throws IOException {
+		response.setStatus(status.value());
+		response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+		response.getOutputStream().write(body);
+	}
+
+	/**
+	 * The ReadBodyRequest class serves a request body the filter already read.
+	 */
+	private static final class ReadBodyRequest extends HttpServletRequestWrapper {
+
+		private final byte[] body;
+
+		private ReadBodyRequest(HttpServletRequest request, byte[] body) {
+			super(request);
+			this.body = body;
+		}
+
+		@Override
+		public ServletInputStream getInputStream() {
+			ByteArrayInputStream in = new ByteArrayInputStream(body);
+			return new ServletInputStream() {
+
+				@Override
+				public int read() {
+					return in.read();
+				}
+
+				@Override
+				public int read(byte[] b, int off, int len) {
+					return in.read(b, off, len);
+				}
+
+				@Override
+				public boolean isFinished() {
+					return in.available() == 0;
+				}
+
+				@Override
+				public boolean isReady() {
+					return true;
+				}
+
+				@Override
+				public void setReadListener(ReadListener readListener) {
+					throw new UnsupportedOperationException("The request body is already read");
+				}
+			};
+		}
+
+		@Override
+		public BufferedReader getReader() {
+			String encoding = getCharacterEncoding();
+			Charset charset = encoding == null ? StandardCharsets.ISO_8859_1 : Charset.forName(encoding);
+			return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+		}
+	}
+}
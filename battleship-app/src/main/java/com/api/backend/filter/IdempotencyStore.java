@@ -0,0 +1,128 @@
+package com.api.backend.filter;
+
+import java.security.MessageDigest;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * The IdempotencyStore class keeps the responses of requests sent with an
+ * idempotency key for a time to live, so that repeats are answered with the
+ * original response. A request registers its pending response and the
+ * fingerprint of its body when it starts:
+ * a repeat arriving while it runs waits for that same response instead of
+ * running again. Every entry lives as long, so the entries are kept in
+ * insertion order and the expired ones are always the oldest; they are dropped
+ * when new keys arrive, along with the oldest live ones past the maximum
+ * number of entries.
+ */
+public class IdempotencyStore {
+
+	private final int maxEntries;
+
+	private final long ttlNanos;
+
+	private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>();
+
+	/**
+	 * Instantiates a new idempotency store.
+	 *
+	 * @param maxEntries the maximum number of responses kept
+	 * @param ttlNanos   how long a response is kept after its request started
+	 */
+	public IdempotencyStore(int maxEntries, long ttlNanos) {
+		if (maxEntries < 1 || ttlNanos <= 0) {
+			throw new IllegalArgumentException("Invalid idempotency store settings");
+		}
+		this.maxEntries = maxEntries;
+		this.ttlNanos = ttlNanos;
+	}
+
+	/**
+	 * Registers the pending response of a request, unless a live response is
+	 * already registered for its key.
+	 *
+	 * @param key         the idempotency key of the request
+	 * @param fingerprint the digest of the request body
+	 * @param flight      the response the request will complete
+	 * @param nowNanos    the current {@link System#nanoTime()}
+	 * @return the entry registered first, with its pending or completed
+	 *         response, or null if the request must run and complete its own
+	 */
+	public synchronized Entry claim(String key, byte[] fingerprint, CompletableFuture<IdempotentResponse> flight,
+			long nowNanos) {
+		Entry entry = entries.get(key);
+		if (entry != null && nowNanos - entry.expiresAtNanos < 0) {
+			return entry;
+		}
+		if (entry != null) {
+			entries.remove(key);
+		}
+		entries.put(key, new Entry(fingerprint, flight, nowNanos + ttlNanos));
+		Iterator<Entry> oldest = entries.values().iterator();
+		while (oldest.hasNext()) {
+			Entry eldest = oldest.next();
+			if (entries.size() <= maxEntries && nowNanos - eldest.expiresAtNanos < 0) {
+				break;
+			}
+			oldest.remove();
+		}
+		return null;
+	}
+
+	/**
+	 * Forgets a response that must not be replayed, so that the next repeat of
+	 * its request runs again.
+	 *
+	 * @param key    the idempotency key of the request
+	 * @param flight the response registered by the request
+	 */
+	public synchronized void release(String key, CompletableFuture<IdempotentResponse> flight) {
+		Entry entry = entries.get(key);
+		if (entry != null && entry.response == flight) {
+			entries.remove(key);
+		}
+	}
+
+	/**
+	 * Returns the number of responses kept, pending or completed, expired or not.
+	 *
+	 * @return the number of entries
+	 */
+	public synchronized int size() {
+		return entries.size();
+	}
+
+	/**
+	 * A registered response, the fingerprint of the request body it answers and
+	 * the time it expires.
+	 */
+	public static final class Entry {
+
+		private final byte[] fingerprint;
+
+		private final CompletableFuture<IdempotentResponse> response;
+
+		private final long expiresAtNanos;
+
+		private Entry(byte[] fingerprint, CompletableFuture<IdempotentResponse> response, long expiresAtNanos) {
+			this.fingerprint = fingerprint;
+			this.response = response;
+			this.expiresAtNanos = expiresAtNanos;
+		}
+
+		public CompletableFuture<IdempotentResponse> getResponse() {
+			return response;
+		}
+
+		/**
+		 * Tells whether a repeat sent the same body as the request registered.
+		 *
+		 * @param repeatFingerprint the digest of the repeat body
+		 * @return true if the digests are equal
+		 */
+		public boolean matches(byte[] repeatFingerprint) {
+			return MessageDigest.isEqual(fingerprint, repeatFingerprint);
+		}
+	}
+}
@@ -0,0 +1,71 @@
+package com.api.backend.filter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+/**
+ * The IdempotentResponse class is the status, headers and body of a completed
+ * response, kept to answer the repeats of its request.
+ */
+public final class IdempotentResponse {
+
+	private final int status;
+
+	private final Map<String, List<String>> headers;
+
+	private final byte[] body;
+
+	private IdempotentResponse(int status, Map<String, List<String>> headers, byte[] body) {
+		this.status = status;
+		this.headers = headers;
+		this.body = body;
+	}
+
+	/**
+	 * Copies a response buffered by a wrapper, before its body is sent.
+	 *
+	 * @param response the buffered response
+	 * @return the response to keep
+	 */
+	static IdempotentResponse of(ContentCachingResponseWrapper response) {
+		Map<String, List<String>> headers = new LinkedHashMap<>();
+		for (String name : response.getHeaderNames()) {
+			if (!HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+				headers.put(name, new ArrayList<>(response.getHeaders(name)));
+			}
+		}
+		return new IdempotentResponse(response.getStatus(), headers, response.getContentAsByteArray());
+	}
+
+	/**
+	 * Writes the kept response again.
+	 *
+	 * @param response the response to write to
+	 * @throws IOException if the body cannot be written
+	 */
+	void writeTo(HttpServletResponse response) throws IOException {
+		response.setStatus(status);
+		headers.forEach((name, values) -> {
+			response.setHeader(name, values.get(0));
+			values.stream().skip(1).forEach(value -> response.addHeader(name, value));
+		});
+		response.setContentLength(body.length);
+		response.getOutputStream().write(body);
+	}
+
+	public int getStatus() {
+		return status;
+	}
+
+	public int getBodyLength() {
+		return body.length;
+	}
+}
@@ -0,0 +1,53 @@
+package com.api.backend.filter;
+
+import java.io.IOException;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.api.backend.utils.Constants;
+
+/**
+ * The LatencySampleFilter class starts the latency sample of a game request
+ * once its credentials are checked, for the {@link ConcurrencyLimitFilter} to
+ * adapt its limit to. Hashing the password costs the same whatever the load on
+ * the game service, and the lobby, API docs and actuator requests do not reach
+ * it, so neither is sampled.
+ */
+@Component
+@Order(SecurityProperties.DEFAULT_FILTER_ORDER + 2)
+public class LatencySampleFilter extends OncePerRequestFilter {
+
+	private final boolean enabled;
+
+	/**
+	 * Instantiates a new latency sample filter.
+	 *
+	 * @param enabled whether requests are limited
+	 */
+	@Autowired
+	public LatencySampleFilter(@Value("${game.concurrency.enabled:true}") boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	@Override
+	protected boolean shouldNotFilter(HttpServletRequest request) {
+		return !enabled || RequestPriority.of(RequestPaths.pathWithinApplication(request)) == RequestPriority.SHEDDABLE;
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+			throws ServletException, IOException {
+		request.setAttribute(Constants.LATENCY_SAMPLE_START_ATTRIBUTE, System.nanoTime());
+		chain.doFilter(request, response);
+	}
+}
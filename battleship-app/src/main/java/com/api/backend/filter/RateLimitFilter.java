@@ -0,0 +1,83 @@
+package com.api.backend.filter;
+
+import java.io.IOException;
+import java.security.Principal;
+import java.util.Collections;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.api.backend.response.ErrorResponse;
+import com.api.backend.utils.Constants;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * The RateLimitFilter class applies the rate limit of its endpoint group to
+ * every authenticated game API request, per principal. It runs after the
+ * security filters, which have resolved the principal by then. The budget left
+ * is returned in response headers; requests over it are rejected with 429 and
+ * a Retry-After header.
+ */
+@Component
+@Order(SecurityProperties.DEFAULT_FILTER_ORDER + 10)
+public class RateLimitFilter extends OncePerRequestFilter {
+
+	private final RateLimiter rateLimiter;
+
+	private final byte[] rateLimitedBody;
+
+	/**
+	 * Instantiates a new rate limit filter.
+	 *
+	 * @param rateLimiter  the rate limiter holding the budgets
+	 * @param objectMapper the object mapper writing the rejection body
+	 * @param env          the env
+	 * @throws IOException if the rejection body cannot be written
+	 */
+	@Autowired
+	public RateLimitFilter(RateLimiter rateLimiter, ObjectMapper objectMapper, Environment env) throws IOException {
+		this.rateLimiter = rateLimiter;
+		this.rateLimitedBody = objectMapper.writeValueAsBytes(new ErrorResponse("Too Many Requests.",
+				Collections.singletonList(env.getProperty("RateLimiter.RATE_LIMITED"))));
+	}
+
+	@Override
+	protected boolean shouldNotFilter(HttpServletRequest request) {
+		return !rateLimiter.isEnabled();
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+			throws ServletException, IOException {
+		RateLimitedEndpoint endpoint = RateLimitedEndpoint.of(RequestPaths.pathWithinApplication(request));
+		Principal principal = request.getUserPrincipal();
+		if (endpoint == null || principal == null) {
+			chain.doFilter(request, response);
+			return;
+		}
+		long remaining = rateLimiter.tryConsume(endpoint, principal.getName());
+		response.setHeader(Constants.RATE_LIMIT_LIMIT_HEADER, Long.toString(rateLimiter.getCapacity(endpoint)));
+		if (remaining < 0) {
+			response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+			response.setHeader(Constants.RATE_LIMIT_REMAINING_HEADER, "0");
+			response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(rateLimiter.getRetryAfterSeconds(endpoint)));
+			response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+			response.getOutputStream().write(rateLimitedBody);
+			return;
+		}
+		response.setHeader(Constants.RATE_LIMIT_REMAINING_HEADER, Long.toString(remaining));
+		chain.doFilter(request, response);
+	}
+}
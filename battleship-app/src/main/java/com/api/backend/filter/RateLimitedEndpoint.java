@@ -0,0 +1,80 @@
+package com.api.backend.filter;
+
+/**
+ * The RateLimitedEndpoint enum groups the game endpoints sharing a rate limit.
+ * Each group has its own bucket per key, with a capacity and refill rate read
+ * from the {@code game.rate-limit.<name>} properties.
+ */
+public enum RateLimitedEndpoint {
+
+	/**
+	 * Game play turns, per authenticated principal.
+	 */
+	GAMEPLAY("gameplay", 40, 20),
+
+	/**
+	 * Game play turns, per game player, whoever sends them.
+	 */
+	GAMEPLAY_PLAYER("gameplay-player", 10, 5),
+
+	/**
+	 * Game, turn, leaderboard and ship reads, per authenticated principal.
+	 */
+	GAME_READ("game-read", 40, 20),
+
+	/**
+	 * Joining, listing the available players and creating games, per
+	 * authenticated principal.
+	 */
+	LOBBY("lobby", 10, 2),
+
+	/**
+	 * Authentication attempts on the game stream, per remote address.
+	 */
+	STREAM_AUTH("stream-auth", 5, 0.1);
+
+	private final String name;
+
+	private final long defaultCapacity;
+
+	private final double defaultRefillPerSecond;
+
+	RateLimitedEndpoint(String name, long defaultCapacity, double defaultRefillPerSecond) {
+		this.name = name;
+		this.defaultCapacity = defaultCapacity;
+		this.defaultRefillPerSecond = defaultRefillPerSecond;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public long getDefaultCapacity() {
+		return defaultCapacity;
+	}
+
+	public double getDefaultRefillPerSecond() {
+		return defaultRefillPerSecond;
+	}
+
+	/**
+	 * Classifies a request limited per principal by its path within the
+	 * application.
+	 *
+	 * @param path the request path, without the context path
+	 * @return the endpoint group, or null for requests outside the game API
+	 */
+	public static RateLimitedEndpoint of(String path) {
+		if (!path.startsWith("/game/v1/")) {
+			return null;
+		}
+		if (path.startsWith("/game/v1/gameplay")) {
+			return GAMEPLAY;
+		}
+		if (path.startsWith("/game/v1/availableplayers") || path.startsWith("/game/v1/joingame")
+				|| path.startsWith("/game/v1/creategame")) {
+			return LOBBY;
+		}
+		return GAME_READ;
+	}
+}
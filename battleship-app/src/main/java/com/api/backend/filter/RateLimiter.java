@@ -0,0 +1,137 @@
+package com.api.backend.filter;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import com.api.backend.exception.RateLimitExceededException;
+import com.api.backend.utils.Constants;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * The RateLimiter class limits the requests of every principal and every game
+ * player with token buckets: each {@link RateLimitedEndpoint} grants a burst of
+ * its capacity, then its refill rate per second. The buckets of all endpoints
+ * share one {@link TokenBuckets}, bounded by {@code game.rate-limit.max-keys}.
+ * Rejected requests are counted per endpoint and the number of buckets kept is
+ * exposed as a metric.
+ */
+@Component
+public class RateLimiter {
+
+	private final Environment env;
+
+	private final boolean enabled;
+
+	private final TokenBuckets buckets;
+
+	private final Map<RateLimitedEndpoint, Long> capacities = new EnumMap<>(RateLimitedEndpoint.class);
+
+	private final Map<RateLimitedEndpoint, Double> tokensPerNano = new EnumMap<>(RateLimitedEndpoint.class);
+
+	private final Map<RateLimitedEndpoint, Long> retryAfterSeconds = new EnumMap<>(RateLimitedEndpoint.class);
+
+	private final Map<RateLimitedEndpoint, Counter> rejected = new EnumMap<>(RateLimitedEndpoint.class);
+
+	/**
+	 * Instantiates a new rate limiter.
+	 *
+	 * @param meterRegistry the registry of the rate limit metrics
+	 * @param env           the env holding the endpoint limits
+	 * @param enabled       whether requests are limited
+	 * @param maxKeys       the maximum number of buckets kept
+	 */
+	@Autowired
+	public RateLimiter(MeterRegistry meterRegistry, Environment env,
+			@Value("${game.rate-limit.enabled:true}") boolean enabled,
+			@Value("${game.rate-limit.max-keys:262144}") int maxKeys) {
+		this.env = env;
+		this.enabled = enabled;
+		this.buckets = new TokenBuckets(Constants.RATE_LIMIT_STRIPES, maxKeys);
+		for (RateLimitedEndpoint endpoint : RateLimitedEndpoint.values()) {
+			String prefix = "game.rate-limit." + endpoint.getName();
+			long capacity = env.getProperty(prefix + ".capacity", Long.class, endpoint.getDefaultCapacity());
+			double refillPerSecond = env.getProperty(prefix + ".refill-per-second", Double.class,
+					endpoint.getDefaultRefillPerSecond());
+			if (capacity < 1 || refillPerSecond <= 0) {
+				throw new IllegalArgumentException("Invalid rate limit of " + endpoint.getName());
+			}
+			capacities.put(endpoint, capacity);
+			tokensPerNano.put(endpoint, refillPerSecond / TimeUnit.SECONDS.toNanos(1));
+			retryAfterSeconds.put(endpoint, (long) Math.ceil(1 / refillPerSecond));
+			rejected.put(endpoint,
+					Counter.builder("game.rate-limit.rejected").description("Requests rejected over their rate limit")
+							.tag("endpoint", endpoint.getName()).register(meterRegistry));
+		}
+		Gauge.builder("game.rate-limit.keys", buckets, TokenBuckets::size).description("Rate limit buckets kept")
+				.register(meterRegistry);
+	}
+
+	/**
+	 * Takes a request from the budget of a key.
+	 *
+	 * @param endpoint the endpoint group
+	 * @param key      the principal name or game player id
+	 * @return the requests left in the budget, or -1 if the request is rejected
+	 */
+	public long tryConsume(RateLimitedEndpoint endpoint, String key) {
+		long remaining = buckets.tryConsume(endpoint.ordinal() + ":" + key, capacities.get(endpoint),
+				tokensPerNano.get(endpoint), System.nanoTime());
+		if (remaining < 0) {
+			rejected.get(endpoint).increment();
+		}
+		return remaining;
+	}
+
+	/**
+	 * Takes a game play turn from the budget of a game player.
+	 *
+	 * @param gamePlayerId the game player id, not limited when null
+	 * @return the turns left in the budget, or -1 when not limited
+	 * @throws RateLimitExceededException if the budget is used up
+	 */
+	public long consumeTurn(Long gamePlayerId) {
+		if (!enabled || gamePlayerId == null) {
+			return -1;
+		}
+		long remaining = tryConsume(RateLimitedEndpoint.GAMEPLAY_PLAYER, gamePlayerId.toString());
+		if (remaining < 0) {
+			throw new RateLimitExceededException(env.getProperty("RateLimiter.RATE_LIMITED"),
+					getRetryAfterSeconds(RateLimitedEndpoint.GAMEPLAY_PLAYER));
+		}
+		return remaining;
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * Returns the burst of requests allowed to a key of an endpoint group.
+	 *
+	 * @param endpoint the endpoint group
+	 * @return the bucket capacity
+	 */
+	public long getCapacity(RateLimitedEndpoint endpoint) {
+		return capacities.get(endpoint);
+	}
+
+	/**
+	 * Returns the time an empty bucket of an endpoint group takes to earn a
+	 * request.
+	 *
+	 * @param endpoint the endpoint group
+	 * @return the delay in seconds, at least 1
+	 */
+	public long getRetryAfterSeconds(RateLimitedEndpoint endpoint) {
+		return Math.max(1, retryAfterSeconds.get(endpoint));
+	}
+}
@@ -0,0 +1,28 @@
+package com.api.backend.filter;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.springframework.util.StringUtils;
+import org.springframework.web.util.UrlPathHelper;
+
+/**
+ * The RequestPaths class resolves the path by which the request filters
+ * classify a request. It is the decoded path within the application, without
+ * path parameters and with duplicate slashes and dot segments resolved, so that
+ * an encoded or padded URI is classified like the handler it is dispatched to.
+ */
+public final class RequestPaths {
+
+	private RequestPaths() {
+	}
+
+	/**
+	 * Returns the normalized path of a request within the application.
+	 *
+	 * @param request the request
+	 * @return the path, without the context path
+	 */
+	public static String pathWithinApplication(HttpServletRequest request) {
+		return StringUtils.cleanPath(UrlPathHelper.defaultInstance.getPathWithinApplication(request));
+	}
+}
@@ -0,0 +1,57 @@
+package com.api.backend.filter;
+
+/**
+ * The RequestPriority enum ranks the requests sharing the concurrency limit.
+ * Each priority may only use its share of the limit, so that lower priorities
+ * are shed first and game play turns keep the headroom left above them.
+ */
+public enum RequestPriority {
+
+	/**
+	 * Game play turns, which may use the whole limit.
+	 */
+	CRITICAL(1.0),
+
+	/**
+	 * The other game endpoints.
+	 */
+	NORMAL(0.9),
+
+	/**
+	 * The lobby, API docs, H2 console and actuator endpoints.
+	 */
+	SHEDDABLE(0.5);
+
+	private final double share;
+
+	RequestPriority(double share) {
+		this.share = share;
+	}
+
+	/**
+	 * Returns the part of the concurrency limit requests of this priority may use.
+	 *
+	 * @param limit the concurrency limit
+	 * @return the number of requests of this priority or above allowed in flight,
+	 *         at least 1
+	 */
+	public int allowedInFlight(int limit) {
+		return Math.max(1, (int) (limit * share));
+	}
+
+	/**
+	 * Classifies a request by its path within the application.
+	 *
+	 * @param path the request path, without the context path
+	 * @return the request priority
+	 */
+	public static RequestPriority of(String path) {
+		if (path.startsWith("/game/v1/gameplay")) {
+			return CRITICAL;
+		}
+		if (path.startsWith("/game/") && !path.startsWith("/game/v1/availableplayers")) {
+			return NORMAL;
+		}
+		return SHEDDABLE;
+	}
+}
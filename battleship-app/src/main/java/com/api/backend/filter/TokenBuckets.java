@@ -0,0 +1,118 @@
+package com.api.backend.filter;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The TokenBuckets class keeps one token bucket per key. A bucket is refilled
+ * lazily, from the time elapsed since it was last used, when a token is taken
+ * from it, so no thread ever sweeps the buckets. The keys are spread over
+ * stripes, each with its own lock and at most its share of the keys: once a
+ * stripe is full its least recently used bucket is dropped, which only
+ * forgives a key that has been idle the longest.
+ */
+public class TokenBuckets {
+
+	private final Stripe[] stripes;
+
+	private final int mask;
+
+	/**
+	 * Instantiates new token buckets.
+	 *
+	 * @param stripeCount the number of stripes, a power of two
+	 * @param maxKeys     the maximum number of buckets kept
+	 */
+	public TokenBuckets(int stripeCount, int maxKeys) {
+		if (stripeCount < 1 || Integer.bitCount(stripeCount) != 1 || maxKeys < stripeCount) {
+			throw new IllegalArgumentException("Invalid token bucket settings");
+		}
+		this.stripes = new Stripe[stripeCount];
+		this.mask = stripeCount - 1;
+		for (int i = 0; i < stripeCount; i++) {
+			stripes[i] = new Stripe(maxKeys / stripeCount);
+		}
+	}
+
+	/**
+	 * Takes a token from the bucket of a key, created full on first use.
+	 *
+	 * @param key           the bucket key
+	 * @param capacity      the maximum number of tokens of the bucket
+	 * @param tokensPerNano the tokens added to the bucket per nanosecond
+	 * @param nowNanos      the current {@link System#nanoTime()}
+	 * @return the whole tokens left, or -1 if the bucket was empty
+	 */
+	public long tryConsume(String key, long capacity, double tokensPerNano, long nowNanos) {
+		int hash = key.hashCode();
+		Stripe stripe = stripes[(hash ^ (hash >>> 16)) & mask];
+		synchronized (stripe) {
+			Bucket bucket = stripe.get(key);
+			if (bucket == null) {
+				bucket = new Bucket(capacity, nowNanos);
+				stripe.put(key, bucket);
+			}
+			return bucket.tryConsume(capacity, tokensPerNano, nowNanos);
+		}
+	}
+
+	/**
+	 * Returns the number of buckets kept.
+	 *
+	 * @return the number of keys
+	 */
+	public int size() {
+		int size = 0;
+		for (Stripe stripe : stripes) {
+			synchronized (stripe) {
+				size += stripe.size();
+			}
+		}
+		return size;
+	}
+
+	/**
+	 * The buckets of a stripe, in least recently used order.
+	 */
+	private static final class Stripe extends LinkedHashMap<String, Bucket> {
+
+		private static final long serialVersionUID = 1L;
+
+		private final int maxKeys;
+
+		private Stripe(int maxKeys) {
+			super(16, 0.75f, true);
+			this.maxKeys = maxKeys;
+		}
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, Bucket> eldest) {
+			return size() > maxKeys;
+		}
+	}
+
+	/**
+	 * The tokens of a key, guarded by the lock of its stripe.
+	 */
+	private static final class Bucket {
+
+		private double tokens;
+
+		private long refilledNanos;
+
+		private Bucket(long capacity, long nowNanos) {
+			this.tokens = capacity;
+			this.refilledNanos = nowNanos;
+		}
+
+		private long tryConsume(long capacity, double tokensPerNano, long nowNanos) {
+			tokens = Math.min(capacity, tokens + Math.max(0, nowNanos - refilledNanos) * tokensPerNano);
+			refilledNanos = nowNanos;
+			if (tokens < 1) {
+				return -1;
+			}
+			tokens -= 1;
+			return (long) tokens;
+		}
+	}
+}
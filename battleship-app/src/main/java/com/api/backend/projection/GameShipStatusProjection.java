@@ -0,0 +1,21 @@
+package com.api.backend.projection;
+
+import com.api.backend.entity.ShipStatus;
+
+/**
+ * The GameShipStatusProjection reads the status of a game ship without its grids.
+ */
+public interface GameShipStatusProjection {
+
+	Long getGamePlayerId();
+
+	Long getGameShipId();
+
+	Long getShipId();
+
+	String getShipName();
+
+	int getShipLength();
+
+	ShipStatus getShipStatus();
+}
@@ -0,0 +1,47 @@
+package com.api.backend.projection;
+
+import java.util.Date;
+import java.util.UUID;
+
+import com.api.backend.entity.GameStatus;
+
+/**
+ * The GameSummaryProjection reads only the Game columns and the player ids of a
+ * game, without loading the game players' boards or ships.
+ */
+public interface GameSummaryProjection {
+
+	UUID getGameId();
+
+	GameStatus getGameStatus();
+
+	Date getGameCreationDate();
+
+	Long getCurrentPlayerId();
+
+	Long getWinnerId();
+
+	Long getPlayer1Id();
+
+	Long getPlayer1PlayerId();
+
+	String getPlayer1Name();
+
+	Integer getPlayer1ShotsFired();
+
+	Integer getPlayer1ShotsHit();
+
+	Integer getPlayer1ShipsRemaining();
+
+	Long getPlayer2Id();
+
+	Long getPlayer2PlayerId();
+
+	String getPlayer2Name();
+
+	Integer getPlayer2ShotsFired();
+
+	Integer getPlayer2ShotsHit();
+
+	Integer getPlayer2ShipsRemaining();
+}
@@ -0,0 +1,24 @@
+package com.api.backend.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.api.backend.entity.GameGridEntity;
+import com.api.backend.entity.GamePlayerEntity;
+
+public interface GameGridRepository extends JpaRepository<GameGridEntity, Long> {
+
+	@Query("select g from GameGridEntity g left join fetch g.gameShip gs left join fetch gs.ship"
+			+ " where g.gamePlayer = :gamePlayer and g.rowIndex = :rowIndex"
+			+ " and g.columnIndex = :columnIndex")
+	GameGridEntity findByRowIndexAndColumnIndexAndGamePlayer(@Param("rowIndex") int rowIndex,
+			@Param("columnIndex") int columnIndex, @Param("gamePlayer") GamePlayerEntity gamePlayer);
+
+	@Query("select g from GameGridEntity g where g.gamePlayer in :gamePlayers order by g.gameGridId")
+	List<GameGridEntity> findByGamePlayerIn(@Param("gamePlayers") Collection<GamePlayerEntity> gamePlayers);
+
+}
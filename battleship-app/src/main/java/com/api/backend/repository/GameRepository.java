@@ -0,0 +1,66 @@
+package com.api.backend.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.api.backend.entity.GameEntity;
+import com.api.backend.entity.GameStatus;
+import com.api.backend.projection.GameSummaryProjection;
+
+/**
+ * Repository for games. Each read path has its own fetch plan:
+ * <ul>
+ * <li>turn: {@link #findWithPlayersByGameId(UUID)}, the game and its players in
+ * one query, the attacked grid and ships are then read by coordinate</li>
+ * <li>full view: {@link #findWithPlayersByGameId(UUID)} or
+ * {@link #findAllByGameIdIn(Collection)}, followed by one query for the game
+ * ships and one for the game boards of all loaded players</li>
+ * <li>summary: {@link #findSummaryByGameId(UUID)}, followed by one query for the
+ * ship statuses</li>
+ * <li>list by status: {@link #findSummariesByGameStatus(GameStatus, Pageable)},
+ * followed by one query for the ship statuses of all listed games</li>
+ * </ul>
+ */
+public interface GameRepository extends JpaRepository<GameEntity, UUID> {
+
+	@EntityGraph(GameEntity.PLAYERS_GRAPH)
+	Optional<GameEntity> findWithPlayersByGameId(UUID gameId);
+
+	@EntityGraph(GameEntity.PLAYERS_GRAPH)
+	List<GameEntity> findAllByGameIdIn(Collection<UUID> gameIds);
+
+	@Query("select g.gameId as gameId, g.gameStatus as gameStatus, g.gameCreationDate as gameCreationDate,"
+			+ " c.gamePlayerId as currentPlayerId, w.gamePlayerId as winnerId,"
+			+ " p1.gamePlayerId as player1Id, u1.playerId as player1PlayerId, u1.playerName as player1Name,"
+			+ " p1.shotsFired as player1ShotsFired, p1.shotsHit as player1ShotsHit,"
+			+ " p1.shipsRemaining as player1ShipsRemaining,"
+			+ " p2.gamePlayerId as player2Id, u2.playerId as player2PlayerId, u2.playerName as player2Name,"
+			+ " p2.shotsFired as player2ShotsFired, p2.shotsHit as player2ShotsHit,"
+			+ " p2.shipsRemaining as player2ShipsRemaining"
+			+ " from GameEntity g join g.player1 p1 join p1.player u1 join g.player2 p2 join p2.player u2"
+			+ " left join g.currentPlayer c left join g.winner w where g.gameId = :gameId")
+	Optional<GameSummaryProjection> findSummaryByGameId(@Param("gameId") UUID gameId);
+
+	@Query("select g.gameId as gameId, g.gameStatus as gameStatus, g.gameCreationDate as gameCreationDate,"
+			+ " c.gamePlayerId as currentPlayerId, w.gamePlayerId as winnerId,"
+			+ " p1.gamePlayerId as player1Id, u1.playerId as player1PlayerId, u1.playerName as player1Name,"
+			+ " p1.shotsFired as player1ShotsFired, p1.shotsHit as player1ShotsHit,"
+			+ " p1.shipsRemaining as player1ShipsRemaining,"
+			+ " p2.gamePlayerId as player2Id, u2.playerId as player2PlayerId, u2.playerName as player2Name,"
+			+ " p2.shotsFired as player2ShotsFired, p2.shotsHit as player2ShotsHit,"
+			+ " p2.shipsRemaining as player2ShipsRemaining"
+			+ " from GameEntity g join g.player1 p1 join p1.player u1 join g.player2 p2 join p2.player u2"
+			+ " left join g.currentPlayer c left join g.winner w where g.gameStatus = :gameStatus"
+			+ " order by g.gameCreationDate desc, g.gameId desc")
+	List<GameSummaryProjection> findSummariesByGameStatus(@Param("gameStatus") GameStatus gameStatus,
+			Pageable pageable);
+
+}
@@ -0,0 +1,30 @@
+package com.api.backend.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.api.backend.entity.GamePlayerEntity;
+import com.api.backend.entity.GameShipEntity;
+import com.api.backend.projection.GameShipStatusProjection;
+
+public interface GameShipRepository extends JpaRepository<GameShipEntity, Long> {
+	
+	List<GameShipEntity> findBygamePlayer(GamePlayerEntity gamePlayer);
+
+	GameShipEntity findByShip_ShipIdAndGamePlayer(Long shipId, GamePlayerEntity gamePlayer);
+
+	@Query("select gs.gamePlayer.gamePlayerId as gamePlayerId, gs.gameShipId as gameShipId, s.shipId as shipId,"
+			+ " s.shipName as shipName, s.shipLength as shipLength, gs.shipStatus as shipStatus"
+			+ " from GameShipEntity gs join gs.ship s where gs.gamePlayer.gamePlayerId in :gamePlayerIds"
+			+ " order by gs.gameShipId")
+	List<GameShipStatusProjection> findStatusesByGamePlayerIds(@Param("gamePlayerIds") Collection<Long> gamePlayerIds);
+
+	@Query("select gs from GameShipEntity gs join fetch gs.ship where gs.gamePlayer in :gamePlayers"
+			+ " order by gs.gameShipId")
+	List<GameShipEntity> findWithShipByGamePlayerIn(@Param("gamePlayers") Collection<GamePlayerEntity> gamePlayers);
+
+}
@@ -0,0 +1,19 @@
+package com.api.backend.repository;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.api.backend.entity.GameTurnEntity;
+
+public interface GameTurnRepository extends JpaRepository<GameTurnEntity, Long> {
+
+	@Query("select t from GameTurnEntity t where t.game.gameId = :gameId"
+			+ " and t.turnNumber between :fromTurn and :toTurn order by t.turnNumber")
+	List<GameTurnEntity> findTurns(@Param("gameId") UUID gameId, @Param("fromTurn") int fromTurn,
+			@Param("toTurn") int toTurn);
+
+}
@@ -13,5 +13,8 @@ public class GamePlayResponse {
 	private String gameId;
 	private Long gameWinnerId;
 	private GameShipResponse gameShipHitOrSunked;
+	private Integer shotsFired;
+	private Integer shotsHit;
+	private Integer opponentShipsRemaining;
 
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package com.api.backend.service;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -10,7 +11,6 @@ import org.modelmapper.Converter;
 import org.modelmapper.ModelMapper;
 import org.modelmapper.spi.MappingContext;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.core.env.Environment;
 import org.springframework.stereotype.Service;
 
 import com.api.backend.dto.GameGridDTO;
@@ -18,6 +18,8 @@ import com.api.backend.entity.GameGridEntity;
 import com.api.backend.entity.GamePlayerEntity;
 import com.api.backend.entity.GameShipEntity;
 import com.api.backend.entity.GridValue;
+import com.api.backend.exception.MoveRejection;
+import com.api.backend.exception.MoveRejectionCatalog;
 import com.api.backend.exception.ValidationException;
 import com.api.backend.repository.GameGridRepository;
 import com.api.backend.request.GameCreationRequest;
@@ -36,13 +38,14 @@ public class GameGridService {
 
 	private final ModelMapper modelMapper;
 	private GameGridRepository gameGridRepository;
-	private Environment env;
+	private MoveRejectionCatalog moveRejections;
 
 	@Autowired
-	public GameGridService(ModelMapper modelMapper, GameGridRepository gameGridRepository, Environment env) {
+	public GameGridService(ModelMapper modelMapper, GameGridRepository gameGridRepository,
+			MoveRejectionCatalog moveRejections) {
 		this.modelMapper = modelMapper;
 		this.gameGridRepository = gameGridRepository;
-		this.env = env;
+		this.moveRejections = moveRejections;
 	}
 
 	/**
@@ -91,7 +94,7 @@ public class GameGridService {
 				gameGridEntity.setColumnIndex(col);
 				gameGridEntity.setGridValue(GridValue.NOT_ATTACKED);
 				gameGridEntity.setGamePlayer(gamePlayer);
-				logger.debug("populateGameBoard Method : Inside for loop : " + row + col);
+				logger.debug("populateGameBoard Method : Inside for loop : {}{}", row, col);
 				// Find and associate the GameShipEntity if it exists at this grid location
 				for (GameShipRequest gameShipRequest : gameCreationRequest.getShipsInfo()) {
 					for (GameShipLocationRequest locationRequest : gameShipRequest.getGameShipLocations()) {
@@ -105,7 +108,7 @@ public class GameGridService {
 								gameGridEntity.setGameShip(gameShipEntityOptional);
 								gameShipEntityOptional.addGameShipGrid(gameGridEntity);
 							}
-							logger.debug("populateGameBoard Method : Inside IF loop : " + row + col);
+							logger.debug("populateGameBoard Method : Inside IF loop : {}{}", row, col);
 							break;
 						}
 					}
@@ -117,43 +120,29 @@ public class GameGridService {
 	}
 
 	/**
-	 * Validates the given game grid entity and throws a {@link ValidationException}
-	 * if it is null or if its grid value is already attacked.
+	 * Retrieves the game boards of the given game players with a single query,
+	 * ordered by grid ID.
 	 *
-	 * @param gameGridEntity The game grid entity to validate.
-	 * @throws ValidationException If the game grid entity is null or its grid value
-	 *                             is already attacked.
+	 * @param gamePlayers The game players whose boards to load.
+	 * @return The game grid entities of all given game players.
 	 */
-	public void validateGameBoardCoordinate(GameGridEntity gameGridEntity) {
-		Optional.ofNullable(gameGridEntity)
-				.orElseThrow(() -> new ValidationException(env.getProperty("GameGridService.COORDINATES_NOT_EXISTS")));
-
-		Optional.of(gameGridEntity.getGridValue()).filter(value -> value != GridValue.ATTACKED)
-				.orElseThrow(() -> new ValidationException(env.getProperty("GameGridService.ALREADY_ATTACKED")));
+	public List<GameGridEntity> fetchGameBoards(Collection<GamePlayerEntity> gamePlayers) {
+		return gameGridRepository.findByGamePlayerIn(gamePlayers);
 	}
 
 	/**
-	 * Validates and saves the grid for the attacked location of the Opponent by the current player.
+	 * Reads the grid of a game player at the given location together with its
+	 * ship, instead of the whole board.
 	 *
-	 * @param attackedGrid  The attacked grid location.
-	 * @param opponentPlayer The opponent player entity.
-	 * @return The associated game ship entity (if any) for the attacked location.
-	 * @throws ValidationException If the attacked grid location is invalid or
-	 *                             already attacked.
+	 * @param rowIndex    The row index.
+	 * @param columnIndex The column index.
+	 * @param gamePlayer  The game player owning the board.
+	 * @return The game grid entity.
+	 * @throws ValidationException If the game player has no grid at the location.
 	 */
-	public GameShipEntity validateAndSaveGrid(GameShipLocationRequest attackedGrid, GamePlayerEntity opponentPlayer) {
-		List<GameGridEntity> gameBoard = opponentPlayer.getGameBoard();
-		GameGridEntity gameGridEntity = gameBoard.stream()
-				.filter(gameGrid -> gameGrid.getRowIndex() == attackedGrid.getRowIndex()
-						&& gameGrid.getColumnIndex() == attackedGrid.getColumnIndex()
-						&& gameGrid.getGamePlayer().equals(opponentPlayer))
-				.findFirst().orElse(null);
-
-		validateGameBoardCoordinate(gameGridEntity);
-
-		updateGameBoardCoordinate(opponentPlayer, gameGridEntity);
-
-		return gameGridEntity.getGameShip();
+	public GameGridEntity fetchGameGrid(int rowIndex, int columnIndex, GamePlayerEntity gamePlayer) {
+		return Optional.ofNullable(gameGridRepository.findByRowIndexAndColumnIndexAndGamePlayer(rowIndex, columnIndex,
+				gamePlayer)).orElseThrow(() -> moveRejections.get(MoveRejection.COORDINATES_NOT_EXISTS));
 	}
 
 	/**
@@ -0,0 +1,349 @@
+package com.api.backend.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.api.backend.dto.GameDTO;
+import com.api.backend.dto.GameTurnDTO;
+import com.api.backend.dto.PlayerStatsDTO;
+import com.api.backend.entity.GameStatus;
+import com.api.backend.entity.PlayerEntity;
+import com.api.backend.event.GameEventBus;
+import com.api.backend.exception.BattleshipApplicationException;
+import com.api.backend.exception.ValidationException;
+import com.api.backend.request.GameCreationRequest;
+import com.api.backend.request.GamePlayRequest;
+import com.api.backend.request.GameShipRequest;
+import com.api.backend.response.GamePlayResponse;
+import com.api.backend.store.ActiveGameIndex;
+import com.api.backend.store.GameStateStore;
+import com.api.backend.store.PlayerLeaderboard;
+import com.api.backend.utils.Constants;
+import com.api.backend.utils.GameIds;
+
+/**
+ * The GameService class provides operations and business logic related to the
+ * game.
+ */
+
+@Service
+public class GameService {
+
+	private static final Logger logger = LogManager.getLogger(GameService.class);
+
+	private GameStateStore gameStateStore;
+
+	private ActiveGameIndex activeGameIndex;
+
+	private PlayerLeaderboard playerLeaderboard;
+
+	private GameEventBus gameEventBus;
+
+	private GameShipService gameShipService;
+
+	private PlayerService playerService;
+
+	private Environment env;
+
+	private CacheManager cacheManager;
+
+	/**
+	 * Instantiates a new game service.
+	 *
+	 * @param gameStateStore    the game state store
+	 * @param activeGameIndex   the turn state of the ongoing games
+	 * @param playerLeaderboard the statistics of the players of completed games
+	 * @param gameEventBus      the bus publishing game events after commit
+	 * @param gameShipService   the game ship service
+	 * @param env               the env
+	 * @param playerService     the player service
+	 * @param cacheManager      the cache manager
+	 */
+	@Autowired
+	public GameService(GameStateStore gameStateStore, ActiveGameIndex activeGameIndex,
+			PlayerLeaderboard playerLeaderboard, GameEventBus gameEventBus, GameShipService gameShipService,
+			Environment env, PlayerService playerService, CacheManager cacheManager) {
+		this.gameStateStore = gameStateStore;
+		this.activeGameIndex = activeGameIndex;
+		this.playerLeaderboard = playerLeaderboard;
+		this.gameEventBus = gameEventBus;
+		this.gameShipService = gameShipService;
+		this.playerService = playerService;
+		this.env = env;
+		this.cacheManager = cacheManager;
+	}
+
+	/**
+	 * Fetch game details by gameId.This method is cached for a particular gameId
+	 * and concurrent misses for the same gameId share a single load from the game
+	 * state store.
+	 *
+	 * @param gameId the game id
+	 * @return the game DTO containing game details
+	 */
+	@Cacheable(value = "games", sync = true)
+	@Transactional(readOnly = true)
+	public GameDTO fetchGameDetails(String gameId) {
+		return gameStateStore.loadGame(parseGameId(gameId))
+				.orElseThrow(() -> new BattleshipApplicationException(env.getProperty("GameService.ID_NOT_EXISTS")));
+	}
+
+	/**
+	 * Fetch the summary of a game: status, current player, winner and ship
+	 * statuses. A game already in the games cache is served from it, otherwise
+	 * the summary is read from the game state store, without the boards.
+	 *
+	 * @param gameId the game id
+	 * @return the game DTO without game boards and ship grids
+	 */
+	@Transactional(readOnly = true)
+	public GameDTO fetchGameSummary(String gameId) {
+		Cache gamesCache = cacheManager.getCache(Constants.GAMES_CACHE);
+		GameDTO cached = gamesCache != null ? gamesCache.get(gameId, GameDTO.class) : null;
+		if (cached != null) {
+			return cached;
+		}
+		return gameStateStore.loadSummary(parseGameId(gameId))
+				.orElseThrow(() -> new BattleshipApplicationException(env.getProperty("GameService.ID_NOT_EXISTS")));
+	}
+
+	/**
+	 * Fetch the details of several games at once. Games present in the games cache
+	 * are served from it, the remaining ones are loaded from the game state store
+	 * at once and cached. Unknown game ids are skipped.
+	 *
+	 * @param gameIds the game ids
+	 * @return the game DTOs in the order of the requested game ids
+	 */
+	@Transactional(readOnly = true)
+	public List<GameDTO> fetchGamesDetails(List<String> gameIds) {
+		if (gameIds.size() > Constants.MAX_GAME_IDS_PER_REQUEST) {
+			throw new ValidationException(env.getProperty("GameService.TOO_MANY_GAME_IDS"));
+		}
+		Cache gamesCache = cacheManager.getCache(Constants.GAMES_CACHE);
+		Map<String, GameDTO> games = new HashMap<>();
+		Map<String, UUID> misses = new LinkedHashMap<>();
+		for (String gameId : gameIds) {
+			if (games.containsKey(gameId) || misses.containsKey(gameId)) {
+				continue;
+			}
+			GameDTO cached = gamesCache != null ? gamesCache.get(gameId, GameDTO.class) : null;
+			if (cached != null) {
+				games.put(gameId, cached);
+			} else {
+				misses.put(gameId, parseGameId(gameId));
+			}
+		}
+		if (!misses.isEmpty()) {
+			Map<UUID, GameDTO> loaded = new HashMap<>();
+			for (GameDTO game : gameStateStore.loadGames(new HashSet<>(misses.values()))) {
+				loaded.put(game.getGameId(), game);
+			}
+			misses.forEach((gameId, gameUuid) -> {
+				GameDTO game = loaded.get(gameUuid);
+				if (game != null) {
+					games.put(gameId, game);
+					if (gamesCache != null) {
+						gamesCache.put(gameId, game);
+					}
+				}
+			});
+		}
+		List<GameDTO> result = new ArrayList<>(gameIds.size());
+		for (String gameId : gameIds) {
+			GameDTO game = games.get(gameId);
+			if (game != null) {
+				result.add(game);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Lists the summaries of the most recently created games with a status.
+	 *
+	 * @param status the game status, ONGOING or COMPLETED in any case
+	 * @param limit  the maximum number of games to return
+	 * @return the game summaries, newest first
+	 * @throws ValidationException if the status is unknown or the limit is not
+	 *                             between 1 and the maximum games per request
+	 */
+	@Transactional(readOnly = true)
+	public List<GameDTO> fetchGamesByStatus(String status, int limit) {
+		if (limit < 1 || limit > Constants.MAX_GAME_IDS_PER_REQUEST) {
+			throw new ValidationException(env.getProperty("GameService.TOO_MANY_GAME_IDS"));
+		}
+		GameStatus gameStatus;
+		try {
+			gameStatus = GameStatus.valueOf(status.toUpperCase(Locale.ROOT));
+		} catch (IllegalArgumentException e) {
+			throw new ValidationException(env.getProperty("GameService.INVALID_GAME_STATUS"));
+		}
+		return gameStateStore.listGames(gameStatus, limit);
+	}
+
+	/**
+	 * Lists a page of the turn history of a game.
+	 *
+	 * @param gameId   the game id
+	 * @param fromTurn the first turn number of the page, starting at 1
+	 * @param limit    the maximum number of turns to return
+	 * @return the turns in turn order, empty past the last turn
+	 * @throws ValidationException if the first turn is below 1 or the limit is
+	 *                             not between 1 and the maximum turns per request
+	 */
+	@Transactional(readOnly = true)
+	public List<GameTurnDTO> fetchGameTurns(String gameId, int fromTurn, int limit) {
+		if (fromTurn < 1 || limit < 1 || limit > Constants.MAX_TURNS_PER_REQUEST) {
+			throw new ValidationException(env.getProperty("GameService.INVALID_TURN_RANGE"));
+		}
+		return gameStateStore.loadTurns(parseGameId(gameId), fromTurn, limit);
+	}
+
+	/**
+	 * Fetch the details of a game as they were after a turn. The result is not
+	 * cached: the board is rebuilt from the turn history on every call.
+	 *
+	 * @param gameId the game id
+	 * @param atTurn the turn number, 0 for the start of the game
+	 * @return the game DTO after the turn
+	 * @throws ValidationException if the game is unknown or has not reached the turn
+	 */
+	@Transactional(readOnly = true)
+	public GameDTO fetchGameAtTurn(String gameId, int atTurn) {
+		if (atTurn < 0) {
+			throw new ValidationException(env.getProperty("GameService.INVALID_TURN_RANGE"));
+		}
+		return gameStateStore.loadGameAtTurn(parseGameId(gameId), atTurn)
+				.orElseThrow(() -> new ValidationException(env.getProperty("GameService.TURN_NOT_EXISTS")));
+	}
+
+	/**
+	 * Lists a page of the leaderboard: players ranked by wins, then by fewest
+	 * average turns to win.
+	 *
+	 * @param fromRank the rank of the first player, starting at 1
+	 * @param limit    the maximum number of players to return
+	 * @return the player statistics, best ranked first
+	 * @throws ValidationException if the first rank is below 1 or the limit is
+	 *                             not between 1 and the maximum leaderboard page
+	 */
+	public List<PlayerStatsDTO> fetchLeaderboard(int fromRank, int limit) {
+		if (fromRank < 1 || limit < 1 || limit > Constants.MAX_LEADERBOARD_PAGE) {
+			throw new ValidationException(env.getProperty("GameService.INVALID_RANK_RANGE"));
+		}
+		return playerLeaderboard.page(fromRank, limit);
+	}
+
+	/**
+	 * Fetch the statistics and leaderboard rank of a player.
+	 *
+	 * @param playerId the player id
+	 * @return the player statistics
+	 * @throws ValidationException if the player has not completed any game
+	 */
+	public PlayerStatsDTO fetchPlayerStats(Long playerId) {
+		return playerLeaderboard.findPlayer(playerId)
+				.orElseThrow(() -> new ValidationException(env.getProperty("GameService.PLAYER_STATS_NOT_EXISTS")));
+	}
+
+	/**
+	 * Parse the game id.
+	 *
+	 * @param gameId the game id
+	 * @return the game UUID
+	 * @throws ValidationException if the game id is not a valid UUID
+	 */
+	private UUID parseGameId(String gameId) {
+		try {
+			return GameIds.parse(gameId);
+		} catch (IllegalArgumentException e) {
+			throw new ValidationException(env.getProperty("GameService.INVALID_GAME_ID"));
+		}
+	}
+
+	/**
+	 * Creates a new game based on the provided information.
+	 *
+	 * @param gameCreationRequests the game creation requests containing player and
+	 *                             their respective ship information
+	 * @return the gameId of the newly created game
+	 */
+	@Transactional
+	public String createGame(List<GameCreationRequest> gameCreationRequests) {
+
+		if (2 != gameCreationRequests.size()) {
+			throw new ValidationException(env.getProperty("GameService.INVALID_PLAYER_COUNT"));
+		}
+		List<PlayerEntity> players = new ArrayList<>();
+		for (GameCreationRequest gameCreationRequest : gameCreationRequests) {
+
+			// validate the players and identify whether
+			PlayerEntity player = playerService.validatePlayer(gameCreationRequest.getPlayerName());
+			// validate the player gameships
+			validateGameShips(gameCreationRequest.getShipsInfo());
+			player.setIsPlaying(true);
+			players.add(player);
+		}
+		// store the game state
+		UUID gameId = gameStateStore.createGame(players, gameCreationRequests);
+		if (gameId != null) {
+			activeGameIndex.trackNewGame(gameId);
+			gameEventBus.gameCreated(gameId);
+			return gameId.toString();
+		} else {
+			throw new ValidationException("Unable to create game due to invalid input");
+		}
+	}
+
+	/**
+	 * Validate the ship placements of a player.
+	 *
+	 * @param shipsInfo the ships info
+	 */
+	private void validateGameShips(List<GameShipRequest> shipsInfo) {
+		gameShipService.validateGameShipGrids(shipsInfo);
+		for (GameShipRequest gameShipRequest : shipsInfo) {
+			gameShipService.validateShip(gameShipRequest.getShipId(), gameShipRequest.getGameShipLocations().size());
+		}
+	}
+
+	/**
+	 * Performs a player turn during the game and updates game and player status.
+	 * The turn is checked against the active game index first, so that invalid
+	 * turns are rejected before the game state store opens a transaction. The
+	 * shot, a sunk ship and the end of the game are published as game events.
+	 *
+	 * @param request the request containing game and player information for the
+	 *                turn
+	 * @return the game play response with the result of the turn
+	 */
+	@CacheEvict(value = { Constants.GAMES_CACHE, Constants.GAME_VIEWS_CACHE }, key = "#request.getGameId()")
+	public GamePlayResponse playerTurn(GamePlayRequest request) {
+		UUID gameId = parseGameId(request.getGameId());
+		activeGameIndex.checkTurn(gameId, request.getCurrentPlayer(), request.getAttackedGrid());
+		GamePlayResponse response = gameStateStore.applyTurn(gameId, request.getCurrentPlayer(),
+				request.getAttackedGrid());
+		activeGameIndex.recordTurn(gameId, request.getCurrentPlayer(), request.getAttackedGrid(),
+				response.getGameWinnerId() != null);
+		gameEventBus.turnPlayed(gameId, request.getCurrentPlayer(), request.getAttackedGrid(), response);
+		return response;
+	}
+}
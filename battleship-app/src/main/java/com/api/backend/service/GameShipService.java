@@ -1,7 +1,11 @@
 package com.api.backend.service;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -15,16 +19,18 @@ import org.springframework.stereotype.Service;
 
 import com.api.backend.dto.GameShipDTO;
 import com.api.backend.dto.ShipDTO;
+import com.api.backend.engine.Placement;
 import com.api.backend.entity.GamePlayerEntity;
 import com.api.backend.entity.GameShipEntity;
-import com.api.backend.entity.GridValue;
 import com.api.backend.entity.ShipEntity;
 import com.api.backend.entity.ShipStatus;
 import com.api.backend.exception.ValidationException;
+import com.api.backend.projection.GameShipStatusProjection;
 import com.api.backend.repository.GameShipRepository;
 import com.api.backend.repository.ShipRepository;
 import com.api.backend.request.GameShipLocationRequest;
 import com.api.backend.request.GameShipRequest;
+import com.api.backend.utils.Constants;
 
 /**
  * The Class GameShipService handles operations related to the game ships.
@@ -105,11 +111,45 @@ public class GameShipService {
 	 *
 	 * @return the list of all ships
 	 */
-	@Cacheable("ships")
+	@Cacheable(value = "ships", sync = true)
 	public List<ShipDTO> getShips() {
 		return shipRepository.findAll().stream().map(this::convertToShipDTO).collect(Collectors.toList());
 	}
 
+	/**
+	 * Retrieves the ship statuses of the given game players without loading the ship grids,
+	 * in one query per {@link Constants#IN_LIST_BATCH_SIZE} game players.
+	 *
+	 * @param gamePlayerIds the game player IDs
+	 * @return the game ships without grids, grouped by game player ID
+	 */
+	public Map<Long, List<GameShipDTO>> fetchShipStatuses(Collection<Long> gamePlayerIds) {
+		Map<Long, List<GameShipDTO>> gameShips = new HashMap<>();
+		List<Long> ids = new ArrayList<>(gamePlayerIds);
+		for (int from = 0; from < ids.size(); from += Constants.IN_LIST_BATCH_SIZE) {
+			List<Long> batch = ids.subList(from, Math.min(ids.size(), from + Constants.IN_LIST_BATCH_SIZE));
+			for (GameShipStatusProjection status : gameShipRepository.findStatusesByGamePlayerIds(batch)) {
+				ShipDTO ship = ShipDTO.builder().shipId(status.getShipId()).shipName(status.getShipName())
+						.shipLength(status.getShipLength()).build();
+				GameShipDTO gameShip = GameShipDTO.builder().gameShipId(status.getGameShipId()).ship(ship)
+						.shipStatus(status.getShipStatus().toString()).build();
+				gameShips.computeIfAbsent(status.getGamePlayerId(), id -> new ArrayList<>()).add(gameShip);
+			}
+		}
+		return gameShips;
+	}
+
+	/**
+	 * Retrieves the game ships of the given game players together with their ships
+	 * in a single query, ordered by game ship ID.
+	 *
+	 * @param gamePlayers the game players
+	 * @return the game ship entities of all given game players
+	 */
+	public List<GameShipEntity> fetchGameShips(Collection<GamePlayerEntity> gamePlayers) {
+		return gameShipRepository.findWithShipByGamePlayerIn(gamePlayers);
+	}
+
 	/**
 	 * Retrieves a ship entity by its ship ID.
 	 *
@@ -117,7 +157,7 @@ public class GameShipService {
 	 * @return the corresponding ship entity
 	 * @throws ValidationException if the ship ID does not exist
 	 */
-	@Cacheable("ships")
+	@Cacheable(value = "ships", sync = true)
 	public ShipEntity getShipByShipId(Long shipId) {
 		return shipRepository.findById(shipId)
 				.orElseThrow(() -> new ValidationException("Ship Id " + shipId + "does not exists"));
@@ -141,13 +181,16 @@ public class GameShipService {
 	}
 
 	/**
-	 * Validates the grids of the game ships to ensure they are not overlapping or not adjacent.
+	 * Validates the grids of the game ships to ensure they are on the board, not overlapping and adjacent.
 	 *
 	 * @param shipsInfo the list of game ship requests to validate
-	 * @throws ValidationException if the ship grids are overlapping or not adjacent
+	 * @throws ValidationException if the ship grids are off the board, overlapping or not adjacent
 	 */
 	public void validateGameShipGrids(List<GameShipRequest> shipsInfo) {
 
+		if (areShipLocationsOutOfBounds(shipsInfo)) {
+			throw new ValidationException(env.getProperty("GameShipService.SHIPS_OUT_OF_BOUNDS"));
+		}
 		if (areShipLocationsOverlapping(shipsInfo)) {
 			logger.debug("inside if loop: cells are over lapping");
 			throw new ValidationException(env.getProperty("GameShipService.SHIPS_OVERLAPPING"));
@@ -182,34 +225,31 @@ public class GameShipService {
 	 * @return true if ship locations are adjacent, false otherwise
 	 */
 	public Boolean areAdjacent(List<GameShipLocationRequest> locations) {
-		boolean isHorizontal = true;
-		boolean isVertical = true;
+		int[] rows = new int[locations.size()];
+		int[] columns = new int[locations.size()];
+		for (int i = 0; i < rows.length; i++) {
+			rows[i] = locations.get(i).getRowIndex();
+			columns[i] = locations.get(i).getColumnIndex();
+		}
+		return Placement.isContiguous(rows, columns);
+	}
 
-		int prevRow = -1;
-		int prevCol = -1;
-		for (GameShipLocationRequest location : locations) {
-			int row = location.getRowIndex();
-			int col = location.getColumnIndex();
-			logger.debug("Inside for loop : prevrow " + prevRow + " prevColum " + prevCol);
-			logger.debug("Inside for loop : row " + row + " Colum " + col);
-			if (prevRow != -1 && prevCol != -1) {
-				// Check if the locations are adjacent horizontally
-				if (row != prevRow || Math.abs(col - prevCol) > 1) {
-					logger.debug("inside horizontal if condition");
-					isHorizontal = false;
-				}
-				// Check if the locations are adjacent vertically
-				if (col != prevCol || Math.abs(row - prevRow) > 1) {
-					logger.debug("inside vertical if condition");
-					isVertical = false;
+	/**
+	 * Checks if any grid location of the ships lies outside the game board.
+	 *
+	 * @param shipsInfo the list of game ship requests to check
+	 * @return true if a ship location is outside the board, false otherwise
+	 */
+	public Boolean areShipLocationsOutOfBounds(List<GameShipRequest> shipsInfo) {
+		for (GameShipRequest gameShipRequest : shipsInfo) {
+			for (GameShipLocationRequest locationRequest : gameShipRequest.getGameShipLocations()) {
+				if (!Placement.isWithinBounds(Constants.GRID_VALUE, locationRequest.getRowIndex(),
+						locationRequest.getColumnIndex())) {
+					return true;
 				}
 			}
-			prevRow = row;
-			prevCol = col;
 		}
-		logger.debug("END : areNotAdjacent final result :" + (isHorizontal || isVertical) + " isHorizontal : "
-				+ isHorizontal + " isvertical :  " + isVertical);
-		return isHorizontal || isVertical;
+		return false;
 	}
 
 	/**
@@ -223,9 +263,9 @@ public class GameShipService {
 		for (GameShipRequest gameShipRequest : shipsInfo) {
 			for (GameShipLocationRequest locationRequest : gameShipRequest.getGameShipLocations()) {
 				String gridCell = locationRequest.getRowIndex() + "-" + locationRequest.getColumnIndex();
-				logger.debug("grid cell values " + gridCell);
+				logger.debug("grid cell values {}", gridCell);
 				if (visitedGridCells.contains(gridCell)) {
-					logger.debug("Inside if loop for overlapping cells " + gridCell);
+					logger.debug("Inside if loop for overlapping cells {}", gridCell);
 					return true;
 				}
 				visitedGridCells.add(gridCell);
@@ -256,21 +296,26 @@ public class GameShipService {
 	}
 
 	/**
-	 * Update game ship status of the opponent player
+	 * Counts a hit on a game ship of the opponent player.
 	 *
-	 * @param gameShipEntity the game ship entity
-	 * @param opponentPlayer the opponent player
+	 * @param gameShipEntity the hit game ship entity
+	 * @return the hit count of the ship, including this hit
 	 */
-	public void updateGameShipStatus(GameShipEntity gameShipEntity, GamePlayerEntity opponentPlayer) {
-
-		if (gameShipEntity != null) {
-			if (gameShipEntity.getGameShipGrids().stream()
-					.allMatch(grid -> grid.getGridValue() == GridValue.ATTACKED)) {
+	public int hitGameShip(GameShipEntity gameShipEntity) {
+		gameShipEntity.setHitCount(gameShipEntity.getHitCount() + 1);
+		return gameShipEntity.getHitCount();
+	}
 
-				gameShipEntity.setShipStatus(ShipStatus.SUNK);
-				gameShipRepository.save(gameShipEntity);
-				opponentPlayer.addGameShip(gameShipEntity);
-			}
-		}
+	/**
+	 * Sinks a game ship of the opponent player, which decrements the ships
+	 * remaining of the opponent player.
+	 *
+	 * @param gameShipEntity the sunk game ship entity
+	 * @param opponentPlayer the opponent player
+	 */
+	public void sinkGameShip(GameShipEntity gameShipEntity, GamePlayerEntity opponentPlayer) {
+		gameShipEntity.setShipStatus(ShipStatus.SUNK);
+		gameShipRepository.save(gameShipEntity);
+		opponentPlayer.setShipsRemaining(opponentPlayer.getShipsRemaining() - 1);
 	}
 }
@@ -1,5 +1,6 @@
 package com.api.backend.service;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -72,7 +73,7 @@ public class PlayerService {
 	 *
 	 * @return the list of players who are not locked by game.
 	 */
-	@Cacheable("players")
+	@Cacheable(value = "players", sync = true)
 	public List<PlayerEntity> fetchAllPlayersWhoAreNotLocked() {
 		return playerRepository.findAllByIsLocked(false);
 	}
@@ -150,4 +151,17 @@ public class PlayerService {
 		}
 		return playerEntity;
 	}
+
+	/**
+	 * Release the players of a completed game so that they can join another game.
+	 *
+	 * @param playerIds the player ids
+	 */
+	@Transactional
+	public void releasePlayers(Collection<Long> playerIds) {
+		for (PlayerEntity playerEntity : playerRepository.findAllById(playerIds)) {
+			playerEntity.setIsPlaying(false);
+			playerEntity.setIsLocked(false);
+		}
+	}
 }
@@ -0,0 +1,319 @@
+package com.api.backend.store;
+
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.PostConstruct;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.api.backend.dto.GameDTO;
+import com.api.backend.engine.Placement;
+import com.api.backend.entity.GameStatus;
+import com.api.backend.exception.InvalidMoveException;
+import com.api.backend.exception.MoveRejection;
+import com.api.backend.exception.MoveRejectionCatalog;
+import com.api.backend.request.GameShipLocationRequest;
+import com.api.backend.utils.Constants;
+
+/**
+ * The ActiveGameIndex class keeps the turn state of every ongoing game on the
+ * heap: its two game players, whose turn it is and the cells each player has
+ * already shot. A turn is checked against it before the game state store is
+ * touched, so that shots by unknown players, out of turn, off the board or at
+ * an attacked cell are rejected without a transaction.
+ * <p>
+ * The index is loaded from the store page by page at startup and updated only
+ * by turns and games of this instance, after they are stored. Games without a
+ * turn for {@code game.turn-index.idle-ms} are dropped, and a game missing from
+ * the index is looked up in the store again on its next turn. Ids that the
+ * store does not know as ongoing, and games completed here, are remembered as
+ * tombstones, so that repeated shots at them are rejected without reading the
+ * store again. At most {@code game.turn-index.max-tombstones} are kept, the
+ * oldest being dropped first. It never rejects
+ * a valid turn as long as no other process plays the same games; disable it
+ * with {@code game.turn-index.enabled=false} otherwise. The shots of games
+ * loaded from the store are unknown, so repeated shots at those cells are left
+ * to the store.
+ */
+@Component
+public class ActiveGameIndex {
+
+	private static final int TOMBSTONE_STRIPES = 16;
+
+	private final ConcurrentMap<UUID, Turns> games = new ConcurrentHashMap<>();
+
+	private final boolean enabled;
+
+	private final long idleMillis;
+
+	private final AtomicLong nextExpiryMillis = new AtomicLong();
+
+	private final Tombstones[] tombstones = new Tombstones[TOMBSTONE_STRIPES];
+
+	private GameStateStore gameStateStore;
+
+	private MoveRejectionCatalog moveRejections;
+
+	/**
+	 * Instantiates a new active game index.
+	 *
+	 * @param gameStateStore the game state store listing the ongoing games
+	 * @param moveRejections the exceptions thrown for rejected turns
+	 * @param enabled        whether turns are checked against the index
+	 * @param idleMillis     how long a game without turns stays in the index
+	 * @param maxTombstones  the maximum number of unknown or completed game ids
+	 *                       remembered
+	 */
+	@Autowired
+	public ActiveGameIndex(GameStateStore gameStateStore, MoveRejectionCatalog moveRejections,
+			@Value("${game.turn-index.enabled:true}") boolean enabled,
+			@Value("${game.turn-index.idle-ms:3600000}") long idleMillis,
+			@Value("${game.turn-index.max-tombstones:65536}") int maxTombstones) {
+		if (maxTombstones < TOMBSTONE_STRIPES) {
+			throw new IllegalArgumentException("Invalid turn index settings");
+		}
+		this.gameStateStore = gameStateStore;
+		this.moveRejections = moveRejections;
+		this.enabled = enabled;
+		this.idleMillis = idleMillis;
+		for (int i = 0; i < TOMBSTONE_STRIPES; i++) {
+			tombstones[i] = new Tombstones(maxTombstones / TOMBSTONE_STRIPES);
+		}
+	}
+
+	/**
+	 * Loads the ongoing games of the store.
+	 */
+	@PostConstruct
+	public void loadOngoingGames() {
+		if (enabled) {
+			long now = System.currentTimeMillis();
+			nextExpiryMillis.set(now + idleMillis);
+			gameStateStore.forEachGame(GameStatus.ONGOING, game -> track(game, now));
+		}
+	}
+
+	/**
+	 * Adds a new game to the index.
+	 *
+	 * @param gameId the id of the stored game
+	 */
+	public void trackNewGame(UUID gameId) {
+		if (enabled) {
+			long now = System.currentTimeMillis();
+			Tombstones stripe = tombstonesOf(gameId);
+			synchronized (stripe) {
+				stripe.remove(gameId);
+			}
+			gameStateStore.loadSummary(gameId).ifPresent(game -> track(game, now));
+			expireIdleGames(now);
+		}
+	}
+
+	/**
+	 * Checks a turn against the index.
+	 *
+	 * @param gameId       the game id
+	 * @param gamePlayerId the game player taking the turn
+	 * @param attackedGrid the attacked location
+	 * @throws InvalidMoveException if the store would reject the turn
+	 */
+	public void checkTurn(UUID gameId, Long gamePlayerId, GameShipLocationRequest attackedGrid) {
+		if (!enabled) {
+			return;
+		}
+		long now = System.currentTimeMillis();
+		Turns turns = games.get(gameId);
+		if (turns == null) {
+			Tombstones stripe = tombstonesOf(gameId);
+			synchronized (stripe) {
+				if (stripe.containsKey(gameId)) {
+					throw moveRejections.get(MoveRejection.INVALID_GAME_ID);
+				}
+			}
+			turns = gameStateStore.loadSummary(gameId).map(game -> track(game, now)).orElse(null);
+			if (turns == null) {
+				bury(gameId);
+				throw moveRejections.get(MoveRejection.INVALID_GAME_ID);
+			}
+		}
+		turns.lastTurnMillis = now;
+		int shooter = turns.indexOf(gamePlayerId);
+		if (shooter < 0) {
+			throw moveRejections.get(MoveRejection.PLAYER_NOT_FOUND);
+		}
+		if (attackedGrid == null || !Placement.isWithinBounds(Constants.GRID_VALUE, attackedGrid.getRowIndex(),
+				attackedGrid.getColumnIndex())) {
+			throw moveRejections.get(MoveRejection.COORDINATES_NOT_EXISTS);
+		}
+		synchronized (turns) {
+			if (turns.current != shooter) {
+				throw moveRejections.get(MoveRejection.PLAYER_TURN_OVER);
+			}
+			if (turns.shots[shooter].get(cellOf(attackedGrid))) {
+				throw moveRejections.get(MoveRejection.ALREADY_ATTACKED);
+			}
+		}
+	}
+
+	/**
+	 * Records a stored turn: the cell is shot and the turn passes to the
+	 * opponent. A game is dropped from the index once it is over.
+	 *
+	 * @param gameId       the game id
+	 * @param gamePlayerId the game player who took the turn
+	 * @param attackedGrid the attacked location
+	 * @param gameOver     whether the turn completed the game
+	 */
+	public void recordTurn(UUID gameId, Long gamePlayerId, GameShipLocationRequest attackedGrid, boolean gameOver) {
+		if (!enabled) {
+			return;
+		}
+		if (gameOver) {
+			bury(gameId);
+			games.remove(gameId);
+			return;
+		}
+		Turns turns = games.get(gameId);
+		int shooter = turns == null ? -1 : turns.indexOf(gamePlayerId);
+		if (shooter < 0) {
+			return;
+		}
+		turns.lastTurnMillis = System.currentTimeMillis();
+		synchronized (turns) {
+			turns.shots[shooter].set(cellOf(attackedGrid));
+			turns.current = 1 - shooter;
+		}
+	}
+
+	/**
+	 * Drops the games without a turn for the idle time, at most once per idle
+	 * time.
+	 *
+	 * @param nowMillis the current time in epoch milliseconds
+	 */
+	public void expireIdleGames(long nowMillis) {
+		long next = nextExpiryMillis.get();
+		if (nowMillis < next || !nextExpiryMillis.compareAndSet(next, nowMillis + idleMillis)) {
+			return;
+		}
+		games.values().removeIf(turns -> nowMillis - turns.lastTurnMillis > idleMillis);
+	}
+
+	public int size() {
+		return games.size();
+	}
+
+	/**
+	 * Returns the number of unknown or completed game ids remembered.
+	 *
+	 * @return the number of tombstones
+	 */
+	public int tombstoneCount() {
+		int count = 0;
+		for (Tombstones stripe : tombstones) {
+			synchronized (stripe) {
+				count += stripe.size();
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Remembers a game id that is unknown or no longer ongoing.
+	 *
+	 * @param gameId the game id
+	 */
+	private void bury(UUID gameId) {
+		Tombstones stripe = tombstonesOf(gameId);
+		synchronized (stripe) {
+			stripe.put(gameId, Boolean.TRUE);
+		}
+	}
+
+	private Tombstones tombstonesOf(UUID gameId) {
+		int hash = gameId.hashCode();
+		return tombstones[(hash ^ (hash >>> 16)) & (TOMBSTONE_STRIPES - 1)];
+	}
+
+	/**
+	 * Adds an ongoing game to the index.
+	 *
+	 * @param game      the game summary
+	 * @param nowMillis the current time in epoch milliseconds
+	 * @return the turn state of the game, or null if it is not ongoing
+	 */
+	private Turns track(GameDTO game, long nowMillis) {
+		if (!GameStatus.ONGOING.toString().equals(game.getGameStatus())) {
+			return null;
+		}
+		long player1 = game.getPlayer1().getGamePlayerId();
+		long player2 = game.getPlayer2().getGamePlayerId();
+		Turns turns = new Turns(player1, player2, game.getCurrentPlayerId().longValue() == player1 ? 0 : 1, nowMillis);
+		Turns tracked = games.putIfAbsent(game.getGameId(), turns);
+		return tracked != null ? tracked : turns;
+	}
+
+	private static int cellOf(GameShipLocationRequest attackedGrid) {
+		return attackedGrid.getRowIndex() * Constants.GRID_VALUE + attackedGrid.getColumnIndex();
+	}
+
+	/**
+	 * The tombstones of a stripe, oldest first, guarded by their own monitor.
+	 */
+	private static final class Tombstones extends LinkedHashMap<UUID, Boolean> {
+
+		private static final long serialVersionUID = 1L;
+
+		private final int maxIds;
+
+		private Tombstones(int maxIds) {
+			this.maxIds = maxIds;
+		}
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<UUID, Boolean> eldest) {
+			return size() > maxIds;
+		}
+	}
+
+	/**
+	 * The turn state of a game. The current player and the shots are guarded by
+	 * the instance monitor; the time of the last turn is only used to expire
+	 * idle games.
+	 */
+	private static final class Turns {
+
+		private final long player1;
+
+		private final long player2;
+
+		private final BitSet[] shots = { new BitSet(), new BitSet() };
+
+		private int current;
+
+		private volatile long lastTurnMillis;
+
+		private Turns(long player1, long player2, int current, long lastTurnMillis) {
+			this.player1 = player1;
+			this.player2 = player2;
+			this.current = current;
+			this.lastTurnMillis = lastTurnMillis;
+		}
+
+		private int indexOf(Long gamePlayerId) {
+			if (gamePlayerId == null) {
+				return -1;
+			}
+			return gamePlayerId == player1 ? 0 : gamePlayerId == player2 ? 1 : -1;
+		}
+	}
+}
@@ -0,0 +1,41 @@
+package com.api.backend.store;
+
+import java.util.BitSet;
+
+import com.api.backend.dto.CompactBoardDTO;
+import com.api.backend.engine.BoardCodec;
+import com.api.backend.engine.CellEncoding;
+import com.api.backend.utils.Constants;
+
+/**
+ * Encodes the compact game view shared by the game state stores.
+ */
+final class CompactBoards {
+
+	private static final CellEncoding ENCODING = BoardCodec.encodingFor(Constants.GRID_VALUE);
+
+	private CompactBoards() {
+	}
+
+	/**
+	 * Encodes the cells of a ship.
+	 *
+	 * @param cells the ship cells
+	 * @return the encoded cells
+	 */
+	static String cells(BitSet cells) {
+		return BoardCodec.encode(cells, ENCODING);
+	}
+
+	/**
+	 * Encodes the board of a game player.
+	 *
+	 * @param shots the attacked cells
+	 * @param hits  the attacked ship cells
+	 * @return the compact board
+	 */
+	static CompactBoardDTO board(BitSet shots, BitSet hits) {
+		return CompactBoardDTO.builder().size(Constants.GRID_VALUE).encoding(ENCODING)
+				.shots(BoardCodec.encode(shots, ENCODING)).hits(BoardCodec.encode(hits, ENCODING)).build();
+	}
+}
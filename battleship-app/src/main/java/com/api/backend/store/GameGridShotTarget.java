@@ -0,0 +1,82 @@
+package com.api.backend.store;
+
+import com.api.backend.engine.ShotTarget;
+import com.api.backend.engine.Shots;
+import com.api.backend.entity.GameGridEntity;
+import com.api.backend.entity.GamePlayerEntity;
+import com.api.backend.entity.GameShipEntity;
+import com.api.backend.entity.GridValue;
+import com.api.backend.service.GameGridService;
+import com.api.backend.service.GameShipService;
+import com.api.backend.utils.Constants;
+
+/**
+ * The board of a game player in the GameGrid and GameShip tables, shot at
+ * through {@link Shots}. Only the attacked grid is read, together with its
+ * ship, which is the only ship a shot can reach and so has index 0.
+ */
+final class GameGridShotTarget implements ShotTarget {
+
+	private static final int ATTACKED_SHIP = 0;
+
+	private final GameGridService gameGridService;
+
+	private final GameShipService gameShipService;
+
+	private final GamePlayerEntity gamePlayer;
+
+	private GameGridEntity attackedGrid;
+
+	GameGridShotTarget(GameGridService gameGridService, GameShipService gameShipService,
+			GamePlayerEntity gamePlayer) {
+		this.gameGridService = gameGridService;
+		this.gameShipService = gameShipService;
+		this.gamePlayer = gamePlayer;
+	}
+
+	/**
+	 * Gets the ship of the attacked grid.
+	 *
+	 * @return the hit game ship, or null when no grid was attacked or it was a miss
+	 */
+	GameShipEntity getHitShip() {
+		return attackedGrid != null ? attackedGrid.getGameShip() : null;
+	}
+
+	@Override
+	public boolean isAttacked(int cell) {
+		attackedGrid = gameGridService.fetchGameGrid(cell / Constants.GRID_VALUE, cell % Constants.GRID_VALUE,
+				gamePlayer);
+		return attackedGrid.getGridValue() == GridValue.ATTACKED;
+	}
+
+	@Override
+	public void markAttacked(int cell) {
+		gameGridService.updateGameBoardCoordinate(gamePlayer, attackedGrid);
+	}
+
+	@Override
+	public int shipAt(int cell) {
+		return attackedGrid.getGameShip() != null ? ATTACKED_SHIP : Shots.NO_SHIP;
+	}
+
+	@Override
+	public int hitShip(int ship) {
+		return gameShipService.hitGameShip(attackedGrid.getGameShip());
+	}
+
+	@Override
+	public int shipLength(int ship) {
+		return attackedGrid.getGameShip().getShip().getShipLength();
+	}
+
+	@Override
+	public void sinkShip(int ship) {
+		gameShipService.sinkGameShip(attackedGrid.getGameShip(), gamePlayer);
+	}
+
+	@Override
+	public int shipsRemaining() {
+		return gamePlayer.getShipsRemaining();
+	}
+}
@@ -0,0 +1,742 @@
+package com.api.backend.store;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.api.backend.engine.ShotOutcome;
+import com.api.backend.engine.ShotTarget;
+import com.api.backend.engine.Shots;
+import com.api.backend.utils.Constants;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * The GameSlotFile class keeps games in fixed size slots of a memory mapped
+ * file. A slot holds the game header, the shots fired at each player as a
+ * bitset, each player's fleet as one cell bitset and sunk flag per ship, a
+ * version incremented by every turn and the turn log, the attacked cell of
+ * every turn in turn order. The version is also the length of the turn log. A
+ * turn is a few writes at known offsets of one slot; the state byte of a new game is written last so that a slot is
+ * either free or complete when the file is reopened.
+ *
+ * <pre>
+ * file:   magic | layout | slot size | slot count | next game player id | slots
+ * slot:   state | current player | winner | version | game id | created at | player 1 | player 2 | turns
+ * player: game player id | player id | ship count | name | shots | ships
+ * ship:   ship id | sunk | cells
+ * </pre>
+ *
+ * Slots are found through an index of game ids rebuilt when the file is opened;
+ * released slots go to a free slot index and are reused lowest first. Completed
+ * games stay readable, and a full file refuses new games. Only when recycling
+ * is enabled does a new game on a full file release the slot of the game
+ * completed first; every recycled game is logged and counted. The mapped pages
+ * of a slot are forced to the file when its game is created and when it
+ * completes; the turns in between are written back by the operating system.
+ */
+public class GameSlotFile implements Closeable {
+
+	private static final Logger logger = LogManager.getLogger(GameSlotFile.class);
+
+	public static final int MAX_SHIPS = 10;
+
+	public static final int NAME_BYTES = 32;
+
+	static final int CELLS = Constants.GRID_VALUE * Constants.GRID_VALUE;
+
+	static final int MAX_TURNS = 2 * CELLS;
+
+	private static final int BOARD_BYTES = (CELLS + 63) / 64 * 8;
+
+	private static final int MAGIC = 0x42534754;
+
+	private static final int LAYOUT_VERSION = 2;
+
+	private static final int FILE_HEADER_SIZE = 64;
+
+	private static final int NEXT_ID_OFFSET = 16;
+
+	private static final byte FREE = 0;
+
+	private static final byte ONGOING = 1;
+
+	private static final byte COMPLETED = 2;
+
+	private static final int STATE = 0;
+
+	private static final int CURRENT = 1;
+
+	private static final int WINNER = 2;
+
+	private static final int VERSION = 4;
+
+	private static final int GAME_ID = 8;
+
+	private static final int CREATED_AT = 24;
+
+	private static final int PLAYERS = 32;
+
+	private static final int GAME_PLAYER_ID = 0;
+
+	private static final int PLAYER_ID = 8;
+
+	private static final int SHIP_COUNT = 16;
+
+	private static final int NAME_LENGTH = 17;
+
+	private static final int NAME = 18;
+
+	private static final int SHOTS = 56;
+
+	private static final int SHIPS = SHOTS + BOARD_BYTES;
+
+	private static final int SHIP_ID = 0;
+
+	private static final int SHIP_SUNK = 8;
+
+	private static final int SHIP_CELLS = 16;
+
+	private static final int SHIP_SIZE = SHIP_CELLS + BOARD_BYTES;
+
+	private static final int PLAYER_SIZE = SHIPS + MAX_SHIPS * SHIP_SIZE;
+
+	private static final int TURNS = PLAYERS + 2 * PLAYER_SIZE;
+
+	static final int SLOT_SIZE = (TURNS + MAX_TURNS + 63) / 64 * 64;
+
+	private static final int LOCK_STRIPES = 64;
+
+	private final FileChannel channel;
+
+	private final MappedByteBuffer buffer;
+
+	private final int slotCount;
+
+	private final ConcurrentMap<UUID, Integer> index = new ConcurrentHashMap<>();
+
+	private final BitSet freeSlots = new BitSet();
+
+	private final ConcurrentLinkedQueue<UUID> completedGames = new ConcurrentLinkedQueue<>();
+
+	private final Object[] locks = new Object[LOCK_STRIPES];
+
+	private final boolean recycleCompleted;
+
+	private final AtomicLong recycled = new AtomicLong();
+
+	/**
+	 * Opens a slot file that never recycles completed games.
+	 *
+	 * @param path      the file path
+	 * @param slotCount the number of slots of a new file
+	 * @throws IOException if the file cannot be mapped or has another layout
+	 */
+	public GameSlotFile(Path path, int slotCount) throws IOException {
+		this(path, slotCount, false);
+	}
+
+	/**
+	 * Opens a slot file, creating it with the given number of slots when it does
+	 * not exist yet. An existing file keeps its own slot count.
+	 *
+	 * @param path             the file path
+	 * @param slotCount        the number of slots of a new file
+	 * @param recycleCompleted whether a new game on a full file replaces the game
+	 *                         completed first
+	 * @throws IOException if the file cannot be mapped or has another layout
+	 */
+	public GameSlotFile(Path path, int slotCount, boolean recycleCompleted) throws IOException {
+		this.recycleCompleted = recycleCompleted;
+		this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+				StandardOpenOption.WRITE);
+		boolean created = channel.size() == 0;
+		if (!created) {
+			ByteBuffer header = ByteBuffer.allocate(FILE_HEADER_SIZE);
+			channel.read(header, 0);
+			if (header.getInt(0) != MAGIC || header.getInt(4) != LAYOUT_VERSION || header.getInt(8) != SLOT_SIZE) {
+				channel.close();
+				throw new IOException("Unsupported game slot file " + path);
+			}
+			slotCount = header.getInt(12);
+		}
+		long size = FILE_HEADER_SIZE + (long) slotCount * SLOT_SIZE;
+		if (slotCount <= 0 || size > Integer.MAX_VALUE) {
+			channel.close();
+			throw new IOException("Invalid game slot count " + slotCount);
+		}
+		this.slotCount = slotCount;
+		this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+		for (int i = 0; i < LOCK_STRIPES; i++) {
+			locks[i] = new Object();
+		}
+		if (created) {
+			buffer.putInt(0, MAGIC);
+			buffer.putInt(4, LAYOUT_VERSION);
+			buffer.putInt(8, SLOT_SIZE);
+			buffer.putInt(12, slotCount);
+			buffer.putLong(NEXT_ID_OFFSET, 1L);
+			buffer.force(0, FILE_HEADER_SIZE);
+		}
+		List<Integer> completed = new ArrayList<>();
+		for (int slot = 0; slot < slotCount; slot++) {
+			int base = slotOffset(slot);
+			byte state = buffer.get(base + STATE);
+			if (state == FREE) {
+				freeSlots.set(slot);
+			} else {
+				index.put(new UUID(buffer.getLong(base + GAME_ID), buffer.getLong(base + GAME_ID + 8)), slot);
+				if (recycleCompleted && state == COMPLETED) {
+					completed.add(slot);
+				}
+			}
+		}
+		// the completion time is not stored, the oldest games are assumed to have completed first
+		completed.sort(Comparator.comparingLong(slot -> buffer.getLong(slotOffset(slot) + CREATED_AT)));
+		for (int slot : completed) {
+			int base = slotOffset(slot);
+			completedGames.add(new UUID(buffer.getLong(base + GAME_ID), buffer.getLong(base + GAME_ID + 8)));
+		}
+	}
+
+	/**
+	 * Writes a new game to the lowest free slot and forces it to the file. When
+	 * none is free and recycling is enabled, the slot of the game completed first
+	 * is released. The game players get the next two game player ids of the
+	 * file.
+	 *
+	 * @param gameId    the game id
+	 * @param createdAt the creation time in epoch milliseconds
+	 * @param player1   the first player and fleet, playing first
+	 * @param player2   the second player and fleet
+	 * @return the stored game, or null when no slot is free and none can be
+	 *         recycled
+	 * @throws IllegalArgumentException if a fleet has more than {@value #MAX_SHIPS} ships
+	 */
+	public GameSlot create(UUID gameId, long createdAt, Side player1, Side player2) {
+		if (player1.getShipIds().length > MAX_SHIPS || player2.getShipIds().length > MAX_SHIPS) {
+			throw new IllegalArgumentException("A fleet has more than " + MAX_SHIPS + " ships");
+		}
+		int slot;
+		long gamePlayerId;
+		while (true) {
+			synchronized (freeSlots) {
+				slot = freeSlots.nextSetBit(0);
+				if (slot >= 0) {
+					freeSlots.clear(slot);
+					gamePlayerId = buffer.getLong(NEXT_ID_OFFSET);
+					buffer.putLong(NEXT_ID_OFFSET, gamePlayerId + 2);
+					break;
+				}
+			}
+			if (!recycleCompleted || !releaseOldestCompleted()) {
+				return null;
+			}
+		}
+		int base = slotOffset(slot);
+		synchronized (lockFor(slot)) {
+			buffer.put(base, new byte[SLOT_SIZE]);
+			buffer.putLong(base + GAME_ID, gameId.getMostSignificantBits());
+			buffer.putLong(base + GAME_ID + 8, gameId.getLeastSignificantBits());
+			buffer.putLong(base + CREATED_AT, createdAt);
+			writeSide(base + PLAYERS, gamePlayerId, player1);
+			writeSide(base + PLAYERS + PLAYER_SIZE, gamePlayerId + 1, player2);
+			buffer.put(base + STATE, ONGOING);
+			buffer.force(0, FILE_HEADER_SIZE);
+			buffer.force(base, SLOT_SIZE);
+			index.put(gameId, slot);
+			return readSlot(base);
+		}
+	}
+
+	/**
+	 * Reads a consistent copy of a game.
+	 *
+	 * @param gameId the game id
+	 * @return the game, or null when unknown
+	 */
+	public GameSlot read(UUID gameId) {
+		Integer slot = index.get(gameId);
+		if (slot == null) {
+			return null;
+		}
+		int base = slotOffset(slot);
+		synchronized (lockFor(slot)) {
+			return holds(base, gameId) ? readSlot(base) : null;
+		}
+	}
+
+	/**
+	 * Reads a copy of every ongoing or every completed game.
+	 *
+	 * @param completed whether to read completed instead of ongoing games
+	 * @return the games, in no particular order
+	 */
+	public List<GameSlot> readAll(boolean completed) {
+		byte state = completed ? COMPLETED : ONGOING;
+		List<GameSlot> games = new ArrayList<>();
+		for (Map.Entry<UUID, Integer> entry : index.entrySet()) {
+			int slot = entry.getValue();
+			int base = slotOffset(slot);
+			synchronized (lockFor(slot)) {
+				if (holds(base, entry.getKey()) && buffer.get(base + STATE) == state) {
+					games.add(readSlot(base));
+				}
+			}
+		}
+		return games;
+	}
+
+	/**
+	 * Fires a shot of a game player at the opponent's board with the rules of
+	 * {@link Shots}. It marks the cell, sinks the hit ship once all its cells are
+	 * shot, completes the game once the opponent's fleet is sunk, appends the cell
+	 * to the turn log and passes the turn. Shots at a completed game are rejected.
+	 * The slot of a game that completes is forced to the file.
+	 *
+	 * @param gameId       the game id
+	 * @param gamePlayerId the game player taking the turn
+	 * @param cell         the attacked cell, row major
+	 * @return the result of the shot
+	 */
+	public Shot shoot(UUID gameId, long gamePlayerId, int cell) {
+		Integer slot = index.get(gameId);
+		if (slot == null) {
+			return new Shot(Outcome.UNKNOWN_GAME);
+		}
+		int base = slotOffset(slot);
+		synchronized (lockFor(slot)) {
+			if (!holds(base, gameId)) {
+				return new Shot(Outcome.UNKNOWN_GAME);
+			}
+			int shooter = buffer.getLong(base + PLAYERS + GAME_PLAYER_ID) == gamePlayerId ? 0
+					: buffer.getLong(base + PLAYERS + PLAYER_SIZE + GAME_PLAYER_ID) == gamePlayerId ? 1 : -1;
+			if (shooter < 0) {
+				return new Shot(Outcome.UNKNOWN_PLAYER);
+			}
+			int target = base + PLAYERS + Shots.opponent(shooter) * PLAYER_SIZE;
+			SlotTarget board = new SlotTarget(target);
+			ShotOutcome outcome = Shots.fire(buffer.get(base + STATE) == COMPLETED, buffer.get(base + CURRENT), shooter,
+					Constants.GRID_VALUE, cell / Constants.GRID_VALUE, cell % Constants.GRID_VALUE, board);
+			if (outcome.isRejected()) {
+				return new Shot(Outcome.of(outcome));
+			}
+
+			int hitShip = board.shipAt(cell);
+			Long shipId = hitShip == Shots.NO_SHIP ? null : buffer.getLong(board.shipOffset(hitShip) + SHIP_ID);
+			int shotsHit = 0;
+			int shipCount = buffer.get(target + SHIP_COUNT);
+			for (int i = 0; i < shipCount; i++) {
+				shotsHit += countHits(board.shipOffset(i), target);
+			}
+			int shipsRemaining = board.shipsRemaining();
+			boolean gameOver = Shots.isFleetSunk(board);
+			if (gameOver) {
+				buffer.put(base + WINNER, (byte) (shooter + 1));
+				buffer.put(base + STATE, COMPLETED);
+				if (recycleCompleted) {
+					completedGames.add(gameId);
+				}
+			}
+			buffer.put(base + CURRENT, (byte) Shots.opponent(shooter));
+			int turns = buffer.getInt(base + VERSION);
+			buffer.put(base + TURNS + turns, (byte) cell);
+			buffer.putInt(base + VERSION, turns + 1);
+			if (gameOver) {
+				buffer.force(base, SLOT_SIZE);
+			}
+			byte winner = buffer.get(base + WINNER);
+			Long winnerId = winner == 0 ? null : buffer.getLong(base + PLAYERS + (winner - 1) * PLAYER_SIZE);
+			return new Shot(Outcome.of(outcome), shipId, winnerId, gameOver, countShots(target), shotsHit,
+					shipsRemaining);
+		}
+	}
+
+	/**
+	 * Frees the slot of a game for reuse.
+	 *
+	 * @param gameId the game id
+	 * @return true if the game was stored
+	 */
+	public boolean release(UUID gameId) {
+		Integer slot = index.get(gameId);
+		if (slot == null) {
+			return false;
+		}
+		int base = slotOffset(slot);
+		synchronized (lockFor(slot)) {
+			if (!holds(base, gameId)) {
+				return false;
+			}
+			buffer.put(base + STATE, FREE);
+			index.remove(gameId, slot);
+		}
+		synchronized (freeSlots) {
+			freeSlots.set(slot);
+		}
+		return true;
+	}
+
+	public int size() {
+		return index.size();
+	}
+
+	public int capacity() {
+		return slotCount;
+	}
+
+	/**
+	 * Returns the number of completed games whose slot was given to a new game.
+	 *
+	 * @return the recycled games
+	 */
+	public long getRecycled() {
+		return recycled.get();
+	}
+
+	/**
+	 * Writes the mapped pages back to the file.
+	 */
+	public void flush() {
+		buffer.force();
+	}
+
+	@Override
+	public void close() throws IOException {
+		flush();
+		channel.close();
+	}
+
+	private int slotOffset(int slot) {
+		return FILE_HEADER_SIZE + slot * SLOT_SIZE;
+	}
+
+	private Object lockFor(int slot) {
+		return locks[slot % LOCK_STRIPES];
+	}
+
+	/**
+	 * Releases the slot of the game completed first that is still stored. The
+	 * game, its result and its turn log are lost.
+	 *
+	 * @return true if a slot was released
+	 */
+	private boolean releaseOldestCompleted() {
+		UUID gameId;
+		while ((gameId = completedGames.poll()) != null) {
+			if (release(gameId)) {
+				recycled.incrementAndGet();
+				logger.info("Recycled the slot of completed game {}", gameId);
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private boolean holds(int base, UUID gameId) {
+		return buffer.get(base + STATE) != FREE && buffer.getLong(base + GAME_ID) == gameId.getMostSignificantBits()
+				&& buffer.getLong(base + GAME_ID + 8) == gameId.getLeastSignificantBits();
+	}
+
+	private int countHits(int ship, int target) {
+		int hits = 0;
+		for (int offset = 0; offset < BOARD_BYTES; offset += 8) {
+			hits += Long.bitCount(buffer.getLong(ship + SHIP_CELLS + offset) & buffer.getLong(target + SHOTS + offset));
+		}
+		return hits;
+	}
+
+	private int countCells(int ship) {
+		int cells = 0;
+		for (int offset = 0; offset < BOARD_BYTES; offset += 8) {
+			cells += Long.bitCount(buffer.getLong(ship + SHIP_CELLS + offset));
+		}
+		return cells;
+	}
+
+	private int countShots(int target) {
+		int shots = 0;
+		for (int offset = 0; offset < BOARD_BYTES; offset += 8) {
+			shots += Long.bitCount(buffer.getLong(target + SHOTS + offset));
+		}
+		return shots;
+	}
+
+	private void writeSide(int player, long gamePlayerId, Side side) {
+		buffer.putLong(player + GAME_PLAYER_ID, gamePlayerId);
+		buffer.putLong(player + PLAYER_ID, side.getPlayerId());
+		buffer.put(player + SHIP_COUNT, (byte) side.getShipIds().length);
+		byte[] name = encodeName(side.getPlayerName());
+		buffer.put(player + NAME_LENGTH, (byte) name.length);
+		buffer.put(player + NAME, name);
+		for (int i = 0; i < side.getShipIds().length; i++) {
+			int ship = player + SHIPS + i * SHIP_SIZE;
+			buffer.putLong(ship + SHIP_ID, side.getShipIds()[i]);
+			writeBits(ship + SHIP_CELLS, side.getShipCells()[i]);
+		}
+	}
+
+	private GameSlot readSlot(int base) {
+		byte winner = buffer.get(base + WINNER);
+		int version = buffer.getInt(base + VERSION);
+		byte[] turns = new byte[version];
+		buffer.get(base + TURNS, turns);
+		return new GameSlot(new UUID(buffer.getLong(base + GAME_ID), buffer.getLong(base + GAME_ID + 8)),
+				buffer.get(base + STATE) == COMPLETED, buffer.getLong(base + CREATED_AT), buffer.get(base + CURRENT),
+				winner - 1, version, new Side[] { readSide(base + PLAYERS), readSide(base + PLAYERS + PLAYER_SIZE) },
+				turns);
+	}
+
+	private Side readSide(int player) {
+		int shipCount = buffer.get(player + SHIP_COUNT);
+		long[] shipIds = new long[shipCount];
+		BitSet[] shipCells = new BitSet[shipCount];
+		boolean[] sunk = new boolean[shipCount];
+		for (int i = 0; i < shipCount; i++) {
+			int ship = player + SHIPS + i * SHIP_SIZE;
+			shipIds[i] = buffer.getLong(ship + SHIP_ID);
+			shipCells[i] = readBits(ship + SHIP_CELLS);
+			sunk[i] = buffer.get(ship + SHIP_SUNK) != 0;
+		}
+		byte[] name = new byte[buffer.get(player + NAME_LENGTH)];
+		buffer.get(player + NAME, name);
+		return new Side(buffer.getLong(player + GAME_PLAYER_ID), buffer.getLong(player + PLAYER_ID),
+				new String(name, StandardCharsets.UTF_8), readBits(player + SHOTS), shipIds, shipCells, sunk);
+	}
+
+	private BitSet readBits(int offset) {
+		long[] words = new long[BOARD_BYTES / 8];
+		for (int i = 0; i < words.length; i++) {
+			words[i] = buffer.getLong(offset + i * 8);
+		}
+		return BitSet.valueOf(words);
+	}
+
+	private void writeBits(int offset, BitSet bits) {
+		long[] words = bits.toLongArray();
+		for (int i = 0; i < words.length && i < BOARD_BYTES / 8; i++) {
+			buffer.putLong(offset + i * 8, words[i]);
+		}
+	}
+
+	private static byte[] encodeName(String playerName) {
+		String name = playerName != null ? playerName : "";
+		byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+		while (bytes.length > NAME_BYTES) {
+			name = name.substring(0, name.length() - 1);
+			bytes = name.getBytes(StandardCharsets.UTF_8);
+		}
+		return bytes;
+	}
+
+	/**
+	 * The board of one player of a slot, shot at through {@link Shots}. Ships are
+	 * indexed in fleet order.
+	 */
+	private final class SlotTarget implements ShotTarget {
+
+		private final int player;
+
+		private SlotTarget(int player) {
+			this.player = player;
+		}
+
+		private int shipOffset(int ship) {
+			return player + SHIPS + ship * SHIP_SIZE;
+		}
+
+		@Override
+		public boolean isAttacked(int cell) {
+			return (buffer.getLong(player + SHOTS + (cell >>> 6) * 8) & (1L << cell)) != 0;
+		}
+
+		@Override
+		public void markAttacked(int cell) {
+			int word = player + SHOTS + (cell >>> 6) * 8;
+			buffer.putLong(word, buffer.getLong(word) | (1L << cell));
+		}
+
+		@Override
+		public int shipAt(int cell) {
+			int shipCount = buffer.get(player + SHIP_COUNT);
+			for (int i = 0; i < shipCount; i++) {
+				if ((buffer.getLong(shipOffset(i) + SHIP_CELLS + (cell >>> 6) * 8) & (1L << cell)) != 0) {
+					return i;
+				}
+			}
+			return Shots.NO_SHIP;
+		}
+
+		@Override
+		public int hitShip(int ship) {
+			// the hits are the ship cells already marked as shot
+			return countHits(shipOffset(ship), player);
+		}
+
+		@Override
+		public int shipLength(int ship) {
+			return countCells(shipOffset(ship));
+		}
+
+		@Override
+		public void sinkShip(int ship) {
+			buffer.put(shipOffset(ship) + SHIP_SUNK, (byte) 1);
+		}
+
+		@Override
+		public int shipsRemaining() {
+			int shipsRemaining = 0;
+			int shipCount = buffer.get(player + SHIP_COUNT);
+			for (int i = 0; i < shipCount; i++) {
+				if (buffer.get(shipOffset(i) + SHIP_SUNK) == 0) {
+					shipsRemaining++;
+				}
+			}
+			return shipsRemaining;
+		}
+	}
+
+	/**
+	 * The outcome of a shot.
+	 */
+	public enum Outcome {
+		UNKNOWN_GAME, GAME_OVER, UNKNOWN_PLAYER, NOT_YOUR_TURN, OUT_OF_BOUNDS, ALREADY_ATTACKED, MISS, HIT, SUNK;
+
+		/**
+		 * Converts the outcome of the engine rules.
+		 *
+		 * @param outcome the engine shot outcome
+		 * @return the outcome of the shot
+		 */
+		static Outcome of(ShotOutcome outcome) {
+			switch (outcome) {
+			case GAME_OVER:
+				return GAME_OVER;
+			case WRONG_TURN:
+				return NOT_YOUR_TURN;
+			case OUT_OF_BOUNDS:
+				return OUT_OF_BOUNDS;
+			case ALREADY_ATTACKED:
+				return ALREADY_ATTACKED;
+			case HIT:
+				return HIT;
+			case SUNK:
+				return SUNK;
+			default:
+				return MISS;
+			}
+		}
+	}
+
+	/**
+	 * The result of a shot: the outcome, the hit ship, the winner, whether the
+	 * shot ended the game, and the shooter's shots and hits and the opponent's
+	 * ships remaining after the shot.
+	 */
+	@Getter
+	@AllArgsConstructor
+	public static class Shot {
+
+		private final Outcome outcome;
+
+		private final Long shipId;
+
+		private final Long winnerId;
+
+		private final boolean gameOver;
+
+		private final int shotsFired;
+
+		private final int shotsHit;
+
+		private final int shipsRemaining;
+
+		/**
+		 * Instantiates a rejected shot.
+		 *
+		 * @param outcome the reason of the rejection
+		 */
+		public Shot(Outcome outcome) {
+			this(outcome, null, null, false, 0, 0, 0);
+		}
+	}
+
+	/**
+	 * A copy of a stored game. The current player and winner are indexes into the
+	 * players, the winner is -1 while the game is ongoing. The turns hold the
+	 * attacked cell of every turn, player 1 firing first.
+	 */
+	@Getter
+	@AllArgsConstructor
+	public static class GameSlot {
+
+		private final UUID gameId;
+
+		private final boolean completed;
+
+		private final long createdAt;
+
+		private final int currentPlayer;
+
+		private final int winner;
+
+		private final int version;
+
+		private final Side[] players;
+
+		private final byte[] turns;
+	}
+
+	/**
+	 * A player of a stored game with the shots fired at its board and its fleet.
+	 */
+	@Getter
+	@AllArgsConstructor
+	public static class Side {
+
+		private final long gamePlayerId;
+
+		private final long playerId;
+
+		private final String playerName;
+
+		private final BitSet shots;
+
+		private final long[] shipIds;
+
+		private final BitSet[] shipCells;
+
+		private final boolean[] sunk;
+
+		/**
+		 * Instantiates the side of a new game.
+		 *
+		 * @param playerId   the player id
+		 * @param playerName the player name, truncated to {@value GameSlotFile#NAME_BYTES} bytes
+		 * @param shipIds    the ship ids of the fleet
+		 * @param shipCells  the cells of each ship
+		 */
+		public Side(long playerId, String playerName, long[] shipIds, BitSet[] shipCells) {
+			this(0, playerId, playerName, new BitSet(), shipIds, shipCells, new boolean[shipIds.length]);
+		}
+	}
+}
@@ -0,0 +1,368 @@
+package com.api.backend.store;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import org.springframework.core.env.Environment;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.api.backend.dto.GameDTO;
+import com.api.backend.dto.GameGridDTO;
+import com.api.backend.dto.GamePlayerDTO;
+import com.api.backend.dto.GameShipDTO;
+import com.api.backend.dto.GameTurnDTO;
+import com.api.backend.dto.PlayerDTO;
+import com.api.backend.dto.ShipDTO;
+import com.api.backend.engine.Placement;
+import com.api.backend.entity.GameStatus;
+import com.api.backend.entity.GridValue;
+import com.api.backend.entity.PlayerEntity;
+import com.api.backend.entity.ShipStatus;
+import com.api.backend.entity.TurnResult;
+import com.api.backend.exception.MoveRejection;
+import com.api.backend.exception.MoveRejectionCatalog;
+import com.api.backend.exception.ValidationException;
+import com.api.backend.request.GameCreationRequest;
+import com.api.backend.request.GameShipLocationRequest;
+import com.api.backend.request.GameShipRequest;
+import com.api.backend.response.GamePlayResponse;
+import com.api.backend.response.GameShipResponse;
+import com.api.backend.service.GameShipService;
+import com.api.backend.service.PlayerService;
+import com.api.backend.store.GameSlotFile.GameSlot;
+import com.api.backend.store.GameSlotFile.Outcome;
+import com.api.backend.store.GameSlotFile.Shot;
+import com.api.backend.store.GameSlotFile.Side;
+import com.api.backend.utils.Constants;
+import com.api.backend.utils.GameIds;
+
+/**
+ * The GameSlotMapper class converts between the API types and the slot model
+ * of the game state stores that do not use the database. Game player, game
+ * ship and game grid ids are derived from the game player ids of the slots.
+ */
+class GameSlotMapper {
+
+	private GameShipService gameShipService;
+
+	private PlayerService playerService;
+
+	private Environment env;
+
+	private MoveRejectionCatalog moveRejections;
+
+	private final GameIds gameIds;
+
+	/**
+	 * Instantiates a new game slot mapper. Game ids carry the shard key of the
+	 * game.id.shard property.
+	 *
+	 * @param gameShipService the game ship service providing the ship catalog
+	 * @param playerService   the player service releasing players of completed games
+	 * @param env             the env
+	 * @param moveRejections  the exceptions thrown for rejected turns
+	 */
+	GameSlotMapper(GameShipService gameShipService, PlayerService playerService, Environment env,
+			MoveRejectionCatalog moveRejections) {
+		this.gameShipService = gameShipService;
+		this.playerService = playerService;
+		this.env = env;
+		this.moveRejections = moveRejections;
+		Integer shard = env.getProperty("game.id.shard", Integer.class);
+		this.gameIds = new GameIds(shard != null ? shard : 0);
+	}
+
+	/**
+	 * Runs an undo action if the current transaction rolls back. A game created
+	 * outside the database must not outlive the rolled back transaction that
+	 * marked its players as playing. Outside a transaction nothing is
+	 * registered.
+	 *
+	 * @param undo the action removing what the transaction created
+	 */
+	void onRollback(Runnable undo) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCompletion(int status) {
+				if (status == STATUS_ROLLED_BACK) {
+					undo.run();
+				}
+			}
+		});
+	}
+
+	/**
+	 * Generates the id of a new game.
+	 *
+	 * @return a time ordered game id
+	 */
+	UUID newGameId() {
+		return gameIds.next();
+	}
+
+	/**
+	 * Converts validated creation requests to the sides of a new game.
+	 *
+	 * @param players  the two players, in turn order
+	 * @param requests the ship placements of each player
+	 * @param maxShips the largest fleet the store can hold
+	 * @return the sides of the game
+	 * @throws ValidationException if a fleet has more than maxShips ships
+	 */
+	Side[] toSides(List<PlayerEntity> players, List<GameCreationRequest> requests, int maxShips) {
+		Side[] sides = new Side[2];
+		for (int i = 0; i < 2; i++) {
+			List<GameShipRequest> shipsInfo = requests.get(i).getShipsInfo();
+			if (shipsInfo.size() > maxShips) {
+				throw new ValidationException(env.getProperty("MappedGameStateStore.TOO_MANY_SHIPS"));
+			}
+			long[] shipIds = new long[shipsInfo.size()];
+			BitSet[] shipCells = new BitSet[shipsInfo.size()];
+			for (int s = 0; s < shipIds.length; s++) {
+				shipIds[s] = shipsInfo.get(s).getShipId();
+				shipCells[s] = new BitSet();
+				for (GameShipLocationRequest location : shipsInfo.get(s).getGameShipLocations()) {
+					shipCells[s].set(location.getRowIndex() * Constants.GRID_VALUE + location.getColumnIndex());
+				}
+			}
+			sides[i] = new Side(players.get(i).getPlayerId(), players.get(i).getPlayerName(), shipIds, shipCells);
+		}
+		return sides;
+	}
+
+	/**
+	 * Converts an attacked location to a row major cell.
+	 *
+	 * @param attackedGrid the attacked location
+	 * @return the cell
+	 * @throws ValidationException if the location is off the board
+	 */
+	int toCell(GameShipLocationRequest attackedGrid) {
+		if (!Placement.isWithinBounds(Constants.GRID_VALUE, attackedGrid.getRowIndex(), attackedGrid.getColumnIndex())) {
+			throw moveRejections.get(MoveRejection.COORDINATES_NOT_EXISTS);
+		}
+		return attackedGrid.getRowIndex() * Constants.GRID_VALUE + attackedGrid.getColumnIndex();
+	}
+
+	/**
+	 * Converts the result of a shot to the turn response, and releases both
+	 * players when the shot ended the game.
+	 *
+	 * @param gameId the game id
+	 * @param shot   the result of the shot
+	 * @param game   reads the game after the shot
+	 * @return the game play response
+	 * @throws ValidationException if the shot was rejected
+	 */
+	GamePlayResponse toGamePlayResponse(UUID gameId, Shot shot, Supplier<GameSlot> game) {
+		switch (shot.getOutcome()) {
+		case UNKNOWN_GAME:
+		case GAME_OVER:
+			throw moveRejections.get(MoveRejection.INVALID_GAME_ID);
+		case UNKNOWN_PLAYER:
+			throw moveRejections.get(MoveRejection.PLAYER_NOT_FOUND);
+		case NOT_YOUR_TURN:
+			throw moveRejections.get(MoveRejection.PLAYER_TURN_OVER);
+		case OUT_OF_BOUNDS:
+			throw moveRejections.get(MoveRejection.COORDINATES_NOT_EXISTS);
+		case ALREADY_ATTACKED:
+			throw moveRejections.get(MoveRejection.ALREADY_ATTACKED);
+		default:
+			break;
+		}
+		if (shot.isGameOver()) {
+			releasePlayers(game.get());
+		}
+		GamePlayResponse response = new GamePlayResponse();
+		response.setGameId(gameId.toString());
+		response.setGameWinnerId(shot.getWinnerId());
+		response.setShotsFired(shot.getShotsFired());
+		response.setShotsHit(shot.getShotsHit());
+		response.setOpponentShipsRemaining(shot.getShipsRemaining());
+		if (shot.getShipId() != null) {
+			ShipDTO ship = shipCatalog().get(shot.getShipId());
+			response.setGameShipHitOrSunked(GameShipResponse.builder()
+					.gameShipName(ship != null ? ship.getShipName() : null)
+					.gameShipStatus(shot.getOutcome() == Outcome.SUNK ? ShipStatus.SUNK.toString()
+							: ShipStatus.NOT_SUNK.toString())
+					.build());
+		}
+		return response;
+	}
+
+	/**
+	 * Releases both players of a game so that they can join another game.
+	 *
+	 * @param slot the game
+	 */
+	void releasePlayers(GameSlot slot) {
+		Side[] players = slot.getPlayers();
+		playerService.releasePlayers(List.of(players[0].getPlayerId(), players[1].getPlayerId()));
+	}
+
+	/**
+	 * Reads the ship catalog.
+	 *
+	 * @return the ships by ship id
+	 */
+	Map<Long, ShipDTO> shipCatalog() {
+		Map<Long, ShipDTO> ships = new HashMap<>();
+		for (ShipDTO ship : gameShipService.getShips()) {
+			ships.put(ship.getShipId(), ship);
+		}
+		return ships;
+	}
+
+	/**
+	 * Builds the summaries of the most recently created games.
+	 *
+	 * @param slots the games
+	 * @param limit the maximum number of games to return
+	 * @return the game summaries, newest first
+	 */
+	List<GameDTO> toSummaries(List<GameSlot> slots, int limit) {
+		if (slots.isEmpty()) {
+			return new ArrayList<>();
+		}
+		slots.sort(Comparator.comparingLong(GameSlot::getCreatedAt).reversed());
+		Map<Long, ShipDTO> ships = shipCatalog();
+		List<GameDTO> games = new ArrayList<>(Math.min(slots.size(), limit));
+		for (GameSlot slot : slots.subList(0, Math.min(slots.size(), limit))) {
+			games.add(toGameDTO(slot, ships, false));
+		}
+		return games;
+	}
+
+	/**
+	 * Lists a page of the turn history of a game. The turn log is replayed from
+	 * the first turn to find what each shot hit.
+	 *
+	 * @param slot     the game
+	 * @param fromTurn the first turn number of the page
+	 * @param limit    the maximum number of turns to return
+	 * @return the turns in turn order
+	 */
+	List<GameTurnDTO> toTurns(GameSlot slot, int fromTurn, int limit) {
+		Side[] players = slot.getPlayers();
+		byte[] turns = slot.getTurns();
+		int lastTurn = (int) Math.min(turns.length, (long) fromTurn + limit - 1);
+		BitSet[] boards = TurnHistory.emptyBoards();
+		List<GameTurnDTO> result = new ArrayList<>();
+		for (int turnNumber = 1; turnNumber <= lastTurn; turnNumber++) {
+			int shooter = TurnHistory.shooterOf(turnNumber);
+			int cell = turns[turnNumber - 1];
+			BitSet shots = boards[1 - shooter];
+			shots.set(cell);
+			if (turnNumber < fromTurn) {
+				continue;
+			}
+			TurnResult turnResult = TurnResult.MISS;
+			for (BitSet cells : players[1 - shooter].getShipCells()) {
+				if (cells.get(cell)) {
+					BitSet afloat = (BitSet) cells.clone();
+					afloat.andNot(shots);
+					turnResult = afloat.isEmpty() ? TurnResult.SUNK : TurnResult.HIT;
+					break;
+				}
+			}
+			result.add(TurnHistory.toTurnDTO(turnNumber, players[shooter].getGamePlayerId(), cell, turnResult));
+		}
+		return result;
+	}
+
+	/**
+	 * Builds the full view of a game as it was after a turn, replaying the turn
+	 * log up to the turn.
+	 *
+	 * @param slot   the game
+	 * @param atTurn the turn number, at most the length of the turn log
+	 * @return the game DTO after the turn
+	 */
+	GameDTO toGameAtTurn(GameSlot slot, int atTurn) {
+		return TurnHistory.rewind(toGameDTO(slot, shipCatalog(), true), TurnHistory.replay(slot.getTurns(), atTurn),
+				atTurn, slot.getTurns().length);
+	}
+
+	/**
+	 * Builds the full view or the summary of a game.
+	 *
+	 * @param slot  the game
+	 * @param ships the ship catalog by ship id
+	 * @param full  whether to include boards, ship grids and compact board
+	 * @return the game DTO
+	 */
+	GameDTO toGameDTO(GameSlot slot, Map<Long, ShipDTO> ships, boolean full) {
+		Side[] players = slot.getPlayers();
+		return GameDTO.builder().gameId(slot.getGameId())
+				.gameStatus((slot.isCompleted() ? GameStatus.COMPLETED : GameStatus.ONGOING).toString())
+				.gameCreationDate(new Date(slot.getCreatedAt()))
+				.currentPlayerId(players[slot.getCurrentPlayer()].getGamePlayerId())
+				.winnerId(slot.getWinner() >= 0 ? players[slot.getWinner()].getGamePlayerId() : null)
+				.player1(toGamePlayerDTO(players[0], players[1], !slot.isCompleted(), ships, full))
+				.player2(toGamePlayerDTO(players[1], players[0], !slot.isCompleted(), ships, full)).build();
+	}
+
+	private GamePlayerDTO toGamePlayerDTO(Side side, Side opponent, boolean playing, Map<Long, ShipDTO> ships,
+			boolean full) {
+		long gamePlayerId = side.getGamePlayerId();
+		PlayerDTO.PlayerDTOBuilder player = PlayerDTO.builder().playerId(side.getPlayerId())
+				.playerName(side.getPlayerName());
+		List<GameGridDTO> board = new ArrayList<>();
+		if (full) {
+			player.isLocked(playing).isPlaying(playing);
+			for (int cell = 0; cell < GameSlotFile.CELLS; cell++) {
+				board.add(GameGridDTO.builder().gameGridId(gamePlayerId * GameSlotFile.CELLS + cell)
+						.rowIndex(cell / Constants.GRID_VALUE).columnIndex(cell % Constants.GRID_VALUE)
+						.gridValue((side.getShots().get(cell) ? GridValue.ATTACKED : GridValue.NOT_ATTACKED).toString())
+						.build());
+			}
+		}
+		List<GameShipDTO> gameShips = new ArrayList<>();
+		BitSet hits = new BitSet();
+		for (int s = 0; s < side.getShipIds().length; s++) {
+			long shipId = side.getShipIds()[s];
+			GameShipDTO gameShip = GameShipDTO.builder().gameShipId(gamePlayerId * GameSlotFile.MAX_SHIPS + s)
+					.ship(ships.getOrDefault(shipId, ShipDTO.builder().shipId(shipId).build()))
+					.shipStatus((side.getSunk()[s] ? ShipStatus.SUNK : ShipStatus.NOT_SUNK).toString()).build();
+			if (full) {
+				BitSet cells = side.getShipCells()[s];
+				List<GameGridDTO> grids = new ArrayList<>();
+				cells.stream().forEach(cell -> grids.add(board.get(cell)));
+				gameShip.setGameShipGrids(grids);
+				gameShip.setCells(CompactBoards.cells(cells));
+				BitSet hit = (BitSet) cells.clone();
+				hit.and(side.getShots());
+				hits.or(hit);
+			}
+			gameShips.add(gameShip);
+		}
+		int shipsRemaining = 0;
+		for (boolean sunk : side.getSunk()) {
+			shipsRemaining += sunk ? 0 : 1;
+		}
+		int shotsHit = 0;
+		for (BitSet cells : opponent.getShipCells()) {
+			BitSet hit = (BitSet) cells.clone();
+			hit.and(opponent.getShots());
+			shotsHit += hit.cardinality();
+		}
+		GamePlayerDTO.GamePlayerDTOBuilder gamePlayer = GamePlayerDTO.builder().gamePlayerId(gamePlayerId)
+				.player(player.build()).gameShips(gameShips).shotsFired(opponent.getShots().cardinality())
+				.shotsHit(shotsHit).shipsRemaining(shipsRemaining);
+		if (full) {
+			gamePlayer.gameBoard(board).compactBoard(CompactBoards.board(side.getShots(), hits));
+		}
+		return gamePlayer.build();
+	}
+}
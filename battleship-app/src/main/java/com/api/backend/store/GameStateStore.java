@@ -0,0 +1,113 @@
+package com.api.backend.store;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import com.api.backend.dto.GameDTO;
+import com.api.backend.dto.GameTurnDTO;
+import com.api.backend.entity.GameStatus;
+import com.api.backend.entity.PlayerEntity;
+import com.api.backend.request.GameCreationRequest;
+import com.api.backend.request.GameShipLocationRequest;
+import com.api.backend.response.GamePlayResponse;
+
+/**
+ * The GameStateStore interface is the persistence backend of the game state:
+ * games, their players' boards and fleets. Players and the ship catalog stay in
+ * the database whatever the backend. Callers validate requests and own the
+ * transaction and the caches; a store only reads and writes state. A turn is
+ * the exception: it runs in its own transaction, so that callers can reject it
+ * before touching the database. Every accepted turn is recorded in the game's
+ * turn history, player 1 firing the odd turns.
+ */
+public interface GameStateStore {
+
+	/**
+	 * Creates a game between two validated players.
+	 *
+	 * @param players  the two players, in turn order
+	 * @param requests the validated ship placements of each player, in the same order
+	 * @return the id of the created game
+	 */
+	UUID createGame(List<PlayerEntity> players, List<GameCreationRequest> requests);
+
+	/**
+	 * Loads the full view of a game.
+	 *
+	 * @param gameId the game id
+	 * @return the game with boards and fleets, or empty when unknown
+	 */
+	Optional<GameDTO> loadGame(UUID gameId);
+
+	/**
+	 * Loads the full view of several games.
+	 *
+	 * @param gameIds the game ids
+	 * @return the known games, in no particular order
+	 */
+	List<GameDTO> loadGames(Collection<UUID> gameIds);
+
+	/**
+	 * Loads the summary of a game: status, current player, winner and ship
+	 * statuses, without boards and ship grids.
+	 *
+	 * @param gameId the game id
+	 * @return the game summary, or empty when unknown
+	 */
+	Optional<GameDTO> loadSummary(UUID gameId);
+
+	/**
+	 * Lists the summaries of the most recently created games with a status.
+	 *
+	 * @param status the game status
+	 * @param limit  the maximum number of games to return
+	 * @return the game summaries, newest first
+	 */
+	List<GameDTO> listGames(GameStatus status, int limit);
+
+	/**
+	 * Passes the summary of every game with a status to an action, without
+	 * holding them all at once: the database backend reads them page by page.
+	 *
+	 * @param status the game status
+	 * @param action the action applied to each game summary
+	 */
+	void forEachGame(GameStatus status, Consumer<GameDTO> action);
+
+	/**
+	 * Plays a shot of a game player on the opponent's board, and completes the
+	 * game when the opponent's fleet is sunk.
+	 *
+	 * @param gameId       the game id
+	 * @param gamePlayerId the game player taking the turn
+	 * @param attackedGrid the attacked location
+	 * @return the result of the turn
+	 * @throws com.api.backend.exception.ValidationException if the game or player
+	 *         is unknown, it is not the player's turn, or the location is off the
+	 *         board or already attacked
+	 */
+	GamePlayResponse applyTurn(UUID gameId, Long gamePlayerId, GameShipLocationRequest attackedGrid);
+
+	/**
+	 * Lists a page of the turn history of a game.
+	 *
+	 * @param gameId   the game id
+	 * @param fromTurn the first turn number of the page, starting at 1
+	 * @param limit    the maximum number of turns to return
+	 * @return the turns in turn order, empty when the game is unknown
+	 */
+	List<GameTurnDTO> loadTurns(UUID gameId, int fromTurn, int limit);
+
+	/**
+	 * Loads the full view of a game as it was after a turn.
+	 *
+	 * @param gameId the game id
+	 * @param atTurn the turn number, 0 for the start of the game
+	 * @return the game after the turn, or empty when the game is unknown or has
+	 *         not reached the turn
+	 */
+	Optional<GameDTO> loadGameAtTurn(UUID gameId, int atTurn);
+}
@@ -0,0 +1,378 @@
+package com.api.backend.store;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import com.api.backend.dto.GameDTO;
+import com.api.backend.dto.GameTurnDTO;
+import com.api.backend.dto.ShipDTO;
+import com.api.backend.engine.ShotOutcome;
+import com.api.backend.engine.ShotTarget;
+import com.api.backend.engine.Shots;
+import com.api.backend.entity.GameStatus;
+import com.api.backend.entity.PlayerEntity;
+import com.api.backend.exception.MoveRejectionCatalog;
+import com.api.backend.exception.ValidationException;
+import com.api.backend.request.GameCreationRequest;
+import com.api.backend.request.GameShipLocationRequest;
+import com.api.backend.response.GamePlayResponse;
+import com.api.backend.service.GameShipService;
+import com.api.backend.service.PlayerService;
+import com.api.backend.store.GameSlotFile.GameSlot;
+import com.api.backend.store.GameSlotFile.Outcome;
+import com.api.backend.store.GameSlotFile.Shot;
+import com.api.backend.store.GameSlotFile.Side;
+import com.api.backend.utils.Constants;
+
+/**
+ * The InMemoryGameStateStore class keeps the game state in a concurrent map on
+ * the heap, without ORM or file. It is selected with the {@value #PROFILE}
+ * profile. Each game is guarded by its own monitor, so turns of different games
+ * never contend; views are built from a copy of the game taken under that
+ * monitor. Games without a turn for the idle time, completed or not, are
+ * removed as new games are created; the players of a removed ongoing game are
+ * released, so that they can join another game. A game created in a
+ * transaction that rolls back is removed at once. Games are lost on restart.
+ */
+@Component
+@Profile(InMemoryGameStateStore.PROFILE)
+public class InMemoryGameStateStore implements GameStateStore {
+
+	public static final String PROFILE = "memory";
+
+	private final ConcurrentMap<UUID, Game> games = new ConcurrentHashMap<>();
+
+	private final AtomicLong nextGamePlayerId = new AtomicLong();
+
+	private final long idleMillis;
+
+	private final AtomicLong nextExpiryMillis = new AtomicLong();
+
+	private final GameSlotMapper mapper;
+
+	/**
+	 * Instantiates a new in-memory game state store.
+	 *
+	 * @param gameShipService the game ship service providing the ship catalog
+	 * @param playerService   the player service releasing players of completed and expired games
+	 * @param env             the env
+	 * @param moveRejections  the exceptions thrown for rejected turns
+	 * @param idleMillis      how long a game without turns stays in the map
+	 */
+	@Autowired
+	public InMemoryGameStateStore(GameShipService gameShipService, PlayerService playerService, Environment env,
+			MoveRejectionCatalog moveRejections, @Value("${game.store.memory.idle-ms:3600000}") long idleMillis) {
+		this.mapper = new GameSlotMapper(gameShipService, playerService, env, moveRejections);
+		this.idleMillis = idleMillis;
+	}
+
+	/**
+	 * Puts a new game in the map, removes it again if the current transaction
+	 * rolls back, and expires the idle games.
+	 *
+	 * @param players  the two players, in turn order
+	 * @param requests the validated ship placements of each player
+	 * @return the id of the created game
+	 * @throws ValidationException if a fleet has too many ships
+	 */
+	@Override
+	public UUID createGame(List<PlayerEntity> players, List<GameCreationRequest> requests) {
+		Side[] sides = mapper.toSides(players, requests, GameSlotFile.MAX_SHIPS);
+		for (int i = 0; i < sides.length; i++) {
+			Side side = sides[i];
+			sides[i] = new Side(nextGamePlayerId.incrementAndGet(), side.getPlayerId(), side.getPlayerName(),
+					new BitSet(), side.getShipIds(), side.getShipCells(), new boolean[side.getShipIds().length]);
+		}
+		UUID gameId = mapper.newGameId();
+		long now = System.currentTimeMillis();
+		games.put(gameId, new Game(gameId, now, sides));
+		mapper.onRollback(() -> games.remove(gameId));
+		expireIdleGames(now);
+		return gameId;
+	}
+
+	/**
+	 * Removes the games without a turn for the idle time, and releases the
+	 * players of those still ongoing. If the current transaction rolls back, the
+	 * releases are undone with it, so the removed games are put back. The map is
+	 * scanned at most once per idle time.
+	 *
+	 * @param nowMillis the current time
+	 */
+	public void expireIdleGames(long nowMillis) {
+		long next = nextExpiryMillis.get();
+		if (nowMillis < next || !nextExpiryMillis.compareAndSet(next, nowMillis + idleMillis)) {
+			return;
+		}
+		List<Game> expired = new ArrayList<>();
+		for (Game game : games.values()) {
+			if (nowMillis - game.lastTurnMillis > idleMillis && games.remove(game.gameId, game)) {
+				expired.add(game);
+			}
+		}
+		for (Game game : expired) {
+			GameSlot slot = game.snapshot();
+			if (!slot.isCompleted()) {
+				mapper.releasePlayers(slot);
+			}
+		}
+		if (!expired.isEmpty()) {
+			mapper.onRollback(() -> expired.forEach(game -> games.putIfAbsent(game.gameId, game)));
+		}
+	}
+
+	public int size() {
+		return games.size();
+	}
+
+	@Override
+	public Optional<GameDTO> loadGame(UUID gameId) {
+		return Optional.ofNullable(games.get(gameId))
+				.map(game -> mapper.toGameDTO(game.snapshot(), mapper.shipCatalog(), true));
+	}
+
+	@Override
+	public List<GameDTO> loadGames(Collection<UUID> gameIds) {
+		Map<Long, ShipDTO> ships = mapper.shipCatalog();
+		List<GameDTO> result = new ArrayList<>(gameIds.size());
+		for (UUID gameId : gameIds) {
+			Game game = games.get(gameId);
+			if (game != null) {
+				result.add(mapper.toGameDTO(game.snapshot(), ships, true));
+			}
+		}
+		return result;
+	}
+
+	@Override
+	public Optional<GameDTO> loadSummary(UUID gameId) {
+		return Optional.ofNullable(games.get(gameId))
+				.map(game -> mapper.toGameDTO(game.snapshot(), mapper.shipCatalog(), false));
+	}
+
+	/**
+	 * Scans the map for games with the status.
+	 *
+	 * @param status the game status
+	 * @param limit  the maximum number of games to return
+	 * @return the game summaries, newest first
+	 */
+	@Override
+	public List<GameDTO> listGames(GameStatus status, int limit) {
+		boolean completed = status == GameStatus.COMPLETED;
+		List<GameSlot> slots = new ArrayList<>();
+		for (Game game : games.values()) {
+			GameSlot slot = game.snapshot();
+			if (slot.isCompleted() == completed) {
+				slots.add(slot);
+			}
+		}
+		return mapper.toSummaries(slots, limit);
+	}
+
+	@Override
+	public void forEachGame(GameStatus status, Consumer<GameDTO> action) {
+		boolean completed = status == GameStatus.COMPLETED;
+		Map<Long, ShipDTO> ships = mapper.shipCatalog();
+		for (Game game : games.values()) {
+			GameSlot slot = game.snapshot();
+			if (slot.isCompleted() == completed) {
+				action.accept(mapper.toGameDTO(slot, ships, false));
+			}
+		}
+	}
+
+	/**
+	 * Fires the shot under the game's monitor, and releases both players when it
+	 * ends the game.
+	 *
+	 * @param gameId       the game id
+	 * @param gamePlayerId the game player taking the turn
+	 * @param attackedGrid the attacked location
+	 * @return the game play response with the result of the turn
+	 */
+	@Override
+	public GamePlayResponse applyTurn(UUID gameId, Long gamePlayerId, GameShipLocationRequest attackedGrid) {
+		int cell = mapper.toCell(attackedGrid);
+		Game game = games.get(gameId);
+		Shot shot = game == null ? new Shot(Outcome.UNKNOWN_GAME) : game.shoot(gamePlayerId, cell);
+		return mapper.toGamePlayResponse(gameId, shot, game == null ? () -> null : game::snapshot);
+	}
+
+	@Override
+	public List<GameTurnDTO> loadTurns(UUID gameId, int fromTurn, int limit) {
+		return Optional.ofNullable(games.get(gameId)).map(Game::snapshot).map(slot -> mapper.toTurns(slot, fromTurn, limit))
+				.orElseGet(ArrayList::new);
+	}
+
+	@Override
+	public Optional<GameDTO> loadGameAtTurn(UUID gameId, int atTurn) {
+		return Optional.ofNullable(games.get(gameId)).map(Game::snapshot).filter(slot -> atTurn <= slot.getTurns().length)
+				.map(slot -> mapper.toGameAtTurn(slot, atTurn));
+	}
+
+	/**
+	 * A stored game. The sides' shots and sunk flags are mutated in place, the
+	 * fleets never change after creation.
+	 */
+	private static final class Game {
+
+		private final UUID gameId;
+
+		private final long createdAt;
+
+		private final Side[] players;
+
+		private final byte[] turns = new byte[GameSlotFile.MAX_TURNS];
+
+		private int current;
+
+		private int winner = -1;
+
+		private int version;
+
+		private volatile long lastTurnMillis;
+
+		private Game(UUID gameId, long createdAt, Side[] players) {
+			this.gameId = gameId;
+			this.createdAt = createdAt;
+			this.players = players;
+			this.lastTurnMillis = createdAt;
+		}
+
+		/**
+		 * Fires a shot with the same rules as {@link GameSlotFile#shoot(UUID, long, int)}.
+		 */
+		private synchronized Shot shoot(long gamePlayerId, int cell) {
+			int shooter = players[0].getGamePlayerId() == gamePlayerId ? 0
+					: players[1].getGamePlayerId() == gamePlayerId ? 1 : -1;
+			if (shooter < 0) {
+				return new Shot(Outcome.UNKNOWN_PLAYER);
+			}
+			Side target = players[Shots.opponent(shooter)];
+			SideTarget board = new SideTarget(target);
+			ShotOutcome outcome = Shots.fire(winner >= 0, current, shooter, Constants.GRID_VALUE,
+					cell / Constants.GRID_VALUE, cell % Constants.GRID_VALUE, board);
+			if (outcome.isRejected()) {
+				return new Shot(Outcome.of(outcome));
+			}
+
+			int hitShip = board.shipAt(cell);
+			Long shipId = hitShip == Shots.NO_SHIP ? null : target.getShipIds()[hitShip];
+			int shotsHit = 0;
+			for (int s = 0; s < target.getShipIds().length; s++) {
+				shotsHit += board.hitsOn(s);
+			}
+			int shipsRemaining = board.shipsRemaining();
+			boolean gameOver = Shots.isFleetSunk(board);
+			if (gameOver) {
+				winner = shooter;
+			}
+			current = Shots.opponent(shooter);
+			turns[version++] = (byte) cell;
+			lastTurnMillis = System.currentTimeMillis();
+			Long winnerId = winner < 0 ? null : players[winner].getGamePlayerId();
+			return new Shot(Outcome.of(outcome), shipId, winnerId, gameOver, target.getShots().cardinality(), shotsHit,
+					shipsRemaining);
+		}
+
+		private synchronized GameSlot snapshot() {
+			Side[] copies = new Side[players.length];
+			for (int i = 0; i < players.length; i++) {
+				Side side = players[i];
+				copies[i] = new Side(side.getGamePlayerId(), side.getPlayerId(), side.getPlayerName(),
+						(BitSet) side.getShots().clone(), side.getShipIds(), side.getShipCells(),
+						side.getSunk().clone());
+			}
+			return new GameSlot(gameId, winner >= 0, createdAt, current, winner, version, copies,
+					Arrays.copyOf(turns, version));
+		}
+	}
+
+	/**
+	 * The board of one side of a game, shot at through {@link Shots}. Ships are
+	 * indexed in fleet order.
+	 */
+	private static final class SideTarget implements ShotTarget {
+
+		private final Side side;
+
+		private SideTarget(Side side) {
+			this.side = side;
+		}
+
+		private int hitsOn(int ship) {
+			BitSet cells = side.getShipCells()[ship];
+			int hits = 0;
+			for (int cell = cells.nextSetBit(0); cell >= 0; cell = cells.nextSetBit(cell + 1)) {
+				if (side.getShots().get(cell)) {
+					hits++;
+				}
+			}
+			return hits;
+		}
+
+		@Override
+		public boolean isAttacked(int cell) {
+			return side.getShots().get(cell);
+		}
+
+		@Override
+		public void markAttacked(int cell) {
+			side.getShots().set(cell);
+		}
+
+		@Override
+		public int shipAt(int cell) {
+			for (int s = 0; s < side.getShipCells().length; s++) {
+				if (side.getShipCells()[s].get(cell)) {
+					return s;
+				}
+			}
+			return Shots.NO_SHIP;
+		}
+
+		@Override
+		public int hitShip(int ship) {
+			// the hits are the ship cells already marked as shot
+			return hitsOn(ship);
+		}
+
+		@Override
+		public int shipLength(int ship) {
+			return side.getShipCells()[ship].cardinality();
+		}
+
+		@Override
+		public void sinkShip(int ship) {
+			side.getSunk()[ship] = true;
+		}
+
+		@Override
+		public int shipsRemaining() {
+			int shipsRemaining = 0;
+			for (boolean sunk : side.getSunk()) {
+				if (!sunk) {
+					shipsRemaining++;
+				}
+			}
+			return shipsRemaining;
+		}
+	}
+}
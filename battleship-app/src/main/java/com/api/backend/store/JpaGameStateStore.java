@@ -0,0 +1,602 @@
+package com.api.backend.store;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.api.backend.dto.GameDTO;
+import com.api.backend.dto.GameGridDTO;
+import com.api.backend.dto.GamePlayerDTO;
+import com.api.backend.dto.GameShipDTO;
+import com.api.backend.dto.GameTurnDTO;
+import com.api.backend.dto.PlayerDTO;
+import com.api.backend.dto.ShipDTO;
+import com.api.backend.engine.ShotOutcome;
+import com.api.backend.engine.Shots;
+import com.api.backend.entity.GameEntity;
+import com.api.backend.entity.GameGridEntity;
+import com.api.backend.entity.GamePlayerEntity;
+import com.api.backend.entity.GameShipEntity;
+import com.api.backend.entity.GameStatus;
+import com.api.backend.entity.GameTurnEntity;
+import com.api.backend.entity.GridValue;
+import com.api.backend.entity.PlayerEntity;
+import com.api.backend.entity.ShipEntity;
+import com.api.backend.entity.ShipStatus;
+import com.api.backend.entity.TurnResult;
+import com.api.backend.exception.MoveRejection;
+import com.api.backend.exception.MoveRejectionCatalog;
+import com.api.backend.projection.GameSummaryProjection;
+import com.api.backend.repository.GamePlayerRepository;
+import com.api.backend.repository.GameRepository;
+import com.api.backend.repository.GameTurnRepository;
+import com.api.backend.request.GameCreationRequest;
+import com.api.backend.request.GameShipLocationRequest;
+import com.api.backend.request.GameShipRequest;
+import com.api.backend.response.GamePlayResponse;
+import com.api.backend.response.GameShipResponse;
+import com.api.backend.service.GameGridService;
+import com.api.backend.service.GameShipService;
+import com.api.backend.utils.Constants;
+
+/**
+ * The JpaGameStateStore class keeps the game state in the Game, GamePlayer,
+ * GameShip and GameGrid tables. It is the default backend, used unless the
+ * {@value MappedGameStateStore#PROFILE} or {@value InMemoryGameStateStore#PROFILE} profile is active.
+ */
+@Component
+@Profile("!" + MappedGameStateStore.PROFILE + " & !" + InMemoryGameStateStore.PROFILE)
+public class JpaGameStateStore implements GameStateStore {
+
+	private GameRepository gameRepository;
+
+	private GamePlayerRepository gamePlayerRepository;
+
+	private GameTurnRepository gameTurnRepository;
+
+	private GameGridService gameGridService;
+
+	private GameShipService gameShipService;
+
+	private MoveRejectionCatalog moveRejections;
+
+	/**
+	 * Instantiates a new JPA game state store.
+	 *
+	 * @param gameRepository       the game repository
+	 * @param gamePlayerRepository the game player repository
+	 * @param gameTurnRepository   the game turn repository
+	 * @param gameGridService      the game grid service
+	 * @param gameShipService      the game ship service
+	 * @param moveRejections       the exceptions thrown for rejected turns
+	 */
+	@Autowired
+	public JpaGameStateStore(GameRepository gameRepository, GamePlayerRepository gamePlayerRepository,
+			GameTurnRepository gameTurnRepository, GameGridService gameGridService, GameShipService gameShipService,
+			MoveRejectionCatalog moveRejections) {
+		this.gameRepository = gameRepository;
+		this.gamePlayerRepository = gamePlayerRepository;
+		this.gameTurnRepository = gameTurnRepository;
+		this.gameGridService = gameGridService;
+		this.gameShipService = gameShipService;
+		this.moveRejections = moveRejections;
+	}
+
+	/**
+	 * Creates the game players, their ships and boards, then the game.
+	 *
+	 * @param players  the two players, in turn order
+	 * @param requests the validated ship placements of each player
+	 * @return the id of the created game, or null when the game was not saved
+	 */
+	@Override
+	public UUID createGame(List<PlayerEntity> players, List<GameCreationRequest> requests) {
+		List<GamePlayerEntity> gamePlayers = new ArrayList<>();
+		for (int i = 0; i < players.size(); i++) {
+			GamePlayerEntity gamePlayer = populateGamePlayer(players.get(i));
+			gamePlayers.add(gamePlayer);
+			List<GameShipEntity> gameShips = new ArrayList<>();
+			for (GameShipRequest gameShipRequest : requests.get(i).getShipsInfo()) {
+				gameShips.add(gameShipService.mapToGameShipEntity(gameShipRequest.getShipId(), gamePlayer));
+			}
+			gameGridService.populateGameBoard(requests.get(i), gameShips, gamePlayer);
+			gamePlayer.setShipsRemaining(gameShips.size());
+			gamePlayerRepository.save(gamePlayer);
+		}
+		return populateGame(gamePlayers).getGameId();
+	}
+
+	/**
+	 * Loads a game in three queries: game with players, game ships and game boards.
+	 *
+	 * @param gameId the game id
+	 * @return the game, or empty when unknown
+	 */
+	@Override
+	public Optional<GameDTO> loadGame(UUID gameId) {
+		return gameRepository.findWithPlayersByGameId(gameId).map(this::convertToGameDTO);
+	}
+
+	/**
+	 * Loads several games in three queries in total.
+	 *
+	 * @param gameIds the game ids
+	 * @return the known games
+	 */
+	@Override
+	public List<GameDTO> loadGames(Collection<UUID> gameIds) {
+		return convertToGameDTOs(gameRepository.findAllByGameIdIn(gameIds));
+	}
+
+	/**
+	 * Loads a game summary from the game columns and ship statuses only.
+	 *
+	 * @param gameId the game id
+	 * @return the game summary, or empty when unknown
+	 */
+	@Override
+	public Optional<GameDTO> loadSummary(UUID gameId) {
+		Optional<GameSummaryProjection> found = gameRepository.findSummaryByGameId(gameId);
+		if (found.isEmpty()) {
+			return Optional.empty();
+		}
+		GameSummaryProjection summary = found.get();
+		return Optional.of(toGameSummary(summary, gameShipService
+				.fetchShipStatuses(List.of(summary.getPlayer1Id(), summary.getPlayer2Id()))));
+	}
+
+	/**
+	 * Lists game summaries in two queries: the game columns of the page, then the
+	 * ship statuses of all its players.
+	 *
+	 * @param status the game status
+	 * @param limit  the maximum number of games to return
+	 * @return the game summaries, newest first
+	 */
+	@Override
+	public List<GameDTO> listGames(GameStatus status, int limit) {
+		return listSummaries(status, PageRequest.of(0, limit));
+	}
+
+	/**
+	 * Reads the game summaries in pages of {@link Constants#GAME_SCAN_PAGE_SIZE},
+	 * two queries per page.
+	 *
+	 * @param status the game status
+	 * @param action the action applied to each game summary, newest first
+	 */
+	@Override
+	public void forEachGame(GameStatus status, Consumer<GameDTO> action) {
+		List<GameDTO> games;
+		int page = 0;
+		do {
+			games = listSummaries(status, PageRequest.of(page++, Constants.GAME_SCAN_PAGE_SIZE));
+			games.forEach(action);
+		} while (games.size() == Constants.GAME_SCAN_PAGE_SIZE);
+	}
+
+	private List<GameDTO> listSummaries(GameStatus status, Pageable pageable) {
+		List<GameSummaryProjection> summaries = gameRepository.findSummariesByGameStatus(status, pageable);
+		if (summaries.isEmpty()) {
+			return new ArrayList<>();
+		}
+		List<Long> gamePlayerIds = new ArrayList<>(summaries.size() * 2);
+		for (GameSummaryProjection summary : summaries) {
+			gamePlayerIds.add(summary.getPlayer1Id());
+			gamePlayerIds.add(summary.getPlayer2Id());
+		}
+		Map<Long, List<GameShipDTO>> gameShips = gameShipService.fetchShipStatuses(gamePlayerIds);
+		List<GameDTO> games = new ArrayList<>(summaries.size());
+		for (GameSummaryProjection summary : summaries) {
+			games.add(toGameSummary(summary, gameShips));
+		}
+		return games;
+	}
+
+	/**
+	 * Performs a player turn with the rules of {@link Shots}, updates game and
+	 * player status and records the turn in one transaction. Shots at a completed
+	 * game are rejected as an invalid game id.
+	 *
+	 * @param gameId       the game id
+	 * @param gamePlayerId the game player taking the turn
+	 * @param attackedGrid the attacked location
+	 * @return the game play response with the result of the turn
+	 */
+	@Override
+	@Transactional
+	public GamePlayResponse applyTurn(UUID gameId, Long gamePlayerId, GameShipLocationRequest attackedGrid) {
+		GameEntity gameEntity = gameRepository.findWithPlayersByGameId(gameId).orElse(null);
+		if (gameEntity == null) {
+			throw moveRejections.get(MoveRejection.INVALID_GAME_ID);
+		}
+
+		GamePlayerEntity currentPlayer = gamePlayerRepository.findById(gamePlayerId).orElse(null);
+		if (currentPlayer == null) {
+			throw moveRejections.get(MoveRejection.PLAYER_NOT_FOUND);
+		}
+
+		GamePlayerEntity OpponentPlayer = gameEntity.getOpponent();
+		// marks the attacked grid and updates the hit game ship
+		GameGridShotTarget opponentBoard = new GameGridShotTarget(gameGridService, gameShipService, OpponentPlayer);
+		ShotOutcome outcome = Shots.fire(gameEntity.getGameStatus() == GameStatus.COMPLETED,
+				playerIndex(gameEntity, gameEntity.getCurrentPlayer()), playerIndex(gameEntity, currentPlayer),
+				Constants.GRID_VALUE, attackedGrid.getRowIndex(), attackedGrid.getColumnIndex(), opponentBoard);
+		if (outcome.isRejected()) {
+			throw moveRejections.get(toMoveRejection(outcome));
+		}
+		GameShipEntity opponentGameShipEntity = opponentBoard.getHitShip();
+		// count the shot
+		currentPlayer.setShotsFired(currentPlayer.getShotsFired() + 1);
+		if (opponentGameShipEntity != null) {
+			currentPlayer.setShotsHit(currentPlayer.getShotsHit() + 1);
+		}
+		// save game player details
+		gamePlayerRepository.save(OpponentPlayer);
+
+		// check whether game is completed
+		if (Shots.isFleetSunk(opponentBoard)) {
+			// setting winner and game status
+			gameEntity.setWinner(currentPlayer);
+			gameEntity.setGameStatus(GameStatus.COMPLETED);
+			gameEntity.getPlayer1().getPlayer().setIsPlaying(false);
+			gameEntity.getPlayer2().getPlayer().setIsPlaying(false);
+			gameEntity.getPlayer1().getPlayer().setIsLocked(false);
+			gameEntity.getPlayer2().getPlayer().setIsLocked(false);
+		}
+		// saving the game
+		gameEntity.setCurrentPlayer(OpponentPlayer);
+		gameRepository.save(gameEntity);
+		recordTurn(gameEntity, currentPlayer, attackedGrid, opponentGameShipEntity);
+
+		return convertToGamePlayResponse(gameEntity, opponentGameShipEntity, currentPlayer, OpponentPlayer);
+	}
+
+	/**
+	 * Lists a page of the turn history in one query.
+	 *
+	 * @param gameId   the game id
+	 * @param fromTurn the first turn number of the page
+	 * @param limit    the maximum number of turns to return
+	 * @return the turns in turn order
+	 */
+	@Override
+	public List<GameTurnDTO> loadTurns(UUID gameId, int fromTurn, int limit) {
+		List<GameTurnDTO> turns = new ArrayList<>();
+		for (GameTurnEntity turn : gameTurnRepository.findTurns(gameId, fromTurn, lastTurnOf(fromTurn, limit))) {
+			turns.add(TurnHistory.toTurnDTO(turn.getTurnNumber(), turn.getGamePlayerId(), turn.getCell(),
+					turn.getResult()));
+		}
+		return turns;
+	}
+
+	/**
+	 * Loads the full view of a game, then rewinds it with the checkpoint closest to
+	 * the turn and the turns after it, read in one query.
+	 *
+	 * @param gameId the game id
+	 * @param atTurn the turn number, 0 for the start of the game
+	 * @return the game after the turn, or empty when unknown or not reached
+	 */
+	@Override
+	public Optional<GameDTO> loadGameAtTurn(UUID gameId, int atTurn) {
+		Optional<GameDTO> found = loadGame(gameId);
+		if (found.isEmpty()) {
+			return Optional.empty();
+		}
+		GameDTO game = found.get();
+		int turnCount = game.getPlayer1().getShotsFired() + game.getPlayer2().getShotsFired();
+		if (atTurn > turnCount) {
+			return Optional.empty();
+		}
+		return Optional.of(TurnHistory.rewind(game, boardsAt(gameId, atTurn), atTurn, turnCount));
+	}
+
+	/**
+	 * Convert the GameEntity to a GameDTO.
+	 *
+	 * @param gameEntity the game entity
+	 * @return the corresponding game DTO
+	 */
+	public GameDTO convertToGameDTO(GameEntity gameEntity) {
+		return convertToGameDTOs(List.of(gameEntity)).get(0);
+	}
+
+	/**
+	 * Convert GameEntities loaded with their players to GameDTOs. The game ships and
+	 * game boards of all games are read with one query each instead of walking the
+	 * lazy collections of every game player. The compact board and ship cells are
+	 * encoded from the same rows.
+	 *
+	 * @param gameEntities the game entities
+	 * @return the corresponding game DTOs in the same order
+	 */
+	private List<GameDTO> convertToGameDTOs(List<GameEntity> gameEntities) {
+		if (gameEntities.isEmpty()) {
+			return new ArrayList<>();
+		}
+		List<GamePlayerEntity> gamePlayers = new ArrayList<>(gameEntities.size() * 2);
+		for (GameEntity gameEntity : gameEntities) {
+			gamePlayers.add(gameEntity.getPlayer1());
+			gamePlayers.add(gameEntity.getPlayer2());
+		}
+		Map<Long, List<GameShipDTO>> gameShips = new HashMap<>();
+		Map<Long, GameShipDTO> gameShipsById = new HashMap<>();
+		for (GameShipEntity gameShip : gameShipService.fetchGameShips(gamePlayers)) {
+			ShipEntity ship = gameShip.getShip();
+			GameShipDTO gameShipDTO = GameShipDTO.builder().gameShipId(gameShip.getGameShipId())
+					.ship(ShipDTO.builder().shipId(ship.getShipId()).shipName(ship.getShipName())
+							.shipLength(ship.getShipLength()).build())
+					.shipStatus(gameShip.getShipStatus().toString()).gameShipGrids(new ArrayList<>()).build();
+			gameShips.computeIfAbsent(gameShip.getGamePlayer().getGamePlayerId(), id -> new ArrayList<>())
+					.add(gameShipDTO);
+			gameShipsById.put(gameShip.getGameShipId(), gameShipDTO);
+		}
+		Map<Long, List<GameGridDTO>> gameBoards = new HashMap<>();
+		Map<Long, BitSet> shots = new HashMap<>();
+		Map<Long, BitSet> hits = new HashMap<>();
+		Map<Long, BitSet> shipCells = new HashMap<>();
+		for (GameGridEntity gameGrid : gameGridService.fetchGameBoards(gamePlayers)) {
+			Long gamePlayerId = gameGrid.getGamePlayer().getGamePlayerId();
+			GameGridDTO gameGridDTO = GameGridDTO.builder().gameGridId(gameGrid.getGameGridId())
+					.rowIndex(gameGrid.getRowIndex()).columnIndex(gameGrid.getColumnIndex())
+					.gridValue(gameGrid.getGridValue().toString()).build();
+			gameBoards.computeIfAbsent(gamePlayerId, id -> new ArrayList<>()).add(gameGridDTO);
+			int cell = gameGrid.getRowIndex() * Constants.GRID_VALUE + gameGrid.getColumnIndex();
+			boolean attacked = gameGrid.getGridValue() == GridValue.ATTACKED;
+			if (attacked) {
+				shots.computeIfAbsent(gamePlayerId, id -> new BitSet()).set(cell);
+			}
+			if (gameGrid.getGameShip() != null) {
+				Long gameShipId = gameGrid.getGameShip().getGameShipId();
+				gameShipsById.get(gameShipId).getGameShipGrids().add(gameGridDTO);
+				shipCells.computeIfAbsent(gameShipId, id -> new BitSet()).set(cell);
+				if (attacked) {
+					hits.computeIfAbsent(gamePlayerId, id -> new BitSet()).set(cell);
+				}
+			}
+		}
+		gameShipsById.forEach((gameShipId, gameShip) -> gameShip
+				.setCells(CompactBoards.cells(shipCells.getOrDefault(gameShipId, new BitSet()))));
+		List<GameDTO> games = new ArrayList<>(gameEntities.size());
+		for (GameEntity gameEntity : gameEntities) {
+			games.add(GameDTO.builder().gameId(gameEntity.getGameId()).gameStatus(gameEntity.getGameStatus().toString())
+					.gameCreationDate(gameEntity.getGameCreationDate())
+					.currentPlayerId(gameEntity.getCurrentPlayer().getGamePlayerId())
+					.winnerId(gameEntity.getWinner() != null ? gameEntity.getWinner().getGamePlayerId() : null)
+					.player1(toGamePlayerDTO(gameEntity.getPlayer1(), gameShips, gameBoards, shots, hits))
+					.player2(toGamePlayerDTO(gameEntity.getPlayer2(), gameShips, gameBoards, shots, hits)).build());
+		}
+		return games;
+	}
+
+	/**
+	 * Build the game player part of a full game view.
+	 *
+	 * @param gamePlayer the game player entity
+	 * @param gameShips  the game ships grouped by game player id
+	 * @param gameBoards the game boards grouped by game player id
+	 * @param shots      the attacked cells grouped by game player id
+	 * @param hits       the attacked ship cells grouped by game player id
+	 * @return the game player DTO
+	 */
+	private GamePlayerDTO toGamePlayerDTO(GamePlayerEntity gamePlayer, Map<Long, List<GameShipDTO>> gameShips,
+			Map<Long, List<GameGridDTO>> gameBoards, Map<Long, BitSet> shots, Map<Long, BitSet> hits) {
+		PlayerEntity player = gamePlayer.getPlayer();
+		return GamePlayerDTO.builder().gamePlayerId(gamePlayer.getGamePlayerId())
+				.player(PlayerDTO.builder().playerId(player.getPlayerId()).playerName(player.getPlayerName())
+						.isLocked(player.getIsLocked()).isPlaying(player.getIsPlaying()).build())
+				.gameShips(gameShips.getOrDefault(gamePlayer.getGamePlayerId(), new ArrayList<>()))
+				.shotsFired(gamePlayer.getShotsFired()).shotsHit(gamePlayer.getShotsHit())
+				.shipsRemaining(gamePlayer.getShipsRemaining())
+				.gameBoard(gameBoards.getOrDefault(gamePlayer.getGamePlayerId(), new ArrayList<>()))
+				.compactBoard(CompactBoards.board(shots.getOrDefault(gamePlayer.getGamePlayerId(), new BitSet()),
+						hits.getOrDefault(gamePlayer.getGamePlayerId(), new BitSet())))
+				.build();
+	}
+
+	/**
+	 * Build a game summary from the game columns and ship statuses.
+	 *
+	 * @param summary   the game columns
+	 * @param gameShips the ship statuses grouped by game player id
+	 * @return the game DTO without game boards
+	 */
+	private GameDTO toGameSummary(GameSummaryProjection summary, Map<Long, List<GameShipDTO>> gameShips) {
+		return GameDTO.builder().gameId(summary.getGameId()).gameStatus(summary.getGameStatus().toString())
+				.gameCreationDate(summary.getGameCreationDate()).currentPlayerId(summary.getCurrentPlayerId())
+				.winnerId(summary.getWinnerId())
+				.player1(toGamePlayerSummary(summary.getPlayer1Id(), summary.getPlayer1PlayerId(),
+						summary.getPlayer1Name(), gameShips).shotsFired(summary.getPlayer1ShotsFired())
+						.shotsHit(summary.getPlayer1ShotsHit()).shipsRemaining(summary.getPlayer1ShipsRemaining())
+						.build())
+				.player2(toGamePlayerSummary(summary.getPlayer2Id(), summary.getPlayer2PlayerId(),
+						summary.getPlayer2Name(), gameShips).shotsFired(summary.getPlayer2ShotsFired())
+						.shotsHit(summary.getPlayer2ShotsHit()).shipsRemaining(summary.getPlayer2ShipsRemaining())
+						.build())
+				.build();
+	}
+
+	/**
+	 * Build the game player part of a game summary.
+	 *
+	 * @param gamePlayerId the game player id
+	 * @param playerId     the player id
+	 * @param playerName   the player name
+	 * @param gameShips    the ship statuses grouped by game player id
+	 * @return the game player DTO builder without game board
+	 */
+	private GamePlayerDTO.GamePlayerDTOBuilder toGamePlayerSummary(Long gamePlayerId, Long playerId,
+			String playerName, Map<Long, List<GameShipDTO>> gameShips) {
+		return GamePlayerDTO.builder().gamePlayerId(gamePlayerId)
+				.player(PlayerDTO.builder().playerId(playerId).playerName(playerName).build())
+				.gameShips(gameShips.getOrDefault(gamePlayerId, new ArrayList<>()));
+	}
+
+	/**
+	 * Populate game player object with player details
+	 *
+	 * @param player the player
+	 * @return the game player entity
+	 */
+	private GamePlayerEntity populateGamePlayer(PlayerEntity player) {
+		GamePlayerEntity gamePlayer = new GamePlayerEntity();
+		gamePlayer.setPlayer(player);
+		gamePlayer.setGameShips(new ArrayList<>());
+		gamePlayer.setGameBoard(new ArrayList<>());
+		return gamePlayer;
+	}
+
+	/**
+	 * Populate game object with game player details.
+	 *
+	 * @param gamePlayers the game players
+	 * @return the game entity
+	 */
+	private GameEntity populateGame(List<GamePlayerEntity> gamePlayers) {
+		GameEntity gameEntity = new GameEntity();
+		gameEntity.setPlayer1(gamePlayers.get(0));
+		gameEntity.setPlayer2(gamePlayers.get(1));
+		gameEntity.setCurrentPlayer(gamePlayers.get(0));
+		gameEntity.setGameStatus(GameStatus.ONGOING);
+		gameRepository.save(gameEntity);
+		return gameEntity;
+	}
+
+	/**
+	 * Convert to game play response.
+	 *
+	 * @param gameEntity     the game entity
+	 * @param gameShipEntity the game ship entity
+	 * @param currentPlayer  the game player who took the turn
+	 * @param opponentPlayer the game player whose board was attacked
+	 * @return the game play response
+	 */
+	private GamePlayResponse convertToGamePlayResponse(GameEntity gameEntity, GameShipEntity gameShipEntity,
+			GamePlayerEntity currentPlayer, GamePlayerEntity opponentPlayer) {
+		GamePlayResponse response = new GamePlayResponse();
+		response.setGameId(gameEntity.getGameId().toString());
+		response.setShotsFired(currentPlayer.getShotsFired());
+		response.setShotsHit(currentPlayer.getShotsHit());
+		response.setOpponentShipsRemaining(opponentPlayer.getShipsRemaining());
+		if (gameEntity.getWinner() != null) {
+			response.setGameWinnerId(gameEntity.getWinner().getGamePlayerId());
+		} else {
+			response.setGameWinnerId(null);
+		}
+		if (gameShipEntity != null && gameShipEntity.getShip()!=null) {
+			GameShipResponse gameShipResponse = GameShipResponse.builder()
+					.gameShipName(gameShipEntity.getShip().getShipName())
+					.gameShipStatus(gameShipEntity.getShipStatus().toString()).build();
+			response.setGameShipHitOrSunked(gameShipResponse);
+		} else {
+			response.setGameShipHitOrSunked(null);
+		}
+		return response;
+	}
+
+	/**
+	 * Records a played turn. Every {@link Constants#TURN_CHECKPOINT_INTERVAL}
+	 * turns the boards after the turn are stored with it.
+	 *
+	 * @param gameEntity     the game entity
+	 * @param currentPlayer  the game player who took the turn
+	 * @param attackedGrid   the attacked location
+	 * @param gameShipEntity the hit game ship, null for a miss
+	 */
+	private void recordTurn(GameEntity gameEntity, GamePlayerEntity currentPlayer,
+			GameShipLocationRequest attackedGrid, GameShipEntity gameShipEntity) {
+		int turnNumber = gameEntity.getPlayer1().getShotsFired() + gameEntity.getPlayer2().getShotsFired();
+		int cell = attackedGrid.getRowIndex() * Constants.GRID_VALUE + attackedGrid.getColumnIndex();
+		GameTurnEntity turn = new GameTurnEntity();
+		turn.setGame(gameEntity);
+		turn.setTurnNumber(turnNumber);
+		turn.setGamePlayerId(currentPlayer.getGamePlayerId());
+		turn.setCell((byte) cell);
+		if (gameShipEntity == null) {
+			turn.setResult(TurnResult.MISS);
+		} else {
+			turn.setResult(gameShipEntity.getShipStatus() == ShipStatus.SUNK ? TurnResult.SUNK : TurnResult.HIT);
+		}
+		if (turnNumber % Constants.TURN_CHECKPOINT_INTERVAL == 0) {
+			BitSet[] boards = boardsAt(gameEntity.getGameId(), turnNumber - 1);
+			boards[1 - TurnHistory.shooterOf(turnNumber)].set(cell);
+			turn.setCheckpoint(TurnHistory.checkpoint(boards));
+		}
+		gameTurnRepository.save(turn);
+	}
+
+	/**
+	 * Rebuilds the attacked cells of both boards after a turn from the closest
+	 * checkpoint at or before it and the turns since.
+	 *
+	 * @param gameId the game id
+	 * @param atTurn the turn number, 0 for the start of the game
+	 * @return the attacked cells of each board
+	 */
+	private BitSet[] boardsAt(UUID gameId, int atTurn) {
+		int checkpointTurn = atTurn - atTurn % Constants.TURN_CHECKPOINT_INTERVAL;
+		BitSet[] boards = TurnHistory.emptyBoards();
+		if (atTurn == 0) {
+			return boards;
+		}
+		for (GameTurnEntity turn : gameTurnRepository.findTurns(gameId, Math.max(checkpointTurn, 1), atTurn)) {
+			if (turn.getTurnNumber() == checkpointTurn && turn.getCheckpoint() != null) {
+				boards = TurnHistory.restore(turn.getCheckpoint());
+			} else if (turn.getTurnNumber() > checkpointTurn) {
+				boards[1 - TurnHistory.shooterOf(turn.getTurnNumber())].set(turn.getCell());
+			}
+		}
+		return boards;
+	}
+
+	private static int lastTurnOf(int fromTurn, int limit) {
+		return (int) Math.min((long) fromTurn + limit - 1, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Gets the engine index of a game player, 0 for player 1 and 1 for player 2.
+	 *
+	 * @param gameEntity       the game
+	 * @param gamePlayerEntity the game player
+	 * @return the player index, or -1 when the game player is not in the game
+	 */
+	private static int playerIndex(GameEntity gameEntity, GamePlayerEntity gamePlayerEntity) {
+		if (gameEntity.getPlayer1().equals(gamePlayerEntity)) {
+			return 0;
+		}
+		return gameEntity.getPlayer2().equals(gamePlayerEntity) ? 1 : -1;
+	}
+
+	/**
+	 * Converts a shot rejected by the engine to the move rejection of the API.
+	 *
+	 * @param outcome the rejected shot outcome
+	 * @return the move rejection
+	 */
+	private static MoveRejection toMoveRejection(ShotOutcome outcome) {
+		switch (outcome) {
+		case GAME_OVER:
+			return MoveRejection.INVALID_GAME_ID;
+		case WRONG_TURN:
+			return MoveRejection.PLAYER_TURN_OVER;
+		case OUT_OF_BOUNDS:
+			return MoveRejection.COORDINATES_NOT_EXISTS;
+		default:
+			return MoveRejection.ALREADY_ATTACKED;
+		}
+	}
+}
@@ -0,0 +1,202 @@
+package com.api.backend.store;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import com.api.backend.dto.GameDTO;
+import com.api.backend.dto.GameTurnDTO;
+import com.api.backend.dto.ShipDTO;
+import com.api.backend.entity.GameStatus;
+import com.api.backend.entity.PlayerEntity;
+import com.api.backend.exception.BattleshipApplicationException;
+import com.api.backend.exception.MoveRejectionCatalog;
+import com.api.backend.exception.ValidationException;
+import com.api.backend.request.GameCreationRequest;
+import com.api.backend.request.GameShipLocationRequest;
+import com.api.backend.response.GamePlayResponse;
+import com.api.backend.service.GameShipService;
+import com.api.backend.service.PlayerService;
+import com.api.backend.store.GameSlotFile.GameSlot;
+import com.api.backend.store.GameSlotFile.Shot;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * The MappedGameStateStore class keeps the game state in a {@link GameSlotFile}
+ * instead of the database. It is selected with the {@value #PROFILE} profile. A
+ * turn writes a few bytes of the game's slot; views are built from a copy of
+ * the slot. Once every slot is used new games are refused, unless
+ * {@code game.store.mmap.recycle-completed} lets them replace the games
+ * completed first; the recycled games are counted in the
+ * {@code game.store.mmap.recycled} metric.
+ */
+@Component
+@Profile(MappedGameStateStore.PROFILE)
+public class MappedGameStateStore implements GameStateStore, DisposableBean {
+
+	private static final Logger logger = LogManager.getLogger(MappedGameStateStore.class);
+
+	public static final String PROFILE = "mmap";
+
+	private final GameSlotFile slotFile;
+
+	private final GameSlotMapper mapper;
+
+	private Environment env;
+
+	/**
+	 * Instantiates a new memory mapped game state store.
+	 *
+	 * @param path            the slot file path
+	 * @param slots            the number of slots of a new slot file
+	 * @param recycleCompleted whether new games replace the games completed first
+	 *                         once every slot is used
+	 * @param gameShipService  the game ship service providing the ship catalog
+	 * @param playerService    the player service releasing players of completed games
+	 * @param env              the env
+	 * @param moveRejections   the exceptions thrown for rejected turns
+	 * @param meterRegistry    the registry of the recycled games metric
+	 * @throws IOException if the slot file cannot be opened
+	 */
+	@Autowired
+	public MappedGameStateStore(@Value("${game.store.mmap.path:data/games.slots}") String path,
+			@Value("${game.store.mmap.slots:65536}") int slots,
+			@Value("${game.store.mmap.recycle-completed:false}") boolean recycleCompleted,
+			GameShipService gameShipService, PlayerService playerService, Environment env,
+			MoveRejectionCatalog moveRejections, MeterRegistry meterRegistry) throws IOException {
+		Path file = Paths.get(path).toAbsolutePath();
+		Files.createDirectories(file.getParent());
+		this.slotFile = new GameSlotFile(file, slots, recycleCompleted);
+		if (recycleCompleted) {
+			logger.info("Completed games are recycled, oldest first, once all {} game slots of {} are used",
+					slotFile.capacity(), file);
+		}
+		FunctionCounter.builder("game.store.mmap.recycled", slotFile, GameSlotFile::getRecycled)
+				.description("Completed games whose slot was given to a new game").register(meterRegistry);
+		this.mapper = new GameSlotMapper(gameShipService, playerService, env, moveRejections);
+		this.env = env;
+	}
+
+	/**
+	 * Writes the game to a free slot, which is freed again if the current
+	 * transaction rolls back.
+	 *
+	 * @param players  the two players, in turn order
+	 * @param requests the validated ship placements of each player
+	 * @return the id of the created game
+	 * @throws ValidationException           if a fleet has too many ships
+	 * @throws BattleshipApplicationException if no slot is free or recyclable
+	 */
+	@Override
+	public UUID createGame(List<PlayerEntity> players, List<GameCreationRequest> requests) {
+		GameSlotFile.Side[] sides = mapper.toSides(players, requests, GameSlotFile.MAX_SHIPS);
+		GameSlot slot = slotFile.create(mapper.newGameId(), System.currentTimeMillis(), sides[0], sides[1]);
+		if (slot == null) {
+			throw new BattleshipApplicationException(env.getProperty("MappedGameStateStore.NO_FREE_SLOT"));
+		}
+		UUID gameId = slot.getGameId();
+		mapper.onRollback(() -> slotFile.release(gameId));
+		return gameId;
+	}
+
+	@Override
+	public Optional<GameDTO> loadGame(UUID gameId) {
+		return Optional.ofNullable(slotFile.read(gameId))
+				.map(slot -> mapper.toGameDTO(slot, mapper.shipCatalog(), true));
+	}
+
+	@Override
+	public List<GameDTO> loadGames(Collection<UUID> gameIds) {
+		Map<Long, ShipDTO> ships = mapper.shipCatalog();
+		List<GameDTO> games = new ArrayList<>(gameIds.size());
+		for (UUID gameId : gameIds) {
+			GameSlot slot = slotFile.read(gameId);
+			if (slot != null) {
+				games.add(mapper.toGameDTO(slot, ships, true));
+			}
+		}
+		return games;
+	}
+
+	@Override
+	public Optional<GameDTO> loadSummary(UUID gameId) {
+		return Optional.ofNullable(slotFile.read(gameId))
+				.map(slot -> mapper.toGameDTO(slot, mapper.shipCatalog(), false));
+	}
+
+	/**
+	 * Scans the slot index for games with the status.
+	 *
+	 * @param status the game status
+	 * @param limit  the maximum number of games to return
+	 * @return the game summaries, newest first
+	 */
+	@Override
+	public List<GameDTO> listGames(GameStatus status, int limit) {
+		return mapper.toSummaries(slotFile.readAll(status == GameStatus.COMPLETED), limit);
+	}
+
+	@Override
+	public void forEachGame(GameStatus status, Consumer<GameDTO> action) {
+		Map<Long, ShipDTO> ships = mapper.shipCatalog();
+		for (GameSlot slot : slotFile.readAll(status == GameStatus.COMPLETED)) {
+			action.accept(mapper.toGameDTO(slot, ships, false));
+		}
+	}
+
+	/**
+	 * Fires the shot in the game's slot, and releases both players when it ends
+	 * the game.
+	 *
+	 * @param gameId       the game id
+	 * @param gamePlayerId the game player taking the turn
+	 * @param attackedGrid the attacked location
+	 * @return the game play response with the result of the turn
+	 */
+	@Override
+	public GamePlayResponse applyTurn(UUID gameId, Long gamePlayerId, GameShipLocationRequest attackedGrid) {
+		Shot shot = slotFile.shoot(gameId, gamePlayerId, mapper.toCell(attackedGrid));
+		return mapper.toGamePlayResponse(gameId, shot, () -> slotFile.read(gameId));
+	}
+
+	@Override
+	public List<GameTurnDTO> loadTurns(UUID gameId, int fromTurn, int limit) {
+		return Optional.ofNullable(slotFile.read(gameId)).map(slot -> mapper.toTurns(slot, fromTurn, limit))
+				.orElseGet(ArrayList::new);
+	}
+
+	@Override
+	public Optional<GameDTO> loadGameAtTurn(UUID gameId, int atTurn) {
+		return Optional.ofNullable(slotFile.read(gameId)).filter(slot -> atTurn <= slot.getTurns().length)
+				.map(slot -> mapper.toGameAtTurn(slot, atTurn));
+	}
+
+	/**
+	 * Flushes and closes the slot file.
+	 *
+	 * @throws IOException if the slot file cannot be closed
+	 */
+	@Override
+	public void destroy() throws IOException {
+		slotFile.close();
+	}
+}
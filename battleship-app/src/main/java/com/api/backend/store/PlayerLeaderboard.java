@@ -0,0 +1,186 @@
+package com.api.backend.store;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import javax.annotation.PostConstruct;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.api.backend.dto.GameDTO;
+import com.api.backend.dto.GamePlayerDTO;
+import com.api.backend.dto.PlayerStatsDTO;
+import com.api.backend.entity.GameStatus;
+import com.api.backend.event.GameEvent;
+import com.api.backend.event.GameEventHandler;
+import com.api.backend.event.GameEventType;
+import com.api.backend.utils.RankedSet;
+
+/**
+ * The PlayerLeaderboard class keeps the statistics of every player who
+ * completed a game on the heap: games played, wins, shots, hits and the shots
+ * needed to win. The statistics of a game are added once, when its last turn
+ * sinks the fleet, so no query ever scans the games. Players are ranked by
+ * wins, then by fewest average turns to win, in a ranked set, so the rank of a
+ * player and a page of the leaderboard are read in O(log n).
+ * <p>
+ * The leaderboard is rebuilt from the completed games of the store at startup,
+ * one page at a time, and updated only by games completed on this instance, like the active game
+ * index. Completed games are read from the game event bus, off the request
+ * thread, so a player's statistics follow the end of a game with a short lag.
+ */
+@Component
+public class PlayerLeaderboard implements GameEventHandler {
+
+	private static final Comparator<Standing> RANKING = Comparator.comparingInt((Standing standing) -> -standing.wins)
+			.thenComparingLong(standing -> standing.winningTurns).thenComparingLong(standing -> standing.playerId);
+
+	private final Map<Long, Standing> standings = new HashMap<>();
+
+	private final RankedSet<Standing> ranking = new RankedSet<>(RANKING);
+
+	private GameStateStore gameStateStore;
+
+	/**
+	 * Instantiates a new player leaderboard.
+	 *
+	 * @param gameStateStore the game state store listing the completed games
+	 */
+	@Autowired
+	public PlayerLeaderboard(GameStateStore gameStateStore) {
+		this.gameStateStore = gameStateStore;
+	}
+
+	/**
+	 * Adds the completed games of the store, read page by page so that only the
+	 * standings stay on the heap.
+	 */
+	@PostConstruct
+	public void loadCompletedGames() {
+		gameStateStore.forEachGame(GameStatus.COMPLETED, this::record);
+	}
+
+	/**
+	 * Adds the statistics of a game that was just completed.
+	 *
+	 * @param gameId the id of the completed game
+	 */
+	public void recordCompletedGame(UUID gameId) {
+		gameStateStore.loadSummary(gameId).ifPresent(this::record);
+	}
+
+	/**
+	 * Adds the statistics of the games completed events.
+	 *
+	 * @param event      the game event
+	 * @param sequence   the sequence number of the event
+	 * @param endOfBatch whether the event is the last of the batch
+	 */
+	@Override
+	public void onEvent(GameEvent event, long sequence, boolean endOfBatch) {
+		if (event.getType() == GameEventType.GAME_COMPLETED) {
+			recordCompletedGame(event.getGameId());
+		}
+	}
+
+	/**
+	 * Returns the statistics and rank of a player.
+	 *
+	 * @param playerId the player id
+	 * @return the player statistics, or empty when the player completed no game
+	 */
+	public synchronized Optional<PlayerStatsDTO> findPlayer(Long playerId) {
+		Standing standing = standings.get(playerId);
+		return Optional.ofNullable(standing).map(found -> found.toStatsDTO(ranking.rankOf(found) + 1));
+	}
+
+	/**
+	 * Returns a page of the leaderboard.
+	 *
+	 * @param fromRank the rank of the first player, starting at 1
+	 * @param limit    the maximum number of players to return
+	 * @return the player statistics, best ranked first
+	 */
+	public synchronized List<PlayerStatsDTO> page(int fromRank, int limit) {
+		List<Standing> page = ranking.range(fromRank - 1, limit);
+		List<PlayerStatsDTO> stats = new ArrayList<>(page.size());
+		for (int i = 0; i < page.size(); i++) {
+			stats.add(page.get(i).toStatsDTO(fromRank + i));
+		}
+		return stats;
+	}
+
+	/**
+	 * Adds the statistics of both players of a completed game.
+	 *
+	 * @param game the game summary
+	 */
+	private synchronized void record(GameDTO game) {
+		if (!GameStatus.COMPLETED.toString().equals(game.getGameStatus())) {
+			return;
+		}
+		for (GamePlayerDTO gamePlayer : new GamePlayerDTO[] { game.getPlayer1(), game.getPlayer2() }) {
+			Long playerId = gamePlayer.getPlayer().getPlayerId();
+			Standing previous = standings.get(playerId);
+			if (previous != null) {
+				ranking.remove(previous);
+			} else {
+				previous = new Standing(playerId, gamePlayer.getPlayer().getPlayerName(), 0, 0, 0, 0, 0);
+			}
+			Standing standing = previous.plus(gamePlayer.getGamePlayerId().equals(game.getWinnerId()),
+					gamePlayer.getShotsFired(), gamePlayer.getShotsHit());
+			standings.put(playerId, standing);
+			ranking.add(standing);
+		}
+	}
+
+	/**
+	 * The aggregated statistics of a player. A standing is replaced, never
+	 * changed, so that it keeps its place in the ranked set.
+	 */
+	private static final class Standing {
+
+		private final long playerId;
+
+		private final String playerName;
+
+		private final int gamesPlayed;
+
+		private final int wins;
+
+		private final long shotsFired;
+
+		private final long shotsHit;
+
+		private final long winningTurns;
+
+		private Standing(long playerId, String playerName, int gamesPlayed, int wins, long shotsFired,
+				long shotsHit, long winningTurns) {
+			this.playerId = playerId;
+			this.playerName = playerName;
+			this.gamesPlayed = gamesPlayed;
+			this.wins = wins;
+			this.shotsFired = shotsFired;
+			this.shotsHit = shotsHit;
+			this.winningTurns = winningTurns;
+		}
+
+		private Standing plus(boolean won, int gameShotsFired, int gameShotsHit) {
+			return new Standing(playerId, playerName, gamesPlayed + 1, wins + (won ? 1 : 0),
+					shotsFired + gameShotsFired, shotsHit + gameShotsHit, winningTurns + (won ? gameShotsFired : 0));
+		}
+
+		private PlayerStatsDTO toStatsDTO(int rank) {
+			return PlayerStatsDTO.builder().rank(rank).playerId(playerId).playerName(playerName)
+					.gamesPlayed(gamesPlayed).wins(wins).losses(gamesPlayed - wins).shotsFired(shotsFired)
+					.shotsHit(shotsHit).hitRate(shotsFired == 0 ? 0.0 : (double) shotsHit / shotsFired)
+					.averageTurnsToWin(wins == 0 ? null : (double) winningTurns / wins).build();
+		}
+	}
+}
@@ -0,0 +1,163 @@
+package com.api.backend.store;
+
+import java.nio.ByteBuffer;
+import java.util.BitSet;
+
+import com.api.backend.dto.GameDTO;
+import com.api.backend.dto.GameGridDTO;
+import com.api.backend.dto.GamePlayerDTO;
+import com.api.backend.dto.GameShipDTO;
+import com.api.backend.dto.GameTurnDTO;
+import com.api.backend.entity.GameStatus;
+import com.api.backend.entity.GridValue;
+import com.api.backend.entity.ShipStatus;
+import com.api.backend.entity.TurnResult;
+import com.api.backend.utils.Constants;
+
+/**
+ * Replays the turn history shared by the game state stores. Turns alternate
+ * and player 1 fires first, so an odd turn is fired by player 1 at the board of
+ * player 2. The attacked cells of the two boards are kept as one bitset per
+ * board owner: index 0 for player 1, 1 for player 2.
+ */
+final class TurnHistory {
+
+	private static final int BOARD_WORDS = (GameSlotFile.CELLS + 63) / 64;
+
+	private TurnHistory() {
+	}
+
+	/**
+	 * Returns the player firing a turn.
+	 *
+	 * @param turnNumber the turn number, starting at 1
+	 * @return 0 for player 1, 1 for player 2
+	 */
+	static int shooterOf(int turnNumber) {
+		return (turnNumber - 1) % 2;
+	}
+
+	/**
+	 * Returns the boards of a game before its first turn.
+	 *
+	 * @return the attacked cells of each board, all empty
+	 */
+	static BitSet[] emptyBoards() {
+		return new BitSet[] { new BitSet(), new BitSet() };
+	}
+
+	/**
+	 * Replays the first turns of a turn log on empty boards.
+	 *
+	 * @param turns the attacked cell of each turn, in turn order
+	 * @param count the number of turns to replay
+	 * @return the attacked cells of each board after the turns
+	 */
+	static BitSet[] replay(byte[] turns, int count) {
+		BitSet[] boards = emptyBoards();
+		for (int i = 0; i < count; i++) {
+			boards[1 - shooterOf(i + 1)].set(turns[i]);
+		}
+		return boards;
+	}
+
+	/**
+	 * Encodes the attacked cells of both boards.
+	 *
+	 * @param boards the attacked cells of each board
+	 * @return the checkpoint bytes
+	 */
+	static byte[] checkpoint(BitSet[] boards) {
+		ByteBuffer buffer = ByteBuffer.allocate(2 * BOARD_WORDS * 8);
+		for (BitSet board : boards) {
+			long[] words = board.toLongArray();
+			for (int i = 0; i < BOARD_WORDS; i++) {
+				buffer.putLong(i < words.length ? words[i] : 0L);
+			}
+		}
+		return buffer.array();
+	}
+
+	/**
+	 * Decodes a checkpoint.
+	 *
+	 * @param checkpoint the checkpoint bytes
+	 * @return the attacked cells of each board
+	 */
+	static BitSet[] restore(byte[] checkpoint) {
+		ByteBuffer buffer = ByteBuffer.wrap(checkpoint);
+		BitSet[] boards = new BitSet[2];
+		for (int b = 0; b < boards.length; b++) {
+			long[] words = new long[BOARD_WORDS];
+			for (int i = 0; i < BOARD_WORDS; i++) {
+				words[i] = buffer.getLong();
+			}
+			boards[b] = BitSet.valueOf(words);
+		}
+		return boards;
+	}
+
+	/**
+	 * Builds a turn of the history.
+	 *
+	 * @param turnNumber   the turn number
+	 * @param gamePlayerId the game player who fired
+	 * @param cell         the attacked cell, row major
+	 * @param result       what the shot did
+	 * @return the turn DTO
+	 */
+	static GameTurnDTO toTurnDTO(int turnNumber, Long gamePlayerId, int cell, TurnResult result) {
+		return GameTurnDTO.builder().turnNumber(turnNumber).gamePlayerId(gamePlayerId)
+				.rowIndex(cell / Constants.GRID_VALUE).columnIndex(cell % Constants.GRID_VALUE)
+				.result(result.toString()).build();
+	}
+
+	/**
+	 * Rewinds the full view of a game to its state after a turn: grid values,
+	 * compact boards, ship statuses and counters follow the attacked cells, and
+	 * before the last turn the game is ongoing with the next shooter to play.
+	 *
+	 * @param game      the full view of the game after its last turn, changed in place
+	 * @param boards    the attacked cells of each board after the turn
+	 * @param atTurn    the turn number, 0 for the start of the game
+	 * @param turnCount the number of turns played
+	 * @return the rewound game
+	 */
+	static GameDTO rewind(GameDTO game, BitSet[] boards, int atTurn, int turnCount) {
+		GamePlayerDTO[] players = { game.getPlayer1(), game.getPlayer2() };
+		for (int p = 0; p < players.length; p++) {
+			BitSet shots = boards[p];
+			for (GameGridDTO grid : players[p].getGameBoard()) {
+				grid.setGridValue((shots.get(cellOf(grid)) ? GridValue.ATTACKED : GridValue.NOT_ATTACKED).toString());
+			}
+			BitSet hits = new BitSet();
+			int shipsRemaining = 0;
+			for (GameShipDTO gameShip : players[p].getGameShips()) {
+				boolean sunk = true;
+				for (GameGridDTO grid : gameShip.getGameShipGrids()) {
+					if (shots.get(cellOf(grid))) {
+						hits.set(cellOf(grid));
+					} else {
+						sunk = false;
+					}
+				}
+				gameShip.setShipStatus((sunk ? ShipStatus.SUNK : ShipStatus.NOT_SUNK).toString());
+				shipsRemaining += sunk ? 0 : 1;
+			}
+			players[p].setShipsRemaining(shipsRemaining);
+			players[p].setCompactBoard(CompactBoards.board(shots, hits));
+			players[1 - p].setShotsFired(shots.cardinality());
+			players[1 - p].setShotsHit(hits.cardinality());
+		}
+		if (atTurn < turnCount) {
+			game.setGameStatus(GameStatus.ONGOING.toString());
+			game.setWinnerId(null);
+			game.setCurrentPlayerId(players[shooterOf(atTurn + 1)].getGamePlayerId());
+		}
+		return game;
+	}
+
+	private static int cellOf(GameGridDTO grid) {
+		return grid.getRowIndex() * Constants.GRID_VALUE + grid.getColumnIndex();
+	}
+}
@@ -0,0 +1,132 @@
+package com.api.backend.stream;
+
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import com.api.backend.bulkhead.Bulkhead;
+import com.api.backend.bulkhead.Bulkhead.Admission;
+import com.api.backend.bulkhead.Bulkheads;
+import com.api.backend.bulkhead.EndpointClass;
+import com.api.backend.exception.BattleshipApplicationException;
+import com.api.backend.exception.RateLimitExceededException;
+import com.api.backend.filter.AdaptiveConcurrencyLimit;
+import com.api.backend.filter.ConcurrencyLimitFilter;
+import com.api.backend.filter.RateLimitedEndpoint;
+import com.api.backend.filter.RateLimiter;
+import com.api.backend.filter.RequestPriority;
+
+/**
+ * The GameStreamAdmission class applies to the shots of the game stream the
+ * admission checks the request filters apply to game play requests over HTTP:
+ * the concurrency limit of critical requests, the gameplay bulkhead, and the
+ * gameplay rate limits of the principal and of the game player. It also limits
+ * the authentication attempts of every remote address.
+ */
+@Component
+public class GameStreamAdmission {
+
+	private final RateLimiter rateLimiter;
+
+	private final AdaptiveConcurrencyLimit concurrencyLimit;
+
+	private final Bulkhead bulkhead;
+
+	private final long queueTimeoutMillis;
+
+	private final Environment env;
+
+	/**
+	 * Instantiates a new game stream admission.
+	 *
+	 * @param rateLimiter            the rate limiter holding the budgets
+	 * @param concurrencyLimitFilter the filter holding the concurrency limit
+	 * @param bulkheads              the bulkheads of the endpoint classes
+	 * @param env                    the env
+	 * @param concurrencyEnabled     whether requests are concurrency limited
+	 * @param bulkheadEnabled        whether requests run in the bulkheads
+	 * @param queueTimeoutMillis     how long a shot may wait in the bulkhead queue
+	 */
+	@Autowired
+	public GameStreamAdmission(RateLimiter rateLimiter, ConcurrencyLimitFilter concurrencyLimitFilter,
+			Bulkheads bulkheads, Environment env, @Value("${game.concurrency.enabled:true}") boolean concurrencyEnabled,
+			@Value("${game.bulkhead.enabled:true}") boolean bulkheadEnabled,
+			@Value("${game.bulkhead.queue-timeout-ms:2000}") long queueTimeoutMillis) {
+		this.rateLimiter = rateLimiter;
+		this.concurrencyLimit = concurrencyEnabled ? concurrencyLimitFilter.getLimit() : null;
+		this.bulkhead = bulkheadEnabled ? bulkheads.get(EndpointClass.GAMEPLAY) : null;
+		this.queueTimeoutMillis = queueTimeoutMillis;
+		this.env = env;
+	}
+
+	/**
+	 * Takes an authentication attempt from the budget of a remote address, before
+	 * the credentials are hashed.
+	 *
+	 * @param remoteAddress the address of the client
+	 * @return true if the attempt may be checked, false if the address used up
+	 *         its attempts
+	 */
+	public boolean tryAuthenticate(String remoteAddress) {
+		return rateLimiter.tryConsume(RateLimitedEndpoint.STREAM_AUTH, remoteAddress) >= 0;
+	}
+
+	/**
+	 * Plays a shot once it is admitted, sampling its latency for the concurrency
+	 * limit.
+	 *
+	 * @param principal    the authenticated username
+	 * @param gamePlayerId the game player taking the turn
+	 * @param turn         the turn to play
+	 * @param <T>          the turn result type
+	 * @return the turn result
+	 * @throws RateLimitExceededException     if the principal or game player used
+	 *                                        up its rate limit
+	 * @throws BattleshipApplicationException if the server is overloaded or the
+	 *                                        gameplay bulkhead is full
+	 */
+	public <T> T admitTurn(String principal, Long gamePlayerId, Supplier<T> turn) {
+		if (concurrencyLimit != null && !concurrencyLimit.tryAcquire(RequestPriority.CRITICAL)) {
+			throw new BattleshipApplicationException(env.getProperty("ConcurrencyLimitFilter.OVERLOADED"));
+		}
+		long start = System.nanoTime();
+		try {
+			return inBulkhead(() -> {
+				if (rateLimiter.isEnabled() && rateLimiter.tryConsume(RateLimitedEndpoint.GAMEPLAY, principal) < 0) {
+					throw new RateLimitExceededException(env.getProperty("RateLimiter.RATE_LIMITED"),
+							rateLimiter.getRetryAfterSeconds(RateLimitedEndpoint.GAMEPLAY));
+				}
+				rateLimiter.consumeTurn(gamePlayerId);
+				return turn.get();
+			});
+		} finally {
+			if (concurrencyLimit != null) {
+				concurrencyLimit.release(start, System.nanoTime());
+			}
+		}
+	}
+
+	private <T> T inBulkhead(Supplier<T> turn) {
+		if (bulkhead == null) {
+			return turn.get();
+		}
+		Admission admission;
+		try {
+			admission = bulkhead.enter(queueTimeoutMillis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			admission = Admission.QUEUE_TIMEOUT;
+		}
+		if (admission != Admission.ADMITTED) {
+			throw new BattleshipApplicationException(env.getProperty("BulkheadFilter.FULL"));
+		}
+		try {
+			return turn.get();
+		} finally {
+			bulkhead.exit();
+		}
+	}
+}
@@ -0,0 +1,164 @@
+package com.api.backend.stream;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.core.env.Environment;
+
+import com.api.backend.exception.BattleshipApplicationException;
+import com.api.backend.response.GamePlayResponse;
+import com.api.backend.service.GameService;
+
+/**
+ * The GameStreamConnection class serves one bot connection. Its reader thread
+ * only takes a new frame off the socket once a window slot is free, so a client
+ * sending faster than its shots are played is slowed down by TCP instead of
+ * queueing work on the server. A connection silent for the idle timeout is
+ * closed.
+ */
+class GameStreamConnection implements Runnable {
+
+	private static final Logger logger = LogManager.getLogger(GameStreamConnection.class);
+
+	private final GameStreamServer server;
+
+	private final Socket socket;
+
+	private final GameService gameService;
+
+	private final GameStreamAdmission admission;
+
+	private final ExecutorService shotExecutor;
+
+	private final int window;
+
+	private final int idleTimeoutMillis;
+
+	private final Semaphore inFlight;
+
+	private final Environment env;
+
+	private DataOutputStream out;
+
+	private String principal;
+
+	GameStreamConnection(GameStreamServer server, Socket socket, GameService gameService,
+			GameStreamAdmission admission, ExecutorService shotExecutor, int window, int idleTimeoutMillis,
+			Environment env) {
+		this.server = server;
+		this.socket = socket;
+		this.gameService = gameService;
+		this.admission = admission;
+		this.shotExecutor = shotExecutor;
+		this.window = window;
+		this.idleTimeoutMillis = idleTimeoutMillis;
+		this.inFlight = new Semaphore(window);
+		this.env = env;
+	}
+
+	@Override
+	public void run() {
+		try {
+			DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+			out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+			if (!authenticate(in)) {
+				return;
+			}
+			socket.setSoTimeout(idleTimeoutMillis);
+			while (true) {
+				inFlight.acquire();
+				GameStreamFrame frame = GameStreamProtocol.read(in);
+				if (frame.getType() != GameStreamProtocol.SHOT) {
+					throw new IOException("Unexpected frame type " + frame.getType());
+				}
+				try {
+					shotExecutor.execute(() -> play(frame));
+				} catch (RejectedExecutionException e) {
+					inFlight.release();
+					return;
+				}
+			}
+		} catch (EOFException e) {
+			// client closed the stream
+		} catch (SocketTimeoutException e) {
+			logger.info("Game stream {} timed out", socket.getRemoteSocketAddress());
+		} catch (IOException e) {
+			if (!socket.isClosed()) {
+				logger.warn("Game stream {} failed: {}", socket.getRemoteSocketAddress(), e.getMessage());
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} finally {
+			close();
+		}
+	}
+
+	/**
+	 * Closes the connection, dropping the results of shots still in flight.
+	 */
+	void close() {
+		try {
+			socket.close();
+		} catch (IOException e) {
+			// already closed
+		}
+	}
+
+	private boolean authenticate(DataInputStream in) throws IOException {
+		GameStreamFrame frame = GameStreamProtocol.read(in);
+		if (frame.getType() == GameStreamProtocol.AUTH
+				&& server.authenticate(socket.getRemoteSocketAddress(), frame.getUsername(), frame.getPassword())) {
+			principal = frame.getUsername();
+			synchronized (out) {
+				GameStreamProtocol.writeAuthOk(out, window);
+				out.flush();
+			}
+			return true;
+		}
+		synchronized (out) {
+			GameStreamProtocol.writeAuthFailed(out, env.getProperty("GameStreamServer.AUTHENTICATION_FAILED"));
+			out.flush();
+		}
+		return false;
+	}
+
+	private void play(GameStreamFrame frame) {
+		try {
+			send(frame.getCorrelationId(), admission.admitTurn(principal, frame.getRequest().getCurrentPlayer(),
+					() -> gameService.playerTurn(frame.getRequest())), null);
+		} catch (BattleshipApplicationException e) {
+			send(frame.getCorrelationId(), null, e.getMessage());
+		} catch (RuntimeException e) {
+			logger.error("Game stream shot failed", e);
+			send(frame.getCorrelationId(), null, env.getProperty("GameStreamServer.SHOT_FAILED"));
+		} finally {
+			inFlight.release();
+		}
+	}
+
+	private void send(int correlationId, GamePlayResponse response, String error) {
+		try {
+			synchronized (out) {
+				if (response != null) {
+					GameStreamProtocol.writeResult(out, correlationId, response);
+				} else {
+					GameStreamProtocol.writeError(out, correlationId, error);
+				}
+				out.flush();
+			}
+		} catch (IOException e) {
+			close();
+		}
+	}
+}
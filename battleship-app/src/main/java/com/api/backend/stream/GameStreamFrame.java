@@ -0,0 +1,37 @@
+package com.api.backend.stream;
+
+import com.api.backend.request.GamePlayRequest;
+import com.api.backend.response.GamePlayResponse;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * The GameStreamFrame class holds one decoded frame of the game stream
+ * protocol. Only the properties of its frame type are set.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class GameStreamFrame {
+
+	private byte type;
+
+	private int correlationId;
+
+	private String username;
+
+	private String password;
+
+	private int window;
+
+	private GamePlayRequest request;
+
+	private GamePlayResponse response;
+
+	private String message;
+
+}
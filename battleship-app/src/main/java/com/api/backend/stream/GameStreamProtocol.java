@@ -0,0 +1,223 @@
+package com.api.backend.stream;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.UUID;
+
+import com.api.backend.request.GamePlayRequest;
+import com.api.backend.request.GameShipLocationRequest;
+import com.api.backend.response.GamePlayResponse;
+import com.api.backend.response.GameShipResponse;
+import com.api.backend.utils.GameIds;
+
+/**
+ * The GameStreamProtocol class encodes and decodes the frames exchanged on the
+ * game stream. Every frame is an int length followed by that many bytes: a one
+ * byte frame type and its fields, written with {@link DataOutputStream}.
+ *
+ * <pre>
+ * AUTH        username (UTF), password (UTF)                        client to server
+ * AUTH_OK     window (int), the shots a client may have in flight    server to client
+ * AUTH_FAILED message (UTF)                                          server to client
+ * SHOT        correlation id (int), game id (2 longs), game player id (long),
+ *             row (int), column (int)                               client to server
+ * RESULT      correlation id (int), game id (UTF), winner id (long, -1 when none),
+ *             ship name (UTF, empty when missed), ship status (UTF) server to client
+ * ERROR       correlation id (int), message (UTF)                    server to client
+ * </pre>
+ */
+public final class GameStreamProtocol {
+
+	public static final byte AUTH = 1;
+
+	public static final byte AUTH_OK = 2;
+
+	public static final byte AUTH_FAILED = 3;
+
+	public static final byte SHOT = 4;
+
+	public static final byte RESULT = 5;
+
+	public static final byte ERROR = 6;
+
+	/** The largest frame accepted, in bytes. */
+	public static final int MAX_FRAME_LENGTH = 4096;
+
+	private static final long NO_WINNER = -1;
+
+	private GameStreamProtocol() {
+	}
+
+	/**
+	 * Writes an authentication frame.
+	 *
+	 * @param out      the stream output
+	 * @param username the username
+	 * @param password the password
+	 * @throws IOException if the frame cannot be written
+	 */
+	public static void writeAuth(DataOutputStream out, String username, String password) throws IOException {
+		Frame frame = new Frame(AUTH);
+		frame.data.writeUTF(username);
+		frame.data.writeUTF(password);
+		frame.writeTo(out);
+	}
+
+	/**
+	 * Writes the frame accepting an authentication.
+	 *
+	 * @param out    the stream output
+	 * @param window the number of shots the client may have in flight
+	 * @throws IOException if the frame cannot be written
+	 */
+	public static void writeAuthOk(DataOutputStream out, int window) throws IOException {
+		Frame frame = new Frame(AUTH_OK);
+		frame.data.writeInt(window);
+		frame.writeTo(out);
+	}
+
+	/**
+	 * Writes the frame rejecting an authentication.
+	 *
+	 * @param out     the stream output
+	 * @param message the reason
+	 * @throws IOException if the frame cannot be written
+	 */
+	public static void writeAuthFailed(DataOutputStream out, String message) throws IOException {
+		Frame frame = new Frame(AUTH_FAILED);
+		frame.data.writeUTF(message);
+		frame.writeTo(out);
+	}
+
+	/**
+	 * Writes a shot frame.
+	 *
+	 * @param out           the stream output
+	 * @param correlationId the id repeated in the result of this shot
+	 * @param request       the shot
+	 * @throws IOException if the frame cannot be written
+	 */
+	public static void writeShot(DataOutputStream out, int correlationId, GamePlayRequest request)
+			throws IOException {
+		Frame frame = new Frame(SHOT);
+		UUID gameId = GameIds.parse(request.getGameId());
+		frame.data.writeInt(correlationId);
+		frame.data.writeLong(gameId.getMostSignificantBits());
+		frame.data.writeLong(gameId.getLeastSignificantBits());
+		frame.data.writeLong(request.getCurrentPlayer());
+		frame.data.writeInt(request.getAttackedGrid().getRowIndex());
+		frame.data.writeInt(request.getAttackedGrid().getColumnIndex());
+		frame.writeTo(out);
+	}
+
+	/**
+	 * Writes a shot result frame.
+	 *
+	 * @param out           the stream output
+	 * @param correlationId the id of the shot
+	 * @param response      the shot result
+	 * @throws IOException if the frame cannot be written
+	 */
+	public static void writeResult(DataOutputStream out, int correlationId, GamePlayResponse response)
+			throws IOException {
+		Frame frame = new Frame(RESULT);
+		GameShipResponse ship = response.getGameShipHitOrSunked();
+		frame.data.writeInt(correlationId);
+		frame.data.writeUTF(response.getGameId());
+		frame.data.writeLong(response.getGameWinnerId() != null ? response.getGameWinnerId() : NO_WINNER);
+		frame.data.writeUTF(ship != null ? ship.getGameShipName() : "");
+		frame.data.writeUTF(ship != null ? ship.getGameShipStatus() : "");
+		frame.writeTo(out);
+	}
+
+	/**
+	 * Writes the frame reporting a rejected shot.
+	 *
+	 * @param out           the stream output
+	 * @param correlationId the id of the shot
+	 * @param message       the reason
+	 * @throws IOException if the frame cannot be written
+	 */
+	public static void writeError(DataOutputStream out, int correlationId, String message) throws IOException {
+		Frame frame = new Frame(ERROR);
+		frame.data.writeInt(correlationId);
+		frame.data.writeUTF(message != null ? message : "");
+		frame.writeTo(out);
+	}
+
+	/**
+	 * Reads the next frame.
+	 *
+	 * @param in the stream input
+	 * @return the decoded frame
+	 * @throws IOException if the stream is closed or the frame is malformed
+	 */
+	public static GameStreamFrame read(DataInputStream in) throws IOException {
+		int length = in.readInt();
+		if (length < 1 || length > MAX_FRAME_LENGTH) {
+			throw new IOException("Invalid frame length " + length);
+		}
+		byte[] bytes = new byte[length];
+		in.readFully(bytes);
+		return decode(new DataInputStream(new ByteArrayInputStream(bytes)));
+	}
+
+	private static GameStreamFrame decode(DataInputStream in) throws IOException {
+		byte type = in.readByte();
+		GameStreamFrame.GameStreamFrameBuilder frame = GameStreamFrame.builder().type(type);
+		switch (type) {
+		case AUTH:
+			return frame.username(in.readUTF()).password(in.readUTF()).build();
+		case AUTH_OK:
+			return frame.window(in.readInt()).build();
+		case AUTH_FAILED:
+			return frame.message(in.readUTF()).build();
+		case SHOT:
+			frame.correlationId(in.readInt());
+			String gameId = new UUID(in.readLong(), in.readLong()).toString();
+			long gamePlayerId = in.readLong();
+			GameShipLocationRequest attackedGrid = GameShipLocationRequest.builder().rowIndex(in.readInt())
+					.columnIndex(in.readInt()).build();
+			return frame.request(new GamePlayRequest(gameId, gamePlayerId, attackedGrid)).build();
+		case RESULT:
+			frame.correlationId(in.readInt());
+			GamePlayResponse response = new GamePlayResponse();
+			response.setGameId(in.readUTF());
+			long winnerId = in.readLong();
+			response.setGameWinnerId(winnerId != NO_WINNER ? winnerId : null);
+			String shipName = in.readUTF();
+			String shipStatus = in.readUTF();
+			if (!shipName.isEmpty()) {
+				response.setGameShipHitOrSunked(
+						GameShipResponse.builder().gameShipName(shipName).gameShipStatus(shipStatus).build());
+			}
+			return frame.response(response).build();
+		case ERROR:
+			return frame.correlationId(in.readInt()).message(in.readUTF()).build();
+		default:
+			throw new IOException("Unknown frame type " + type);
+		}
+	}
+
+	/**
+	 * A frame being written, buffered so its length can be written first.
+	 */
+	private static final class Frame {
+
+		private final ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+
+		private final DataOutputStream data = new DataOutputStream(bytes);
+
+		private Frame(byte type) throws IOException {
+			data.writeByte(type);
+		}
+
+		private void writeTo(DataOutputStream out) throws IOException {
+			out.writeInt(bytes.size());
+			bytes.writeTo(out);
+		}
+	}
+}
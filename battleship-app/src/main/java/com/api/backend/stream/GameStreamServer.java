@@ -0,0 +1,227 @@
+package com.api.backend.stream;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketAddress;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.core.env.Environment;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import com.api.backend.service.GameService;
+
+/**
+ * The GameStreamServer class accepts long lived TCP connections from bot
+ * clients on a port of its own. A client authenticates once with the API
+ * credentials and then sends shot frames for any number of games; every shot
+ * is played through {@link GameService#playerTurn} and answered with a result
+ * or error frame carrying the same correlation id. Results may arrive out of
+ * order. The server is disabled unless {@code game.stream.port} is set.
+ * <p>
+ * The stream is plain TCP, so it listens on the loopback address unless
+ * {@code game.stream.address} says otherwise; clients on other hosts should
+ * reach it through a TLS terminating proxy. Shots pass the same admission
+ * checks as game play requests over HTTP, see {@link GameStreamAdmission}.
+ * Connections are capped, authentication attempts are limited per remote
+ * address, and a client must authenticate within the auth timeout and send a
+ * frame within the idle timeout or be disconnected.
+ */
+@Component
+public class GameStreamServer implements SmartLifecycle {
+
+	private static final Logger logger = LogManager.getLogger(GameStreamServer.class);
+
+	private final GameService gameService;
+
+	private final UserDetailsService userDetailsService;
+
+	private final GameStreamAdmission admission;
+
+	private final PasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
+
+	private final Environment env;
+
+	private final int port;
+
+	private final String address;
+
+	private final int window;
+
+	private final int workers;
+
+	private final int maxConnections;
+
+	private final int authTimeoutMillis;
+
+	private final int idleTimeoutMillis;
+
+	private final Set<GameStreamConnection> connections = ConcurrentHashMap.newKeySet();
+
+	private volatile ServerSocket serverSocket;
+
+	private ExecutorService shotExecutor;
+
+	/**
+	 * Instantiates a new game stream server.
+	 *
+	 * @param gameService        the game service playing the shots
+	 * @param userDetailsService the user details service checking credentials
+	 * @param admission          the admission checks of the shots and
+	 *                           authentication attempts
+	 * @param env                the env
+	 * @param port               the port to listen on, negative to disable the server
+	 * @param address            the address to listen on
+	 * @param window             the shots a connection may have in flight
+	 * @param workers            the threads playing shots for all connections
+	 * @param maxConnections     the connections served at once
+	 * @param authTimeoutMillis  how long a new connection may take to authenticate
+	 * @param idleTimeoutMillis  how long an authenticated connection may send no
+	 *                           frame
+	 */
+	@Autowired
+	public GameStreamServer(GameService gameService, UserDetailsService userDetailsService,
+			GameStreamAdmission admission, Environment env, @Value("${game.stream.port:-1}") int port,
+			@Value("${game.stream.address:127.0.0.1}") String address, @Value("${game.stream.window:64}") int window,
+			@Value("${game.stream.workers:4}") int workers,
+			@Value("${game.stream.max-connections:64}") int maxConnections,
+			@Value("${game.stream.auth-timeout-ms:5000}") int authTimeoutMillis,
+			@Value("${game.stream.idle-timeout-ms:300000}") int idleTimeoutMillis) {
+		this.gameService = gameService;
+		this.userDetailsService = userDetailsService;
+		this.admission = admission;
+		this.env = env;
+		this.port = port;
+		this.address = address;
+		this.window = window;
+		this.workers = workers;
+		this.maxConnections = maxConnections;
+		this.authTimeoutMillis = authTimeoutMillis;
+		this.idleTimeoutMillis = idleTimeoutMillis;
+	}
+
+	@Override
+	public synchronized void start() {
+		if (port < 0 || serverSocket != null) {
+			return;
+		}
+		try {
+			serverSocket = new ServerSocket();
+			serverSocket.bind(new InetSocketAddress(InetAddress.getByName(address), port));
+		} catch (IOException e) {
+			throw new IllegalStateException("Unable to open game stream port " + address + ":" + port, e);
+		}
+		// every connection has at most a window of shots queued
+		AtomicInteger threads = new AtomicInteger();
+		shotExecutor = new ThreadPoolExecutor(workers, workers, 0, TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<>(maxConnections * window),
+				task -> new Thread(task, "game-stream-shot-" + threads.incrementAndGet()));
+		Thread acceptor = new Thread(this::accept, "game-stream-accept");
+		acceptor.setDaemon(true);
+		acceptor.start();
+		logger.info("Game stream listening on {}:{}", address, getPort());
+	}
+
+	@Override
+	public synchronized void stop() {
+		if (serverSocket == null) {
+			return;
+		}
+		try {
+			serverSocket.close();
+		} catch (IOException e) {
+			logger.warn("Closing game stream port failed: {}", e.getMessage());
+		}
+		connections.forEach(GameStreamConnection::close);
+		shotExecutor.shutdown();
+		serverSocket = null;
+	}
+
+	@Override
+	public boolean isRunning() {
+		return serverSocket != null;
+	}
+
+	/**
+	 * Returns the port the server listens on, which differs from the configured
+	 * port when it was 0.
+	 *
+	 * @return the local port, or -1 when the server is not running
+	 */
+	public int getPort() {
+		ServerSocket socket = serverSocket;
+		return socket != null ? socket.getLocalPort() : -1;
+	}
+
+	/**
+	 * Checks the credentials sent in the authentication frame, unless the remote
+	 * address used up its authentication attempts.
+	 *
+	 * @param remoteAddress the address of the client
+	 * @param username      the username
+	 * @param password      the raw password
+	 * @return true if the credentials are valid, false otherwise
+	 */
+	boolean authenticate(SocketAddress remoteAddress, String username, String password) {
+		String host = remoteAddress instanceof InetSocketAddress
+				? ((InetSocketAddress) remoteAddress).getAddress().getHostAddress()
+				: String.valueOf(remoteAddress);
+		if (!admission.tryAuthenticate(host)) {
+			return false;
+		}
+		try {
+			return passwordEncoder.matches(password, userDetailsService.loadUserByUsername(username).getPassword());
+		} catch (RuntimeException e) {
+			return false;
+		}
+	}
+
+	private void accept() {
+		ServerSocket socket = serverSocket;
+		while (socket != null && !socket.isClosed()) {
+			try {
+				Socket client = socket.accept();
+				if (connections.size() >= maxConnections) {
+					logger.warn("Game stream refused {}: {} connections open", client.getRemoteSocketAddress(),
+							maxConnections);
+					client.close();
+					continue;
+				}
+				client.setTcpNoDelay(true);
+				client.setSoTimeout(authTimeoutMillis);
+				GameStreamConnection connection = new GameStreamConnection(this, client, gameService, admission,
+						shotExecutor, window, idleTimeoutMillis, env);
+				connections.add(connection);
+				Thread reader = new Thread(() -> {
+					try {
+						connection.run();
+					} finally {
+						connections.remove(connection);
+					}
+				}, "game-stream-" + client.getRemoteSocketAddress());
+				reader.setDaemon(true);
+				reader.start();
+			} catch (IOException e) {
+				if (!socket.isClosed()) {
+					logger.warn("Accepting game stream connection failed: {}", e.getMessage());
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,186 @@
+package com.api.backend.utils;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.Executor;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CachingConfigurerSupport;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.cache.interceptor.KeyGenerator;
+import org.springframework.cache.interceptor.SimpleKeyGenerator;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.api.backend.dto.GameDTO;
+import com.api.backend.store.GameStateStore;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * The Class CacheConfig provides configuration for caching in the application.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig extends CachingConfigurerSupport implements DisposableBean {
+
+	@Value("${game.cache.soft-ttl-ms:0}")
+	private long gamesSoftTtlMillis;
+
+	@Value("${game.cache.hard-ttl-ms:0}")
+	private long gamesHardTtlMillis;
+
+	@Value("${game.cache.offload-idle-ms:0}")
+	private long gamesOffloadIdleMillis;
+
+	@Value("${game.cache.off-heap-bytes:67108864}")
+	private int gamesOffHeapBytes;
+
+	@Autowired
+	private ObjectProvider<PlatformTransactionManager> transactionManager;
+
+	@Autowired
+	private ObjectProvider<GameStateStore> gameStateStore;
+
+	@Autowired
+	private ObjectProvider<MeterRegistry> meterRegistry;
+
+	private ThreadPoolTaskExecutor refreshExecutor;
+
+	private ThreadPoolTaskScheduler offloadScheduler;
+
+	/**
+	 * Configures the cache manager. Every cache coalesces concurrent misses on the
+	 * same key into a single load for methods annotated with
+	 * {@code @Cacheable(sync = true)}, and the games cache serves stale entries
+	 * while revalidating them once the configured ttls are set, reloading them
+	 * from the game state store. Idle games are moved off heap once an offload
+	 * idle time is set.
+	 *
+	 * @return the cache manager instance to be used in the application
+	 */
+	@Bean
+	@Override
+	public CacheManager cacheManager() {
+		// ConcurrentMapCacheManager with single flight loading
+		ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager() {
+			@Override
+			protected Cache createConcurrentMapCache(String name) {
+				Cache cache = new SingleFlightCache(super.createConcurrentMapCache(name));
+				if (Constants.GAMES_CACHE.equals(name)) {
+					cache = revalidateGames(cache);
+					if (gamesOffloadIdleMillis > 0) {
+						cache = offloadIdleGames(cache);
+					}
+				}
+				return cache;
+			}
+		};
+		cacheManager.setCacheNames(Arrays.asList(Constants.CACHE_KEYS));
+		return cacheManager;
+	}
+
+	/**
+	 * Configures the key generator for caching.
+	 *
+	 * @return the key generator instance to be used in the application
+	 */
+	@Override
+	public KeyGenerator keyGenerator() {
+		return new SimpleKeyGenerator();
+	}
+
+	/**
+	 * Shuts down the background refresh and offload threads.
+	 */
+	@Override
+	public void destroy() {
+		if (refreshExecutor != null) {
+			refreshExecutor.shutdown();
+		}
+		if (offloadScheduler != null) {
+			offloadScheduler.shutdown();
+		}
+	}
+
+	/**
+	 * Wraps the games cache so that stale games are served while they are
+	 * reloaded from the game state store, and counts the failed reloads.
+	 *
+	 * @param games the games cache
+	 * @return the games cache revalidating stale games
+	 */
+	private Cache revalidateGames(Cache games) {
+		StaleWhileRevalidateCache cache = new StaleWhileRevalidateCache(games, gamesSoftTtlMillis,
+				gamesHardTtlMillis, refreshExecutor(),
+				gameId -> gameStateStore.getObject().loadGame(GameIds.parse(gameId.toString())));
+		meterRegistry.ifAvailable(registry -> FunctionCounter
+				.builder("game.cache.refresh.failures", cache, StaleWhileRevalidateCache::getRefreshFailures)
+				.description("Background refreshes of stale games that failed").register(registry));
+		return cache;
+	}
+
+	/**
+	 * Wraps the games cache so that games idle for the offload idle time are kept
+	 * as Smile snapshots in off heap memory, and schedules the offload sweep at
+	 * half that period.
+	 *
+	 * @param games the games cache
+	 * @return the games cache offloading idle games
+	 */
+	private Cache offloadIdleGames(Cache games) {
+		ObjectMapper smile = new ObjectMapper(new SmileFactory())
+				.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES).setFilterProvider(new SimpleFilterProvider()
+						.addFilter(Constants.GAME_FIELDS_FILTER, SimpleBeanPropertyFilter.serializeAll()));
+		IdleOffloadingCache cache = new IdleOffloadingCache(games,
+				new OffHeapSlabStore(gamesOffHeapBytes, Constants.OFF_HEAP_BLOCK_SIZE), smile, GameDTO.class,
+				gamesOffloadIdleMillis);
+		offloadScheduler = new ThreadPoolTaskScheduler();
+		offloadScheduler.setThreadNamePrefix("cache-offload-");
+		offloadScheduler.setDaemon(true);
+		offloadScheduler.initialize();
+		offloadScheduler.scheduleAtFixedRate(cache::offloadIdle,
+				Duration.ofMillis(Math.max(1, gamesOffloadIdleMillis / 2)));
+		return cache;
+	}
+
+	/**
+	 * Creates the executor running background refreshes. Each refresh runs in a
+	 * read only transaction so the lazy game graph can be loaded off the request
+	 * thread. It is deliberately not a bean, to keep the auto configured
+	 * application task executor in place.
+	 *
+	 * @return the refresh executor
+	 */
+	private Executor refreshExecutor() {
+		if (refreshExecutor == null) {
+			refreshExecutor = new ThreadPoolTaskExecutor();
+			refreshExecutor.setCorePoolSize(1);
+			refreshExecutor.setMaxPoolSize(2);
+			refreshExecutor.setQueueCapacity(Constants.CACHE_REFRESH_QUEUE_CAPACITY);
+			refreshExecutor.setThreadNamePrefix("cache-refresh-");
+			refreshExecutor.initialize();
+		}
+		return task -> refreshExecutor.execute(() -> {
+			TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager.getObject());
+			transactionTemplate.setReadOnly(true);
+			transactionTemplate.executeWithoutResult(status -> task.run());
+		});
+	}
+}
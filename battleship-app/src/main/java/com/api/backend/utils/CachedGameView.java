@@ -0,0 +1,37 @@
+package com.api.backend.utils;
+
+import org.springframework.http.converter.json.MappingJacksonValue;
+
+/**
+ * The CachedGameView class marks a game taken from the games cache, together
+ * with the view it is rendered with, so that its encoded bytes can be reused by
+ * {@link GameViewCachingJsonConverter} until the game changes. Sparse fieldsets
+ * are not cached, so a game has at most one variant per view type.
+ */
+public class CachedGameView extends MappingJacksonValue {
+
+	private final String gameId;
+
+	private final String variant;
+
+	/**
+	 * Instantiates a new cached game view.
+	 *
+	 * @param game    the game DTO served by the games cache
+	 * @param gameId  the game id
+	 * @param variant the view and any other setting that changes the bytes
+	 */
+	public CachedGameView(Object game, String gameId, String variant) {
+		super(game);
+		this.gameId = gameId;
+		this.variant = variant;
+	}
+
+	public String getGameId() {
+		return gameId;
+	}
+
+	public String getVariant() {
+		return variant;
+	}
+}
@@ -0,0 +1,42 @@
+package com.api.backend.utils;
+
+import java.util.Set;
+
+public class Constants {
+
+	public static final int GRID_VALUE = 10;
+	public static final String SHIP_DATA_FILE_PATH = "/ShipInfo.txt";
+	public static final String USER_ROLE = "USER";
+	public static final String GAMES_CACHE = "games";
+	public static final String GAME_VIEWS_CACHE = "gameViews";
+	public static final String[] CACHE_KEYS = { "players", GAMES_CACHE, GAME_VIEWS_CACHE, "ships" };
+	public static final int CACHE_REFRESH_QUEUE_CAPACITY = 256;
+	public static final int OFF_HEAP_BLOCK_SIZE = 512;
+	public static final String GAME_AGE_HEADER = "X-Game-Age-Millis";
+	public static final int MAX_GAME_IDS_PER_REQUEST = 500;
+	public static final int GAME_SCAN_PAGE_SIZE = 500;
+	public static final int IN_LIST_BATCH_SIZE = 500;
+	public static final String GAME_FIELDS_FILTER = "gameFields";
+	public static final Set<String> GAME_FIELDS = Set.of("gameId", "winnerId", "gameStatus", "gameCreationDate",
+			"currentPlayerId", "player1", "player2");
+	public static final long REJECTED_MOVE_LOG_INTERVAL_MS = 10_000;
+	public static final int TURN_CHECKPOINT_INTERVAL = 20;
+	public static final int MAX_TURNS_PER_REQUEST = 2 * GRID_VALUE * GRID_VALUE;
+	public static final int MAX_LEADERBOARD_PAGE = 100;
+	public static final String LATENCY_SAMPLE_START_ATTRIBUTE = "com.api.backend.filter.LatencySampleStart";
+	public static final int RATE_LIMIT_STRIPES = 64;
+	public static final String RATE_LIMIT_LIMIT_HEADER = "X-RateLimit-Limit";
+	public static final String RATE_LIMIT_REMAINING_HEADER = "X-RateLimit-Remaining";
+	public static final String PLAYER_RATE_LIMIT_REMAINING_HEADER = "X-RateLimit-Player-Remaining";
+	public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+	public static final String IDEMPOTENT_REPLAY_HEADER = "Idempotent-Replayed";
+	public static final int MAX_IDEMPOTENCY_KEY_LENGTH = 255;
+	public static final int MAX_IDEMPOTENT_BODY_BYTES = 64 * 1024;
+	public static final String[] IDEMPOTENT_PATHS = { "/game/v1/gameplay", "/game/v1/creategame" };
+	public static final String[] AUTH_WHITE_LIST = { "/v3/api-docs/**", "/v2/api-docs/**", "/h2-console/**",
+			"/swagger-ui/**", "/swagger-resources/**" };
+	public static final String[] WEB_WHITE_LIST = { "/h2-console/**", "/swagger-ui/**" };
+	public static final String[] HTTP_METHODS= {"GET", "POST", "DELETE", "PUT"};
+	public static final String[] HTTP_HEADERS= {"*"};
+	public static final String CORS_PATTERN="/**";
+}
@@ -0,0 +1,37 @@
+package com.api.backend.utils;
+
+import java.io.Serializable;
+import java.util.Properties;
+
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.Type;
+
+/**
+ * The GameIdGenerator class is the Hibernate identifier generator of game ids.
+ * It generates {@link GameIds} with the shard key of the
+ * {@value #SHARD_SETTING} setting, which defaults to 0.
+ */
+public class GameIdGenerator implements IdentifierGenerator {
+
+	public static final String NAME = "game-id";
+
+	public static final String SHARD_SETTING = "hibernate.game_id.shard";
+
+	private GameIds gameIds = new GameIds(0);
+
+	@Override
+	public void configure(Type type, Properties params, ServiceRegistry serviceRegistry) {
+		Object shard = serviceRegistry.getService(ConfigurationService.class).getSettings().get(SHARD_SETTING);
+		if (shard != null) {
+			gameIds = new GameIds(Integer.parseInt(shard.toString().trim()));
+		}
+	}
+
+	@Override
+	public Serializable generate(SharedSessionContractImplementor session, Object object) {
+		return gameIds.next();
+	}
+}
@@ -0,0 +1,124 @@
+package com.api.backend.utils;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * The GameIds class generates time ordered game ids in the UUID version 7
+ * layout, with a shard key in place of the first random bits:
+ *
+ * <pre>
+ * most significant:  unix time millis (48) | version 7 (4) | sequence (12)
+ * least significant: variant 10 (2) | shard (8) | random (54)
+ * </pre>
+ *
+ * Each thread keeps its own last timestamp and sequence, so ids are generated
+ * without shared state: they increase strictly per thread, and ids of
+ * different threads are ordered by millisecond. The sequence starts at a
+ * random value below 2048 every millisecond and borrows the next millisecond
+ * when it overflows. Stored as BINARY(16), new games are appended at the end
+ * of the primary key index and recent games are close together.
+ */
+public final class GameIds {
+
+	public static final int SHARD_BITS = 8;
+
+	public static final int MAX_SHARD = (1 << SHARD_BITS) - 1;
+
+	private static final int SEQUENCE_BITS = 12;
+
+	private static final int MAX_SEQUENCE = (1 << SEQUENCE_BITS) - 1;
+
+	private static final int RANDOM_BITS = 62 - SHARD_BITS;
+
+	private static final ThreadLocal<long[]> CLOCK = ThreadLocal.withInitial(() -> new long[2]);
+
+	private final long shardBits;
+
+	/**
+	 * Instantiates a new game id generator.
+	 *
+	 * @param shard the shard key embedded in every id, from 0 to {@value #MAX_SHARD}
+	 * @throws IllegalArgumentException if the shard is out of range
+	 */
+	public GameIds(int shard) {
+		if (shard < 0 || shard > MAX_SHARD) {
+			throw new IllegalArgumentException("Game id shard must be between 0 and " + MAX_SHARD + ": " + shard);
+		}
+		this.shardBits = (long) shard << RANDOM_BITS;
+	}
+
+	/**
+	 * Generates the next game id of the calling thread.
+	 *
+	 * @return a game id greater than the previous one of this thread
+	 */
+	public UUID next() {
+		long[] clock = CLOCK.get();
+		long now = System.currentTimeMillis();
+		if (now > clock[0]) {
+			clock[0] = now;
+			clock[1] = ThreadLocalRandom.current().nextInt((MAX_SEQUENCE + 1) / 2);
+		} else if (++clock[1] > MAX_SEQUENCE) {
+			clock[0]++;
+			clock[1] = 0;
+		}
+		long mostSigBits = clock[0] << 16 | 0x7000L | clock[1];
+		long leastSigBits = Long.MIN_VALUE | shardBits
+				| ThreadLocalRandom.current().nextLong() >>> (64 - RANDOM_BITS);
+		return new UUID(mostSigBits, leastSigBits);
+	}
+
+	/**
+	 * Reads the creation time of a game id.
+	 *
+	 * @param gameId the game id
+	 * @return the unix time in milliseconds
+	 */
+	public static long timestampOf(UUID gameId) {
+		return gameId.getMostSignificantBits() >>> 16;
+	}
+
+	/**
+	 * Reads the shard key of a game id.
+	 *
+	 * @param gameId the game id
+	 * @return the shard key
+	 */
+	public static int shardOf(UUID gameId) {
+		return (int) (gameId.getLeastSignificantBits() >>> RANDOM_BITS) & MAX_SHARD;
+	}
+
+	/**
+	 * Parses a game id. The canonical 36 character form is decoded in place;
+	 * any other form is left to {@link UUID#fromString(String)}.
+	 *
+	 * @param gameId the game id
+	 * @return the game UUID
+	 * @throws IllegalArgumentException if the game id is not a UUID
+	 */
+	public static UUID parse(String gameId) {
+		if (gameId.length() != 36) {
+			return UUID.fromString(gameId);
+		}
+		if (gameId.charAt(8) != '-' || gameId.charAt(13) != '-' || gameId.charAt(18) != '-'
+				|| gameId.charAt(23) != '-') {
+			throw new IllegalArgumentException("Invalid UUID string: " + gameId);
+		}
+		long mostSigBits = hex(gameId, 0, 8) << 32 | hex(gameId, 9, 13) << 16 | hex(gameId, 14, 18);
+		long leastSigBits = hex(gameId, 19, 23) << 48 | hex(gameId, 24, 36);
+		return new UUID(mostSigBits, leastSigBits);
+	}
+
+	private static long hex(String value, int from, int to) {
+		long result = 0;
+		for (int i = from; i < to; i++) {
+			int digit = Character.digit(value.charAt(i), 16);
+			if (digit < 0) {
+				throw new IllegalArgumentException("Invalid UUID string: " + value);
+			}
+			result = result << 4 | digit;
+		}
+		return result;
+	}
+}
@@ -0,0 +1,99 @@
+package com.api.backend.utils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * The GameViewCachingJsonConverter class is the JSON message converter of the
+ * application. It writes {@link CachedGameView}s from the encoded bytes kept in
+ * the game views cache, so a game read many times between two turns is
+ * serialized once per view. The cached bytes are tied to the game DTO instance
+ * they were encoded from: when the games cache holds a newer instance, the view
+ * is encoded again. Turns evict the game views of their game.
+ */
+public class GameViewCachingJsonConverter extends MappingJackson2HttpMessageConverter {
+
+	private final CacheManager cacheManager;
+
+	/**
+	 * Instantiates a new game view caching JSON converter.
+	 *
+	 * @param objectMapper the object mapper
+	 * @param cacheManager the cache manager holding the game views cache
+	 */
+	public GameViewCachingJsonConverter(ObjectMapper objectMapper, CacheManager cacheManager) {
+		super(objectMapper);
+		this.cacheManager = cacheManager;
+	}
+
+	@Override
+	protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage) throws IOException {
+		Cache cache = object instanceof CachedGameView ? cacheManager.getCache(Constants.GAME_VIEWS_CACHE) : null;
+		if (cache == null) {
+			super.writeInternal(object, type, outputMessage);
+			return;
+		}
+		CachedGameView view = (CachedGameView) object;
+		Map<String, EncodedView> views = cache.get(view.getGameId(), ConcurrentHashMap::new);
+		EncodedView encoded = views.get(view.getVariant());
+		if (encoded == null || encoded.source != view.getValue()) {
+			ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+			super.writeInternal(object, type, new BufferedOutputMessage(buffer, outputMessage.getHeaders()));
+			encoded = new EncodedView(view.getValue(), buffer.toByteArray());
+			views.put(view.getVariant(), encoded);
+		}
+		outputMessage.getBody().write(encoded.bytes);
+	}
+
+	/**
+	 * The encoded bytes of a view and the game DTO they were encoded from.
+	 */
+	private static final class EncodedView {
+
+		private final Object source;
+
+		private final byte[] bytes;
+
+		private EncodedView(Object source, byte[] bytes) {
+			this.source = source;
+			this.bytes = bytes;
+		}
+	}
+
+	/**
+	 * An output message writing into a buffer.
+	 */
+	private static final class BufferedOutputMessage implements HttpOutputMessage {
+
+		private final OutputStream body;
+
+		private final HttpHeaders headers;
+
+		private BufferedOutputMessage(OutputStream body, HttpHeaders headers) {
+			this.body = body;
+			this.headers = headers;
+		}
+
+		@Override
+		public OutputStream getBody() {
+			return body;
+		}
+
+		@Override
+		public HttpHeaders getHeaders() {
+			return headers;
+		}
+	}
+}
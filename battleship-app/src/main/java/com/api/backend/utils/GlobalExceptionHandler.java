@@ -6,7 +6,9 @@ import java.util.stream.Collectors;
 
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.FieldError;
@@ -18,6 +20,7 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 import com.api.backend.exception.BattleshipApplicationException;
 import com.api.backend.exception.InvalidPlayerDataException;
+import com.api.backend.exception.RateLimitExceededException;
 import com.api.backend.exception.ValidationException;
 import com.api.backend.response.ErrorResponse;
 
@@ -96,6 +99,20 @@ public class GlobalExceptionHandler {
 		return new ErrorResponse("Validation Failed.", Collections.singletonList(ex.getMessage()));
 	}
 
+	/**
+	 * Handles the RateLimitExceededException and returns an ErrorResponse with a "Too Many Requests" status
+	 * and the delay after which the request may be retried.
+	 *
+	 * @param ex the RateLimitExceededException to handle
+	 * @return the response entity containing the error message
+	 */
+	@ExceptionHandler(RateLimitExceededException.class)
+	public ResponseEntity<ErrorResponse> handleRateLimitExceededException(RateLimitExceededException ex) {
+		return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+				.header(HttpHeaders.RETRY_AFTER, Long.toString(ex.getRetryAfterSeconds()))
+				.body(new ErrorResponse("Too Many Requests.", Collections.singletonList(ex.getMessage())));
+	}
+
 	/**
 	 * Handles the BattleshipApplicationException and returns an ErrorResponse with a "Bad Request" status.
 	 *
@@ -0,0 +1,214 @@
+package com.api.backend.utils;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * The IdleOffloadingCache decorates a cache so that only recently used entries
+ * stay on the heap. {@link #offloadIdle()} serializes the entries that were not
+ * read or written for the idle time into an {@link OffHeapSlabStore} and evicts
+ * them from the delegate; the next read deserializes the snapshot and puts it
+ * back. Evictions and puts drop the snapshot, so a turn never lets an older
+ * state come back. Offloading, restoring and evicting a key are serialized on
+ * a lock stripe of that key.
+ */
+public class IdleOffloadingCache implements Cache {
+
+	private static final Logger logger = LogManager.getLogger(IdleOffloadingCache.class);
+
+	private static final int LOCK_STRIPES = 64;
+
+	private final Cache delegate;
+
+	private final OffHeapSlabStore store;
+
+	private final ObjectMapper mapper;
+
+	private final Class<?> valueType;
+
+	private final long idleNanos;
+
+	private final ConcurrentMap<Object, Long> lastAccess = new ConcurrentHashMap<>();
+
+	private final Object[] locks = new Object[LOCK_STRIPES];
+
+	/**
+	 * Instantiates a new idle offloading cache.
+	 *
+	 * @param delegate   the cache holding the entries in use
+	 * @param store      the off heap store holding the idle snapshots
+	 * @param mapper     the mapper encoding the snapshots
+	 * @param valueType  the type of the cached values
+	 * @param idleMillis the time without access after which an entry is offloaded
+	 */
+	public IdleOffloadingCache(Cache delegate, OffHeapSlabStore store, ObjectMapper mapper, Class<?> valueType,
+			long idleMillis) {
+		this.delegate = delegate;
+		this.store = store;
+		this.mapper = mapper;
+		this.valueType = valueType;
+		this.idleNanos = TimeUnit.MILLISECONDS.toNanos(idleMillis);
+		for (int i = 0; i < LOCK_STRIPES; i++) {
+			locks[i] = new Object();
+		}
+	}
+
+	@Override
+	public String getName() {
+		return delegate.getName();
+	}
+
+	@Override
+	public Object getNativeCache() {
+		return delegate.getNativeCache();
+	}
+
+	@Override
+	public ValueWrapper get(Object key) {
+		touch(key);
+		ValueWrapper cached = delegate.get(key);
+		if (cached != null) {
+			return cached;
+		}
+		Object restored = restore(key);
+		return restored != null ? new SimpleValueWrapper(restored) : null;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> T get(Object key, Class<T> type) {
+		ValueWrapper wrapper = get(key);
+		Object value = wrapper != null ? wrapper.get() : null;
+		if (value != null && type != null && !type.isInstance(value)) {
+			throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+		}
+		return (T) value;
+	}
+
+	@Override
+	public <T> T get(Object key, Callable<T> valueLoader) {
+		touch(key);
+		if (delegate.get(key) == null) {
+			restore(key);
+		}
+		return delegate.get(key, valueLoader);
+	}
+
+	@Override
+	public void put(Object key, Object value) {
+		touch(key);
+		synchronized (lockFor(key)) {
+			store.remove(key);
+			delegate.put(key, value);
+		}
+	}
+
+	@Override
+	public ValueWrapper putIfAbsent(Object key, Object value) {
+		touch(key);
+		if (delegate.get(key) == null) {
+			restore(key);
+		}
+		return delegate.putIfAbsent(key, value);
+	}
+
+	@Override
+	public void evict(Object key) {
+		evictIfPresent(key);
+	}
+
+	@Override
+	public boolean evictIfPresent(Object key) {
+		lastAccess.remove(key);
+		synchronized (lockFor(key)) {
+			boolean offloaded = store.remove(key) != null;
+			return delegate.evictIfPresent(key) || offloaded;
+		}
+	}
+
+	@Override
+	public void clear() {
+		invalidate();
+	}
+
+	@Override
+	public boolean invalidate() {
+		lastAccess.clear();
+		store.clear();
+		return delegate.invalidate();
+	}
+
+	/**
+	 * Moves the entries idle for longer than the idle time off the heap.
+	 *
+	 * @return the number of entries offloaded
+	 */
+	public int offloadIdle() {
+		long now = System.nanoTime();
+		int offloaded = 0;
+		for (Map.Entry<Object, Long> access : lastAccess.entrySet()) {
+			Object key = access.getKey();
+			if (now - access.getValue() >= idleNanos && offload(key)) {
+				lastAccess.remove(key, access.getValue());
+				offloaded++;
+			}
+		}
+		return offloaded;
+	}
+
+	private void touch(Object key) {
+		lastAccess.put(key, System.nanoTime());
+	}
+
+	private boolean offload(Object key) {
+		synchronized (lockFor(key)) {
+			ValueWrapper cached = delegate.get(key);
+			if (cached == null || cached.get() == null) {
+				lastAccess.remove(key);
+				return false;
+			}
+			try {
+				if (!store.put(key, mapper.writeValueAsBytes(cached.get()))) {
+					return false;
+				}
+			} catch (IOException ex) {
+				logger.warn("Could not offload {} key {}: {}", getName(), key, ex.getMessage());
+				return false;
+			}
+			delegate.evict(key);
+			return true;
+		}
+	}
+
+	private Object restore(Object key) {
+		synchronized (lockFor(key)) {
+			byte[] snapshot = store.remove(key);
+			if (snapshot == null) {
+				return null;
+			}
+			try {
+				Object value = mapper.readValue(snapshot, valueType);
+				ValueWrapper existing = delegate.putIfAbsent(key, value);
+				return existing != null ? existing.get() : value;
+			} catch (IOException ex) {
+				logger.warn("Could not restore {} key {}: {}", getName(), key, ex.getMessage());
+				return null;
+			}
+		}
+	}
+
+	private Object lockFor(Object key) {
+		return locks[Math.floorMod(key.hashCode(), LOCK_STRIPES)];
+	}
+}
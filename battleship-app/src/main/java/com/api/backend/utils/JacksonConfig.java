@@ -0,0 +1,72 @@
+package com.api.backend.utils;
+
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+/**
+ * The Class JacksonConfig provides the Jackson settings shared by all API responses.
+ */
+@Configuration
+public class JacksonConfig {
+
+	/**
+	 * Registers the game fields filter so that games serialize all their
+	 * properties unless a request narrows them down with the fields parameter.
+	 *
+	 * @return the object mapper builder customizer
+	 */
+	@Bean
+	public Jackson2ObjectMapperBuilderCustomizer gameFieldsFilterCustomizer() {
+		return builder -> builder.filters(
+				new SimpleFilterProvider().addFilter(Constants.GAME_FIELDS_FILTER, SimpleBeanPropertyFilter.serializeAll()));
+	}
+
+	/**
+	 * Replaces the default JSON message converter with one that reuses the encoded
+	 * bytes of cached game views.
+	 *
+	 * @param objectMapper the object mapper configured by Spring Boot
+	 * @param cacheManager the cache manager holding the game views cache
+	 * @return the JSON message converter
+	 */
+	@Bean
+	public GameViewCachingJsonConverter mappingJackson2HttpMessageConverter(ObjectMapper objectMapper,
+			CacheManager cacheManager) {
+		return new GameViewCachingJsonConverter(objectMapper, cacheManager);
+	}
+
+	/**
+	 * Reads and writes application/cbor bodies with the same Jackson settings as
+	 * JSON, selected through the Accept and Content-Type headers.
+	 *
+	 * @param builder the object mapper builder configured by Spring Boot
+	 * @return the CBOR message converter
+	 */
+	@Bean
+	public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+		return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+	}
+
+	/**
+	 * Reads and writes application/x-jackson-smile bodies with the same Jackson
+	 * settings as JSON, selected through the Accept and Content-Type headers.
+	 *
+	 * @param builder the object mapper builder configured by Spring Boot
+	 * @return the Smile message converter
+	 */
+	@Bean
+	public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+		return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+	}
+}
@@ -1,6 +1,7 @@
 package com.api.backend.utils;
 
 import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLongArray;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -10,13 +11,19 @@ import org.aspectj.lang.annotation.Aspect;
 import org.springframework.stereotype.Component;
 
 import com.api.backend.exception.BattleshipApplicationException;
+import com.api.backend.exception.InvalidMoveException;
 import com.api.backend.exception.InvalidPlayerDataException;
+import com.api.backend.exception.MoveRejection;
 import com.api.backend.exception.ValidationException;
 
 /**
  * The LoggingAspect class is an Aspect-oriented Programming (AOP) component that provides logging capabilities
  * for various components in the Battleship API application. It intercepts method executions in controller, service,
- * utils, and repository classes, logs method entry and exit with parameters and return values, and logs execution time.
+ * store, utils, and repository classes, logs method entry and exit with parameters and return values, and logs execution time.
+ * Rejected game play turns are expected, so they are logged on a single line at most once per
+ * {@link Constants#REJECTED_MOVE_LOG_INTERVAL_MS} for each {@link MoveRejection}, with the number of rejections skipped meanwhile.
+ * A rejection crosses every advised layer on its way out, so it is only recorded by the outermost one.
+ * The parameters and return values are only rendered when INFO logging is enabled for this class.
  */
 @Component
 @Aspect
@@ -24,8 +31,14 @@ public class LoggingAspect {
 
     private final Logger logger = LogManager.getLogger(LoggingAspect.class);
 
+    private final AtomicLongArray nextRejectedMoveLog = new AtomicLongArray(MoveRejection.values().length);
+
+    private final AtomicLongArray skippedRejectedMoves = new AtomicLongArray(MoveRejection.values().length);
+
+    private final ThreadLocal<int[]> adviceDepth = ThreadLocal.withInitial(() -> new int[1]);
+
     /**
-     * Logs method entry, parameters, and execution time for all methods in controller, service, utils, and repository
+     * Logs method entry, parameters, and execution time for all methods in controller, service, store, utils, and repository
      * classes. Also, logs method exit with the return value if available.
      *
      * @param joinPoint the ProceedingJoinPoint representing the intercepted method execution
@@ -35,23 +48,38 @@ public class LoggingAspect {
     @Around("execution(* com.api.backend.controller.*.*(..)) || " +
             "execution(* com.api.backend.service.*.*(..)) || " +
             "execution(* com.api.backend.utils.*.*(..)) || " +
+            "execution(* com.api.backend.store.*.*(..)) || " +
             "execution(* com.api.backend.repository.*.*(..))")
     public Object logAroundAllMethods(ProceedingJoinPoint joinPoint) throws Throwable {
         long startTime = System.currentTimeMillis();
         String className = joinPoint.getSignature().getDeclaringTypeName();
         String methodName = joinPoint.getSignature().getName();
-        String data = Arrays.toString(joinPoint.getArgs());
-
-        logger.info("Entering into {}.{}() with param: {}", className, methodName, data);
+        boolean traced = logger.isInfoEnabled();
+        if (traced) {
+            String data = Arrays.toString(joinPoint.getArgs());
+            logger.info("Entering into {}.{}() with param: {}", className, methodName, data);
+        }
 
         Object result;
+        int[] depth = adviceDepth.get();
+        depth[0]++;
         try {
             result = joinPoint.proceed();
+        } catch (InvalidMoveException exception) {
+            if (depth[0] == 1) {
+                logRejectedMove(className, methodName, exception);
+            }
+            throw exception;
         } catch (Exception exception) {
             logException(className, methodName, exception);
             throw exception;
+        } finally {
+            depth[0]--;
         }
 
+        if (!traced) {
+            return result;
+        }
         if (result != null) {
             String objectAsString = result.toString();
             logger.info("Exiting {}.{}() with result: {}", className, methodName, objectAsString);
@@ -67,6 +95,36 @@ public class LoggingAspect {
         return result;
     }
 
+    /**
+     * Logs a rejected game play turn unless the same rejection was logged less than
+     * {@link Constants#REJECTED_MOVE_LOG_INTERVAL_MS} ago, in which case it is only counted.
+     *
+     * @param className the name of the class rejecting the turn
+     * @param methodName the name of the method rejecting the turn
+     * @param exception the rejection
+     */
+    private void logRejectedMove(String className, String methodName, InvalidMoveException exception) {
+        int rejection = exception.getRejection().ordinal();
+        long now = System.currentTimeMillis();
+        long next = nextRejectedMoveLog.get(rejection);
+        if (now < next || !nextRejectedMoveLog.compareAndSet(rejection, next, now + Constants.REJECTED_MOVE_LOG_INTERVAL_MS)) {
+            skippedRejectedMoves.incrementAndGet(rejection);
+            return;
+        }
+        logger.warn("Rejected move {} in {}.{}(), {} rejections not logged since the last one",
+                exception.getRejection(), className, methodName, skippedRejectedMoves.getAndSet(rejection, 0));
+    }
+
+    /**
+     * Returns the rejections of a kind counted but not logged since the last one was logged.
+     *
+     * @param rejection the kind of rejection
+     * @return the number of rejections not logged
+     */
+    long getSkippedRejectedMoves(MoveRejection rejection) {
+        return skippedRejectedMoves.get(rejection.ordinal());
+    }
+
     /**
      * Logs detailed information about the exception occurred during method execution, including class name,
      * method name, and exception message. For known application-specific exceptions (BattleshipApplicationException,
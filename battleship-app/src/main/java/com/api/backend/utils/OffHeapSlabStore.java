@@ -0,0 +1,148 @@
+package com.api.backend.utils;
+
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The OffHeapSlabStore class keeps byte arrays outside the Java heap. A single
+ * direct buffer is split into fixed size blocks; a value occupies as many blocks
+ * as it needs, and only its block numbers stay on the heap. When the free blocks
+ * do not fit a new value, the least recently used values are dropped until they
+ * do.
+ */
+public class OffHeapSlabStore {
+
+	private final ByteBuffer slab;
+
+	private final int blockSize;
+
+	private final int[] freeBlocks;
+
+	private int freeCount;
+
+	private final LinkedHashMap<Object, Slot> slots = new LinkedHashMap<>(16, 0.75f, true);
+
+	/**
+	 * Instantiates a new off heap slab store.
+	 *
+	 * @param capacityBytes the off heap memory to allocate
+	 * @param blockSize     the size of a block in bytes
+	 */
+	public OffHeapSlabStore(int capacityBytes, int blockSize) {
+		int blocks = capacityBytes / blockSize;
+		this.slab = ByteBuffer.allocateDirect(blocks * blockSize);
+		this.blockSize = blockSize;
+		this.freeBlocks = new int[blocks];
+		for (int i = 0; i < blocks; i++) {
+			freeBlocks[i] = blocks - 1 - i;
+		}
+		this.freeCount = blocks;
+	}
+
+	/**
+	 * Stores a value, replacing any value of the same key.
+	 *
+	 * @param key   the key
+	 * @param value the bytes to store
+	 * @return false if the value is larger than the whole store, true otherwise
+	 */
+	public synchronized boolean put(Object key, byte[] value) {
+		release(slots.remove(key));
+		int needed = Math.max(1, (value.length + blockSize - 1) / blockSize);
+		if (needed > freeBlocks.length) {
+			return false;
+		}
+		Iterator<Slot> eldest = slots.values().iterator();
+		while (freeCount < needed) {
+			release(eldest.next());
+			eldest.remove();
+		}
+		int[] blocks = new int[needed];
+		for (int i = 0; i < needed; i++) {
+			blocks[i] = freeBlocks[--freeCount];
+			int offset = i * blockSize;
+			slab.put(blocks[i] * blockSize, value, offset, Math.min(blockSize, value.length - offset));
+		}
+		slots.put(key, new Slot(blocks, value.length));
+		return true;
+	}
+
+	/**
+	 * Reads a value and marks it as recently used.
+	 *
+	 * @param key the key
+	 * @return a heap copy of the value, or null when absent
+	 */
+	public synchronized byte[] get(Object key) {
+		Slot slot = slots.get(key);
+		return slot != null ? read(slot) : null;
+	}
+
+	/**
+	 * Removes a value.
+	 *
+	 * @param key the key
+	 * @return a heap copy of the removed value, or null when absent
+	 */
+	public synchronized byte[] remove(Object key) {
+		Slot slot = slots.remove(key);
+		if (slot == null) {
+			return null;
+		}
+		byte[] value = read(slot);
+		release(slot);
+		return value;
+	}
+
+	/**
+	 * Removes all values.
+	 */
+	public synchronized void clear() {
+		for (Map.Entry<Object, Slot> entry : slots.entrySet()) {
+			release(entry.getValue());
+		}
+		slots.clear();
+	}
+
+	public synchronized int size() {
+		return slots.size();
+	}
+
+	public synchronized long usedBytes() {
+		return (long) (freeBlocks.length - freeCount) * blockSize;
+	}
+
+	private byte[] read(Slot slot) {
+		byte[] value = new byte[slot.length];
+		for (int i = 0; i < slot.blocks.length; i++) {
+			int offset = i * blockSize;
+			slab.get(slot.blocks[i] * blockSize, value, offset, Math.min(blockSize, slot.length - offset));
+		}
+		return value;
+	}
+
+	private void release(Slot slot) {
+		if (slot != null) {
+			for (int block : slot.blocks) {
+				freeBlocks[freeCount++] = block;
+			}
+		}
+	}
+
+	/**
+	 * The blocks and length of a stored value.
+	 */
+	private static final class Slot {
+
+		private final int[] blocks;
+
+		private final int length;
+
+		private Slot(int[] blocks, int length) {
+			this.blocks = blocks;
+			this.length = length;
+		}
+	}
+}
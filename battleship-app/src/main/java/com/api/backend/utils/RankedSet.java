@@ -0,0 +1,215 @@
+package com.api.backend.utils;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * The RankedSet class is a sorted set that also answers positional queries: the
+ * rank of an element and the element at a rank. It is a treap whose nodes count
+ * the size of their subtree, so adding, removing, ranking and seeking an index
+ * take O(log n) expected time, and a page of k elements costs O(log n + k).
+ * <p>
+ * Elements are ordered by the comparator only; two elements comparing equal are
+ * the same element. The set is not thread safe.
+ *
+ * @param <E> the element type
+ */
+public class RankedSet<E> {
+
+	private final Comparator<? super E> comparator;
+
+	private Node<E> root;
+
+	/**
+	 * Instantiates a new empty ranked set.
+	 *
+	 * @param comparator the order of the elements, lowest rank first
+	 */
+	public RankedSet(Comparator<? super E> comparator) {
+		this.comparator = comparator;
+	}
+
+	/**
+	 * Returns the number of elements.
+	 *
+	 * @return the size
+	 */
+	public int size() {
+		return sizeOf(root);
+	}
+
+	/**
+	 * Adds an element.
+	 *
+	 * @param element the element
+	 * @return true if the element was not already in the set
+	 */
+	public boolean add(E element) {
+		if (rankOf(element) >= 0) {
+			return false;
+		}
+		Node<E>[] split = split(root, element);
+		root = merge(merge(split[0], new Node<>(element, ThreadLocalRandom.current().nextInt())), split[1]);
+		return true;
+	}
+
+	/**
+	 * Removes an element.
+	 *
+	 * @param element the element
+	 * @return true if the element was in the set
+	 */
+	public boolean remove(E element) {
+		int size = size();
+		root = remove(root, element);
+		return size() < size;
+	}
+
+	/**
+	 * Returns the rank of an element.
+	 *
+	 * @param element the element
+	 * @return the number of lower elements, or -1 when the element is absent
+	 */
+	public int rankOf(E element) {
+		int rank = 0;
+		Node<E> node = root;
+		while (node != null) {
+			int c = comparator.compare(element, node.element);
+			if (c < 0) {
+				node = node.left;
+			} else if (c > 0) {
+				rank += sizeOf(node.left) + 1;
+				node = node.right;
+			} else {
+				return rank + sizeOf(node.left);
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Returns the elements from a rank on.
+	 *
+	 * @param fromRank the rank of the first element, starting at 0
+	 * @param count    the maximum number of elements to return
+	 * @return the elements in order, empty when the rank is past the end
+	 */
+	public List<E> range(int fromRank, int count) {
+		List<E> elements = new ArrayList<>(Math.max(0, Math.min(count, size() - fromRank)));
+		// the path holds the nodes still to visit on the way up, the next one on top
+		Deque<Node<E>> path = new ArrayDeque<>();
+		Node<E> node = root;
+		int index = fromRank;
+		while (node != null) {
+			int leftSize = sizeOf(node.left);
+			if (index <= leftSize) {
+				path.push(node);
+				if (index == leftSize) {
+					break;
+				}
+				node = node.left;
+			} else {
+				index -= leftSize + 1;
+				node = node.right;
+			}
+		}
+		while (!path.isEmpty() && elements.size() < count) {
+			Node<E> next = path.pop();
+			elements.add(next.element);
+			for (Node<E> child = next.right; child != null; child = child.left) {
+				path.push(child);
+			}
+		}
+		return elements;
+	}
+
+	/**
+	 * Splits a subtree into the elements lower than a key and the others.
+	 */
+	@SuppressWarnings("unchecked")
+	private Node<E>[] split(Node<E> node, E key) {
+		if (node == null) {
+			return new Node[2];
+		}
+		Node<E>[] split;
+		if (comparator.compare(node.element, key) < 0) {
+			split = split(node.right, key);
+			node.right = split[0];
+			split[0] = node.update();
+		} else {
+			split = split(node.left, key);
+			node.left = split[1];
+			split[1] = node.update();
+		}
+		return split;
+	}
+
+	/**
+	 * Merges two subtrees, all elements of the first being lower.
+	 */
+	private Node<E> merge(Node<E> lower, Node<E> higher) {
+		if (lower == null) {
+			return higher;
+		}
+		if (higher == null) {
+			return lower;
+		}
+		if (lower.priority > higher.priority) {
+			lower.right = merge(lower.right, higher);
+			return lower.update();
+		}
+		higher.left = merge(lower, higher.left);
+		return higher.update();
+	}
+
+	private Node<E> remove(Node<E> node, E element) {
+		if (node == null) {
+			return null;
+		}
+		int c = comparator.compare(element, node.element);
+		if (c == 0) {
+			return merge(node.left, node.right);
+		}
+		if (c < 0) {
+			node.left = remove(node.left, element);
+		} else {
+			node.right = remove(node.right, element);
+		}
+		return node.update();
+	}
+
+	private static int sizeOf(Node<?> node) {
+		return node == null ? 0 : node.size;
+	}
+
+	/**
+	 * A treap node: ordered by element, heap ordered by priority.
+	 */
+	private static final class Node<E> {
+
+		private final E element;
+
+		private final int priority;
+
+		private int size = 1;
+
+		private Node<E> left;
+
+		private Node<E> right;
+
+		private Node(E element, int priority) {
+			this.element = element;
+			this.priority = priority;
+		}
+
+		private Node<E> update() {
+			size = sizeOf(left) + sizeOf(right) + 1;
+			return this;
+		}
+	}
+}
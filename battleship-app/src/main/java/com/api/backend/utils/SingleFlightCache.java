@@ -0,0 +1,159 @@
+package com.api.backend.utils;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.springframework.cache.Cache;
+
+/**
+ * The SingleFlightCache decorates a cache so that concurrent misses on the same
+ * key share a single load. It backs every {@code @Cacheable(sync = true)}
+ * method: the first caller runs the loader, the others wait for its result or
+ * its exception. Unlike {@code ConcurrentHashMap.computeIfAbsent} the load runs
+ * outside any map lock, so a slow load never blocks other keys or evictions.
+ * An eviction during a load invalidates that flight: its value is still
+ * handed to the callers already waiting, but it is not stored, and later
+ * callers start a fresh load.
+ */
+public class SingleFlightCache implements Cache {
+
+	private final Cache delegate;
+
+	private final ConcurrentMap<Object, Flight> inFlight = new ConcurrentHashMap<>();
+
+	/**
+	 * Instantiates a new single flight cache.
+	 *
+	 * @param delegate the cache holding the loaded values
+	 */
+	public SingleFlightCache(Cache delegate) {
+		this.delegate = delegate;
+	}
+
+	@Override
+	public String getName() {
+		return delegate.getName();
+	}
+
+	@Override
+	public Object getNativeCache() {
+		return delegate.getNativeCache();
+	}
+
+	@Override
+	public ValueWrapper get(Object key) {
+		return delegate.get(key);
+	}
+
+	@Override
+	public <T> T get(Object key, Class<T> type) {
+		return delegate.get(key, type);
+	}
+
+	/**
+	 * Returns the cached value, or loads it once for all concurrent callers.
+	 *
+	 * @param key         the cache key
+	 * @param valueLoader the loader invoked on a miss
+	 * @return the cached or loaded value
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> T get(Object key, Callable<T> valueLoader) {
+		ValueWrapper cached = delegate.get(key);
+		if (cached != null) {
+			return (T) cached.get();
+		}
+		Flight flight = new Flight();
+		Flight leader = inFlight.putIfAbsent(key, flight);
+		if (leader != null) {
+			return (T) await(key, valueLoader, leader);
+		}
+		try {
+			// another flight may have completed between the miss and the registration
+			cached = delegate.get(key);
+			Object value = cached != null ? cached.get() : valueLoader.call();
+			if (cached == null && !flight.invalidated) {
+				delegate.put(key, value);
+				// an eviction may have raced with the put; it must win
+				if (flight.invalidated) {
+					delegate.evict(key);
+				}
+			}
+			flight.complete(value);
+			return (T) value;
+		} catch (Exception ex) {
+			flight.completeExceptionally(ex);
+			throw new ValueRetrievalException(key, valueLoader, ex);
+		} finally {
+			inFlight.remove(key, flight);
+		}
+	}
+
+	@Override
+	public void put(Object key, Object value) {
+		delegate.put(key, value);
+	}
+
+	@Override
+	public ValueWrapper putIfAbsent(Object key, Object value) {
+		return delegate.putIfAbsent(key, value);
+	}
+
+	@Override
+	public void evict(Object key) {
+		invalidateFlight(key);
+		delegate.evict(key);
+	}
+
+	@Override
+	public boolean evictIfPresent(Object key) {
+		invalidateFlight(key);
+		return delegate.evictIfPresent(key);
+	}
+
+	@Override
+	public void clear() {
+		invalidateFlights();
+		delegate.clear();
+	}
+
+	@Override
+	public boolean invalidate() {
+		invalidateFlights();
+		return delegate.invalidate();
+	}
+
+	private void invalidateFlight(Object key) {
+		Flight flight = inFlight.remove(key);
+		if (flight != null) {
+			flight.invalidated = true;
+		}
+	}
+
+	private void invalidateFlights() {
+		for (Object key : inFlight.keySet()) {
+			invalidateFlight(key);
+		}
+	}
+
+	private Object await(Object key, Callable<?> valueLoader, Flight leader) {
+		try {
+			return leader.join();
+		} catch (CompletionException ex) {
+			throw new ValueRetrievalException(key, valueLoader, ex.getCause());
+		}
+	}
+
+	/**
+	 * The Flight class is a load shared by the concurrent misses on one key,
+	 * marked once an eviction makes its result stale.
+	 */
+	private static final class Flight extends CompletableFuture<Object> {
+
+		private volatile boolean invalidated;
+	}
+}
@@ -0,0 +1,300 @@
+package com.api.backend.utils;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+/**
+ * The StaleWhileRevalidateCache decorates a cache so that every entry carries
+ * the time it was loaded. Reads younger than the soft ttl are served as is,
+ * reads between the soft and the hard ttl are served stale while a single
+ * asynchronous refresh runs, and reads older than the hard ttl block on a
+ * reload. A caller that needs the age of the value it was served wraps its
+ * read in {@link #withServedAge(Supplier)}; reads outside such a call record
+ * nothing, so no age is ever left behind on a pooled thread.
+ *
+ * Background refreshes go through an explicit refresh loader rather than the
+ * value loader of the read that found the entry stale, which belongs to a
+ * request that has returned by the time the refresh runs. An entry the refresh
+ * loader no longer finds is evicted. Failed refreshes are counted, and the
+ * stale entry is served until the hard ttl.
+ *
+ * The delegate must expose a {@link ConcurrentMap} as native cache so that a
+ * refresh only replaces the entry it was started for; an entry evicted by a
+ * turn in the meantime is never overwritten by an older load.
+ */
+public class StaleWhileRevalidateCache implements Cache {
+
+	private static final Logger logger = LogManager.getLogger(StaleWhileRevalidateCache.class);
+
+	private static final ThreadLocal<long[]> SERVED_AGE = new ThreadLocal<>();
+
+	private final Cache delegate;
+
+	private final long softTtlNanos;
+
+	private final long hardTtlNanos;
+
+	private final Executor refreshExecutor;
+
+	private final Function<Object, Optional<?>> refreshLoader;
+
+	private final Set<Object> refreshing = ConcurrentHashMap.newKeySet();
+
+	private final AtomicLong refreshFailures = new AtomicLong();
+
+	/**
+	 * Instantiates a new stale while revalidate cache. A ttl of zero or less
+	 * disables the corresponding expiry.
+	 *
+	 * @param delegate        the cache holding the timestamped entries
+	 * @param softTtlMillis   the age after which entries are refreshed in the background
+	 * @param hardTtlMillis   the age after which entries are reloaded synchronously
+	 * @param refreshExecutor the executor running background refreshes
+	 * @param refreshLoader   the loader of the current value of a key, empty
+	 *                        when the key no longer exists
+	 */
+	public StaleWhileRevalidateCache(Cache delegate, long softTtlMillis, long hardTtlMillis,
+			Executor refreshExecutor, Function<Object, Optional<?>> refreshLoader) {
+		this.delegate = delegate;
+		this.hardTtlNanos = hardTtlMillis > 0 ? TimeUnit.MILLISECONDS.toNanos(hardTtlMillis) : Long.MAX_VALUE;
+		this.softTtlNanos = softTtlMillis > 0 ? Math.min(TimeUnit.MILLISECONDS.toNanos(softTtlMillis), hardTtlNanos)
+				: hardTtlNanos;
+		this.refreshExecutor = refreshExecutor;
+		this.refreshLoader = refreshLoader;
+	}
+
+	/**
+	 * Runs a read and returns its result with the age in milliseconds of the last
+	 * value any stale while revalidate cache served during the read. The age is
+	 * only recorded for the duration of the read, and the previous recording of
+	 * an enclosing read is restored afterwards.
+	 *
+	 * @param <T>  the type of the result
+	 * @param read the read going through the caches
+	 * @return the result of the read and the served age, -1 when no cached value
+	 *         was served
+	 */
+	public static <T> Served<T> withServedAge(Supplier<T> read) {
+		long[] enclosing = SERVED_AGE.get();
+		long[] age = { -1 };
+		SERVED_AGE.set(age);
+		try {
+			return new Served<>(read.get(), age[0]);
+		} finally {
+			if (enclosing != null) {
+				SERVED_AGE.set(enclosing);
+			} else {
+				SERVED_AGE.remove();
+			}
+		}
+	}
+
+	@Override
+	public String getName() {
+		return delegate.getName();
+	}
+
+	@Override
+	public Object getNativeCache() {
+		return delegate.getNativeCache();
+	}
+
+	@Override
+	public ValueWrapper get(Object key) {
+		Entry entry = currentEntry(key);
+		if (entry == null || entry.age(System.nanoTime()) >= hardTtlNanos) {
+			return null;
+		}
+		return new SimpleValueWrapper(entry.value);
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> T get(Object key, Class<T> type) {
+		ValueWrapper wrapper = get(key);
+		Object value = wrapper != null ? wrapper.get() : null;
+		if (value != null && type != null && !type.isInstance(value)) {
+			throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+		}
+		return (T) value;
+	}
+
+	/**
+	 * Returns the cached value according to its age, loading it when missing or
+	 * past the hard ttl and refreshing it in the background with the refresh
+	 * loader when past the soft ttl.
+	 *
+	 * @param key         the cache key
+	 * @param valueLoader the loader invoked on a miss
+	 * @return the cached or loaded value
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> T get(Object key, Callable<T> valueLoader) {
+		Entry entry = currentEntry(key);
+		if (entry != null) {
+			long age = entry.age(System.nanoTime());
+			if (age < hardTtlNanos) {
+				if (age >= softTtlNanos) {
+					refresh(key, entry);
+				}
+				recordServedAge(age);
+				return (T) entry.value;
+			}
+			nativeMap().remove(key, entry);
+		}
+		Entry loaded = delegate.get(key, () -> new Entry(valueLoader.call(), System.nanoTime()));
+		recordServedAge(loaded.age(System.nanoTime()));
+		return (T) loaded.value;
+	}
+
+	@Override
+	public void put(Object key, Object value) {
+		delegate.put(key, new Entry(value, System.nanoTime()));
+	}
+
+	@Override
+	public ValueWrapper putIfAbsent(Object key, Object value) {
+		ValueWrapper existing = delegate.putIfAbsent(key, new Entry(value, System.nanoTime()));
+		return existing != null ? new SimpleValueWrapper(((Entry) existing.get()).value) : null;
+	}
+
+	@Override
+	public void evict(Object key) {
+		delegate.evict(key);
+	}
+
+	@Override
+	public boolean evictIfPresent(Object key) {
+		return delegate.evictIfPresent(key);
+	}
+
+	@Override
+	public void clear() {
+		delegate.clear();
+	}
+
+	@Override
+	public boolean invalidate() {
+		return delegate.invalidate();
+	}
+
+	private Entry currentEntry(Object key) {
+		ValueWrapper wrapper = delegate.get(key);
+		return wrapper != null ? (Entry) wrapper.get() : null;
+	}
+
+	@SuppressWarnings("unchecked")
+	private ConcurrentMap<Object, Object> nativeMap() {
+		return (ConcurrentMap<Object, Object>) delegate.getNativeCache();
+	}
+
+	/**
+	 * Returns the number of background refreshes that failed.
+	 *
+	 * @return the failed refreshes
+	 */
+	public long getRefreshFailures() {
+		return refreshFailures.get();
+	}
+
+	private static void recordServedAge(long ageNanos) {
+		long[] age = SERVED_AGE.get();
+		if (age != null) {
+			age[0] = TimeUnit.NANOSECONDS.toMillis(ageNanos);
+		}
+	}
+
+	private void refresh(Object key, Entry stale) {
+		if (!refreshing.add(key)) {
+			return;
+		}
+		try {
+			refreshExecutor.execute(() -> {
+				try {
+					Optional<?> value = refreshLoader.apply(key);
+					if (value.isPresent()) {
+						nativeMap().replace(key, stale, new Entry(value.get(), System.nanoTime()));
+					} else {
+						nativeMap().remove(key, stale);
+					}
+				} catch (RuntimeException ex) {
+					refreshFailures.incrementAndGet();
+					logger.error("Background refresh of {} key {} failed", getName(), key, ex);
+				} finally {
+					refreshing.remove(key);
+				}
+			});
+		} catch (RuntimeException ex) {
+			// refresh executor saturated, the next stale read retries
+			refreshing.remove(key);
+		}
+	}
+
+	/**
+	 * A cached value with the time it was loaded.
+	 */
+	private static final class Entry {
+
+		private final Object value;
+
+		private final long loadedAt;
+
+		private Entry(Object value, long loadedAt) {
+			this.value = value;
+			this.loadedAt = loadedAt;
+		}
+
+		private long age(long now) {
+			return now - loadedAt;
+		}
+	}
+
+	/**
+	 * The result of a read with the age of the cached value it was served.
+	 *
+	 * @param <T> the type of the result
+	 */
+	public static final class Served<T> {
+
+		private final T value;
+
+		private final long age;
+
+		private Served(T value, long age) {
+			this.value = value;
+			this.age = age;
+		}
+
+		/**
+		 * Returns the result of the read.
+		 *
+		 * @return the result
+		 */
+		public T getValue() {
+			return value;
+		}
+
+		/**
+		 * Returns the age in milliseconds of the served value.
+		 *
+		 * @return the age, -1 when no cached value was served
+		 */
+		public long getAge() {
+			return age;
+		}
+	}
+}
@@ -0,0 +1,208 @@
+package com.api.backend;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.core.config.Configurator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.TestPropertySource;
+
+import com.api.backend.dto.GameDTO;
+import com.api.backend.entity.ShipEntity;
+import com.api.backend.repository.ShipRepository;
+import com.api.backend.request.GameCreationRequest;
+import com.api.backend.request.GamePlayRequest;
+import com.api.backend.request.GameShipLocationRequest;
+import com.api.backend.request.GameShipRequest;
+import com.api.backend.request.PlayerInputRequest;
+import com.api.backend.service.GameService;
+import com.api.backend.service.PlayerService;
+import com.api.backend.utils.LoggingAspect;
+
+/**
+ * Measures the bytes allocated on the calling thread by the request hot paths
+ * and fails when a path exceeds its budget from allocation-budgets.properties.
+ * Each path is warmed up first so that class loading and lazily built caches
+ * are not charged to it. The entry and exit logging of {@link LoggingAspect} is
+ * turned down to WARN while measuring, so that the budgets track the request
+ * paths rather than the rendering of their parameters. The test runs on a
+ * database of its own, dropped with its context, so that its players, games and
+ * ship catalog neither leak into the other tests nor depend on them.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:allocationdb;MODE=MYSQL")
+@DirtiesContext
+@TestPropertySource(locations = "classpath:allocation-budgets.properties")
+class AllocationBudgetTest {
+
+	private static final Logger logger = LogManager.getLogger(AllocationBudgetTest.class);
+
+	private static final int WARMUP = 20;
+
+	private static final int ITERATIONS = 40;
+
+	/**
+	 * The extra bytes the regression test allocates in each measured turn, a
+	 * fraction of the player turn budget that the headroom must not absorb.
+	 */
+	private static final int REGRESSION_BYTES = 32 * 1024;
+
+	private static final com.sun.management.ThreadMXBean THREADS = (com.sun.management.ThreadMXBean) ManagementFactory
+			.getThreadMXBean();
+
+	@Autowired
+	private GameService gameService;
+
+	@Autowired
+	private PlayerService playerService;
+
+	@Autowired
+	private ShipRepository shipRepository;
+
+	@Value("${allocation.budget.create-player}")
+	private long createPlayerBudget;
+
+	@Value("${allocation.budget.create-game}")
+	private long createGameBudget;
+
+	@Value("${allocation.budget.player-turn}")
+	private long playerTurnBudget;
+
+	@Value("${allocation.budget.fetch-game-details}")
+	private long fetchGameDetailsBudget;
+
+	private static volatile byte[] regression;
+
+	private static int players;
+
+	private Level aspectLevel;
+
+	@BeforeEach
+	void quietLoggingAspect() {
+		aspectLevel = LogManager.getLogger(LoggingAspect.class).getLevel();
+		Configurator.setLevel(LoggingAspect.class.getName(), Level.WARN);
+	}
+
+	@AfterEach
+	void restoreLoggingAspect() {
+		Configurator.setLevel(LoggingAspect.class.getName(), aspectLevel);
+	}
+
+	@Test
+	void testHotPaths_StayWithinAllocationBudget() {
+		assumeTrue(THREADS.isThreadAllocatedMemorySupported());
+		List<String> exceeded = exceededBudgets(() -> {
+		});
+		assertTrue(exceeded.isEmpty(), String.join("; ", exceeded));
+	}
+
+	@Test
+	void testHotPaths_SmallRegressionExceedsTheBudget() {
+		assumeTrue(THREADS.isThreadAllocatedMemorySupported());
+		List<String> exceeded = exceededBudgets(() -> regression = new byte[REGRESSION_BYTES]);
+		assertEquals(1, exceeded.size(), String.join("; ", exceeded));
+		assertTrue(exceeded.get(0).startsWith("playerTurn "), exceeded.get(0));
+	}
+
+	/**
+	 * Measures the hot paths and compares them with their budgets.
+	 *
+	 * @param turnOverhead extra work charged to each measured player turn
+	 * @return a description of every path that exceeded its budget
+	 */
+	private List<String> exceededBudgets(Runnable turnOverhead) {
+		THREADS.setThreadAllocatedMemoryEnabled(true);
+		List<GameShipRequest> fleet = fleet();
+		for (int i = 0; i < WARMUP; i++) {
+			playRound(fleet, turnOverhead, new long[4]);
+		}
+
+		long[] allocated = new long[4];
+		for (int i = 0; i < ITERATIONS; i++) {
+			playRound(fleet, turnOverhead, allocated);
+		}
+
+		Map<String, long[]> budgets = new LinkedHashMap<>();
+		budgets.put("createPlayer", new long[] { allocated[0] / (2 * ITERATIONS), createPlayerBudget });
+		budgets.put("createGame", new long[] { allocated[1] / ITERATIONS, createGameBudget });
+		budgets.put("playerTurn", new long[] { allocated[2] / ITERATIONS, playerTurnBudget });
+		budgets.put("fetchGameDetails", new long[] { allocated[3] / ITERATIONS, fetchGameDetailsBudget });
+		List<String> exceeded = new ArrayList<>();
+		budgets.forEach((path, bytes) -> {
+			logger.info("{}: {} bytes per call, budget {}", path, bytes[0], bytes[1]);
+			if (bytes[0] > bytes[1]) {
+				exceeded.add(path + " allocated " + bytes[0] + " bytes per call, budget is " + bytes[1]);
+			}
+		});
+		return exceeded;
+	}
+
+	/**
+	 * Plays one round of the hot paths: two players join, create a game, the first
+	 * player fires and the game is fetched again after the turn evicted it.
+	 *
+	 * @param fleet        the ship placements used by both players
+	 * @param turnOverhead extra work charged to the player turn
+	 * @param allocated    the bytes allocated so far by createPlayer, createGame,
+	 *                     playerTurn and fetchGameDetails
+	 */
+	private void playRound(List<GameShipRequest> fleet, Runnable turnOverhead, long[] allocated) {
+		String player1 = "Alloc" + players++;
+		String player2 = "Alloc" + players++;
+		allocated[0] += allocatedBytes(() -> playerService.createPlayer(new PlayerInputRequest(player1)));
+		allocated[0] += allocatedBytes(() -> playerService.createPlayer(new PlayerInputRequest(player2)));
+
+		List<GameCreationRequest> requests = List.of(new GameCreationRequest(player1, fleet),
+				new GameCreationRequest(player2, fleet));
+		AtomicReference<String> gameId = new AtomicReference<>();
+		allocated[1] += allocatedBytes(() -> gameId.set(gameService.createGame(requests)));
+
+		GameDTO summary = gameService.fetchGameSummary(gameId.get());
+		GamePlayRequest turn = new GamePlayRequest(gameId.get(), summary.getCurrentPlayerId(), location(9, 9));
+		allocated[2] += allocatedBytes(() -> {
+			gameService.playerTurn(turn);
+			turnOverhead.run();
+		});
+		allocated[3] += allocatedBytes(() -> gameService.fetchGameDetails(gameId.get()));
+	}
+
+	private long allocatedBytes(Runnable operation) {
+		long threadId = Thread.currentThread().getId();
+		long before = THREADS.getThreadAllocatedBytes(threadId);
+		operation.run();
+		return THREADS.getThreadAllocatedBytes(threadId) - before;
+	}
+
+	/**
+	 * Places a destroyer on the first row, so that the measured turn is a miss
+	 * rather than the turn completing a game without ships.
+	 */
+	private List<GameShipRequest> fleet() {
+		ShipEntity destroyer = new ShipEntity();
+		destroyer.setShipName("AllocationDestroyer");
+		destroyer.setShipLength(2);
+		destroyer = shipRepository.save(destroyer);
+		return List.of(GameShipRequest.builder().shipId(destroyer.getShipId())
+				.gameShipLocations(List.of(location(0, 0), location(0, 1))).build());
+	}
+
+	private GameShipLocationRequest location(int rowIndex, int columnIndex) {
+		return GameShipLocationRequest.builder().rowIndex(rowIndex).columnIndex(columnIndex).build();
+	}
+}
@@ -0,0 +1,87 @@
+package com.api.backend.bulkhead;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.servlet.FilterChain;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class BulkheadFilterTest {
+
+	private MeterRegistry meterRegistry;
+
+	private Bulkheads bulkheads;
+
+	private BulkheadFilter filter;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		MockEnvironment env = new MockEnvironment().withProperty("game.bulkhead.operations.threads", "1")
+				.withProperty("game.bulkhead.operations.queue", "0")
+				.withProperty("BulkheadFilter.FULL", "Busy");
+		meterRegistry = new SimpleMeterRegistry();
+		bulkheads = new Bulkheads(meterRegistry, env, 100);
+		filter = new BulkheadFilter(bulkheads, meterRegistry, new ObjectMapper(), env, true, 10, 2);
+	}
+
+	@Test
+	void testDoFilter_RunsInTheBulkheadOfTheEndpointClass() throws Exception {
+		AtomicReference<Bulkhead> running = new AtomicReference<>();
+
+		filter.doFilter(new MockHttpServletRequest("POST", "/game/v1/gameplay"), new MockHttpServletResponse(),
+				(request, response) -> running.set(Bulkhead.current()));
+
+		assertSame(bulkheads.get(EndpointClass.GAMEPLAY), running.get());
+		assertNull(Bulkhead.current());
+		assertEquals(0, meterRegistry.get("game.bulkhead.active").tag("class", "gameplay").gauge().value());
+	}
+
+	@Test
+	void testDoFilter_ClassifiesTheNormalizedPath() throws Exception {
+		AtomicReference<Bulkhead> running = new AtomicReference<>();
+
+		filter.doFilter(new MockHttpServletRequest("POST", "/game/v1/%67ameplay"), new MockHttpServletResponse(),
+				(request, response) -> running.set(Bulkhead.current()));
+		assertSame(bulkheads.get(EndpointClass.GAMEPLAY), running.get());
+
+		filter.doFilter(new MockHttpServletRequest("GET", "/game//v1/./leaderboard;jsessionid=1"),
+				new MockHttpServletResponse(), (request, response) -> running.set(Bulkhead.current()));
+		assertSame(bulkheads.get(EndpointClass.GAME_READ), running.get());
+	}
+
+	@Test
+	void testDoFilter_ActuatorBurstDoesNotTakeGameplayThreads() throws Exception {
+		MockHttpServletResponse rejected = new MockHttpServletResponse();
+		MockHttpServletResponse gameplay = new MockHttpServletResponse();
+		FilterChain scrape = (request, response) -> {
+			filter.doFilter(new MockHttpServletRequest("GET", "/actuator/threaddump"), rejected, (req, res) -> {
+			});
+			filter.doFilter(new MockHttpServletRequest("POST", "/game/v1/gameplay"), gameplay, (req, res) -> {
+			});
+		};
+
+		filter.doFilter(new MockHttpServletRequest("GET", "/actuator/beans"), new MockHttpServletResponse(), scrape);
+
+		assertEquals(503, rejected.getStatus());
+		assertEquals("2", rejected.getHeader(HttpHeaders.RETRY_AFTER));
+		assertTrue(rejected.getContentAsString().contains("Busy"));
+		assertEquals(200, gameplay.getStatus());
+		assertEquals(1, meterRegistry.get("game.bulkhead.rejected").tag("class", "operations")
+				.tag("reason", "queue-full").counter().count());
+	}
+}
@@ -0,0 +1,76 @@
+package com.api.backend.bulkhead;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import com.api.backend.bulkhead.Bulkhead.Admission;
+
+class BulkheadTest {
+
+	@Test
+	void testEnter_QueuesThenRejectsPastTheQueue() throws Exception {
+		Bulkhead bulkhead = new Bulkhead(EndpointClass.GAME_READ, 1, 1, 1, 100);
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			assertEquals(Admission.ADMITTED, bulkhead.enter(0));
+			assertSame(bulkhead, Bulkhead.current());
+			Future<Admission> queued = executor.submit(() -> {
+				Admission admission = bulkhead.enter(5_000);
+				bulkhead.exit();
+				return admission;
+			});
+			long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+			while (bulkhead.getQueueDepth() == 0 && System.nanoTime() < deadline) {
+				Thread.sleep(1);
+			}
+
+			assertEquals(1, bulkhead.getQueueDepth());
+			assertEquals(Admission.QUEUE_FULL, executor.submit(() -> bulkhead.enter(5_000)).get(5, TimeUnit.SECONDS));
+			bulkhead.exit();
+			assertNull(Bulkhead.current());
+			assertEquals(Admission.ADMITTED, queued.get(5, TimeUnit.SECONDS));
+			assertEquals(0, bulkhead.getActive());
+			assertEquals(0, bulkhead.getQueueDepth());
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	void testEnter_TimesOutInTheQueue() throws Exception {
+		Bulkhead bulkhead = new Bulkhead(EndpointClass.LOBBY, 1, 4, 1, 100);
+		assertEquals(Admission.ADMITTED, bulkhead.enter(0));
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			assertEquals(Admission.QUEUE_TIMEOUT, executor.submit(() -> bulkhead.enter(10)).get(5, TimeUnit.SECONDS));
+			assertEquals(0, bulkhead.getQueueDepth());
+			assertEquals(1, bulkhead.getActive());
+		} finally {
+			bulkhead.exit();
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	void testConstructor_RejectsInvalidSizes() {
+		assertThrows(IllegalArgumentException.class, () -> new Bulkhead(EndpointClass.GAMEPLAY, 0, 1, 1, 100));
+	}
+
+	@Test
+	void testOf_ClassifiesByPath() {
+		assertEquals(EndpointClass.GAMEPLAY, EndpointClass.of("/game/v1/gameplay"));
+		assertEquals(EndpointClass.LOBBY, EndpointClass.of("/game/v1/availableplayers"));
+		assertEquals(EndpointClass.GAME_READ, EndpointClass.of("/game/v1/leaderboard"));
+		assertEquals(EndpointClass.OPERATIONS, EndpointClass.of("/actuator/threaddump"));
+		assertEquals(EndpointClass.OPERATIONS, EndpointClass.of("/h2-console"));
+	}
+}
@@ -0,0 +1,71 @@
+package com.api.backend.bulkhead;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.SQLTransientConnectionException;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Test;
+
+import com.api.backend.bulkhead.Bulkhead.Admission;
+
+class PartitionedDataSourceTest {
+
+	@Test
+	void testGetConnection_ChargesTheBulkheadShareUntilClosed() throws Exception {
+		DataSource pool = mock(DataSource.class);
+		Connection pooled = mock(Connection.class);
+		when(pool.getConnection()).thenReturn(pooled);
+		PartitionedDataSource dataSource = new PartitionedDataSource(pool);
+		Bulkhead bulkhead = new Bulkhead(EndpointClass.GAME_READ, 2, 0, 1, 10);
+
+		assertEquals(Admission.ADMITTED, bulkhead.enter(0));
+		try {
+			Connection connection = dataSource.getConnection();
+			assertEquals(1, bulkhead.getConnectionsInUse());
+			assertThrows(SQLTransientConnectionException.class, dataSource::getConnection);
+
+			connection.close();
+			connection.close();
+			assertEquals(0, bulkhead.getConnectionsInUse());
+			verify(pooled, times(1)).close();
+			dataSource.getConnection().close();
+		} finally {
+			bulkhead.exit();
+		}
+		assertEquals(0, bulkhead.getConnectionsInUse());
+	}
+
+	@Test
+	void testGetConnection_OutsideTheBulkheadsBorrowsFromThePool() throws Exception {
+		DataSource pool = mock(DataSource.class);
+		Connection pooled = mock(Connection.class);
+		when(pool.getConnection()).thenReturn(pooled);
+
+		assertSame(pooled, new PartitionedDataSource(pool).getConnection());
+	}
+
+	@Test
+	void testGetConnection_ReleasesTheShareWhenThePoolFails() throws Exception {
+		DataSource pool = mock(DataSource.class);
+		when(pool.getConnection()).thenThrow(new SQLTransientConnectionException("pool exhausted"));
+		PartitionedDataSource dataSource = new PartitionedDataSource(pool);
+		Bulkhead bulkhead = new Bulkhead(EndpointClass.GAMEPLAY, 1, 0, 1, 10);
+
+		bulkhead.enter(0);
+		try {
+			assertThrows(SQLTransientConnectionException.class, dataSource::getConnection);
+			assertEquals(0, bulkhead.getConnectionsInUse());
+		} finally {
+			bulkhead.exit();
+		}
+	}
+}
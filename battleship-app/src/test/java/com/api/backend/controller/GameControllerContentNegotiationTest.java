@@ -0,0 +1,70 @@
+package com.api.backend.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.api.backend.utils.GameViewCachingJsonConverter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@SpringBootTest
+@AutoConfigureMockMvc(addFilters = false)
+class GameControllerContentNegotiationTest {
+
+	private static final MediaType APPLICATION_SMILE = MediaType.valueOf("application/x-jackson-smile");
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private MappingJackson2CborHttpMessageConverter cborConverter;
+
+	@Autowired
+	private MappingJackson2SmileHttpMessageConverter smileConverter;
+
+	@Autowired
+	private MappingJackson2HttpMessageConverter jsonConverter;
+
+	@Test
+	void testJsonConverter_ReusesCachedGameViews() {
+		assertTrue(jsonConverter instanceof GameViewCachingJsonConverter);
+	}
+
+	@Test
+	void testFetchGamesByPost_Cbor() throws Exception {
+		ObjectMapper cbor = cborConverter.getObjectMapper();
+
+		byte[] body = mockMvc
+				.perform(post("/game/v1/games").contentType(MediaType.APPLICATION_CBOR).accept(MediaType.APPLICATION_CBOR)
+						.content(cbor.writeValueAsBytes(List.of(UUID.randomUUID().toString()))))
+				.andExpect(status().isOk()).andExpect(content().contentType(MediaType.APPLICATION_CBOR)).andReturn()
+				.getResponse().getContentAsByteArray();
+
+		assertEquals(List.of(), cbor.readValue(body, List.class));
+	}
+
+	@Test
+	void testFetchGames_Smile() throws Exception {
+		byte[] body = mockMvc.perform(get("/game/v1/games").param("ids", UUID.randomUUID().toString())
+				.accept(APPLICATION_SMILE)).andExpect(status().isOk())
+				.andExpect(content().contentType(APPLICATION_SMILE)).andReturn().getResponse().getContentAsByteArray();
+
+		assertEquals(List.of(), smileConverter.getObjectMapper().readValue(body, List.class));
+	}
+}
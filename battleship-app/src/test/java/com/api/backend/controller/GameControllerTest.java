@@ -0,0 +1,242 @@
+package com.api.backend.controller;
+
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.mock.env.MockEnvironment;
+
+import com.api.backend.dto.GameDTO;
+import com.api.backend.dto.GameGridDTO;
+import com.api.backend.dto.GamePlayerDTO;
+import com.api.backend.dto.GameShipDTO;
+import com.api.backend.dto.PlayerDTO;
+import com.api.backend.dto.ShipDTO;
+import com.api.backend.exception.RateLimitExceededException;
+import com.api.backend.exception.ValidationException;
+import com.api.backend.filter.RateLimiter;
+import com.api.backend.request.GameCreationRequest;
+import com.api.backend.request.GamePlayRequest;
+import com.api.backend.request.PlayerInputRequest;
+import com.api.backend.response.GamePlayResponse;
+import com.api.backend.service.GameService;
+import com.api.backend.service.GameShipService;
+import com.api.backend.service.PlayerService;
+import com.api.backend.utils.CachedGameView;
+import com.api.backend.utils.Constants;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class GameControllerTest {
+
+    private GameController gameController;
+    private GameService gameService;
+    private GameShipService gameShipService;
+    private PlayerService playerService;
+
+    @BeforeEach
+    public void setUp() {
+        gameService = mock(GameService.class);
+        gameShipService = mock(GameShipService.class);
+        playerService = mock(PlayerService.class);
+        MockEnvironment env = new MockEnvironment().withProperty("game.rate-limit.gameplay-player.capacity", "2")
+                .withProperty("game.rate-limit.gameplay-player.refill-per-second", "0.001")
+                .withProperty("GameController.UNKNOWN_VIEW", "Unknown game view {0}.")
+                .withProperty("GameController.UNKNOWN_FIELDS", "Unknown game fields {0}, expected {1}.");
+        gameController = new GameController(gameService, gameShipService, playerService,
+                new RateLimiter(new SimpleMeterRegistry(), env, true, 1024), env);
+    }
+
+    @Test
+    public void testJoinGame() {
+        PlayerInputRequest inputRequest = new PlayerInputRequest();
+        PlayerDTO playerDTO = new PlayerDTO();
+        when(playerService.createPlayer(any())).thenReturn(playerDTO);
+
+        ResponseEntity<PlayerDTO> response = gameController.joinGame(inputRequest);
+
+        verify(playerService, times(1)).createPlayer(any());
+        assertSame(HttpStatus.OK, response.getStatusCode());
+        assertSame(playerDTO, response.getBody());
+    }
+
+    @Test
+    public void testGetAvailablePlayers() {
+        List<PlayerDTO> playerList = new ArrayList<>();
+        when(playerService.fetchAllAvailablePlayers()).thenReturn(playerList);
+
+        ResponseEntity<List<PlayerDTO>> response = gameController.getAvailablePlayers();
+
+        verify(playerService, times(1)).fetchAllAvailablePlayers();
+        assertSame(HttpStatus.OK, response.getStatusCode());
+        assertSame(playerList, response.getBody());
+    }
+
+    @Test
+    public void testCreateGame() {
+        List<GameCreationRequest> requests = new ArrayList<>();
+        when(gameService.createGame(anyList())).thenReturn("Game created successfully");
+
+        ResponseEntity<String> response = gameController.createGame(requests);
+
+        verify(gameService, times(1)).createGame(anyList());
+        assertSame(HttpStatus.OK, response.getStatusCode());
+        assertSame("Game created successfully", response.getBody());
+    }
+
+    @Test
+    public void testFetchGameDetails() {
+        String gameId = "123";
+        GameDTO gameDTO = new GameDTO();
+        when(gameService.fetchGameDetails(eq(gameId))).thenReturn(gameDTO);
+
+        ResponseEntity<MappingJacksonValue> response = gameController.fetchGameDetails(gameId, "full", null, null);
+
+        verify(gameService, times(1)).fetchGameDetails(eq(gameId));
+        assertSame(HttpStatus.OK, response.getStatusCode());
+        assertSame(gameDTO, response.getBody().getValue());
+    }
+
+    @Test
+    public void testFetchGameDetails_FieldsAreNotCachedAsVariants() {
+        String gameId = "123";
+        GameDTO gameDTO = new GameDTO();
+        when(gameService.fetchGameDetails(eq(gameId))).thenReturn(gameDTO);
+
+        MappingJacksonValue full = gameController.fetchGameDetails(gameId, "full", null, null).getBody();
+        MappingJacksonValue sparse = gameController.fetchGameDetails(gameId, "full", Set.of("gameStatus"), null)
+                .getBody();
+
+        assertTrue(full instanceof CachedGameView);
+        assertFalse(sparse instanceof CachedGameView);
+        assertSame(gameDTO, sparse.getValue());
+    }
+
+    @Test
+    public void testFetchGameDetails_UnknownFieldsRejected() {
+        String gameId = "123";
+        when(gameService.fetchGameDetails(eq(gameId))).thenReturn(new GameDTO());
+
+        ValidationException ex = assertThrows(ValidationException.class,
+                () -> gameController.fetchGameDetails(gameId, "full", Set.of("gameStatus", "random1"), null));
+        assertTrue(ex.getMessage().startsWith("Unknown game fields [random1], expected ["));
+    }
+
+    @Test
+    public void testFetchGameDetails_UnknownViewRejected() {
+        ValidationException ex = assertThrows(ValidationException.class,
+                () -> gameController.fetchGameDetails("123", "everything", null, null));
+        assertEquals("Unknown game view everything.", ex.getMessage());
+        verifyNoInteractions(gameService);
+    }
+
+    @Test
+    public void testFetchGameDetails_AtTurn() {
+        String gameId = "123";
+        GameDTO gameDTO = new GameDTO();
+        when(gameService.fetchGameAtTurn(eq(gameId), eq(4))).thenReturn(gameDTO);
+
+        ResponseEntity<MappingJacksonValue> response = gameController.fetchGameDetails(gameId, "full", null, 4);
+
+        verify(gameService, never()).fetchGameDetails(any());
+        assertSame(HttpStatus.OK, response.getStatusCode());
+        assertSame(gameDTO, response.getBody().getValue());
+    }
+
+    @Test
+    public void testFetchGameDetails_SummaryViewWithFields() throws Exception {
+        String gameId = "123";
+        GameGridDTO grid = GameGridDTO.builder().rowIndex(1).columnIndex(2).gridValue("ATTACKED").build();
+        GameShipDTO ship = GameShipDTO.builder().gameShipId(7L).shipStatus("SUNK").gameShipGrids(List.of(grid)).build();
+        GamePlayerDTO player = GamePlayerDTO.builder().gamePlayerId(1L).gameShips(List.of(ship))
+                .gameBoard(List.of(grid)).build();
+        GameDTO gameDTO = GameDTO.builder().gameStatus("ONGOING").currentPlayerId(1L).player1(player).build();
+        when(gameService.fetchGameSummary(eq(gameId))).thenReturn(gameDTO);
+
+        ResponseEntity<MappingJacksonValue> response = gameController.fetchGameDetails(gameId, "summary",
+                Set.of("gameStatus", "player1"), null);
+        MappingJacksonValue body = response.getBody();
+        String json = Jackson2ObjectMapperBuilder.json().build().writerWithView(body.getSerializationView())
+                .with(body.getFilters()).writeValueAsString(body.getValue());
+
+        verify(gameService, times(1)).fetchGameSummary(eq(gameId));
+        assertTrue(json.contains("\"gameStatus\":\"ONGOING\""));
+        assertTrue(json.contains("\"shipStatus\":\"SUNK\""));
+        assertFalse(json.contains("currentPlayerId"));
+        assertFalse(json.contains("gameBoard"));
+        assertFalse(json.contains("gameShipGrids"));
+    }
+
+    @Test
+    public void testFetchGames() {
+        List<String> gameIds = List.of("123", "456");
+        List<GameDTO> games = new ArrayList<>();
+        when(gameService.fetchGamesDetails(eq(gameIds))).thenReturn(games);
+
+        ResponseEntity<MappingJacksonValue> response = gameController.fetchGames(gameIds, "board", null);
+
+        verify(gameService, times(1)).fetchGamesDetails(eq(gameIds));
+        assertSame(HttpStatus.OK, response.getStatusCode());
+        assertSame(games, response.getBody().getValue());
+    }
+
+    @Test
+    public void testGamePlay() {
+        GamePlayRequest request = new GamePlayRequest();
+        GamePlayResponse gamePlayResponse = new GamePlayResponse();
+        when(gameService.playerTurn(any())).thenReturn(gamePlayResponse);
+
+        ResponseEntity<GamePlayResponse> response = gameController.gamePlay(request);
+
+        verify(gameService, times(1)).playerTurn(any());
+        assertSame(HttpStatus.OK, response.getStatusCode());
+        assertSame(gamePlayResponse, response.getBody());
+        assertNull(response.getHeaders().getFirst(Constants.PLAYER_RATE_LIMIT_REMAINING_HEADER));
+    }
+
+    @Test
+    public void testGamePlay_RateLimitedPerGamePlayer() {
+        GamePlayRequest request = GamePlayRequest.builder().currentPlayer(7L).build();
+        when(gameService.playerTurn(any())).thenReturn(new GamePlayResponse());
+
+        assertEquals("1", gameController.gamePlay(request).getHeaders()
+                .getFirst(Constants.PLAYER_RATE_LIMIT_REMAINING_HEADER));
+        assertEquals("0", gameController.gamePlay(request).getHeaders()
+                .getFirst(Constants.PLAYER_RATE_LIMIT_REMAINING_HEADER));
+        RateLimitExceededException ex = assertThrows(RateLimitExceededException.class,
+                () -> gameController.gamePlay(request));
+        assertEquals(1000, ex.getRetryAfterSeconds());
+        request.setCurrentPlayer(8L);
+        assertEquals(HttpStatus.OK, gameController.gamePlay(request).getStatusCode());
+
+        verify(gameService, times(3)).playerTurn(any());
+    }
+
+    @Test
+    public void testGetShips() {
+        List<ShipDTO> shipList = new ArrayList<>();
+        when(gameShipService.getShips()).thenReturn(shipList);
+
+        ResponseEntity<List<ShipDTO>> response = gameController.getShips();
+
+        verify(gameShipService, times(1)).getShips();
+        assertSame(HttpStatus.OK, response.getStatusCode());
+        assertSame(shipList, response.getBody());
+    }
+}
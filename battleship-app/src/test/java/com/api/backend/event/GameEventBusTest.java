@@ -0,0 +1,204 @@
+package com.api.backend.event;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.api.backend.request.GameShipLocationRequest;
+import com.api.backend.response.GamePlayResponse;
+import com.api.backend.response.GameShipResponse;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class GameEventBusTest {
+
+	private static final GameShipLocationRequest SHOT = GameShipLocationRequest.builder().rowIndex(3).columnIndex(4)
+			.build();
+
+	@Test
+	void testTurnPlayed_EveryConsumerSeesEveryEventInOrder() throws Exception {
+		for (WaitStrategy waitStrategy : WaitStrategy.values()) {
+			RecordingHandler first = new RecordingHandler(null);
+			RecordingHandler second = new RecordingHandler(null);
+			GameEventBus bus = new GameEventBus(List.of(first, second), new SimpleMeterRegistry(), 1024,
+					waitStrategy.name().toLowerCase().replace('_', '-'));
+			bus.start();
+			ExecutorService publishers = Executors.newFixedThreadPool(4);
+			try {
+				List<Future<?>> futures = new ArrayList<>();
+				for (int p = 0; p < 4; p++) {
+					futures.add(publishers.submit(() -> {
+						for (int i = 0; i < 250; i++) {
+							bus.turnPlayed(UUID.randomUUID(), 1L, SHOT, new GamePlayResponse());
+						}
+					}));
+				}
+				for (Future<?> future : futures) {
+					future.get(10, TimeUnit.SECONDS);
+				}
+				assertTrue(first.awaitEvents(1000), waitStrategy + " delivered " + first.sequences.size());
+				assertTrue(second.awaitEvents(1000), waitStrategy + " delivered " + second.sequences.size());
+			} finally {
+				publishers.shutdownNow();
+				bus.stop();
+			}
+			for (int i = 0; i < 1000; i++) {
+				assertEquals(i, first.sequences.get(i));
+				assertEquals(i, second.sequences.get(i));
+			}
+			assertEquals(0, bus.getRing().getDropped());
+			assertFalse(bus.isRunning());
+		}
+	}
+
+	@Test
+	void testPublish_DropsWhenSlowestConsumerIsFullRingBehind() throws Exception {
+		CountDownLatch release = new CountDownLatch(1);
+		RecordingHandler slow = new RecordingHandler(release);
+		MeterRegistry meterRegistry = new SimpleMeterRegistry();
+		GameEventBus bus = new GameEventBus(List.of(slow), meterRegistry, 4, "sleeping");
+		bus.start();
+		try {
+			for (int i = 0; i < 10; i++) {
+				bus.gameCreated(UUID.randomUUID());
+			}
+
+			assertEquals(9, bus.getRing().getCursor() + bus.getRing().getDropped());
+			assertTrue(bus.getRing().getDropped() >= 5);
+			assertEquals(bus.getRing().getDropped(),
+					meterRegistry.get("game.events.dropped").tag("type", "game_created").functionCounter().count());
+			assertTrue(meterRegistry.get("game.events.lag").tag("consumer", "RecordingHandler").gauge().value() >= 4);
+			release.countDown();
+			assertTrue(slow.awaitEvents((int) bus.getRing().getCursor() + 1));
+			long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+			while (meterRegistry.get("game.events.lag").gauge().value() > 0 && System.nanoTime() < deadline) {
+				Thread.sleep(1);
+			}
+			assertEquals(0, meterRegistry.get("game.events.lag").gauge().value());
+		} finally {
+			release.countDown();
+			bus.stop();
+		}
+	}
+
+	@Test
+	void testTurnPlayed_GameCompletedOverflowsAFullRing() throws Exception {
+		CountDownLatch release = new CountDownLatch(1);
+		RecordingHandler slow = new RecordingHandler(release);
+		MeterRegistry meterRegistry = new SimpleMeterRegistry();
+		GameEventBus bus = new GameEventBus(List.of(slow), meterRegistry, 4, "blocking");
+		GamePlayResponse won = GamePlayResponse.builder().gameWinnerId(1L).build();
+		bus.start();
+		try {
+			for (int i = 0; i < 8; i++) {
+				bus.gameCreated(UUID.randomUUID());
+			}
+			bus.turnPlayed(UUID.randomUUID(), 1L, SHOT, won);
+
+			assertEquals(1, bus.getRing().getDropped(GameEventType.SHOT_FIRED));
+			assertEquals(1, bus.getRing().getOverflowed());
+			assertEquals(0, bus.getRing().getDropped(GameEventType.GAME_COMPLETED));
+			assertEquals(1, meterRegistry.get("game.events.overflowed").functionCounter().count());
+			assertEquals(1, meterRegistry.get("game.events.dropped").tag("type", "shot_fired").functionCounter()
+					.count());
+			release.countDown();
+			assertTrue(slow.awaitEvents((int) bus.getRing().getCursor() + 2));
+			assertEquals(1, Collections.frequency(slow.types, GameEventType.GAME_COMPLETED));
+			assertEquals(-1L, slow.sequences.get(slow.types.indexOf(GameEventType.GAME_COMPLETED)));
+		} finally {
+			release.countDown();
+			bus.stop();
+		}
+	}
+
+	@Test
+	void testTurnPlayed_PublishedAfterCommitOnly() throws Exception {
+		RecordingHandler handler = new RecordingHandler(null);
+		GameEventBus bus = new GameEventBus(List.of(handler), new SimpleMeterRegistry(), 16, "blocking");
+		GamePlayResponse response = GamePlayResponse.builder().gameWinnerId(1L)
+				.gameShipHitOrSunked(GameShipResponse.builder().gameShipName("Destroyer").gameShipStatus("SUNK").build())
+				.build();
+		bus.start();
+		TransactionSynchronizationManager.initSynchronization();
+		try {
+			bus.turnPlayed(UUID.randomUUID(), 1L, SHOT, response);
+			assertEquals(-1, bus.getRing().getCursor());
+			for (TransactionSynchronization synchronization : TransactionSynchronizationManager
+					.getSynchronizations()) {
+				synchronization.afterCommit();
+			}
+		} finally {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+		try {
+			assertTrue(handler.awaitEvents(3));
+			assertEquals(List.of(GameEventType.SHOT_FIRED, GameEventType.SHIP_SUNK, GameEventType.GAME_COMPLETED),
+					handler.types);
+			assertEquals("Destroyer", handler.shipNames.get(1));
+		} finally {
+			bus.stop();
+		}
+	}
+
+	@Test
+	void testRing_CapacityMustBePowerOfTwo() {
+		assertThrows(IllegalArgumentException.class, () -> new GameEventRing(1000, WaitStrategy.BLOCKING));
+	}
+
+	/**
+	 * Records what it reads of every event, optionally waiting for a latch on
+	 * the first one.
+	 */
+	private static class RecordingHandler implements GameEventHandler {
+
+		private final CountDownLatch release;
+
+		private final List<Long> sequences = Collections.synchronizedList(new ArrayList<>());
+
+		private final List<GameEventType> types = Collections.synchronizedList(new ArrayList<>());
+
+		private final List<String> shipNames = Collections.synchronizedList(new ArrayList<>());
+
+		private RecordingHandler(CountDownLatch release) {
+			this.release = release;
+		}
+
+		@Override
+		public void onEvent(GameEvent event, long sequence, boolean endOfBatch) {
+			if (release != null) {
+				try {
+					release.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+			types.add(event.getType());
+			shipNames.add(event.getShipName());
+			sequences.add(sequence);
+		}
+
+		private boolean awaitEvents(int count) throws InterruptedException {
+			long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+			while (sequences.size() < count && System.nanoTime() < deadline) {
+				Thread.sleep(1);
+			}
+			return sequences.size() >= count;
+		}
+	}
+}
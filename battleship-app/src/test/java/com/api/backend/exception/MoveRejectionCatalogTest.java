@@ -0,0 +1,45 @@
+package com.api.backend.exception;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.core.env.Environment;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class MoveRejectionCatalogTest {
+
+	@Mock
+	private Environment env;
+
+	@Test
+	void testGet_SharesStacklessExceptionWithResolvedMessage() {
+		when(env.getProperty("GameGridService.ALREADY_ATTACKED")).thenReturn("attacked");
+		MoveRejectionCatalog catalog = new MoveRejectionCatalog(env);
+
+		InvalidMoveException first = assertThrows(InvalidMoveException.class, () -> {
+			throw catalog.get(MoveRejection.ALREADY_ATTACKED);
+		});
+		InvalidMoveException second = catalog.get(MoveRejection.ALREADY_ATTACKED);
+
+		assertSame(first, second);
+		assertEquals("attacked", second.getMessage());
+		assertEquals(MoveRejection.ALREADY_ATTACKED, second.getRejection());
+		assertEquals(0, second.getStackTrace().length);
+		second.addSuppressed(new IllegalStateException());
+		assertEquals(0, second.getSuppressed().length);
+		assertTrue(second instanceof ValidationException);
+		verify(env, times(1)).getProperty("GameGridService.ALREADY_ATTACKED");
+	}
+}
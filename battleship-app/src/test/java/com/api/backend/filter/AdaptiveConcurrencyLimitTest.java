@@ -0,0 +1,100 @@
+package com.api.backend.filter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class AdaptiveConcurrencyLimitTest {
+
+	private static final long THRESHOLD = 1_000;
+
+	@Test
+	void testTryAcquire_LowerPrioritiesGetSmallerShares() {
+		AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(10, 1, 100, THRESHOLD, 0.5);
+
+		for (int i = 0; i < 5; i++) {
+			assertTrue(limit.tryAcquire(RequestPriority.SHEDDABLE));
+		}
+		assertFalse(limit.tryAcquire(RequestPriority.SHEDDABLE));
+		for (int i = 0; i < 4; i++) {
+			assertTrue(limit.tryAcquire(RequestPriority.NORMAL));
+		}
+		assertFalse(limit.tryAcquire(RequestPriority.NORMAL));
+		assertTrue(limit.tryAcquire(RequestPriority.CRITICAL));
+		assertFalse(limit.tryAcquire(RequestPriority.CRITICAL));
+		assertEquals(10, limit.getInFlight());
+	}
+
+	@Test
+	void testRelease_FastRequestsUnderLoadRaiseTheLimit() {
+		AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(4, 1, 5, THRESHOLD, 0.5);
+
+		assertTrue(limit.tryAcquire(RequestPriority.CRITICAL));
+		limit.release(0, 10);
+		assertEquals(4, limit.getLimit());
+
+		for (int i = 0; i < 4; i++) {
+			assertTrue(limit.tryAcquire(RequestPriority.CRITICAL));
+		}
+		for (int i = 0; i < 4; i++) {
+			limit.release(0, 10);
+		}
+		assertEquals(5, limit.getLimit());
+		assertEquals(0, limit.getInFlight());
+	}
+
+	@Test
+	void testRelease_SlowRequestsCutTheLimitOncePerRound() {
+		AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(40, 4, 100, THRESHOLD, 0.5);
+		for (int i = 0; i < 4; i++) {
+			assertTrue(limit.tryAcquire(RequestPriority.CRITICAL));
+		}
+
+		limit.release(0, 5_000);
+		limit.release(10, 5_010);
+		assertEquals(20, limit.getLimit());
+
+		limit.release(5_001, 7_000);
+		assertEquals(10, limit.getLimit());
+
+		limit.release(7_001, 9_000);
+		assertEquals(5, limit.getLimit());
+
+		assertTrue(limit.tryAcquire(RequestPriority.CRITICAL));
+		limit.release(9_001, 11_000);
+		assertEquals(4, limit.getLimit());
+	}
+
+	@Test
+	void testRelease_UnsampledRequestsKeepTheLimit() {
+		AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(2, 1, 10, THRESHOLD, 0.5);
+
+		assertTrue(limit.tryAcquire(RequestPriority.CRITICAL));
+		assertTrue(limit.tryAcquire(RequestPriority.CRITICAL));
+		limit.release();
+		limit.release();
+
+		assertEquals(2, limit.getLimit());
+		assertEquals(0, limit.getInFlight());
+	}
+
+	@Test
+	void testConstructor_RejectsInvalidSettings() {
+		assertThrows(IllegalArgumentException.class, () -> new AdaptiveConcurrencyLimit(10, 0, 100, THRESHOLD, 0.5));
+		assertThrows(IllegalArgumentException.class, () -> new AdaptiveConcurrencyLimit(10, 20, 10, THRESHOLD, 0.5));
+		assertThrows(IllegalArgumentException.class, () -> new AdaptiveConcurrencyLimit(10, 1, 100, THRESHOLD, 1));
+	}
+
+	@Test
+	void testOf_ClassifiesByPath() {
+		assertEquals(RequestPriority.CRITICAL, RequestPriority.of("/game/v1/gameplay"));
+		assertEquals(RequestPriority.NORMAL, RequestPriority.of("/game/v1/creategame"));
+		assertEquals(RequestPriority.NORMAL, RequestPriority.of("/game/v1/00000000-0000-0000-0000-000000000001"));
+		assertEquals(RequestPriority.SHEDDABLE, RequestPriority.of("/game/v1/availableplayers"));
+		assertEquals(RequestPriority.SHEDDABLE, RequestPriority.of("/actuator/prometheus"));
+		assertEquals(RequestPriority.SHEDDABLE, RequestPriority.of("/swagger-ui.html"));
+	}
+}
@@ -0,0 +1,122 @@
+package com.api.backend.filter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.servlet.FilterChain;
+import javax.servlet.http.HttpServletResponse;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class ConcurrencyLimitFilterTest {
+
+	@Mock
+	private Environment env;
+
+	private MeterRegistry meterRegistry;
+
+	private ConcurrencyLimitFilter filter;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		when(env.getProperty("ConcurrencyLimitFilter.OVERLOADED")).thenReturn("Overloaded");
+		meterRegistry = new SimpleMeterRegistry();
+		filter = new ConcurrencyLimitFilter(meterRegistry, new ObjectMapper(), env, true, 2, 1, 10, 10_000, 3);
+	}
+
+	@Test
+	void testDoFilter_ShedsLobbyBeforeGameplay() throws Exception {
+		AtomicInteger gameplayStatus = new AtomicInteger();
+		MockHttpServletResponse lobbyResponse = new MockHttpServletResponse();
+		FilterChain holdingChain = (request, response) -> {
+			filter.doFilter(get("/game/v1/availableplayers"), lobbyResponse, (req, res) -> {
+			});
+			MockHttpServletResponse gameplayResponse = new MockHttpServletResponse();
+			filter.doFilter(get("/game/v1/gameplay"), gameplayResponse,
+					(req, res) -> ((HttpServletResponse) res).setStatus(200));
+			gameplayStatus.set(gameplayResponse.getStatus());
+		};
+
+		filter.doFilter(get("/game/v1/gameplay"), new MockHttpServletResponse(), holdingChain);
+
+		assertEquals(503, lobbyResponse.getStatus());
+		assertEquals("3", lobbyResponse.getHeader(HttpHeaders.RETRY_AFTER));
+		assertTrue(lobbyResponse.getContentAsString().contains("Overloaded"));
+		assertEquals(200, gameplayStatus.get());
+		assertEquals(1, meterRegistry.get("game.concurrency.rejected").tag("priority", "sheddable").counter().count());
+		assertEquals(0, meterRegistry.get("game.concurrency.in-flight").gauge().value());
+	}
+
+	@Test
+	void testDoFilter_ReleasesThePermitWhenTheChainFails() throws Exception {
+		FilterChain failingChain = (request, response) -> {
+			throw new IllegalStateException("failed");
+		};
+
+		for (int i = 0; i < 3; i++) {
+			try {
+				filter.doFilter(get("/game/v1/gameplay"), new MockHttpServletResponse(), failingChain);
+			} catch (IllegalStateException e) {
+				// the permit is released in any case
+			}
+		}
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		filter.doFilter(get("/game/v1/gameplay"), response, (req, res) -> {
+		});
+
+		assertEquals(200, response.getStatus());
+		assertNull(response.getHeader(HttpHeaders.RETRY_AFTER));
+		assertEquals(0, filter.getLimit().getInFlight());
+		assertTrue(meterRegistry.get("game.concurrency.limit").gauge().value() >= 2);
+	}
+
+	@Test
+	void testDoFilter_AdaptsOnlyToSampledGameRequests() throws Exception {
+		ConcurrencyLimitFilter fastLimit = new ConcurrencyLimitFilter(meterRegistry, new ObjectMapper(), env, true, 10,
+				1, 10, 0, 3);
+		LatencySampleFilter sampleFilter = new LatencySampleFilter(true);
+		FilterChain slowChain = (request, response) -> sleep();
+
+		fastLimit.doFilter(get("/actuator/health"), new MockHttpServletResponse(),
+				(request, response) -> sampleFilter.doFilter(request, response, slowChain));
+		fastLimit.doFilter(get("/game/v1/gameplay"), new MockHttpServletResponse(), slowChain);
+		assertEquals(10, fastLimit.getLimit().getLimit());
+
+		fastLimit.doFilter(get("/game/v1/%67ameplay"), new MockHttpServletResponse(),
+				(request, response) -> sampleFilter.doFilter(request, response, slowChain));
+		assertEquals(9, fastLimit.getLimit().getLimit());
+		assertEquals(0, fastLimit.getLimit().getInFlight());
+	}
+
+	private static void sleep() {
+		try {
+			Thread.sleep(2);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private static MockHttpServletRequest get(String path) {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+		request.setRequestURI(path);
+		return request;
+	}
+}
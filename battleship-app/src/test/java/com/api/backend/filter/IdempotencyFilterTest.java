@@ -0,0 +1,195 @@
+package com.api.backend.filter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.servlet.FilterChain;
+import javax.servlet.http.HttpServletResponse;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+
+import com.api.backend.utils.Constants;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class IdempotencyFilterTest {
+
+	private final AtomicInteger runs = new AtomicInteger();
+
+	private MeterRegistry meterRegistry;
+
+	private IdempotencyFilter filter;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		meterRegistry = new SimpleMeterRegistry();
+		filter = new IdempotencyFilter(meterRegistry, new ObjectMapper(), new MockEnvironment(), true, 16, 60_000,
+				10_000);
+	}
+
+	@Test
+	void testDoFilter_ReplaysTheFirstResponse() throws Exception {
+		FilterChain turn = respondWith(200, "turn ");
+
+		MockHttpServletResponse first = filter("alice", "/game/v1/gameplay", "k1", turn);
+		MockHttpServletResponse repeat = filter("alice", "/game/v1/gameplay", "k1", turn);
+
+		assertEquals("turn 1", first.getContentAsString());
+		assertNull(first.getHeader(Constants.IDEMPOTENT_REPLAY_HEADER));
+		assertEquals(200, repeat.getStatus());
+		assertEquals("turn 1", repeat.getContentAsString());
+		assertEquals("1", repeat.getHeader("X-Turn"));
+		assertEquals("true", repeat.getHeader(Constants.IDEMPOTENT_REPLAY_HEADER));
+		assertEquals("turn 2", filter("bob", "/game/v1/gameplay", "k1", turn).getContentAsString());
+		assertEquals("turn 3", filter("alice", "/game/v1/creategame", "k1", turn).getContentAsString());
+		assertEquals("turn 4", filter("alice", "/game/v1/gameplay", "k2", turn).getContentAsString());
+		assertEquals("turn 5", filter("alice", "/game/v1/gameplay", null, turn).getContentAsString());
+		assertEquals(1, meterRegistry.get("game.idempotency.replayed").counter().count());
+	}
+
+	@Test
+	void testDoFilter_RunsAgainAfterServerErrors() throws Exception {
+		FilterChain failing = respondWith(500, "error ");
+
+		filter("alice", "/game/v1/gameplay", "k1", failing);
+		MockHttpServletResponse retry = filter("alice", "/game/v1/gameplay", "k1", failing);
+
+		assertEquals("error 2", retry.getContentAsString());
+		assertNull(retry.getHeader(Constants.IDEMPOTENT_REPLAY_HEADER));
+	}
+
+	@Test
+	void testDoFilter_ConcurrentRepeatWaitsForTheFirstRequest() throws Exception {
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		FilterChain slow = (request, response) -> {
+			started.countDown();
+			try {
+				release.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			respondWith(200, "created ").doFilter(request, response);
+		};
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			Future<MockHttpServletResponse> first = executor
+					.submit(() -> filter("alice", "/game/v1/creategame", "k1", slow));
+			started.await(5, TimeUnit.SECONDS);
+			Future<MockHttpServletResponse> repeat = executor
+					.submit(() -> filter("alice", "/game/v1/creategame", "k1", slow));
+			Thread.sleep(50);
+			release.countDown();
+
+			assertEquals("created 1", first.get(5, TimeUnit.SECONDS).getContentAsString());
+			assertEquals("created 1", repeat.get(5, TimeUnit.SECONDS).getContentAsString());
+			assertEquals(1, runs.get());
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	void testDoFilter_RejectsARepeatWithAnotherBody() throws Exception {
+		FilterChain echo = (request, response) -> {
+			runs.incrementAndGet();
+			request.getInputStream().transferTo(response.getOutputStream());
+		};
+
+		MockHttpServletResponse first = filter("alice", "/game/v1/gameplay", "k1", "{\"x\":1}", echo);
+		MockHttpServletResponse repeat = filter("alice", "/game/v1/%67ameplay", "k1", "{\"x\":1}", echo);
+		MockHttpServletResponse reused = filter("alice", "/game/v1/gameplay", "k1", "{\"x\":2}", echo);
+
+		assertEquals("{\"x\":1}", first.getContentAsString());
+		assertEquals("true", repeat.getHeader(Constants.IDEMPOTENT_REPLAY_HEADER));
+		assertEquals(422, reused.getStatus());
+		assertEquals(1, runs.get());
+	}
+
+	@Test
+	void testDoFilter_RepeatGivesUpOnASlowFirstRequest() throws Exception {
+		filter = new IdempotencyFilter(meterRegistry, new ObjectMapper(), new MockEnvironment(), true, 16, 60_000, 10);
+		CountDownLatch release = new CountDownLatch(1);
+		FilterChain slow = (request, response) -> {
+			try {
+				release.await(5, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			respondWith(200, "created ").doFilter(request, response);
+		};
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			Future<MockHttpServletResponse> first = executor
+					.submit(() -> filter("alice", "/game/v1/creategame", "k1", slow));
+			Thread.sleep(50);
+			MockHttpServletResponse repeat = filter("alice", "/game/v1/creategame", "k1", slow);
+			release.countDown();
+
+			assertEquals(409, repeat.getStatus());
+			assertEquals("created 1", first.get(5, TimeUnit.SECONDS).getContentAsString());
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	void testDoFilter_RejectsOverlongBodies() throws Exception {
+		MockHttpServletResponse response = filter("alice", "/game/v1/gameplay", "k1",
+				"x".repeat(Constants.MAX_IDEMPOTENT_BODY_BYTES + 1), respondWith(200, "turn "));
+
+		assertEquals(413, response.getStatus());
+		assertEquals(0, runs.get());
+	}
+
+	@Test
+	void testDoFilter_RejectsOverlongKeys() throws Exception {
+		MockHttpServletResponse response = filter("alice", "/game/v1/gameplay", "k".repeat(256),
+				respondWith(200, "turn "));
+
+		assertEquals(400, response.getStatus());
+		assertEquals(0, runs.get());
+	}
+
+	private FilterChain respondWith(int status, String body) {
+		return (request, response) -> {
+			int run = runs.incrementAndGet();
+			((HttpServletResponse) response).setStatus(status);
+			((HttpServletResponse) response).setHeader("X-Turn", Integer.toString(run));
+			response.getOutputStream().write((body + run).getBytes(StandardCharsets.UTF_8));
+		};
+	}
+
+	private MockHttpServletResponse filter(String user, String path, String idempotencyKey, FilterChain chain)
+			throws Exception {
+		return filter(user, path, idempotencyKey, "{}", chain);
+	}
+
+	private MockHttpServletResponse filter(String user, String path, String idempotencyKey, String body,
+			FilterChain chain) throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest("POST", path);
+		request.setContent(body.getBytes(StandardCharsets.UTF_8));
+		request.setUserPrincipal(new UsernamePasswordAuthenticationToken(user, "secret"));
+		if (idempotencyKey != null) {
+			request.addHeader(Constants.IDEMPOTENCY_KEY_HEADER, idempotencyKey);
+		}
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		filter.doFilter(request, response, chain);
+		return response;
+	}
+}
@@ -0,0 +1,71 @@
+package com.api.backend.filter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.Test;
+
+class IdempotencyStoreTest {
+
+	private static final byte[] BODY = { 1, 2, 3 };
+
+	@Test
+	void testClaim_RepeatsShareTheFirstResponseUntilItExpires() {
+		IdempotencyStore store = new IdempotencyStore(16, 100);
+		CompletableFuture<IdempotentResponse> first = new CompletableFuture<>();
+
+		assertNull(store.claim("key", BODY, first, 0));
+		assertSame(first, store.claim("key", BODY, new CompletableFuture<>(), 50).getResponse());
+		assertSame(first, store.claim("key", BODY, new CompletableFuture<>(), 99).getResponse());
+		assertNull(store.claim("key", BODY, new CompletableFuture<>(), 100));
+		assertEquals(1, store.size());
+	}
+
+	@Test
+	void testClaim_ComparesTheBodyFingerprint() {
+		IdempotencyStore store = new IdempotencyStore(16, 100);
+		store.claim("key", BODY, new CompletableFuture<>(), 0);
+
+		IdempotencyStore.Entry entry = store.claim("key", new byte[] { 3, 2, 1 }, new CompletableFuture<>(), 1);
+
+		assertTrue(entry.matches(new byte[] { 1, 2, 3 }));
+		assertFalse(entry.matches(new byte[] { 3, 2, 1 }));
+	}
+
+	@Test
+	void testClaim_DropsExpiredAndOldestEntries() {
+		IdempotencyStore store = new IdempotencyStore(2, 100);
+
+		store.claim("a", BODY, new CompletableFuture<>(), 0);
+		store.claim("b", BODY, new CompletableFuture<>(), 10);
+		store.claim("c", BODY, new CompletableFuture<>(), 20);
+		assertEquals(2, store.size());
+		assertNull(store.claim("a", BODY, new CompletableFuture<>(), 30));
+
+		store.claim("d", BODY, new CompletableFuture<>(), 125);
+		assertEquals(2, store.size());
+	}
+
+	@Test
+	void testRelease_OnlyForgetsItsOwnResponse() {
+		IdempotencyStore store = new IdempotencyStore(16, 100);
+		CompletableFuture<IdempotentResponse> first = new CompletableFuture<>();
+		store.claim("key", BODY, first, 0);
+
+		store.release("key", new CompletableFuture<>());
+		assertSame(first, store.claim("key", BODY, new CompletableFuture<>(), 1).getResponse());
+		store.release("key", first);
+		assertEquals(0, store.size());
+	}
+
+	@Test
+	void testConstructor_RejectsInvalidSettings() {
+		assertThrows(IllegalArgumentException.class, () -> new IdempotencyStore(0, 100));
+	}
+}
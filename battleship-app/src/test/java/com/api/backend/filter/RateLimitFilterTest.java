@@ -0,0 +1,92 @@
+package com.api.backend.filter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.servlet.FilterChain;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+
+import com.api.backend.utils.Constants;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class RateLimitFilterTest {
+
+	private final AtomicInteger passed = new AtomicInteger();
+
+	private final FilterChain countingChain = (request, response) -> passed.incrementAndGet();
+
+	private MeterRegistry meterRegistry;
+
+	private RateLimitFilter filter;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		MockEnvironment env = new MockEnvironment().withProperty("game.rate-limit.gameplay.capacity", "2")
+				.withProperty("game.rate-limit.gameplay.refill-per-second", "0.5")
+				.withProperty("RateLimiter.RATE_LIMITED", "Slow down");
+		meterRegistry = new SimpleMeterRegistry();
+		filter = new RateLimitFilter(new RateLimiter(meterRegistry, env, true, 1024), new ObjectMapper(), env);
+	}
+
+	@Test
+	void testDoFilter_LimitsEachPrincipalPerEndpoint() throws Exception {
+		MockHttpServletResponse first = filter("alice", "/game/v1/gameplay");
+		MockHttpServletResponse second = filter("alice", "/game/v1/gameplay");
+		MockHttpServletResponse rejected = filter("alice", "/game/v1/gameplay");
+
+		assertEquals("2", first.getHeader(Constants.RATE_LIMIT_LIMIT_HEADER));
+		assertEquals("1", first.getHeader(Constants.RATE_LIMIT_REMAINING_HEADER));
+		assertEquals("0", second.getHeader(Constants.RATE_LIMIT_REMAINING_HEADER));
+		assertEquals(429, rejected.getStatus());
+		assertEquals("2", rejected.getHeader(HttpHeaders.RETRY_AFTER));
+		assertTrue(rejected.getContentAsString().contains("Slow down"));
+		assertEquals(200, filter("bob", "/game/v1/gameplay").getStatus());
+		assertEquals(200, filter("alice", "/game/v1/" + "00000000-0000-0000-0000-000000000001").getStatus());
+		assertEquals(4, passed.get());
+		assertEquals(1, meterRegistry.get("game.rate-limit.rejected").tag("endpoint", "gameplay").counter().count());
+	}
+
+	@Test
+	void testDoFilter_ClassifiesTheNormalizedPath() throws Exception {
+		filter("alice", "/game/v1/%67ameplay");
+		filter("alice", "/game//v1/gameplay;jsessionid=1");
+		MockHttpServletResponse rejected = filter("alice", "/game/v1/./gameplay");
+
+		assertEquals(429, rejected.getStatus());
+		assertEquals(2, passed.get());
+	}
+
+	@Test
+	void testDoFilter_SkipsAnonymousAndNonGameRequests() throws Exception {
+		for (int i = 0; i < 5; i++) {
+			assertNull(filter(null, "/game/v1/gameplay").getHeader(Constants.RATE_LIMIT_REMAINING_HEADER));
+			assertNull(filter("alice", "/actuator/health").getHeader(Constants.RATE_LIMIT_REMAINING_HEADER));
+		}
+
+		assertEquals(10, passed.get());
+	}
+
+	private MockHttpServletResponse filter(String user, String path) throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest("POST", path);
+		request.setRequestURI(path);
+		if (user != null) {
+			request.setUserPrincipal(new UsernamePasswordAuthenticationToken(user, "secret"));
+		}
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		filter.doFilter(request, response, countingChain);
+		return response;
+	}
+}
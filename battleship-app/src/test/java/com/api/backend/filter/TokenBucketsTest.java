@@ -0,0 +1,51 @@
+package com.api.backend.filter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+class TokenBucketsTest {
+
+	private static final double TWO_PER_SECOND = 2.0 / TimeUnit.SECONDS.toNanos(1);
+
+	@Test
+	void testTryConsume_BurstThenLazyRefill() {
+		TokenBuckets buckets = new TokenBuckets(4, 64);
+		long start = 1_000;
+
+		assertEquals(2, buckets.tryConsume("alice", 3, TWO_PER_SECOND, start));
+		assertEquals(1, buckets.tryConsume("alice", 3, TWO_PER_SECOND, start));
+		assertEquals(0, buckets.tryConsume("alice", 3, TWO_PER_SECOND, start));
+		assertEquals(-1, buckets.tryConsume("alice", 3, TWO_PER_SECOND, start));
+		assertEquals(2, buckets.tryConsume("bob", 3, TWO_PER_SECOND, start));
+
+		long halfSecond = start + TimeUnit.MILLISECONDS.toNanos(500);
+		assertEquals(0, buckets.tryConsume("alice", 3, TWO_PER_SECOND, halfSecond));
+		assertEquals(-1, buckets.tryConsume("alice", 3, TWO_PER_SECOND, halfSecond));
+
+		long later = start + TimeUnit.MINUTES.toNanos(1);
+		assertEquals(2, buckets.tryConsume("alice", 3, TWO_PER_SECOND, later));
+	}
+
+	@Test
+	void testTryConsume_DropsLeastRecentlyUsedKeysPastTheBound() {
+		TokenBuckets buckets = new TokenBuckets(1, 2);
+
+		buckets.tryConsume("alice", 1, TWO_PER_SECOND, 0);
+		buckets.tryConsume("bob", 1, TWO_PER_SECOND, 0);
+		assertEquals(-1, buckets.tryConsume("alice", 1, TWO_PER_SECOND, 0));
+		buckets.tryConsume("carol", 1, TWO_PER_SECOND, 0);
+
+		assertEquals(2, buckets.size());
+		assertEquals(-1, buckets.tryConsume("alice", 1, TWO_PER_SECOND, 0));
+		assertEquals(0, buckets.tryConsume("bob", 1, TWO_PER_SECOND, 0));
+	}
+
+	@Test
+	void testConstructor_StripeCountMustBePowerOfTwo() {
+		assertThrows(IllegalArgumentException.class, () -> new TokenBuckets(3, 64));
+	}
+}
@@ -0,0 +1,265 @@
+package com.api.backend.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+
+import com.api.backend.dto.GameDTO;
+import com.api.backend.dto.GameTurnDTO;
+import com.api.backend.entity.GameEntity;
+import com.api.backend.entity.GameGridEntity;
+import com.api.backend.entity.GamePlayerEntity;
+import com.api.backend.entity.GameShipEntity;
+import com.api.backend.entity.GameStatus;
+import com.api.backend.entity.GridValue;
+import com.api.backend.entity.PlayerEntity;
+import com.api.backend.entity.ShipEntity;
+import com.api.backend.entity.ShipStatus;
+import com.api.backend.request.GamePlayRequest;
+import com.api.backend.request.GameShipLocationRequest;
+import com.api.backend.response.GamePlayResponse;
+import com.api.backend.service.GameService;
+import com.api.backend.utils.Constants;
+import com.api.backend.utils.GameIds;
+
+/**
+ * Asserts the number of select statements issued by each game read path. Games
+ * are saved through the repositories, so the active game index is disabled.
+ */
+@SpringBootTest(properties = { "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+		+ "com.api.backend.repository.GameFetchPlanTest$SelectCounter", "game.turn-index.enabled=false" })
+class GameFetchPlanTest {
+
+	private static final AtomicInteger SELECTS = new AtomicInteger();
+
+	@Autowired
+	private GameService gameService;
+
+	@Autowired
+	private GameRepository gameRepository;
+
+	@Autowired
+	private GamePlayerRepository gamePlayerRepository;
+
+	@Autowired
+	private PlayerRepository playerRepository;
+
+	@Autowired
+	private ShipRepository shipRepository;
+
+	@Autowired
+	private CacheManager cacheManager;
+
+	private ShipEntity destroyer;
+
+	private ShipEntity submarine;
+
+	@BeforeEach
+	void setUp() {
+		destroyer = saveShip("FetchPlanDestroyer", 2);
+		submarine = saveShip("FetchPlanSubmarine", 1);
+		cacheManager.getCache(Constants.GAMES_CACHE).clear();
+	}
+
+	@Test
+	void testFullView_ThreeSelects() {
+		GameEntity game = saveGame();
+
+		SELECTS.set(0);
+		GameDTO result = gameService.fetchGameDetails(game.getGameId().toString());
+
+		assertEquals(3, SELECTS.get());
+		assertEquals(Constants.GRID_VALUE * Constants.GRID_VALUE, result.getPlayer1().getGameBoard().size());
+		assertEquals(2, result.getPlayer2().getGameShips().size());
+		assertEquals(2, result.getPlayer2().getGameShips().get(0).getGameShipGrids().size());
+	}
+
+	@Test
+	void testMultiGet_ThreeSelectsForSeveralGames() {
+		GameEntity game1 = saveGame();
+		GameEntity game2 = saveGame();
+
+		SELECTS.set(0);
+		List<GameDTO> result = gameService
+				.fetchGamesDetails(List.of(game1.getGameId().toString(), game2.getGameId().toString()));
+
+		assertEquals(3, SELECTS.get());
+		assertEquals(2, result.size());
+		assertEquals(7, game1.getGameId().version());
+		assertTrue(GameIds.timestampOf(game1.getGameId()) <= GameIds.timestampOf(game2.getGameId()));
+	}
+
+	@Test
+	void testSummary_TwoSelects() {
+		GameEntity game = saveGame();
+
+		SELECTS.set(0);
+		gameService.fetchGameSummary(game.getGameId().toString());
+
+		assertEquals(2, SELECTS.get());
+	}
+
+	@Test
+	void testListByStatus_TwoSelectsForSeveralGames() {
+		saveGame();
+		saveGame();
+
+		SELECTS.set(0);
+		List<GameDTO> result = gameService.fetchGamesByStatus("ongoing", 2);
+
+		assertEquals(2, SELECTS.get());
+		assertEquals(2, result.size());
+		assertEquals(2, result.get(0).getPlayer1().getGameShips().size());
+	}
+
+	@Test
+	void testTurn_TwoSelects() {
+		GameEntity game = saveGame();
+		String gameId = game.getGameId().toString();
+		Long player1Id = game.getPlayer1().getGamePlayerId();
+		Long player2Id = game.getPlayer2().getGamePlayerId();
+
+		SELECTS.set(0);
+		GamePlayResponse miss = gameService.playerTurn(new GamePlayRequest(gameId, player1Id, location(9, 9)));
+		assertEquals(2, SELECTS.get());
+		assertEquals(null, miss.getGameShipHitOrSunked());
+		assertEquals(1, miss.getShotsFired());
+		assertEquals(0, miss.getShotsHit());
+
+		SELECTS.set(0);
+		GamePlayResponse sunk = gameService.playerTurn(new GamePlayRequest(gameId, player2Id, location(2, 0)));
+		assertEquals(2, SELECTS.get());
+		assertEquals(ShipStatus.SUNK.toString(), sunk.getGameShipHitOrSunked().getGameShipStatus());
+		assertEquals(1, sunk.getShotsHit());
+		assertEquals(1, sunk.getOpponentShipsRemaining());
+		assertEquals(null, sunk.getGameWinnerId());
+
+		GameDTO summary = gameService.fetchGameSummary(gameId);
+		assertEquals(1, summary.getPlayer1().getShipsRemaining());
+		assertEquals(1, summary.getPlayer2().getShotsFired());
+	}
+
+	@Test
+	void testTurnHistory_OneSelectPastTheLastCheckpoint() {
+		GameEntity game = saveGame();
+		String gameId = game.getGameId().toString();
+		Long player1Id = game.getPlayer1().getGamePlayerId();
+		Long player2Id = game.getPlayer2().getGamePlayerId();
+		int turnCount = Constants.TURN_CHECKPOINT_INTERVAL + 2;
+		for (int turn = 0; turn < turnCount; turn++) {
+			int cell = Constants.GRID_VALUE * 5 + turn / 2;
+			gameService.playerTurn(new GamePlayRequest(gameId, turn % 2 == 0 ? player1Id : player2Id,
+					location(cell / Constants.GRID_VALUE, cell % Constants.GRID_VALUE)));
+		}
+
+		SELECTS.set(0);
+		List<GameTurnDTO> turns = gameService.fetchGameTurns(gameId, 2, 100);
+		assertEquals(1, SELECTS.get());
+		assertEquals(turnCount - 1, turns.size());
+		assertEquals(player2Id, turns.get(0).getGamePlayerId());
+		assertEquals("MISS", turns.get(0).getResult());
+
+		SELECTS.set(0);
+		GameDTO atTurn = gameService.fetchGameAtTurn(gameId, turnCount - 1);
+		assertEquals(4, SELECTS.get());
+		assertEquals(player2Id, atTurn.getCurrentPlayerId());
+		assertEquals(turnCount / 2, atTurn.getPlayer1().getShotsFired());
+		assertEquals(turnCount / 2 - 1, atTurn.getPlayer2().getShotsFired());
+		assertEquals(turnCount / 2, atTurn.getPlayer2().getGameBoard().stream()
+				.filter(grid -> GridValue.ATTACKED.toString().equals(grid.getGridValue())).count());
+	}
+
+	private ShipEntity saveShip(String shipName, int shipLength) {
+		ShipEntity ship = new ShipEntity();
+		ship.setShipName(shipName);
+		ship.setShipLength(shipLength);
+		return shipRepository.save(ship);
+	}
+
+	private GameEntity saveGame() {
+		GamePlayerEntity player1 = saveGamePlayer();
+		GamePlayerEntity player2 = saveGamePlayer();
+		GameEntity game = new GameEntity();
+		game.setPlayer1(player1);
+		game.setPlayer2(player2);
+		game.setCurrentPlayer(player1);
+		game.setGameStatus(GameStatus.ONGOING);
+		return gameRepository.save(game);
+	}
+
+	/**
+	 * Saves a game player with a destroyer on row 0 and a submarine on row 2.
+	 */
+	private GamePlayerEntity saveGamePlayer() {
+		PlayerEntity player = new PlayerEntity();
+		player.setPlayerName("fetch-plan-" + System.nanoTime());
+		player.setIsPlaying(true);
+		player.setIsLocked(true);
+		player = playerRepository.save(player);
+
+		GamePlayerEntity gamePlayer = new GamePlayerEntity();
+		gamePlayer.setPlayer(player);
+		gamePlayer.setGameShips(new ArrayList<>());
+		gamePlayer.setGameBoard(new ArrayList<>());
+		gamePlayer.setShipsRemaining(2);
+		GameShipEntity destroyerShip = gameShip(gamePlayer, destroyer);
+		GameShipEntity submarineShip = gameShip(gamePlayer, submarine);
+		for (int row = 0; row < Constants.GRID_VALUE; row++) {
+			for (int col = 0; col < Constants.GRID_VALUE; col++) {
+				GameGridEntity grid = new GameGridEntity();
+				grid.setRowIndex(row);
+				grid.setColumnIndex(col);
+				grid.setGridValue(GridValue.NOT_ATTACKED);
+				if (row == 0 && col < 2) {
+					destroyerShip.addGameShipGrid(grid);
+				} else if (row == 2 && col == 0) {
+					submarineShip.addGameShipGrid(grid);
+				}
+				gamePlayer.addGameBoard(grid);
+			}
+		}
+		return gamePlayerRepository.save(gamePlayer);
+	}
+
+	private GameShipEntity gameShip(GamePlayerEntity gamePlayer, ShipEntity ship) {
+		GameShipEntity gameShip = new GameShipEntity();
+		gameShip.setShip(ship);
+		gameShip.setShipStatus(ShipStatus.NOT_SUNK);
+		gameShip.setGameShipGrids(new ArrayList<>());
+		gamePlayer.addGameShip(gameShip);
+		return gameShip;
+	}
+
+	private GameShipLocationRequest location(int rowIndex, int columnIndex) {
+		GameShipLocationRequest location = new GameShipLocationRequest();
+		location.setRowIndex(rowIndex);
+		location.setColumnIndex(columnIndex);
+		return location;
+	}
+
+	/**
+	 * Counts the select statements prepared by Hibernate.
+	 */
+	public static class SelectCounter implements StatementInspector {
+
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		public String inspect(String sql) {
+			if (sql.regionMatches(true, 0, "select", 0, 6)) {
+				SELECTS.incrementAndGet();
+			}
+			return sql;
+		}
+	}
+}
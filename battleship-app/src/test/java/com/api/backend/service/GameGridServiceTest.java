@@ -1,6 +1,5 @@
 package com.api.backend.service;
 
-import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
@@ -16,7 +15,6 @@ import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.modelmapper.ModelMapper;
@@ -28,6 +26,7 @@ import com.api.backend.entity.GamePlayerEntity;
 import com.api.backend.entity.GameShipEntity;
 import com.api.backend.entity.GridValue;
 import com.api.backend.entity.ShipEntity;
+import com.api.backend.exception.MoveRejectionCatalog;
 import com.api.backend.exception.ValidationException;
 import com.api.backend.repository.GameGridRepository;
 import com.api.backend.request.GameCreationRequest;
@@ -46,7 +45,6 @@ class GameGridServiceTest {
 	@Mock
 	private Environment environment;
 
-	@InjectMocks
 	private GameGridService gameGridService;
 
 	private GamePlayerEntity gamePlayer;
@@ -57,6 +55,7 @@ class GameGridServiceTest {
 
 	@BeforeEach
 	void setUp() {
+		gameGridService = new GameGridService(modelMapper, gameGridRepository, new MoveRejectionCatalog(environment));
 		gamePlayer = new GamePlayerEntity();
 		gamePlayer.setGameBoard(new ArrayList<>());
 		gamePlayer.setGameShips(new ArrayList<>());
@@ -160,7 +159,7 @@ class GameGridServiceTest {
 	}
 
 	@Test
-	void testValidateAndSaveGrid_ValidCoordinate() {
+	void testFetchGameGrid() {
 
 		GameGridEntity gameGridEntity = new GameGridEntity();
 		gameGridEntity.setRowIndex(1);
@@ -168,34 +167,15 @@ class GameGridServiceTest {
 		gameGridEntity.setGridValue(GridValue.NOT_ATTACKED);
 		gameGridEntity.setGamePlayer(gamePlayer);
 
-		GameShipLocationRequest attackedGrid = new GameShipLocationRequest();
-		attackedGrid.setRowIndex(1);
-		attackedGrid.setColumnIndex(2);
+		when(gameGridRepository.findByRowIndexAndColumnIndexAndGamePlayer(1, 2, gamePlayer)).thenReturn(gameGridEntity);
 
-		gamePlayer.getGameBoard().add(gameGridEntity);
-
-		GameShipEntity result = gameGridService.validateAndSaveGrid(attackedGrid, gamePlayer);
-
-		assertEquals(GridValue.ATTACKED, gameGridEntity.getGridValue());
-		assertEquals(gameGridEntity.getGameShip(), result);
+		assertEquals(gameGridEntity, gameGridService.fetchGameGrid(1, 2, gamePlayer));
 	}
 
 	@Test
-	void testValidateAndSaveGrid_InvalidCoordinate() {
-
-		GameGridEntity gameGridEntity = new GameGridEntity();
-		gameGridEntity.setRowIndex(1);
-		gameGridEntity.setColumnIndex(2);
-		gameGridEntity.setGridValue(GridValue.ATTACKED);
-		gameGridEntity.setGamePlayer(gamePlayer);
-
-		GameShipLocationRequest attackedGrid = new GameShipLocationRequest();
-		attackedGrid.setRowIndex(1);
-		attackedGrid.setColumnIndex(2);
+	void testFetchGameGrid_MissingGrid() {
 
-		gamePlayer.getGameBoard().add(gameGridEntity);
-
-		assertThrows(ValidationException.class, () -> gameGridService.validateAndSaveGrid(attackedGrid, gamePlayer));
+		assertThrows(ValidationException.class, () -> gameGridService.fetchGameGrid(1, 2, gamePlayer));
 	}
 
 	@Test
@@ -219,27 +199,4 @@ class GameGridServiceTest {
 
 		assertEquals(GridValue.ATTACKED, gameGridEntity.getGridValue());
 	}
-
-	@Test
-	void testValidateGameBoardCoordinate_Valid() {
-
-		GameGridEntity gameGridEntity = new GameGridEntity();
-		gameGridEntity.setRowIndex(1);
-		gameGridEntity.setColumnIndex(2);
-		gameGridEntity.setGridValue(GridValue.NOT_ATTACKED);
-
-		assertDoesNotThrow(() -> gameGridService.validateGameBoardCoordinate(gameGridEntity));
-
-	}
-
-	@Test
-	void testValidateGameBoardCoordinate_Invalid() {
-
-		GameGridEntity gameGridEntity = new GameGridEntity();
-		gameGridEntity.setRowIndex(1);
-		gameGridEntity.setColumnIndex(2);
-		gameGridEntity.setGridValue(GridValue.ATTACKED);
-
-		assertThrows(ValidationException.class, () -> gameGridService.validateGameBoardCoordinate(gameGridEntity));
-	}
 }
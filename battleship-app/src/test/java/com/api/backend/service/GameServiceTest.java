@@ -0,0 +1,392 @@
+package com.api.backend.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.modelmapper.ModelMapper;
+import org.modelmapper.convention.MatchingStrategies;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.core.env.Environment;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.api.backend.dto.CompactBoardDTO;
+import com.api.backend.dto.GameDTO;
+import com.api.backend.dto.GameShipDTO;
+import com.api.backend.dto.GameViews;
+import com.api.backend.engine.BoardCodec;
+import com.api.backend.engine.CellEncoding;
+import com.api.backend.entity.*;
+import com.api.backend.event.GameEventBus;
+import com.api.backend.exception.BattleshipApplicationException;
+import com.api.backend.exception.MoveRejectionCatalog;
+import com.api.backend.exception.ValidationException;
+import com.api.backend.projection.GameSummaryProjection;
+import com.api.backend.repository.GamePlayerRepository;
+import com.api.backend.repository.GameRepository;
+import com.api.backend.repository.GameTurnRepository;
+import com.api.backend.request.*;
+import com.api.backend.response.GamePlayResponse;
+import com.api.backend.response.GameShipResponse;
+import com.api.backend.store.ActiveGameIndex;
+import com.api.backend.store.JpaGameStateStore;
+import com.api.backend.store.PlayerLeaderboard;
+import com.api.backend.utils.Constants;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+@ExtendWith(MockitoExtension.class)
+@ActiveProfiles("test")
+public class GameServiceTest {
+
+	@Mock
+	private ModelMapper modelMapper;
+
+	@Mock
+	private GameRepository gameRepository;
+
+	@Mock
+	private GameTurnRepository gameTurnRepository;
+
+	@Mock
+	private GameGridService gameGridService;
+
+	@Mock
+	private GamePlayerRepository gamePlayerRepository;
+
+	@Mock
+	private GameShipService gameShipService;
+
+	@Mock
+	private PlayerService playerService;
+
+	@Mock
+	private Environment env;
+
+	@Mock
+	private PlayerLeaderboard playerLeaderboard;
+
+	@Mock
+	private GameEventBus gameEventBus;
+
+	@Mock
+	private CacheManager cacheManager;
+
+	@Mock
+	private Cache gamesCache;
+
+	private MoveRejectionCatalog moveRejections;
+
+	private JpaGameStateStore gameStateStore;
+
+	private GameService gameService;
+
+	private UUID gameId;
+	private GameEntity gameEntity;
+	private GamePlayerEntity player1;
+	private GamePlayerEntity player2;
+	private List<GameShipRequest> gameShipRequests;
+	private GameShipLocationRequest gameShipLocationRequest;
+
+	@BeforeEach
+	public void setUp() {
+		gameId = UUID.randomUUID();
+		gameEntity = new GameEntity();
+		gameEntity.setGameId(gameId);
+
+		player1 = new GamePlayerEntity();
+		player1.setGamePlayerId(1L);
+		player1.setPlayer(new PlayerEntity());
+		player1.setGameShips(new ArrayList<>());
+		player1.setGameBoard(new ArrayList<>());
+
+		player2 = new GamePlayerEntity();
+		player2.setGamePlayerId(2L);
+		player2.setPlayer(new PlayerEntity());
+		player2.setGameShips(new ArrayList<>());
+		player2.setGameBoard(new ArrayList<>());
+
+		gameEntity.setPlayer1(player1);
+		gameEntity.setPlayer2(player2);
+		gameEntity.setCurrentPlayer(player1);
+		gameEntity.setGameStatus(GameStatus.ONGOING);
+
+		gameShipRequests = new ArrayList<>();
+
+		// Adding a sample GameShipLocationRequest to the test setup
+		gameShipLocationRequest = new GameShipLocationRequest();
+		gameShipLocationRequest.setRowIndex(0);
+		gameShipLocationRequest.setColumnIndex(0);
+
+		// Create a new ModelMapper instance and set the matching strategy
+		modelMapper = new ModelMapper();
+		modelMapper.getConfiguration().setMatchingStrategy(MatchingStrategies.STRICT);
+
+		moveRejections = new MoveRejectionCatalog(env);
+		gameStateStore = new JpaGameStateStore(gameRepository, gamePlayerRepository, gameTurnRepository, gameGridService,
+				gameShipService, moveRejections);
+		gameService = new GameService(gameStateStore,
+				new ActiveGameIndex(gameStateStore, moveRejections, false, 60_000, 1024), playerLeaderboard, gameEventBus, gameShipService, env, playerService, cacheManager);
+	}
+
+	@Test
+	public void testFetchGameDetails_InvalidGameId_NullGameEntity() {
+
+		when(gameRepository.findWithPlayersByGameId(any(UUID.class))).thenReturn(Optional.empty());
+
+		assertThrows(BattleshipApplicationException.class,
+				() -> gameService.fetchGameDetails(UUID.randomUUID().toString()));
+	}
+
+	@Test
+	public void testFetchGameDetails_InvalidGameIdFormat_NullGameEntity() {
+
+		assertThrows(ValidationException.class, () -> gameService.fetchGameDetails("invalid-game-id-format"));
+	}
+
+	@Test
+	public void testFetchGamesDetails_CacheHitsAndBatchedMisses() {
+
+		UUID cachedGameId = UUID.randomUUID();
+		GameDTO cachedGame = new GameDTO();
+		when(cacheManager.getCache("games")).thenReturn(gamesCache);
+		when(gamesCache.get(anyString(), eq(GameDTO.class)))
+				.thenAnswer(invocation -> cachedGameId.toString().equals(invocation.getArgument(0)) ? cachedGame : null);
+		when(gameRepository.findAllByGameIdIn(anyCollection())).thenReturn(List.of(gameEntity));
+
+		List<GameDTO> result = gameService.fetchGamesDetails(
+				Arrays.asList(gameId.toString(), cachedGameId.toString(), UUID.randomUUID().toString()));
+
+		assertEquals(2, result.size());
+		assertEquals(gameId, result.get(0).getGameId());
+		assertSame(cachedGame, result.get(1));
+		verify(gamesCache).put(eq(gameId.toString()), any(GameDTO.class));
+	}
+
+	@Test
+	public void testConvertToGameDTO_CompactViewEncodesCells() throws Exception {
+
+		ShipEntity ship = new ShipEntity();
+		ship.setShipId(3L);
+		ship.setShipLength(2);
+		GameShipEntity gameShip = new GameShipEntity();
+		gameShip.setGameShipId(7L);
+		gameShip.setShip(ship);
+		gameShip.setShipStatus(ShipStatus.NOT_SUNK);
+		gameShip.setGamePlayer(player2);
+		List<GameGridEntity> grids = new ArrayList<>();
+		for (GamePlayerEntity gamePlayer : List.of(player1, player2)) {
+			for (int cell = 0; cell < 100; cell++) {
+				GameGridEntity grid = new GameGridEntity();
+				grid.setGameGridId(gamePlayer.getGamePlayerId() * 100 + cell);
+				grid.setRowIndex(cell / 10);
+				grid.setColumnIndex(cell % 10);
+				grid.setGamePlayer(gamePlayer);
+				grid.setGridValue(cell % 3 == 0 ? GridValue.ATTACKED : GridValue.NOT_ATTACKED);
+				if (gamePlayer == player2 && (cell == 11 || cell == 12)) {
+					grid.setGameShip(gameShip);
+				}
+				grids.add(grid);
+			}
+		}
+		when(gameShipService.fetchGameShips(anyCollection())).thenReturn(List.of(gameShip));
+		when(gameGridService.fetchGameBoards(anyCollection())).thenReturn(grids);
+
+		GameDTO result = gameStateStore.convertToGameDTO(gameEntity);
+
+		CompactBoardDTO board = result.getPlayer2().getCompactBoard();
+		assertEquals(CellEncoding.BITSET, board.getEncoding());
+		assertEquals(34, BoardCodec.decode(board.getShots(), board.getEncoding()).cardinality());
+		BitSet hits = BoardCodec.decode(board.getHits(), board.getEncoding());
+		assertEquals(1, hits.cardinality());
+		assertTrue(hits.get(12));
+		BitSet shipCells = BoardCodec.decode(result.getPlayer2().getGameShips().get(0).getCells(), board.getEncoding());
+		assertEquals(2, shipCells.cardinality());
+
+		ObjectWriter writer = new ObjectMapper().writer(new SimpleFilterProvider()
+				.addFilter(Constants.GAME_FIELDS_FILTER, SimpleBeanPropertyFilter.serializeAll()));
+		int fullSize = writer.withView(GameViews.Full.class).writeValueAsBytes(result).length;
+		int compactSize = writer.withView(GameViews.Compact.class).writeValueAsBytes(result).length;
+		assertTrue(compactSize * 10 < fullSize);
+	}
+
+	@Test
+	public void testFetchGamesDetails_UnknownGameIdsSkipBoardQueries() {
+
+		when(cacheManager.getCache("games")).thenReturn(gamesCache);
+		when(gameRepository.findAllByGameIdIn(anyCollection())).thenReturn(List.of());
+
+		assertTrue(gameService.fetchGamesDetails(List.of(UUID.randomUUID().toString())).isEmpty());
+		verify(gameShipService, never()).fetchGameShips(any());
+		verify(gameGridService, never()).fetchGameBoards(any());
+	}
+
+	@Test
+	public void testFetchGamesDetails_InvalidGameIdFormat() {
+
+		when(cacheManager.getCache("games")).thenReturn(gamesCache);
+
+		assertThrows(ValidationException.class,
+				() -> gameService.fetchGamesDetails(Collections.singletonList("invalid-game-id-format")));
+	}
+
+	@Test
+	public void testFetchGamesByStatus_InvalidStatusOrLimit() {
+
+		assertThrows(ValidationException.class, () -> gameService.fetchGamesByStatus("paused", 10));
+		assertThrows(ValidationException.class, () -> gameService.fetchGamesByStatus("ongoing", 0));
+		assertThrows(ValidationException.class,
+				() -> gameService.fetchGamesByStatus("ongoing", Constants.MAX_GAME_IDS_PER_REQUEST + 1));
+		verify(gameRepository, never()).findSummariesByGameStatus(any(), any());
+	}
+
+	@Test
+	public void testFetchGameTurns_InvalidTurnRange() {
+
+		String id = gameId.toString();
+		assertThrows(ValidationException.class, () -> gameService.fetchGameTurns(id, 0, 10));
+		assertThrows(ValidationException.class, () -> gameService.fetchGameTurns(id, 1, 0));
+		assertThrows(ValidationException.class,
+				() -> gameService.fetchGameTurns(id, 1, Constants.MAX_TURNS_PER_REQUEST + 1));
+		assertThrows(ValidationException.class, () -> gameService.fetchGameAtTurn(id, -1));
+		verifyNoInteractions(gameTurnRepository);
+		verify(gameRepository, never()).findWithPlayersByGameId(any());
+	}
+
+	@Test
+	public void testFetchLeaderboard_InvalidRankRange() {
+
+		assertThrows(ValidationException.class, () -> gameService.fetchLeaderboard(0, 10));
+		assertThrows(ValidationException.class, () -> gameService.fetchLeaderboard(1, 0));
+		assertThrows(ValidationException.class,
+				() -> gameService.fetchLeaderboard(1, Constants.MAX_LEADERBOARD_PAGE + 1));
+		assertThrows(ValidationException.class, () -> gameService.fetchPlayerStats(7L));
+		verify(playerLeaderboard, never()).page(anyInt(), anyInt());
+	}
+
+	@Test
+	public void testFetchGameSummary_ReadsProjectionsWithoutBoards() {
+
+		GameSummaryProjection summary = mock(GameSummaryProjection.class);
+		when(summary.getGameId()).thenReturn(gameId);
+		when(summary.getGameStatus()).thenReturn(GameStatus.ONGOING);
+		when(summary.getCurrentPlayerId()).thenReturn(1L);
+		when(summary.getPlayer1Id()).thenReturn(1L);
+		when(summary.getPlayer2Id()).thenReturn(2L);
+		when(cacheManager.getCache("games")).thenReturn(gamesCache);
+		when(gameRepository.findSummaryByGameId(gameId)).thenReturn(Optional.of(summary));
+		GameShipDTO sunkShip = GameShipDTO.builder().gameShipId(5L).shipStatus("SUNK").build();
+		when(gameShipService.fetchShipStatuses(List.of(1L, 2L))).thenReturn(Map.of(2L, List.of(sunkShip)));
+
+		GameDTO result = gameService.fetchGameSummary(gameId.toString());
+
+		assertEquals("ONGOING", result.getGameStatus());
+		assertEquals(1L, result.getCurrentPlayerId());
+		assertTrue(result.getPlayer1().getGameShips().isEmpty());
+		assertSame(sunkShip, result.getPlayer2().getGameShips().get(0));
+		assertNull(result.getPlayer2().getGameBoard());
+		verify(gameRepository, never()).findWithPlayersByGameId(any());
+	}
+
+	@Test
+	public void testCreateGame_DuplicatePlayerNames() {
+
+		List<GameCreationRequest> gameCreationRequests = Arrays.asList(
+				new GameCreationRequest("Player1", Collections.emptyList()),
+				new GameCreationRequest("Player1", Collections.emptyList()));
+
+		when(playerService.validatePlayer("Player1")).thenReturn(new PlayerEntity());
+
+		assertThrows(ValidationException.class, () -> gameService.createGame(gameCreationRequests));
+	}
+
+	@Test
+	public void testPlayerTurn_InvalidGameId_NullGameEntity() {
+
+		UUID invalidGameId = UUID.randomUUID();
+		GamePlayRequest request = new GamePlayRequest(invalidGameId.toString(), player1.getGamePlayerId(),
+				gameShipLocationRequest);
+
+		when(gameRepository.findWithPlayersByGameId(invalidGameId)).thenReturn(Optional.empty());
+
+		assertThrows(ValidationException.class, () -> gameService.playerTurn(request));
+	}
+
+	@Test
+	public void testPlayerTurn_InvalidCurrentPlayerId() {
+
+		Long invalidPlayerId = 1L;
+		GamePlayRequest request = new GamePlayRequest(gameId.toString(), invalidPlayerId, gameShipLocationRequest);
+
+		when(gameRepository.findWithPlayersByGameId(gameId)).thenReturn(Optional.of(gameEntity));
+		when(gamePlayerRepository.findById(invalidPlayerId)).thenReturn(Optional.empty());
+
+		assertThrows(ValidationException.class, () -> gameService.playerTurn(request));
+	}
+
+	@Test
+	public void testPlayerTurn_UnknownToActiveGameIndexSkipsStore() {
+
+		ActiveGameIndex activeGameIndex = new ActiveGameIndex(gameStateStore, moveRejections, true, 60_000, 1024);
+		gameService = new GameService(gameStateStore, activeGameIndex, playerLeaderboard, gameEventBus,
+				gameShipService, env, playerService, cacheManager);
+		GamePlayRequest request = new GamePlayRequest(gameId.toString(), player1.getGamePlayerId(),
+				gameShipLocationRequest);
+
+		assertThrows(ValidationException.class, () -> gameService.playerTurn(request));
+		verify(gameRepository, never()).findWithPlayersByGameId(any());
+		verify(gamePlayerRepository, never()).findById(any());
+	}
+
+	@Test
+	public void testPlayerTurn_GameOver() {
+
+		Long invalidPlayerId = 1L;
+
+		GamePlayRequest request = new GamePlayRequest(gameId.toString(), invalidPlayerId, gameShipLocationRequest);
+
+		when(gameRepository.findWithPlayersByGameId(gameId)).thenReturn(Optional.of(gameEntity));
+		when(gamePlayerRepository.findById(player1.getGamePlayerId())).thenReturn(Optional.of(player1));
+		GameGridEntity attackedGrid = new GameGridEntity();
+		attackedGrid.setGridValue(GridValue.NOT_ATTACKED);
+		when(gameGridService.fetchGameGrid(0, 0, player2)).thenReturn(attackedGrid);
+
+		GamePlayResponse result = gameService.playerTurn(request);
+
+		assertNotNull(result);
+		assertEquals(GameStatus.COMPLETED, gameEntity.getGameStatus());
+		assertNotNull(gameEntity.getWinner());
+		assertFalse(gameEntity.getPlayer1().getPlayer().getIsPlaying());
+		assertFalse(gameEntity.getPlayer2().getPlayer().getIsPlaying());
+		assertFalse(gameEntity.getPlayer1().getPlayer().getIsLocked());
+		assertFalse(gameEntity.getPlayer2().getPlayer().getIsLocked());
+		verify(gameEventBus).turnPlayed(gameId, player1.getGamePlayerId(), gameShipLocationRequest, result);
+	}
+
+	@Test
+	public void testPlayerTurn_CompletedGame() {
+
+		gameEntity.setGameStatus(GameStatus.COMPLETED);
+		GamePlayRequest request = new GamePlayRequest(gameId.toString(), player1.getGamePlayerId(),
+				gameShipLocationRequest);
+
+		when(gameRepository.findWithPlayersByGameId(gameId)).thenReturn(Optional.of(gameEntity));
+		when(gamePlayerRepository.findById(player1.getGamePlayerId())).thenReturn(Optional.of(player1));
+
+		assertThrows(ValidationException.class, () -> gameService.playerTurn(request));
+		verify(gameGridService, never()).fetchGameGrid(anyInt(), anyInt(), any());
+		verify(gameTurnRepository, never()).save(any());
+	}
+}
@@ -2,6 +2,7 @@ package com.api.backend.service;
 
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 import java.util.ArrayList;
@@ -20,10 +21,8 @@ import org.springframework.core.env.Environment;
 
 import com.api.backend.dto.GameShipDTO;
 import com.api.backend.dto.ShipDTO;
-import com.api.backend.entity.GameGridEntity;
 import com.api.backend.entity.GamePlayerEntity;
 import com.api.backend.entity.GameShipEntity;
-import com.api.backend.entity.GridValue;
 import com.api.backend.entity.ShipEntity;
 import com.api.backend.entity.ShipStatus;
 import com.api.backend.exception.ValidationException;
@@ -31,6 +30,7 @@ import com.api.backend.repository.GameShipRepository;
 import com.api.backend.repository.ShipRepository;
 import com.api.backend.request.GameShipLocationRequest;
 import com.api.backend.request.GameShipRequest;
+import com.api.backend.utils.Constants;
 
 @ExtendWith(MockitoExtension.class)
 class GameShipServiceTest {
@@ -59,6 +59,21 @@ class GameShipServiceTest {
         shipEntity.setShipLength(3);
     }
 
+    @Test
+    void testFetchShipStatuses_BatchesTheGamePlayerIds() {
+        List<Long> gamePlayerIds = new ArrayList<>();
+        for (long id = 1; id <= 2 * Constants.IN_LIST_BATCH_SIZE + 1; id++) {
+            gamePlayerIds.add(id);
+        }
+        when(gameShipRepository.findStatusesByGamePlayerIds(anyCollection())).thenReturn(Collections.emptyList());
+
+        assertTrue(gameShipService.fetchShipStatuses(gamePlayerIds).isEmpty());
+
+        verify(gameShipRepository, times(2)).findStatusesByGamePlayerIds(
+                argThat(batch -> batch.size() == Constants.IN_LIST_BATCH_SIZE));
+        verify(gameShipRepository).findStatusesByGamePlayerIds(List.of(2L * Constants.IN_LIST_BATCH_SIZE + 1));
+    }
+
     @Test
     void testConvertToDTO() {
         GameShipEntity gameShipEntity = new GameShipEntity();
@@ -188,6 +203,18 @@ class GameShipServiceTest {
         assertThrows(ValidationException.class, () -> gameShipService.validateGameShipGrids(shipsInfo));
     }
 
+    @Test
+    void testValidateGameShipGrids_ShouldThrowValidationException_OutOfBounds() {
+        GameShipRequest request1 = new GameShipRequest();
+        request1.setGameShipLocations(Arrays.asList(
+            new GameShipLocationRequest(9, 0),
+            new GameShipLocationRequest(10, 0)
+        ));
+        List<GameShipRequest> shipsInfo = Collections.singletonList(request1);
+
+        assertThrows(ValidationException.class, () -> gameShipService.validateGameShipGrids(shipsInfo));
+    }
+
     @Test
     void testAreAdjacent_Horizontal() {
         List<GameShipLocationRequest> locations = Arrays.asList(
@@ -257,48 +284,34 @@ class GameShipServiceTest {
     }
 
     @Test
-    void testUpdateGameShipStatus_ShipIsNull() {
-        GamePlayerEntity currentPlayer = new GamePlayerEntity();
-        currentPlayer.setGameShips(new ArrayList<>());
-        gameShipService.updateGameShipStatus(null, currentPlayer);
-
-        verify(gameShipRepository, never()).save(any());
-        assertEquals(0, currentPlayer.getGameShips().size());
-    }
-
-    @Test
-    void testUpdateGameShipStatus_ShipIsNotSunk() {
-    	GamePlayerEntity currentPlayer = new GamePlayerEntity();
+    void testHitGameShip() {
         GameShipEntity gameShipEntity = new GameShipEntity();
-        gameShipEntity.setShip(new ShipEntity());
-        List<GameGridEntity> grids=new ArrayList<>();
-        GameGridEntity gameGrid=new GameGridEntity();
-        gameGrid.setGridValue(GridValue.NOT_ATTACKED);
-        grids.add(gameGrid);
-        gameShipEntity.setGameShipGrids(grids);
-        currentPlayer.addGameShip(gameShipEntity);
+        ShipEntity ship = new ShipEntity();
+        ship.setShipLength(2);
+        gameShipEntity.setShip(ship);
+        gameShipEntity.setShipStatus(ShipStatus.NOT_SUNK);
 
-        gameShipService.updateGameShipStatus(gameShipEntity, currentPlayer);
+        assertEquals(1, gameShipService.hitGameShip(gameShipEntity));
+        assertEquals(2, gameShipService.hitGameShip(gameShipEntity));
 
         verify(gameShipRepository, never()).save(any());
-        assertEquals(1, currentPlayer.getGameShips().size());
+        assertEquals(ShipStatus.NOT_SUNK, gameShipEntity.getShipStatus());
     }
 
     @Test
-    void testUpdateGameShipStatus_ShipIsSunk() {
+    void testSinkGameShip() {
         GamePlayerEntity currentPlayer = new GamePlayerEntity();
+        currentPlayer.setShipsRemaining(3);
         GameShipEntity gameShipEntity = new GameShipEntity();
-        gameShipEntity.setShip(new ShipEntity());
-        List<GameGridEntity> grids=new ArrayList<>();
-        GameGridEntity gameGrid=new GameGridEntity();
-        gameGrid.setGridValue(GridValue.ATTACKED);
-        grids.add(gameGrid);
-        gameShipEntity.setGameShipGrids(grids);
+        ShipEntity ship = new ShipEntity();
+        ship.setShipLength(1);
+        gameShipEntity.setShip(ship);
         currentPlayer.addGameShip(gameShipEntity);
 
-        gameShipService.updateGameShipStatus(gameShipEntity, currentPlayer);
+        gameShipService.sinkGameShip(gameShipEntity, currentPlayer);
 
         verify(gameShipRepository, times(1)).save(gameShipEntity);
         assertEquals(ShipStatus.SUNK, gameShipEntity.getShipStatus());
+        assertEquals(2, currentPlayer.getShipsRemaining());
     }
 }
@@ -0,0 +1,184 @@
+package com.api.backend.store;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.core.env.Environment;
+
+import com.api.backend.dto.GameDTO;
+import com.api.backend.dto.GamePlayerDTO;
+import com.api.backend.entity.GameStatus;
+import com.api.backend.exception.MoveRejectionCatalog;
+import com.api.backend.exception.ValidationException;
+import com.api.backend.request.GameShipLocationRequest;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ActiveGameIndexTest {
+
+	private final UUID gameId = UUID.randomUUID();
+
+	@Mock
+	private GameStateStore gameStateStore;
+
+	@Mock
+	private Environment env;
+
+	private ActiveGameIndex index;
+
+	@BeforeEach
+	void setUp() {
+		when(env.getProperty("GameService.INVALID_GAME_ID")).thenReturn("unknown game");
+		when(env.getProperty("GameService.PLAYER_NOT_FOUND")).thenReturn("unknown player");
+		when(env.getProperty("GameService.PLAYER_TURN-OVER")).thenReturn("turn over");
+		when(env.getProperty("GameGridService.COORDINATES_NOT_EXISTS")).thenReturn("off board");
+		when(env.getProperty("GameGridService.ALREADY_ATTACKED")).thenReturn("attacked");
+		doAnswer(invocation -> {
+			invocation.<Consumer<GameDTO>>getArgument(1).accept(game(gameId, 11L));
+			return null;
+		}).when(gameStateStore).forEachGame(eq(GameStatus.ONGOING), any());
+		index = new ActiveGameIndex(gameStateStore, new MoveRejectionCatalog(env), true, 60_000, 1024);
+		index.loadOngoingGames();
+	}
+
+	@Test
+	void testCheckTurn_RejectsInvalidTurns() {
+		assertEquals("unknown game", reject(UUID.randomUUID(), 11L, location(0, 0)));
+		assertEquals("unknown player", reject(gameId, 13L, location(0, 0)));
+		assertEquals("turn over", reject(gameId, 12L, location(0, 0)));
+		assertEquals("off board", reject(gameId, 11L, location(0, 10)));
+		assertDoesNotThrow(() -> index.checkTurn(gameId, 11L, location(0, 0)));
+	}
+
+	@Test
+	void testRecordTurn_PassesTurnAndRemembersShots() {
+		index.recordTurn(gameId, 11L, location(4, 4), false);
+		index.recordTurn(gameId, 12L, location(4, 4), false);
+
+		assertEquals("attacked", reject(gameId, 11L, location(4, 4)));
+		assertDoesNotThrow(() -> index.checkTurn(gameId, 11L, location(4, 5)));
+
+		index.recordTurn(gameId, 11L, location(4, 5), true);
+
+		assertEquals("unknown game", reject(gameId, 12L, location(0, 0)));
+		assertEquals(0, index.size());
+	}
+
+	@Test
+	void testTrackNewGame_StartsWithFirstPlayer() {
+		UUID newGameId = UUID.randomUUID();
+		when(gameStateStore.loadSummary(newGameId)).thenReturn(Optional.of(game(newGameId, 21L)));
+
+		index.trackNewGame(newGameId);
+
+		assertEquals("turn over", reject(newGameId, 22L, location(0, 0)));
+		assertDoesNotThrow(() -> index.checkTurn(newGameId, 21L, location(0, 0)));
+	}
+
+	@Test
+	void testExpireIdleGames_ReloadsTheGameOnItsNextTurn() {
+		when(gameStateStore.loadSummary(gameId)).thenReturn(Optional.of(game(gameId, 11L)));
+		index.recordTurn(gameId, 11L, location(4, 4), false);
+
+		index.expireIdleGames(System.currentTimeMillis() + 30_000);
+		assertEquals(1, index.size());
+		index.expireIdleGames(System.currentTimeMillis() + 120_000);
+		assertEquals(0, index.size());
+
+		assertDoesNotThrow(() -> index.checkTurn(gameId, 11L, location(0, 0)));
+		assertEquals(1, index.size());
+		verify(gameStateStore).loadSummary(gameId);
+	}
+
+	@Test
+	void testCheckTurn_LooksUpGamesMissingFromTheIndex() {
+		UUID otherGameId = UUID.randomUUID();
+		when(gameStateStore.loadSummary(otherGameId)).thenReturn(Optional.of(game(otherGameId, 31L)));
+
+		assertEquals("turn over", reject(otherGameId, 32L, location(0, 0)));
+		assertDoesNotThrow(() -> index.checkTurn(otherGameId, 31L, location(0, 0)));
+		verify(gameStateStore).loadSummary(otherGameId);
+	}
+
+	@Test
+	void testCheckTurn_ReadsTheStoreOnceForAnUnknownGame() {
+		UUID unknownGameId = UUID.randomUUID();
+		when(gameStateStore.loadSummary(unknownGameId)).thenReturn(Optional.empty());
+
+		for (int i = 0; i < 10; i++) {
+			assertEquals("unknown game", reject(unknownGameId, 11L, location(0, 0)));
+		}
+		verify(gameStateStore, times(1)).loadSummary(unknownGameId);
+		assertEquals(1, index.tombstoneCount());
+	}
+
+	@Test
+	void testRecordTurn_RejectsShotsAtACompletedGameWithoutTheStore() {
+		index.recordTurn(gameId, 11L, location(4, 5), true);
+
+		for (int i = 0; i < 10; i++) {
+			assertEquals("unknown game", reject(gameId, 12L, location(0, 0)));
+		}
+		verify(gameStateStore, never()).loadSummary(gameId);
+	}
+
+	@Test
+	void testTombstones_AreBounded() {
+		for (int i = 0; i < 2048; i++) {
+			reject(UUID.randomUUID(), 11L, location(0, 0));
+		}
+
+		assertTrue(index.tombstoneCount() <= 1024);
+	}
+
+	@Test
+	void testDisabled_AcceptsEverythingWithoutLoading() {
+		GameStateStore store = mock(GameStateStore.class);
+		ActiveGameIndex disabled = new ActiveGameIndex(store, new MoveRejectionCatalog(env), false, 60_000, 1024);
+		disabled.loadOngoingGames();
+		disabled.trackNewGame(gameId);
+
+		assertDoesNotThrow(() -> disabled.checkTurn(UUID.randomUUID(), 1L, location(0, 10)));
+		verifyNoInteractions(store);
+	}
+
+	private String reject(UUID gameId, Long gamePlayerId, GameShipLocationRequest attackedGrid) {
+		return assertThrows(ValidationException.class, () -> index.checkTurn(gameId, gamePlayerId, attackedGrid))
+				.getMessage();
+	}
+
+	/**
+	 * An ongoing game between game players firstId and firstId + 1, with the first to play.
+	 */
+	private GameDTO game(UUID gameId, Long firstId) {
+		return GameDTO.builder().gameId(gameId).gameStatus(GameStatus.ONGOING.toString()).currentPlayerId(firstId)
+				.player1(GamePlayerDTO.builder().gamePlayerId(firstId).build())
+				.player2(GamePlayerDTO.builder().gamePlayerId(firstId + 1).build()).build();
+	}
+
+	private GameShipLocationRequest location(int rowIndex, int columnIndex) {
+		return GameShipLocationRequest.builder().rowIndex(rowIndex).columnIndex(columnIndex).build();
+	}
+}
@@ -0,0 +1,182 @@
+package com.api.backend.store;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.util.BitSet;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.api.backend.store.GameSlotFile.GameSlot;
+import com.api.backend.store.GameSlotFile.Outcome;
+import com.api.backend.store.GameSlotFile.Side;
+
+class GameSlotFileTest {
+
+	@TempDir
+	Path dir;
+
+	@Test
+	void testCreate_ReadsBackPlayersAndFleets() throws Exception {
+		try (GameSlotFile file = new GameSlotFile(dir.resolve("games.slots"), 4)) {
+			UUID gameId = UUID.randomUUID();
+			GameSlot created = file.create(gameId, 1234L, side(1L, "Alice1"), side(2L, "Bob2"));
+
+			GameSlot slot = file.read(gameId);
+
+			assertEquals(created.getPlayers()[0].getGamePlayerId(), slot.getPlayers()[0].getGamePlayerId());
+			assertEquals(slot.getPlayers()[0].getGamePlayerId() + 1, slot.getPlayers()[1].getGamePlayerId());
+			assertEquals("Bob2", slot.getPlayers()[1].getPlayerName());
+			assertEquals(1234L, slot.getCreatedAt());
+			assertEquals(0, slot.getCurrentPlayer());
+			assertEquals(-1, slot.getWinner());
+			assertEquals(2, slot.getPlayers()[1].getShipIds().length);
+			assertEquals(cells(0, 1), slot.getPlayers()[1].getShipCells()[0]);
+			assertNull(file.read(UUID.randomUUID()));
+		}
+	}
+
+	@Test
+	void testShoot_PlaysTurnsUntilFleetIsSunk() throws Exception {
+		try (GameSlotFile file = new GameSlotFile(dir.resolve("games.slots"), 4)) {
+			UUID gameId = UUID.randomUUID();
+			GameSlot slot = file.create(gameId, 0L, side(1L, "Alice1"), side(2L, "Bob2"));
+			long first = slot.getPlayers()[0].getGamePlayerId();
+			long second = slot.getPlayers()[1].getGamePlayerId();
+
+			assertEquals(Outcome.UNKNOWN_PLAYER, file.shoot(gameId, 99L, 0).getOutcome());
+			assertEquals(Outcome.NOT_YOUR_TURN, file.shoot(gameId, second, 0).getOutcome());
+			assertEquals(Outcome.HIT, file.shoot(gameId, first, 0).getOutcome());
+			assertEquals(Outcome.MISS, file.shoot(gameId, second, 99).getOutcome());
+			assertEquals(Outcome.ALREADY_ATTACKED, file.shoot(gameId, first, 0).getOutcome());
+			assertEquals(Outcome.SUNK, file.shoot(gameId, first, 1).getOutcome());
+			file.shoot(gameId, second, 98);
+			GameSlotFile.Shot last = file.shoot(gameId, first, 70);
+
+			assertEquals(Outcome.SUNK, last.getOutcome());
+			assertEquals(2L, last.getShipId());
+			assertTrue(last.isGameOver());
+			assertEquals(first, last.getWinnerId());
+			GameSlot completed = file.read(gameId);
+			assertTrue(completed.isCompleted());
+			assertEquals(0, completed.getWinner());
+			assertEquals(5, completed.getVersion());
+			assertEquals(cells(0, 1, 70), completed.getPlayers()[1].getShots());
+
+			assertEquals(Outcome.GAME_OVER, file.shoot(gameId, second, 5).getOutcome());
+			assertEquals(5, file.read(gameId).getVersion());
+			assertEquals(cells(98, 99), file.read(gameId).getPlayers()[0].getShots());
+		}
+	}
+
+	@Test
+	void testOpen_ExistingFileKeepsGames() throws Exception {
+		Path path = dir.resolve("games.slots");
+		UUID gameId = UUID.randomUUID();
+		long first;
+		try (GameSlotFile file = new GameSlotFile(path, 4)) {
+			first = file.create(gameId, 0L, side(1L, "Alice1"), side(2L, "Bob2")).getPlayers()[0].getGamePlayerId();
+			file.shoot(gameId, first, 0);
+		}
+
+		try (GameSlotFile file = new GameSlotFile(path, 16)) {
+			assertEquals(4, file.capacity());
+			assertEquals(1, file.size());
+			GameSlot slot = file.read(gameId);
+			assertEquals(1, slot.getCurrentPlayer());
+			assertTrue(slot.getPlayers()[1].getShots().get(0));
+			UUID next = UUID.randomUUID();
+			assertEquals(first + 2, file.create(next, 0L, side(3L, "Carl3"), side(4L, "Dan4")).getPlayers()[0]
+					.getGamePlayerId());
+		}
+	}
+
+	@Test
+	void testRelease_FreesSlotForReuse() throws Exception {
+		try (GameSlotFile file = new GameSlotFile(dir.resolve("games.slots"), 1)) {
+			UUID gameId = UUID.randomUUID();
+			file.create(gameId, 0L, side(1L, "Alice1"), side(2L, "Bob2"));
+			assertNull(file.create(UUID.randomUUID(), 0L, side(3L, "Carl3"), side(4L, "Dan4")));
+
+			assertTrue(file.release(gameId));
+
+			assertFalse(file.release(gameId));
+			assertNull(file.read(gameId));
+			assertEquals(Outcome.UNKNOWN_GAME, file.shoot(gameId, 1L, 0).getOutcome());
+			UUID reused = UUID.randomUUID();
+			file.create(reused, 0L, side(3L, "Carl3"), side(4L, "Dan4"));
+			assertEquals("Carl3", file.read(reused).getPlayers()[0].getPlayerName());
+		}
+	}
+
+	@Test
+	void testCreate_FullFileKeepsCompletedGames() throws Exception {
+		try (GameSlotFile file = new GameSlotFile(dir.resolve("games.slots"), 1)) {
+			UUID gameId = UUID.randomUUID();
+			complete(file, file.create(gameId, 1L, side(1L, "Alice1"), side(2L, "Bob2")));
+
+			assertNull(file.create(UUID.randomUUID(), 2L, side(3L, "Carl3"), side(4L, "Dan4")));
+			assertTrue(file.read(gameId).isCompleted());
+			assertEquals(0, file.getRecycled());
+		}
+	}
+
+	@Test
+	void testCreate_FullFileRecyclesTheFirstCompletedGame() throws Exception {
+		Path path = dir.resolve("games.slots");
+		UUID first = UUID.randomUUID();
+		UUID second = UUID.randomUUID();
+		try (GameSlotFile file = new GameSlotFile(path, 2, true)) {
+			complete(file, file.create(second, 2L, side(3L, "Carl3"), side(4L, "Dan4")));
+			complete(file, file.create(first, 1L, side(1L, "Alice1"), side(2L, "Bob2")));
+		}
+
+		try (GameSlotFile file = new GameSlotFile(path, 2, true)) {
+			UUID next = UUID.randomUUID();
+			assertNotNull(file.create(next, 3L, side(5L, "Eve5"), side(6L, "Finn6")));
+			assertNull(file.read(first));
+			assertTrue(file.read(second).isCompleted());
+
+			UUID last = UUID.randomUUID();
+			assertNotNull(file.create(last, 4L, side(7L, "Gus7"), side(8L, "Hal8")));
+			assertNull(file.read(second));
+			assertNull(file.create(UUID.randomUUID(), 5L, side(9L, "Ida9"), side(10L, "Jo10")));
+			assertEquals(2, file.size());
+			assertEquals(2, file.getRecycled());
+		}
+	}
+
+	/**
+	 * Sinks the fleet of the second player of a game.
+	 */
+	private void complete(GameSlotFile file, GameSlot slot) {
+		long first = slot.getPlayers()[0].getGamePlayerId();
+		long second = slot.getPlayers()[1].getGamePlayerId();
+		file.shoot(slot.getGameId(), first, 0);
+		file.shoot(slot.getGameId(), second, 99);
+		file.shoot(slot.getGameId(), first, 1);
+		file.shoot(slot.getGameId(), second, 98);
+		assertTrue(file.shoot(slot.getGameId(), first, 70).isGameOver());
+	}
+
+	/**
+	 * A fleet with ship 1 on cells 0 and 1 and ship 2 on cell 70.
+	 */
+	private Side side(long playerId, String playerName) {
+		return new Side(playerId, playerName, new long[] { 1L, 2L }, new BitSet[] { cells(0, 1), cells(70) });
+	}
+
+	private BitSet cells(int... cells) {
+		BitSet bits = new BitSet();
+		for (int cell : cells) {
+			bits.set(cell);
+		}
+		return bits;
+	}
+}
@@ -0,0 +1,323 @@
+package com.api.backend.store;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.modelmapper.ModelMapper;
+import org.springframework.core.env.Environment;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.api.backend.dto.GameDTO;
+import com.api.backend.dto.GameTurnDTO;
+import com.api.backend.dto.ShipDTO;
+import com.api.backend.entity.GameStatus;
+import com.api.backend.entity.PlayerEntity;
+import com.api.backend.exception.MoveRejectionCatalog;
+import com.api.backend.exception.ValidationException;
+import com.api.backend.repository.PlayerRepository;
+import com.api.backend.request.GameCreationRequest;
+import com.api.backend.request.GameShipLocationRequest;
+import com.api.backend.request.GameShipRequest;
+import com.api.backend.request.PlayerInputRequest;
+import com.api.backend.response.GamePlayResponse;
+import com.api.backend.service.GameShipService;
+import com.api.backend.service.PlayerService;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class InMemoryGameStateStoreTest {
+
+	@Mock
+	private GameShipService gameShipService;
+
+	@Mock
+	private PlayerService playerService;
+
+	@Mock
+	private Environment env;
+
+	private InMemoryGameStateStore store;
+
+	@BeforeEach
+	void setUp() {
+		when(gameShipService.getShips()).thenReturn(
+				List.of(ShipDTO.builder().shipId(1L).shipName("Destroyer").shipLength(2).build()));
+		when(env.getProperty("GameService.PLAYER_TURN-OVER")).thenReturn("turn over");
+		when(env.getProperty("GameService.INVALID_GAME_ID")).thenReturn("invalid game");
+		store = new InMemoryGameStateStore(gameShipService, playerService, env,
+				new MoveRejectionCatalog(env), 60_000);
+	}
+
+	@Test
+	void testCreateGame_RemovedWhenTheTransactionRollsBack() {
+		UUID kept = createGame();
+		TransactionSynchronizationManager.initSynchronization();
+		UUID rolledBack;
+		try {
+			rolledBack = createGame();
+			for (TransactionSynchronization synchronization : TransactionSynchronizationManager
+					.getSynchronizations()) {
+				synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+			}
+		} finally {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+
+		assertTrue(store.loadGame(rolledBack).isEmpty());
+		assertTrue(store.loadGame(kept).isPresent());
+	}
+
+	@Test
+	void testExpireIdleGames_RemovesGamesWithoutRecentTurns() {
+		UUID gameId = createGame();
+		long now = System.currentTimeMillis();
+
+		store.expireIdleGames(now + 30_000);
+		assertEquals(1, store.size());
+		store.expireIdleGames(now + 61_000);
+
+		assertEquals(0, store.size());
+		assertTrue(store.loadGame(gameId).isEmpty());
+	}
+
+	@Test
+	void testExpireIdleGames_ReleasesThePlayersOfOngoingGames() {
+		Map<String, PlayerEntity> entities = new HashMap<>();
+		PlayerRepository playerRepository = mock(PlayerRepository.class);
+		when(playerRepository.save(any())).thenAnswer(invocation -> {
+			PlayerEntity player = invocation.getArgument(0);
+			if (player.getPlayerId() == null) {
+				player.setPlayerId((long) entities.size() + 1);
+			}
+			entities.put(player.getPlayerName(), player);
+			return player;
+		});
+		when(playerRepository.findByplayerName(anyString()))
+				.thenAnswer(invocation -> entities.get(invocation.<String>getArgument(0)));
+		when(playerRepository.findAllById(any())).thenAnswer(invocation -> entities.values().stream()
+				.filter(player -> invocation.<Collection<Long>>getArgument(0).contains(player.getPlayerId()))
+				.collect(Collectors.toList()));
+		PlayerService players = new PlayerService(new ModelMapper(), playerRepository, env);
+		store = new InMemoryGameStateStore(gameShipService, players, env, new MoveRejectionCatalog(env), 60_000);
+		UUID expired = createGame(players);
+
+		store.expireIdleGames(System.currentTimeMillis() + 61_000);
+
+		assertTrue(store.loadGame(expired).isEmpty());
+		assertFalse(players.fetchPlayerByPlayerName("Alice1").getIsPlaying());
+		UUID next = createGame(players);
+		assertEquals("ONGOING", store.loadGame(next).orElseThrow().getGameStatus());
+	}
+
+	@Test
+	void testLoadGame_BuildsFullView() {
+		UUID gameId = createGame();
+
+		GameDTO game = store.loadGame(gameId).orElseThrow();
+
+		assertEquals("ONGOING", game.getGameStatus());
+		assertEquals(game.getPlayer1().getGamePlayerId(), game.getCurrentPlayerId());
+		assertEquals(100, game.getPlayer2().getGameBoard().size());
+		assertEquals(2, game.getPlayer2().getGameShips().get(0).getGameShipGrids().size());
+		assertNull(store.loadSummary(gameId).orElseThrow().getPlayer1().getGameBoard());
+		assertTrue(store.loadGame(UUID.randomUUID()).isEmpty());
+		assertEquals(1, store.loadGames(List.of(gameId, UUID.randomUUID())).size());
+	}
+
+	@Test
+	void testApplyTurn_SinkingFleetCompletesGameAndReleasesPlayers() {
+		UUID gameId = createGame();
+		GameDTO game = store.loadGame(gameId).orElseThrow();
+		Long first = game.getPlayer1().getGamePlayerId();
+		Long second = game.getPlayer2().getGamePlayerId();
+
+		assertEquals("NOT_SUNK", store.applyTurn(gameId, first, location(0, 0)).getGameShipHitOrSunked()
+				.getGameShipStatus());
+		assertThrows(ValidationException.class, () -> store.applyTurn(gameId, first, location(0, 1)));
+		assertThrows(ValidationException.class, () -> store.applyTurn(UUID.randomUUID(), first, location(0, 1)));
+		assertNull(store.applyTurn(gameId, second, location(9, 9)).getGameShipHitOrSunked());
+		GamePlayResponse sunk = store.applyTurn(gameId, first, location(0, 1));
+
+		assertEquals("SUNK", sunk.getGameShipHitOrSunked().getGameShipStatus());
+		assertEquals(first, sunk.getGameWinnerId());
+		assertEquals(2, sunk.getShotsFired());
+		assertEquals(2, sunk.getShotsHit());
+		assertEquals(0, sunk.getOpponentShipsRemaining());
+		GameDTO summary = store.loadSummary(gameId).orElseThrow();
+		assertEquals(0, summary.getPlayer2().getShipsRemaining());
+		assertEquals(1, summary.getPlayer2().getShotsFired());
+		assertEquals(0, summary.getPlayer2().getShotsHit());
+		assertEquals("COMPLETED", store.loadGame(gameId).orElseThrow().getGameStatus());
+		verify(playerService).releasePlayers(List.of(1L, 2L));
+	}
+
+	@Test
+	void testApplyTurn_RejectsShotsAtACompletedGame() {
+		UUID gameId = createGame();
+		GameDTO game = store.loadGame(gameId).orElseThrow();
+		Long first = game.getPlayer1().getGamePlayerId();
+		Long second = game.getPlayer2().getGamePlayerId();
+		store.applyTurn(gameId, first, location(0, 0));
+		store.applyTurn(gameId, second, location(9, 9));
+		store.applyTurn(gameId, first, location(0, 1));
+
+		assertEquals("invalid game",
+				assertThrows(ValidationException.class, () -> store.applyTurn(gameId, second, location(0, 0)))
+						.getMessage());
+		assertEquals(3, store.loadTurns(gameId, 1, 10).size());
+		assertEquals(1, store.loadSummary(gameId).orElseThrow().getPlayer2().getShotsFired());
+	}
+
+	@Test
+	void testTurnHistory_ListsTurnsAndRewindsBoards() {
+		UUID gameId = createGame();
+		GameDTO game = store.loadGame(gameId).orElseThrow();
+		Long first = game.getPlayer1().getGamePlayerId();
+		Long second = game.getPlayer2().getGamePlayerId();
+		store.applyTurn(gameId, first, location(0, 0));
+		store.applyTurn(gameId, second, location(9, 9));
+		store.applyTurn(gameId, first, location(0, 1));
+
+		List<GameTurnDTO> turns = store.loadTurns(gameId, 2, 5);
+
+		assertEquals(2, turns.size());
+		assertEquals(List.of(2, 3), List.of(turns.get(0).getTurnNumber(), turns.get(1).getTurnNumber()));
+		assertEquals(second, turns.get(0).getGamePlayerId());
+		assertEquals("MISS", turns.get(0).getResult());
+		assertEquals("SUNK", turns.get(1).getResult());
+		assertEquals("HIT", store.loadTurns(gameId, 1, 1).get(0).getResult());
+
+		GameDTO atTurn = store.loadGameAtTurn(gameId, 1).orElseThrow();
+		assertEquals("ONGOING", atTurn.getGameStatus());
+		assertNull(atTurn.getWinnerId());
+		assertEquals(second, atTurn.getCurrentPlayerId());
+		assertEquals(1, atTurn.getPlayer2().getShipsRemaining());
+		assertEquals(1, atTurn.getPlayer1().getShotsHit());
+		assertEquals(1, atTurn.getPlayer2().getGameBoard().stream()
+				.filter(grid -> "ATTACKED".equals(grid.getGridValue())).count());
+		assertEquals(0, store.loadGameAtTurn(gameId, 0).orElseThrow().getPlayer1().getShotsFired());
+		assertEquals("COMPLETED", store.loadGameAtTurn(gameId, 3).orElseThrow().getGameStatus());
+		assertTrue(store.loadGameAtTurn(gameId, 4).isEmpty());
+	}
+
+	@Test
+	void testListGames_FiltersByStatusNewestFirst() throws Exception {
+		UUID older = createGame();
+		Thread.sleep(2);
+		UUID newer = createGame();
+		UUID completed = createGame();
+		GameDTO game = store.loadGame(completed).orElseThrow();
+		store.applyTurn(completed, game.getPlayer1().getGamePlayerId(), location(0, 0));
+		store.applyTurn(completed, game.getPlayer2().getGamePlayerId(), location(9, 9));
+		store.applyTurn(completed, game.getPlayer1().getGamePlayerId(), location(0, 1));
+
+		List<GameDTO> ongoing = store.listGames(GameStatus.ONGOING, 10);
+
+		assertEquals(List.of(newer, older), List.of(ongoing.get(0).getGameId(), ongoing.get(1).getGameId()));
+		assertNull(ongoing.get(0).getPlayer1().getGameBoard());
+		assertEquals(1, store.listGames(GameStatus.ONGOING, 1).size());
+		assertEquals(completed, store.listGames(GameStatus.COMPLETED, 10).get(0).getGameId());
+	}
+
+	@Test
+	void testApplyTurn_ConcurrentGamesDoNotInterfere() throws Exception {
+		List<UUID> gameIds = new ArrayList<>();
+		for (int i = 0; i < 16; i++) {
+			gameIds.add(createGame());
+		}
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+			for (UUID gameId : gameIds) {
+				futures.add(executor.submit(() -> {
+					GameDTO game = store.loadGame(gameId).orElseThrow();
+					Long first = game.getPlayer1().getGamePlayerId();
+					Long second = game.getPlayer2().getGamePlayerId();
+					for (int col = 2; col < 10; col++) {
+						store.applyTurn(gameId, first, location(5, col));
+						store.applyTurn(gameId, second, location(5, col));
+					}
+				}));
+			}
+			for (Future<?> future : futures) {
+				future.get(10, TimeUnit.SECONDS);
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+
+		for (GameDTO game : store.loadGames(gameIds)) {
+			assertEquals(game.getPlayer1().getGamePlayerId(), game.getCurrentPlayerId());
+			assertEquals(8, game.getPlayer2().getGameBoard().stream()
+					.filter(grid -> "ATTACKED".equals(grid.getGridValue())).count());
+		}
+	}
+
+	private UUID createGame() {
+		return store.createGame(List.of(player(1L, "Alice1"), player(2L, "Bob2")),
+				List.of(request("Alice1"), request("Bob2")));
+	}
+
+	/**
+	 * Joins both players and creates a game between them, as the game service
+	 * does.
+	 */
+	private UUID createGame(PlayerService players) {
+		List<PlayerEntity> entities = new ArrayList<>();
+		for (String playerName : List.of("Alice1", "Bob2")) {
+			players.createPlayer(new PlayerInputRequest(playerName));
+			PlayerEntity player = players.validatePlayer(playerName);
+			player.setIsPlaying(true);
+			entities.add(player);
+		}
+		return store.createGame(entities, List.of(request("Alice1"), request("Bob2")));
+	}
+
+	private PlayerEntity player(Long playerId, String playerName) {
+		PlayerEntity player = new PlayerEntity();
+		player.setPlayerId(playerId);
+		player.setPlayerName(playerName);
+		return player;
+	}
+
+	/**
+	 * A request placing the destroyer on the first two cells of the first row.
+	 */
+	private GameCreationRequest request(String playerName) {
+		List<GameShipLocationRequest> locations = new ArrayList<>(List.of(location(0, 0), location(0, 1)));
+		return new GameCreationRequest(playerName,
+				List.of(GameShipRequest.builder().shipId(1L).gameShipLocations(locations).build()));
+	}
+
+	private GameShipLocationRequest location(int rowIndex, int columnIndex) {
+		return GameShipLocationRequest.builder().rowIndex(rowIndex).columnIndex(columnIndex).build();
+	}
+}
@@ -0,0 +1,248 @@
+package com.api.backend.store;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.core.env.Environment;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.api.backend.dto.GameDTO;
+import com.api.backend.dto.GamePlayerDTO;
+import com.api.backend.dto.GameTurnDTO;
+import com.api.backend.dto.ShipDTO;
+import com.api.backend.engine.BoardCodec;
+import com.api.backend.entity.GameStatus;
+import com.api.backend.entity.PlayerEntity;
+import com.api.backend.exception.MoveRejectionCatalog;
+import com.api.backend.exception.ValidationException;
+import com.api.backend.request.GameCreationRequest;
+import com.api.backend.request.GameShipLocationRequest;
+import com.api.backend.request.GameShipRequest;
+import com.api.backend.response.GamePlayResponse;
+import com.api.backend.service.GameShipService;
+import com.api.backend.service.PlayerService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class MappedGameStateStoreTest {
+
+	@TempDir
+	Path dir;
+
+	@Mock
+	private GameShipService gameShipService;
+
+	@Mock
+	private PlayerService playerService;
+
+	@Mock
+	private Environment env;
+
+	private MappedGameStateStore store;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		when(gameShipService.getShips()).thenReturn(
+				List.of(ShipDTO.builder().shipId(1L).shipName("Destroyer").shipLength(2).build()));
+		when(env.getProperty("GameService.PLAYER_TURN-OVER")).thenReturn("turn over");
+		when(env.getProperty("GameGridService.COORDINATES_NOT_EXISTS")).thenReturn("off board");
+		when(env.getProperty("GameService.INVALID_GAME_ID")).thenReturn("invalid game");
+		store = new MappedGameStateStore(dir.resolve("store/games.slots").toString(), 8, false, gameShipService,
+				playerService, env, new MoveRejectionCatalog(env), new SimpleMeterRegistry());
+	}
+
+	@AfterEach
+	void tearDown() throws Exception {
+		store.destroy();
+	}
+
+	@Test
+	void testLoadGame_BuildsFullViewFromSlot() {
+		UUID gameId = createGame();
+
+		GameDTO game = store.loadGame(gameId).orElseThrow();
+
+		assertEquals("ONGOING", game.getGameStatus());
+		assertEquals(game.getPlayer1().getGamePlayerId(), game.getCurrentPlayerId());
+		GamePlayerDTO player2 = game.getPlayer2();
+		assertEquals("Bob2", player2.getPlayer().getPlayerName());
+		assertTrue(player2.getPlayer().getIsPlaying());
+		assertEquals(100, player2.getGameBoard().size());
+		assertEquals("Destroyer", player2.getGameShips().get(0).getShip().getShipName());
+		assertEquals(2, player2.getGameShips().get(0).getGameShipGrids().size());
+		assertEquals(2, BoardCodec.decode(player2.getGameShips().get(0).getCells(),
+				player2.getCompactBoard().getEncoding()).cardinality());
+		assertTrue(store.loadGame(UUID.randomUUID()).isEmpty());
+	}
+
+	@Test
+	void testCreateGame_SlotFreedWhenTheTransactionRollsBack() {
+		TransactionSynchronizationManager.initSynchronization();
+		UUID gameId;
+		try {
+			gameId = createGame();
+			for (TransactionSynchronization synchronization : TransactionSynchronizationManager
+					.getSynchronizations()) {
+				synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+			}
+		} finally {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+
+		assertTrue(store.loadGame(gameId).isEmpty());
+		assertEquals(0, store.listGames(GameStatus.ONGOING, 10).size());
+	}
+
+	@Test
+	void testLoadSummary_OmitsBoards() {
+		UUID gameId = createGame();
+
+		GameDTO summary = store.loadSummary(gameId).orElseThrow();
+
+		assertNull(summary.getPlayer1().getGameBoard());
+		assertNull(summary.getPlayer1().getGameShips().get(0).getGameShipGrids());
+		assertEquals("NOT_SUNK", summary.getPlayer1().getGameShips().get(0).getShipStatus());
+	}
+
+	@Test
+	void testApplyTurn_SinkingFleetCompletesGameAndReleasesPlayers() {
+		UUID gameId = createGame();
+		GameDTO game = store.loadGame(gameId).orElseThrow();
+		Long first = game.getPlayer1().getGamePlayerId();
+		Long second = game.getPlayer2().getGamePlayerId();
+
+		GamePlayResponse hit = store.applyTurn(gameId, first, location(0, 0));
+		assertEquals("NOT_SUNK", hit.getGameShipHitOrSunked().getGameShipStatus());
+		assertThrows(ValidationException.class, () -> store.applyTurn(gameId, first, location(0, 1)));
+		assertNull(store.applyTurn(gameId, second, location(9, 9)).getGameShipHitOrSunked());
+		assertThrows(ValidationException.class, () -> store.applyTurn(gameId, first, location(10, 0)));
+		GamePlayResponse sunk = store.applyTurn(gameId, first, location(0, 1));
+
+		assertEquals("Destroyer", sunk.getGameShipHitOrSunked().getGameShipName());
+		assertEquals("SUNK", sunk.getGameShipHitOrSunked().getGameShipStatus());
+		assertEquals(first, sunk.getGameWinnerId());
+		assertEquals(2, sunk.getShotsFired());
+		assertEquals(2, sunk.getShotsHit());
+		assertEquals(0, sunk.getOpponentShipsRemaining());
+		GameDTO summary = store.loadSummary(gameId).orElseThrow();
+		assertEquals(0, summary.getPlayer2().getShipsRemaining());
+		assertEquals(1, summary.getPlayer2().getShotsFired());
+		assertEquals(0, summary.getPlayer2().getShotsHit());
+		assertEquals("COMPLETED", store.loadGame(gameId).orElseThrow().getGameStatus());
+		verify(playerService).releasePlayers(List.of(1L, 2L));
+	}
+
+	@Test
+	void testApplyTurn_RejectsShotsAtACompletedGame() {
+		UUID gameId = createGame();
+		GameDTO game = store.loadGame(gameId).orElseThrow();
+		Long first = game.getPlayer1().getGamePlayerId();
+		Long second = game.getPlayer2().getGamePlayerId();
+		store.applyTurn(gameId, first, location(0, 0));
+		store.applyTurn(gameId, second, location(9, 9));
+		store.applyTurn(gameId, first, location(0, 1));
+
+		assertEquals("invalid game",
+				assertThrows(ValidationException.class, () -> store.applyTurn(gameId, second, location(0, 0)))
+						.getMessage());
+		assertEquals(3, store.loadTurns(gameId, 1, 10).size());
+		assertEquals(1, store.loadSummary(gameId).orElseThrow().getPlayer2().getShotsFired());
+	}
+
+	@Test
+	void testTurnHistory_SurvivesReopeningTheSlotFile() throws Exception {
+		UUID gameId = createGame();
+		GameDTO game = store.loadGame(gameId).orElseThrow();
+		Long first = game.getPlayer1().getGamePlayerId();
+		Long second = game.getPlayer2().getGamePlayerId();
+		store.applyTurn(gameId, first, location(0, 0));
+		store.applyTurn(gameId, second, location(9, 9));
+		store.destroy();
+		store = new MappedGameStateStore(dir.resolve("store/games.slots").toString(), 8, false, gameShipService,
+				playerService, env, new MoveRejectionCatalog(env), new SimpleMeterRegistry());
+
+		List<GameTurnDTO> turns = store.loadTurns(gameId, 1, 10);
+
+		assertEquals(2, turns.size());
+		assertEquals(first, turns.get(0).getGamePlayerId());
+		assertEquals("HIT", turns.get(0).getResult());
+		assertEquals(9, turns.get(1).getRowIndex());
+		assertEquals(9, turns.get(1).getColumnIndex());
+		assertEquals("MISS", turns.get(1).getResult());
+		GameDTO atTurn = store.loadGameAtTurn(gameId, 1).orElseThrow();
+		assertEquals(second, atTurn.getCurrentPlayerId());
+		assertEquals(1, atTurn.getPlayer1().getShotsFired());
+		assertEquals(0, atTurn.getPlayer2().getShotsFired());
+		assertTrue(store.loadGameAtTurn(gameId, 3).isEmpty());
+	}
+
+	@Test
+	void testLoadGames_SkipsUnknownGames() {
+		UUID gameId = createGame();
+
+		assertEquals(1, store.loadGames(List.of(gameId, UUID.randomUUID())).size());
+	}
+
+	@Test
+	void testListGames_ScansSlotsByStatus() {
+		UUID gameId = createGame();
+		UUID completed = createGame();
+		GameDTO game = store.loadGame(completed).orElseThrow();
+		store.applyTurn(completed, game.getPlayer1().getGamePlayerId(), location(0, 0));
+		store.applyTurn(completed, game.getPlayer2().getGamePlayerId(), location(9, 9));
+		store.applyTurn(completed, game.getPlayer1().getGamePlayerId(), location(0, 1));
+
+		List<GameDTO> ongoing = store.listGames(GameStatus.ONGOING, 10);
+
+		assertEquals(1, ongoing.size());
+		assertEquals(gameId, ongoing.get(0).getGameId());
+		assertNull(ongoing.get(0).getPlayer1().getGameBoard());
+		assertEquals(completed, store.listGames(GameStatus.COMPLETED, 10).get(0).getGameId());
+	}
+
+	private UUID createGame() {
+		return store.createGame(List.of(player(1L, "Alice1"), player(2L, "Bob2")),
+				List.of(request("Alice1"), request("Bob2")));
+	}
+
+	private PlayerEntity player(Long playerId, String playerName) {
+		PlayerEntity player = new PlayerEntity();
+		player.setPlayerId(playerId);
+		player.setPlayerName(playerName);
+		return player;
+	}
+
+	/**
+	 * A request placing the destroyer on the first two cells of the first row.
+	 */
+	private GameCreationRequest request(String playerName) {
+		List<GameShipLocationRequest> locations = new ArrayList<>(List.of(location(0, 0), location(0, 1)));
+		return new GameCreationRequest(playerName,
+				List.of(GameShipRequest.builder().shipId(1L).gameShipLocations(locations).build()));
+	}
+
+	private GameShipLocationRequest location(int rowIndex, int columnIndex) {
+		return GameShipLocationRequest.builder().rowIndex(rowIndex).columnIndex(columnIndex).build();
+	}
+}
@@ -0,0 +1,96 @@
+package com.api.backend.store;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.api.backend.dto.GameDTO;
+import com.api.backend.dto.GamePlayerDTO;
+import com.api.backend.dto.PlayerDTO;
+import com.api.backend.dto.PlayerStatsDTO;
+import com.api.backend.entity.GameStatus;
+
+@ExtendWith(MockitoExtension.class)
+class PlayerLeaderboardTest {
+
+	@Mock
+	private GameStateStore gameStateStore;
+
+	private PlayerLeaderboard leaderboard;
+
+	@BeforeEach
+	void setUp() {
+		// Alice beats Bob in 20 turns, Carol beats Bob in 30 turns
+		doAnswer(invocation -> {
+			Consumer<GameDTO> action = invocation.getArgument(1);
+			action.accept(game(1L, "Alice1", 20, 17, 2L, "Bob2", 19, 9));
+			action.accept(game(3L, "Carol3", 30, 17, 2L, "Bob2", 29, 12));
+			return null;
+		}).when(gameStateStore).forEachGame(eq(GameStatus.COMPLETED), any());
+		leaderboard = new PlayerLeaderboard(gameStateStore);
+		leaderboard.loadCompletedGames();
+	}
+
+	@Test
+	void testLoadCompletedGames_RanksByWinsThenTurnsToWin() {
+		List<PlayerStatsDTO> page = leaderboard.page(1, 10);
+
+		assertEquals(List.of(1L, 3L, 2L), page.stream().map(PlayerStatsDTO::getPlayerId).toList());
+		assertEquals(List.of(1, 2, 3), page.stream().map(PlayerStatsDTO::getRank).toList());
+		PlayerStatsDTO bob = leaderboard.findPlayer(2L).orElseThrow();
+		assertEquals(3, bob.getRank());
+		assertEquals(2, bob.getGamesPlayed());
+		assertEquals(2, bob.getLosses());
+		assertEquals(48, bob.getShotsFired());
+		assertEquals(21.0 / 48, bob.getHitRate());
+		assertNull(bob.getAverageTurnsToWin());
+		assertEquals(List.of(3L), leaderboard.page(2, 1).stream().map(PlayerStatsDTO::getPlayerId).toList());
+		assertTrue(leaderboard.findPlayer(4L).isEmpty());
+	}
+
+	@Test
+	void testRecordCompletedGame_FewerTurnsToWinRanksFirst() {
+		UUID gameId = UUID.randomUUID();
+		when(gameStateStore.loadSummary(gameId)).thenReturn(Optional.of(game(2L, "Bob2", 18, 17, 1L, "Alice1", 17, 5)));
+
+		leaderboard.recordCompletedGame(gameId);
+
+		PlayerStatsDTO bob = leaderboard.findPlayer(2L).orElseThrow();
+		assertEquals(1, bob.getWins());
+		assertEquals(18.0, bob.getAverageTurnsToWin());
+		assertEquals(1, bob.getRank());
+		PlayerStatsDTO alice = leaderboard.findPlayer(1L).orElseThrow();
+		assertEquals(2, alice.getRank());
+		assertEquals(2, alice.getGamesPlayed());
+		assertEquals(20.0, alice.getAverageTurnsToWin());
+		assertEquals(3, leaderboard.page(1, 10).size());
+	}
+
+	private GameDTO game(Long winnerId, String winnerName, int winnerShots, int winnerHits, Long loserId,
+			String loserName, int loserShots, int loserHits) {
+		return GameDTO.builder().gameId(UUID.randomUUID()).gameStatus(GameStatus.COMPLETED.toString())
+				.winnerId(winnerId * 10).player1(gamePlayer(winnerId, winnerName, winnerShots, winnerHits))
+				.player2(gamePlayer(loserId, loserName, loserShots, loserHits)).build();
+	}
+
+	private GamePlayerDTO gamePlayer(Long playerId, String playerName, int shotsFired, int shotsHit) {
+		return GamePlayerDTO.builder().gamePlayerId(playerId * 10)
+				.player(PlayerDTO.builder().playerId(playerId).playerName(playerName).build()).shotsFired(shotsFired)
+				.shotsHit(shotsHit).build();
+	}
+}
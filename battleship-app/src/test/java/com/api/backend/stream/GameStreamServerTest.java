@@ -0,0 +1,198 @@
+package com.api.backend.stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import com.api.backend.bulkhead.Bulkheads;
+import com.api.backend.exception.ValidationException;
+import com.api.backend.filter.ConcurrencyLimitFilter;
+import com.api.backend.filter.RateLimiter;
+import com.api.backend.request.GamePlayRequest;
+import com.api.backend.request.GameShipLocationRequest;
+import com.api.backend.response.GamePlayResponse;
+import com.api.backend.response.GameShipResponse;
+import com.api.backend.service.GameService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class GameStreamServerTest {
+
+	private GameService gameService;
+
+	private GameStreamServer server;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		gameService = mock(GameService.class);
+		UserDetailsService userDetailsService = username -> {
+			if (!"admin".equals(username)) {
+				throw new UsernameNotFoundException(username);
+			}
+			return User.builder().username(username).password(new BCryptPasswordEncoder().encode("secret"))
+					.roles("USER").build();
+		};
+		MockEnvironment env = new MockEnvironment()
+				.withProperty("GameStreamServer.AUTHENTICATION_FAILED", "Invalid username or password.")
+				.withProperty("RateLimiter.RATE_LIMITED", "Too many requests, please retry later.")
+				.withProperty("game.rate-limit.gameplay-player.capacity", "4")
+				.withProperty("game.rate-limit.stream-auth.capacity", "2");
+		SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+		GameStreamAdmission admission = new GameStreamAdmission(new RateLimiter(meterRegistry, env, true, 1024),
+				new ConcurrencyLimitFilter(meterRegistry, new ObjectMapper(), env, true, 50, 4, 400, 250, 1),
+				new Bulkheads(meterRegistry, env, 100), env, true, true, 100);
+		server = new GameStreamServer(gameService, userDetailsService, admission, env, 0, "127.0.0.1", 2, 2, 2, 300,
+				5000);
+		server.start();
+	}
+
+	@AfterEach
+	void tearDown() {
+		server.stop();
+	}
+
+	@Test
+	void testShots_ResultsAndErrorsCarryCorrelationIds() throws Exception {
+		String gameId = UUID.randomUUID().toString();
+		when(gameService.playerTurn(any(GamePlayRequest.class))).thenAnswer(invocation -> {
+			GamePlayRequest request = invocation.getArgument(0);
+			if (request.getAttackedGrid().getRowIndex() == 9) {
+				throw new ValidationException("Provided gameboard coordinates are already attacked.");
+			}
+			return GamePlayResponse.builder().gameId(request.getGameId()).gameShipHitOrSunked(
+					GameShipResponse.builder().gameShipName("Destroyer").gameShipStatus("SUNK").build()).build();
+		});
+
+		try (Socket socket = new Socket("127.0.0.1", server.getPort())) {
+			DataOutputStream out = new DataOutputStream(socket.getOutputStream());
+			DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+			GameStreamProtocol.writeAuth(out, "admin", "secret");
+			assertEquals(2, GameStreamProtocol.read(in).getWindow());
+
+			for (int shot = 1; shot <= 4; shot++) {
+				GameStreamProtocol.writeShot(out, shot, new GamePlayRequest(gameId, 1L, GameShipLocationRequest
+						.builder().rowIndex(shot == 3 ? 9 : shot).columnIndex(0).build()));
+			}
+			out.flush();
+
+			Map<Integer, GameStreamFrame> frames = new HashMap<>();
+			for (int shot = 1; shot <= 4; shot++) {
+				GameStreamFrame frame = GameStreamProtocol.read(in);
+				frames.put(frame.getCorrelationId(), frame);
+			}
+			assertEquals(GameStreamProtocol.RESULT, frames.get(1).getType());
+			assertEquals(gameId, frames.get(1).getResponse().getGameId());
+			assertEquals("SUNK", frames.get(4).getResponse().getGameShipHitOrSunked().getGameShipStatus());
+			assertNull(frames.get(4).getResponse().getGameWinnerId());
+			assertEquals(GameStreamProtocol.ERROR, frames.get(3).getType());
+			assertEquals("Provided gameboard coordinates are already attacked.", frames.get(3).getMessage());
+		}
+	}
+
+	@Test
+	void testAuthenticate_WrongPasswordIsRejected() throws Exception {
+		try (Socket socket = new Socket("127.0.0.1", server.getPort())) {
+			DataOutputStream out = new DataOutputStream(socket.getOutputStream());
+			GameStreamProtocol.writeAuth(out, "admin", "wrong");
+			out.flush();
+
+			GameStreamFrame frame = GameStreamProtocol.read(new DataInputStream(socket.getInputStream()));
+
+			assertEquals(GameStreamProtocol.AUTH_FAILED, frame.getType());
+			assertEquals("Invalid username or password.", frame.getMessage());
+		}
+	}
+
+	@Test
+	void testShots_GamePlayerRateLimitApplies() throws Exception {
+		when(gameService.playerTurn(any(GamePlayRequest.class))).thenAnswer(invocation -> GamePlayResponse
+				.builder().gameId(invocation.<GamePlayRequest>getArgument(0).getGameId()).build());
+
+		List<GameStreamFrame> frames = new ArrayList<>();
+		try (Socket socket = new Socket("127.0.0.1", server.getPort())) {
+			DataOutputStream out = new DataOutputStream(socket.getOutputStream());
+			DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+			GameStreamProtocol.writeAuth(out, "admin", "secret");
+			GameStreamProtocol.read(in);
+			for (int shot = 1; shot <= 5; shot++) {
+				GameStreamProtocol.writeShot(out, shot, new GamePlayRequest(UUID.randomUUID().toString(), 7L,
+						GameShipLocationRequest.builder().rowIndex(shot).columnIndex(0).build()));
+			}
+			out.flush();
+			for (int shot = 1; shot <= 5; shot++) {
+				frames.add(GameStreamProtocol.read(in));
+			}
+		}
+
+		assertEquals(4, frames.stream().filter(frame -> frame.getType() == GameStreamProtocol.RESULT).count());
+		assertEquals(1, frames.stream().filter(frame -> frame.getType() == GameStreamProtocol.ERROR
+				&& "Too many requests, please retry later.".equals(frame.getMessage())).count());
+		verify(gameService, times(4)).playerTurn(any(GamePlayRequest.class));
+	}
+
+	@Test
+	void testAuthenticate_AttemptsAreLimitedPerAddress() throws Exception {
+		for (String password : List.of("wrong", "wrong", "secret")) {
+			try (Socket socket = new Socket("127.0.0.1", server.getPort())) {
+				DataOutputStream out = new DataOutputStream(socket.getOutputStream());
+				GameStreamProtocol.writeAuth(out, "admin", password);
+				out.flush();
+
+				GameStreamFrame frame = GameStreamProtocol.read(new DataInputStream(socket.getInputStream()));
+
+				assertEquals(GameStreamProtocol.AUTH_FAILED, frame.getType());
+			}
+		}
+	}
+
+	@Test
+	void testAuthenticate_SilentConnectionIsClosed() throws Exception {
+		try (Socket socket = new Socket("127.0.0.1", server.getPort())) {
+			socket.setSoTimeout(5000);
+
+			assertThrows(EOFException.class,
+					() -> GameStreamProtocol.read(new DataInputStream(socket.getInputStream())));
+		}
+	}
+
+	@Test
+	void testAccept_ConnectionsOverTheCapAreRefused() throws Exception {
+		try (Socket first = new Socket("127.0.0.1", server.getPort());
+				Socket second = new Socket("127.0.0.1", server.getPort());
+				Socket third = new Socket("127.0.0.1", server.getPort())) {
+			third.setSoTimeout(5000);
+			long start = System.nanoTime();
+
+			assertThrows(EOFException.class,
+					() -> GameStreamProtocol.read(new DataInputStream(third.getInputStream())));
+			assertTrue(System.nanoTime() - start < 250_000_000L);
+		}
+	}
+}
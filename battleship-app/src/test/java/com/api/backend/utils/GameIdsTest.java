@@ -0,0 +1,80 @@
+package com.api.backend.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+class GameIdsTest {
+
+	@Test
+	void testNext_VersionSevenWithShardAndTimestamp() {
+		long before = System.currentTimeMillis();
+		UUID gameId = new GameIds(42).next();
+
+		assertEquals(7, gameId.version());
+		assertEquals(2, gameId.variant());
+		assertEquals(42, GameIds.shardOf(gameId));
+		assertTrue(GameIds.timestampOf(gameId) >= before);
+		assertTrue(GameIds.timestampOf(gameId) <= System.currentTimeMillis() + 1);
+		assertThrows(IllegalArgumentException.class, () -> new GameIds(GameIds.MAX_SHARD + 1));
+	}
+
+	@Test
+	void testNext_IncreasesWithinThread() {
+		GameIds gameIds = new GameIds(0);
+		UUID previous = gameIds.next();
+		for (int i = 0; i < 10000; i++) {
+			UUID next = gameIds.next();
+			assertTrue(Long.compareUnsigned(previous.getMostSignificantBits(), next.getMostSignificantBits()) < 0);
+			previous = next;
+		}
+	}
+
+	@Test
+	void testNext_UniqueAcrossThreads() throws Exception {
+		GameIds gameIds = new GameIds(1);
+		Set<UUID> seen = ConcurrentHashMap.newKeySet();
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+			for (int t = 0; t < 4; t++) {
+				futures.add(executor.submit(() -> {
+					for (int i = 0; i < 20000; i++) {
+						seen.add(gameIds.next());
+					}
+				}));
+			}
+			for (Future<?> future : futures) {
+				future.get(10, TimeUnit.SECONDS);
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+
+		assertEquals(80000, seen.size());
+	}
+
+	@Test
+	void testParse_MatchesUuidFromString() {
+		UUID gameId = new GameIds(7).next();
+
+		assertEquals(gameId, GameIds.parse(gameId.toString()));
+		assertEquals(gameId, GameIds.parse(gameId.toString().toUpperCase()));
+		assertEquals(UUID.fromString("1-2-3-4-5"), GameIds.parse("1-2-3-4-5"));
+		assertThrows(IllegalArgumentException.class, () -> GameIds.parse("invalid-game-id-format"));
+		assertThrows(IllegalArgumentException.class, () -> GameIds.parse("0123456789abcdef0123456789abcdef0123"));
+		assertThrows(IllegalArgumentException.class, () -> GameIds.parse("0123456z-89ab-cdef-0123-456789abcdef"));
+	}
+}
@@ -0,0 +1,76 @@
+package com.api.backend.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import com.api.backend.dto.GameDTO;
+import com.api.backend.dto.GameViewType;
+
+class GameViewCachingJsonConverterTest {
+
+	private ConcurrentMapCacheManager cacheManager;
+
+	private GameViewCachingJsonConverter converter;
+
+	@BeforeEach
+	void setUp() {
+		cacheManager = new ConcurrentMapCacheManager(Constants.GAME_VIEWS_CACHE);
+		Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json();
+		new JacksonConfig().gameFieldsFilterCustomizer().customize(builder);
+		converter = new GameViewCachingJsonConverter(builder.build(), cacheManager);
+	}
+
+	@Test
+	void testWrite_SameGameInstanceReusesBytes() throws Exception {
+		GameDTO game = GameDTO.builder().gameStatus("ONGOING").build();
+		String first = write(view(game));
+
+		game.setGameStatus("COMPLETED");
+		String second = write(view(game));
+
+		assertEquals(first, second);
+		assertTrue(second.contains("ONGOING"));
+	}
+
+	@Test
+	void testWrite_NewGameInstanceOrEvictionEncodesAgain() throws Exception {
+		write(view(GameDTO.builder().gameStatus("ONGOING").build()));
+
+		assertTrue(write(view(GameDTO.builder().gameStatus("COMPLETED").build())).contains("COMPLETED"));
+
+		GameDTO game = GameDTO.builder().gameStatus("ONGOING").build();
+		write(view(game));
+		game.setGameStatus("COMPLETED");
+		cacheManager.getCache(Constants.GAME_VIEWS_CACHE).evict("g1");
+		assertTrue(write(view(game)).contains("COMPLETED"));
+	}
+
+	@Test
+	void testWrite_PlainValuesAreNotCached() throws Exception {
+		GameDTO game = GameDTO.builder().gameStatus("ONGOING").build();
+		MappingJacksonValue value = new MappingJacksonValue(game);
+		write(value);
+
+		assertEquals(null, cacheManager.getCache(Constants.GAME_VIEWS_CACHE).get("g1"));
+	}
+
+	private CachedGameView view(GameDTO game) {
+		CachedGameView view = new CachedGameView(game, "g1", GameViewType.FULL.name());
+		view.setSerializationView(GameViewType.FULL.getJsonView());
+		return view;
+	}
+
+	private String write(MappingJacksonValue value) throws Exception {
+		MockHttpOutputMessage message = new MockHttpOutputMessage();
+		converter.write(value, MediaType.APPLICATION_JSON, message);
+		return message.getBodyAsString();
+	}
+}
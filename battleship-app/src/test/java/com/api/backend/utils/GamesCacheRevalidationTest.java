@@ -0,0 +1,93 @@
+package com.api.backend.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.api.backend.dto.GameDTO;
+import com.api.backend.entity.ShipEntity;
+import com.api.backend.repository.ShipRepository;
+import com.api.backend.request.GameCreationRequest;
+import com.api.backend.request.GameShipLocationRequest;
+import com.api.backend.request.GameShipRequest;
+import com.api.backend.request.PlayerInputRequest;
+import com.api.backend.service.GameService;
+import com.api.backend.service.PlayerService;
+import com.api.backend.store.GameStateStore;
+
+/**
+ * Runs the games cache with a soft ttl against the game state store. The
+ * database is private to this test, so its ships and games do not leak into
+ * the other tests.
+ */
+@SpringBootTest(properties = { "game.cache.soft-ttl-ms=50", "game.cache.hard-ttl-ms=60000",
+		"spring.datasource.url=jdbc:h2:mem:revalidationdb;DB_CLOSE_ON_EXIT=FALSE;DB_CLOSE_DELAY=-1;MODE=MYSQL" })
+class GamesCacheRevalidationTest {
+
+	@Autowired
+	private GameService gameService;
+
+	@Autowired
+	private PlayerService playerService;
+
+	@Autowired
+	private ShipRepository shipRepository;
+
+	@Autowired
+	private GameStateStore gameStateStore;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Autowired
+	private CacheManager cacheManager;
+
+	@Test
+	void testFetchGameDetails_StaleGameIsRefreshedFromTheStore() throws InterruptedException {
+		String gameId = createGame();
+		GameDTO first = gameService.fetchGameDetails(gameId);
+		// a turn the games cache is not told about, which only a reload from the store can see
+		new TransactionTemplate(transactionManager).executeWithoutResult(status -> gameStateStore
+				.applyTurn(GameIds.parse(gameId), first.getCurrentPlayerId(), location(9, 9)));
+		Thread.sleep(100);
+
+		assertSame(first, gameService.fetchGameDetails(gameId));
+		GameDTO refreshed = first;
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (refreshed == first && System.nanoTime() < deadline) {
+			Thread.sleep(5);
+			refreshed = gameService.fetchGameDetails(gameId);
+		}
+
+		assertNotEquals(first.getCurrentPlayerId(), refreshed.getCurrentPlayerId());
+		StaleWhileRevalidateCache games = (StaleWhileRevalidateCache) cacheManager.getCache(Constants.GAMES_CACHE);
+		assertEquals(0, games.getRefreshFailures());
+	}
+
+	private String createGame() {
+		ShipEntity destroyer = new ShipEntity();
+		destroyer.setShipName("RevalidationDestroyer");
+		destroyer.setShipLength(2);
+		destroyer = shipRepository.save(destroyer);
+		List<GameShipRequest> fleet = List.of(GameShipRequest.builder().shipId(destroyer.getShipId())
+				.gameShipLocations(List.of(location(0, 0), location(0, 1))).build());
+		playerService.createPlayer(new PlayerInputRequest("Revalidation1"));
+		playerService.createPlayer(new PlayerInputRequest("Revalidation2"));
+		return gameService.createGame(List.of(new GameCreationRequest("Revalidation1", fleet),
+				new GameCreationRequest("Revalidation2", fleet)));
+	}
+
+	private GameShipLocationRequest location(int rowIndex, int columnIndex) {
+		return GameShipLocationRequest.builder().rowIndex(rowIndex).columnIndex(columnIndex).build();
+	}
+}
@@ -0,0 +1,90 @@
+package com.api.backend.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentMap;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import com.api.backend.dto.GameDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+class IdleOffloadingCacheTest {
+
+	private ConcurrentMapCache heap;
+
+	private OffHeapSlabStore store;
+
+	private IdleOffloadingCache cache;
+
+	@BeforeEach
+	void setUp() {
+		heap = new ConcurrentMapCache("games");
+		store = new OffHeapSlabStore(64 * 1024, 512);
+		ObjectMapper smile = new ObjectMapper(new SmileFactory()).setFilterProvider(new SimpleFilterProvider()
+				.addFilter(Constants.GAME_FIELDS_FILTER, SimpleBeanPropertyFilter.serializeAll()));
+		cache = new IdleOffloadingCache(heap, store, smile, GameDTO.class, 20);
+	}
+
+	@Test
+	void testOffloadIdle_MovesOnlyIdleEntriesOffHeap() throws InterruptedException {
+		cache.put("idle", game());
+		Thread.sleep(40);
+		GameDTO active = game();
+		cache.put("active", active);
+
+		assertEquals(1, cache.offloadIdle());
+
+		assertEquals(1, nativeMap().size());
+		assertEquals(1, store.size());
+		assertSame(active, cache.get("active", GameDTO.class));
+	}
+
+	@Test
+	void testGet_RestoresOffloadedEntryOnHeap() throws InterruptedException {
+		GameDTO game = game();
+		cache.put("id", game);
+		Thread.sleep(40);
+		cache.offloadIdle();
+
+		GameDTO restored = cache.get("id", () -> game());
+
+		assertNotSame(game, restored);
+		assertEquals(game, restored);
+		assertEquals(0, store.size());
+		assertSame(restored, cache.get("id", GameDTO.class));
+	}
+
+	@Test
+	void testEvict_DropsOffloadedSnapshot() throws InterruptedException {
+		cache.put("id", game());
+		Thread.sleep(40);
+		cache.offloadIdle();
+
+		cache.evict("id");
+
+		assertEquals(0, store.size());
+		assertNull(cache.get("id"));
+		assertEquals("loaded", cache.get("id", () -> "loaded"));
+	}
+
+	@SuppressWarnings("unchecked")
+	private ConcurrentMap<Object, Object> nativeMap() {
+		return (ConcurrentMap<Object, Object>) heap.getNativeCache();
+	}
+
+	private GameDTO game() {
+		return GameDTO.builder().gameId(UUID.randomUUID()).gameStatus("ONGOING").gameCreationDate(new Date())
+				.currentPlayerId(1L).build();
+	}
+}
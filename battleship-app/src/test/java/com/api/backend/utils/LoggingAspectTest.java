@@ -0,0 +1,48 @@
+package com.api.backend.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.Signature;
+import org.junit.jupiter.api.Test;
+
+import com.api.backend.exception.InvalidMoveException;
+import com.api.backend.exception.MoveRejection;
+
+class LoggingAspectTest {
+
+	private final LoggingAspect aspect = new LoggingAspect();
+
+	private final InvalidMoveException rejection = new InvalidMoveException(MoveRejection.ALREADY_ATTACKED,
+			"Already attacked");
+
+	@Test
+	void testLogAroundAllMethods_RecordsARejectionOnceAcrossLayers() throws Throwable {
+		ProceedingJoinPoint store = joinPoint("GameStateStore", "recordShot");
+		when(store.proceed()).thenThrow(rejection);
+		ProceedingJoinPoint service = joinPoint("GameService", "gamePlay");
+		when(service.proceed()).thenAnswer(invocation -> aspect.logAroundAllMethods(store));
+		ProceedingJoinPoint controller = joinPoint("GameController", "gamePlay");
+		when(controller.proceed()).thenAnswer(invocation -> aspect.logAroundAllMethods(service));
+
+		for (int i = 0; i < 3; i++) {
+			assertSame(rejection, assertThrows(InvalidMoveException.class, () -> aspect.logAroundAllMethods(controller)));
+		}
+
+		assertEquals(2, aspect.getSkippedRejectedMoves(MoveRejection.ALREADY_ATTACKED));
+	}
+
+	private static ProceedingJoinPoint joinPoint(String className, String methodName) {
+		Signature signature = mock(Signature.class);
+		when(signature.getDeclaringTypeName()).thenReturn(className);
+		when(signature.getName()).thenReturn(methodName);
+		ProceedingJoinPoint joinPoint = mock(ProceedingJoinPoint.class);
+		when(joinPoint.getSignature()).thenReturn(signature);
+		when(joinPoint.getArgs()).thenReturn(new Object[0]);
+		return joinPoint;
+	}
+}
@@ -0,0 +1,70 @@
+package com.api.backend.utils;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class OffHeapSlabStoreTest {
+
+	private final OffHeapSlabStore store = new OffHeapSlabStore(64, 16);
+
+	@Test
+	void testPut_ValueSpanningBlocksIsReadBack() {
+		byte[] value = bytes(40, 7);
+
+		assertTrue(store.put("a", value));
+
+		assertArrayEquals(value, store.get("a"));
+		assertEquals(48, store.usedBytes());
+	}
+
+	@Test
+	void testPut_ReplacesAndFreesPreviousValue() {
+		store.put("a", bytes(40, 1));
+		store.put("a", bytes(10, 2));
+
+		assertArrayEquals(bytes(10, 2), store.get("a"));
+		assertEquals(16, store.usedBytes());
+	}
+
+	@Test
+	void testPut_EvictsLeastRecentlyUsedWhenFull() {
+		store.put("a", bytes(32, 1));
+		store.put("b", bytes(32, 2));
+		store.get("a");
+
+		store.put("c", bytes(20, 3));
+
+		assertArrayEquals(bytes(32, 1), store.get("a"));
+		assertNull(store.get("b"));
+		assertArrayEquals(bytes(20, 3), store.get("c"));
+		assertEquals(2, store.size());
+	}
+
+	@Test
+	void testPut_RejectsValueLargerThanStore() {
+		assertFalse(store.put("a", bytes(65, 1)));
+		assertEquals(0, store.size());
+	}
+
+	@Test
+	void testRemove_ReturnsValueAndFreesBlocks() {
+		store.put("a", bytes(20, 5));
+
+		assertArrayEquals(bytes(20, 5), store.remove("a"));
+		assertNull(store.remove("a"));
+		assertEquals(0, store.usedBytes());
+	}
+
+	private byte[] bytes(int length, int seed) {
+		byte[] value = new byte[length];
+		for (int i = 0; i < length; i++) {
+			value[i] = (byte) (seed * 31 + i);
+		}
+		return value;
+	}
+}
@@ -0,0 +1,59 @@
+package com.api.backend.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import org.junit.jupiter.api.Test;
+
+class RankedSetTest {
+
+	@Test
+	void testAddRemove_RanksFollowTheComparator() {
+		RankedSet<Integer> set = new RankedSet<>(Comparator.reverseOrder());
+
+		assertTrue(set.add(5));
+		assertTrue(set.add(9));
+		assertTrue(set.add(1));
+		assertFalse(set.add(5));
+
+		assertEquals(3, set.size());
+		assertEquals(0, set.rankOf(9));
+		assertEquals(2, set.rankOf(1));
+		assertEquals(-1, set.rankOf(4));
+		assertEquals(List.of(9, 5, 1), set.range(0, 10));
+		assertTrue(set.remove(9));
+		assertFalse(set.remove(9));
+		assertEquals(List.of(1), set.range(1, 10));
+		assertEquals(List.of(), set.range(2, 10));
+	}
+
+	@Test
+	void testRandomOperations_MatchSortedSet() {
+		RankedSet<Integer> set = new RankedSet<>(Comparator.naturalOrder());
+		TreeSet<Integer> expected = new TreeSet<>();
+		Random random = new Random(42);
+		for (int i = 0; i < 20000; i++) {
+			int value = random.nextInt(2000);
+			if (random.nextInt(3) == 0) {
+				assertEquals(expected.remove(value), set.remove(value));
+			} else {
+				assertEquals(expected.add(value), set.add(value));
+			}
+		}
+
+		List<Integer> sorted = new ArrayList<>(expected);
+		assertEquals(sorted.size(), set.size());
+		assertEquals(sorted, set.range(0, sorted.size()));
+		for (int rank = 0; rank < sorted.size(); rank += 37) {
+			assertEquals(rank, set.rankOf(sorted.get(rank)));
+			assertEquals(sorted.subList(rank, Math.min(rank + 25, sorted.size())), set.range(rank, 25));
+		}
+	}
+}
@@ -0,0 +1,119 @@
+package com.api.backend.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+class SingleFlightCacheTest {
+
+	private SingleFlightCache cache;
+
+	@BeforeEach
+	void setUp() {
+		cache = new SingleFlightCache(new ConcurrentMapCache("games"));
+	}
+
+	@Test
+	void testGet_ConcurrentMissesShareOneLoad() throws Exception {
+		AtomicInteger loads = new AtomicInteger();
+		CountDownLatch release = new CountDownLatch(1);
+		Callable<String> loader = () -> {
+			loads.incrementAndGet();
+			release.await(5, TimeUnit.SECONDS);
+			return "game";
+		};
+
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			List<Future<String>> results = new ArrayList<>();
+			for (int i = 0; i < 8; i++) {
+				results.add(executor.submit(() -> cache.get("id", loader)));
+			}
+			Thread.sleep(100);
+			release.countDown();
+			for (Future<String> result : results) {
+				assertEquals("game", result.get(5, TimeUnit.SECONDS));
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+
+		assertEquals(1, loads.get());
+		assertEquals("game", cache.get("id").get());
+	}
+
+	@Test
+	void testGet_LoaderExceptionIsNotCached() {
+		RuntimeException failure = new RuntimeException("db down");
+
+		Cache.ValueRetrievalException ex = assertThrows(Cache.ValueRetrievalException.class,
+				() -> cache.get("id", () -> {
+					throw failure;
+				}));
+
+		assertSame(failure, ex.getCause());
+		assertEquals("game", cache.get("id", () -> "game"));
+	}
+
+	@Test
+	void testGet_EvictDuringLoadDiscardsStaleValue() throws Exception {
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			Future<String> stale = executor.submit(() -> cache.get("id", () -> {
+				started.countDown();
+				release.await(5, TimeUnit.SECONDS);
+				return "before move";
+			}));
+			started.await(5, TimeUnit.SECONDS);
+			cache.evict("id");
+			release.countDown();
+
+			assertEquals("before move", stale.get(5, TimeUnit.SECONDS));
+		} finally {
+			executor.shutdownNow();
+		}
+
+		assertNull(cache.get("id"));
+		assertEquals("after move", cache.get("id", () -> "after move"));
+	}
+
+	@Test
+	void testGet_ClearDuringLoadDiscardsStaleValue() throws Exception {
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			Future<String> stale = executor.submit(() -> cache.get("id", () -> {
+				started.countDown();
+				release.await(5, TimeUnit.SECONDS);
+				return "before move";
+			}));
+			started.await(5, TimeUnit.SECONDS);
+			cache.clear();
+			release.countDown();
+			stale.get(5, TimeUnit.SECONDS);
+		} finally {
+			executor.shutdownNow();
+		}
+
+		assertNull(cache.get("id"));
+	}
+}
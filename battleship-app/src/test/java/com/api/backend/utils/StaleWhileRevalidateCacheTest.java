@@ -0,0 +1,134 @@
+package com.api.backend.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import com.api.backend.utils.StaleWhileRevalidateCache.Served;
+
+class StaleWhileRevalidateCacheTest {
+
+	private List<Runnable> refreshes;
+
+	private Map<Object, Object> source;
+
+	private StaleWhileRevalidateCache cache;
+
+	@BeforeEach
+	void setUp() {
+		refreshes = new ArrayList<>();
+		source = new HashMap<>();
+		cache = new StaleWhileRevalidateCache(new SingleFlightCache(new ConcurrentMapCache("games")), 20, 200,
+				refreshes::add, key -> {
+					if ("broken".equals(source.get(key))) {
+						throw new IllegalStateException("source unavailable");
+					}
+					return Optional.ofNullable(source.get(key));
+				});
+	}
+
+	@Test
+	void testGet_FreshEntryIsServedWithAge() {
+		Served<String> loaded = StaleWhileRevalidateCache.withServedAge(() -> cache.get("id", () -> "v1"));
+		assertEquals("v1", loaded.getValue());
+		assertTrue(loaded.getAge() >= 0);
+
+		Served<String> hit = StaleWhileRevalidateCache.withServedAge(() -> cache.get("id", () -> "v2"));
+		assertEquals("v1", hit.getValue());
+		assertTrue(refreshes.isEmpty());
+		assertTrue(hit.getAge() >= 0);
+	}
+
+	@Test
+	void testGet_HitOutsideAServedReadLeavesNoAgeBehind() {
+		cache.get("id", () -> "v1");
+		cache.get("id", () -> "v2");
+
+		assertEquals(-1, StaleWhileRevalidateCache.withServedAge(() -> "uncached").getAge());
+	}
+
+	@Test
+	void testWithServedAge_RestoresTheEnclosingRead() {
+		Served<Long> outer = StaleWhileRevalidateCache.withServedAge(() -> {
+			cache.get("id", () -> "v1");
+			return StaleWhileRevalidateCache.withServedAge(() -> "uncached").getAge();
+		});
+
+		assertEquals(-1L, outer.getValue());
+		assertTrue(outer.getAge() >= 0);
+	}
+
+	@Test
+	void testGet_StaleEntryIsServedWhileOneRefreshRuns() throws InterruptedException {
+		cache.get("id", () -> "v1");
+		Thread.sleep(40);
+		source.put("id", "v2");
+
+		assertEquals("v1", cache.get("id", () -> "v3"));
+		Served<String> stale = StaleWhileRevalidateCache.withServedAge(() -> cache.get("id", () -> "v4"));
+		assertEquals("v1", stale.getValue());
+		assertTrue(stale.getAge() >= 20);
+		assertEquals(1, refreshes.size());
+
+		refreshes.get(0).run();
+		assertEquals("v2", cache.get("id", () -> "v5"));
+	}
+
+	@Test
+	void testGet_RefreshEvictsAMissingKey() throws InterruptedException {
+		cache.get("id", () -> "v1");
+		Thread.sleep(40);
+		cache.get("id", () -> "v2");
+
+		refreshes.get(0).run();
+
+		assertNull(cache.get("id"));
+	}
+
+	@Test
+	void testGet_FailedRefreshIsCountedAndStaleEntryKept() throws InterruptedException {
+		cache.get("id", () -> "v1");
+		Thread.sleep(40);
+		source.put("id", "broken");
+		cache.get("id", () -> "v2");
+
+		refreshes.get(0).run();
+
+		assertEquals(1, cache.getRefreshFailures());
+		assertEquals("v1", cache.get("id", () -> "v3"));
+		assertEquals(2, refreshes.size());
+	}
+
+	@Test
+	void testGet_RefreshDoesNotOverwriteEviction() throws InterruptedException {
+		cache.get("id", () -> "v1");
+		Thread.sleep(40);
+		source.put("id", "v2");
+		cache.get("id", () -> "v3");
+
+		cache.evict("id");
+		refreshes.get(0).run();
+
+		assertNull(cache.get("id"));
+	}
+
+	@Test
+	void testGet_ExpiredEntryBlocksOnReload() throws InterruptedException {
+		cache.get("id", () -> "v1");
+		Thread.sleep(220);
+
+		assertNull(cache.get("id"));
+		assertEquals("v2", cache.get("id", () -> "v2"));
+		assertTrue(refreshes.isEmpty());
+	}
+}
@@ -0,0 +1,173 @@
+package com.api.backend.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.api.backend.dto.GameDTO;
+import com.api.backend.dto.GameGridDTO;
+import com.api.backend.dto.GamePlayerDTO;
+import com.api.backend.dto.GameShipDTO;
+import com.api.backend.dto.PlayerDTO;
+import com.api.backend.dto.ShipDTO;
+import com.api.backend.request.GameCreationRequest;
+import com.api.backend.request.GamePlayRequest;
+import com.api.backend.request.GameShipLocationRequest;
+import com.api.backend.request.GameShipRequest;
+import com.api.backend.response.GamePlayResponse;
+import com.api.backend.response.GameShipResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Compares payload size and encode/decode cost of JSON, CBOR and Smile for the
+ * game API types. Round trips and sizes are asserted in the unit suite; the
+ * timings depend on the machine, so they are only measured and logged by the
+ * benchmark, which runs with the benchmark profile.
+ */
+class WireFormatBenchmarkTest {
+
+	private static final Logger logger = LogManager.getLogger(WireFormatBenchmarkTest.class);
+
+	private static final int ITERATIONS = 2000;
+
+	private final JacksonConfig jacksonConfig = new JacksonConfig();
+
+	private final ObjectMapper json = builder().build();
+
+	private final ObjectMapper cbor = jacksonConfig.cborHttpMessageConverter(builder()).getObjectMapper();
+
+	private final ObjectMapper smile = jacksonConfig.smileHttpMessageConverter(builder()).getObjectMapper();
+
+	@Test
+	void testGamePlayRequest() throws Exception {
+		assertRoundTripsSmallerThanJson(gamePlayRequest(), GamePlayRequest.class);
+	}
+
+	@Test
+	void testGamePlayResponse() throws Exception {
+		assertRoundTripsSmallerThanJson(gamePlayResponse(), GamePlayResponse.class);
+	}
+
+	@Test
+	void testGameCreationRequest() throws Exception {
+		assertRoundTripsSmallerThanJson(gameCreationRequest(), GameCreationRequest.class);
+	}
+
+	@Test
+	void testGameDTO() throws Exception {
+		assertRoundTripsSmallerThanJson(game(), GameDTO.class);
+	}
+
+	@Test
+	@Tag("benchmark")
+	void benchmarkEncodeDecode() throws Exception {
+		logTimings(gamePlayRequest(), GamePlayRequest.class);
+		logTimings(gamePlayResponse(), GamePlayResponse.class);
+		logTimings(gameCreationRequest(), GameCreationRequest.class);
+		logTimings(game(), GameDTO.class);
+	}
+
+	private <T> void assertRoundTripsSmallerThanJson(T value, Class<T> type) throws Exception {
+		byte[] jsonBytes = json.writeValueAsBytes(value);
+		assertEquals(value, json.readValue(jsonBytes, type));
+		for (ObjectMapper mapper : List.of(cbor, smile)) {
+			byte[] bytes = mapper.writeValueAsBytes(value);
+			assertEquals(value, mapper.readValue(bytes, type));
+			assertTrue(bytes.length < jsonBytes.length, mapper.getFactory().getFormatName() + " " + bytes.length
+					+ " bytes, JSON " + jsonBytes.length + " bytes");
+		}
+	}
+
+	private <T> void logTimings(T value, Class<T> type) throws Exception {
+		for (ObjectMapper mapper : List.of(json, cbor, smile)) {
+			byte[] bytes = mapper.writeValueAsBytes(value);
+			logger.info("{} {}: {} bytes, encode {} ns, decode {} ns", type.getSimpleName(),
+					mapper.getFactory().getFormatName(), bytes.length, encodeNanos(mapper, value),
+					decodeNanos(mapper, bytes, type));
+		}
+	}
+
+	private long encodeNanos(ObjectMapper mapper, Object value) throws Exception {
+		for (int i = 0; i < ITERATIONS; i++) {
+			mapper.writeValueAsBytes(value);
+		}
+		long start = System.nanoTime();
+		for (int i = 0; i < ITERATIONS; i++) {
+			mapper.writeValueAsBytes(value);
+		}
+		return (System.nanoTime() - start) / ITERATIONS;
+	}
+
+	private long decodeNanos(ObjectMapper mapper, byte[] bytes, Class<?> type) throws Exception {
+		for (int i = 0; i < ITERATIONS; i++) {
+			mapper.readValue(bytes, type);
+		}
+		long start = System.nanoTime();
+		for (int i = 0; i < ITERATIONS; i++) {
+			mapper.readValue(bytes, type);
+		}
+		return (System.nanoTime() - start) / ITERATIONS;
+	}
+
+	private GamePlayRequest gamePlayRequest() {
+		return GamePlayRequest.builder().gameId(UUID.randomUUID().toString()).currentPlayer(1L)
+				.attackedGrid(location(3, 7)).build();
+	}
+
+	private GamePlayResponse gamePlayResponse() {
+		return GamePlayResponse.builder().gameId(UUID.randomUUID().toString())
+				.gameShipHitOrSunked(GameShipResponse.builder().gameShipName("Destroyer").gameShipStatus("SUNK").build())
+				.build();
+	}
+
+	private GameCreationRequest gameCreationRequest() {
+		List<GameShipRequest> ships = new ArrayList<>();
+		for (long shipId = 1; shipId <= 5; shipId++) {
+			List<GameShipLocationRequest> locations = new ArrayList<>();
+			for (int col = 0; col < shipId; col++) {
+				locations.add(location((int) shipId, col));
+			}
+			ships.add(GameShipRequest.builder().shipId(shipId).gameShipLocations(locations).build());
+		}
+		return GameCreationRequest.builder().playerName("Player1").shipsInfo(ships).build();
+	}
+
+	private GameDTO game() {
+		return GameDTO.builder().gameId(UUID.randomUUID()).gameStatus("ONGOING").gameCreationDate(new Date())
+				.currentPlayerId(1L).player1(gamePlayer(1L)).player2(gamePlayer(2L)).build();
+	}
+
+	private GamePlayerDTO gamePlayer(Long gamePlayerId) {
+		List<GameGridDTO> board = new ArrayList<>();
+		for (int cell = 0; cell < 100; cell++) {
+			board.add(GameGridDTO.builder().gameGridId(gamePlayerId * 100 + cell).rowIndex(cell / 10)
+					.columnIndex(cell % 10).gridValue(cell % 3 == 0 ? "ATTACKED" : "NOT_ATTACKED").build());
+		}
+		GameShipDTO ship = GameShipDTO.builder().gameShipId(gamePlayerId).shipStatus("NOT_SUNK")
+				.ship(ShipDTO.builder().shipId(1L).shipName("Destroyer").shipLength(2).build())
+				.gameShipGrids(new ArrayList<>(board.subList(0, 2))).build();
+		return GamePlayerDTO.builder().gamePlayerId(gamePlayerId)
+				.player(PlayerDTO.builder().playerId(gamePlayerId).playerName("Player" + gamePlayerId).build())
+				.gameShips(List.of(ship)).gameBoard(board).build();
+	}
+
+	private GameShipLocationRequest location(int rowIndex, int columnIndex) {
+		return GameShipLocationRequest.builder().rowIndex(rowIndex).columnIndex(columnIndex).build();
+	}
+
+	private Jackson2ObjectMapperBuilder builder() {
+		Jackson2ObjectMapperBuilder builder = new Jackson2ObjectMapperBuilder();
+		jacksonConfig.gameFieldsFilterCustomizer().customize(builder);
+		return builder;
+	}
+}
@@ -0,0 +1,204 @@
+package com.api.backend.engine;
+
+import java.util.Arrays;
+
+/**
+ * The Board class holds one player's fleet and the shots fired at it. Cells are
+ * addressed as {@code row * size + column}; the shot cells are kept in a bitset
+ * and ship membership in a flat array so that placing ships and resolving shots
+ * never allocate. Shots are resolved by {@link Shots}.
+ */
+public final class Board implements ShotTarget {
+
+	private static final int NO_SHIP = Shots.NO_SHIP;
+
+	private final int size;
+
+	private final int[] shipAtCell;
+
+	private final long[] shotCells;
+
+	private int[] shipLengths;
+
+	private int[] shipHits;
+
+	private int shipCount;
+
+	private int shipsRemaining;
+
+	private int shotsFired;
+
+	private int hits;
+
+	/**
+	 * Instantiates a new empty square board.
+	 *
+	 * @param size the number of rows and columns
+	 */
+	public Board(int size) {
+		if (size <= 0) {
+			throw new IllegalArgumentException("Board size must be positive: " + size);
+		}
+		this.size = size;
+		this.shipAtCell = new int[size * size];
+		Arrays.fill(shipAtCell, NO_SHIP);
+		this.shotCells = new long[(size * size + 63) >>> 6];
+		this.shipLengths = new int[8];
+		this.shipHits = new int[8];
+	}
+
+	/**
+	 * Places a ship on the board after validating bounds, adjacency and overlap.
+	 * The ship is only placed when the result is {@link PlacementResult#VALID};
+	 * its index is then {@code shipCount() - 1}.
+	 *
+	 * @param rows    the row index of every ship cell
+	 * @param columns the column index of every ship cell
+	 * @return the placement result
+	 */
+	public PlacementResult placeShip(int[] rows, int[] columns) {
+		if (rows.length == 0 || rows.length != columns.length) {
+			return PlacementResult.EMPTY;
+		}
+		for (int i = 0; i < rows.length; i++) {
+			if (!Placement.isWithinBounds(size, rows[i], columns[i])) {
+				return PlacementResult.OUT_OF_BOUNDS;
+			}
+		}
+		if (!Placement.isContiguous(rows, columns)) {
+			return PlacementResult.NOT_ADJACENT;
+		}
+		for (int i = 0; i < rows.length; i++) {
+			int cell = cellIndex(rows[i], columns[i]);
+			if (shipAtCell[cell] != NO_SHIP) {
+				return PlacementResult.OVERLAPPING;
+			}
+			for (int j = 0; j < i; j++) {
+				if (rows[j] == rows[i] && columns[j] == columns[i]) {
+					return PlacementResult.OVERLAPPING;
+				}
+			}
+		}
+		if (shipCount == shipLengths.length) {
+			shipLengths = Arrays.copyOf(shipLengths, shipCount * 2);
+			shipHits = Arrays.copyOf(shipHits, shipCount * 2);
+		}
+		int shipIndex = shipCount++;
+		for (int i = 0; i < rows.length; i++) {
+			shipAtCell[cellIndex(rows[i], columns[i])] = shipIndex;
+		}
+		shipLengths[shipIndex] = rows.length;
+		shipHits[shipIndex] = 0;
+		shipsRemaining++;
+		return PlacementResult.VALID;
+	}
+
+	/**
+	 * Fires at the given cell and records the shot.
+	 *
+	 * @param row    the row index
+	 * @param column the column index
+	 * @return the shot outcome
+	 */
+	public ShotOutcome fire(int row, int column) {
+		return Shots.resolve(size, row, column, this);
+	}
+
+	@Override
+	public boolean isAttacked(int cell) {
+		return (shotCells[cell >>> 6] & (1L << cell)) != 0;
+	}
+
+	@Override
+	public void markAttacked(int cell) {
+		shotCells[cell >>> 6] |= 1L << cell;
+		shotsFired++;
+	}
+
+	@Override
+	public int shipAt(int cell) {
+		return shipAtCell[cell];
+	}
+
+	@Override
+	public int hitShip(int ship) {
+		hits++;
+		return ++shipHits[ship];
+	}
+
+	@Override
+	public int shipLength(int ship) {
+		return shipLengths[ship];
+	}
+
+	@Override
+	public void sinkShip(int ship) {
+		shipsRemaining--;
+	}
+
+	/**
+	 * Gets the index of the ship occupying the given cell.
+	 *
+	 * @param row    the row index
+	 * @param column the column index
+	 * @return the ship index, or -1 when the cell is empty
+	 */
+	public int shipAt(int row, int column) {
+		return shipAt(cellIndex(row, column));
+	}
+
+	/**
+	 * Checks whether the given cell has already been fired at.
+	 *
+	 * @param row    the row index
+	 * @param column the column index
+	 * @return true if the cell was attacked, false otherwise
+	 */
+	public boolean isAttacked(int row, int column) {
+		return isAttacked(cellIndex(row, column));
+	}
+
+	/**
+	 * Checks whether the given ship is sunk.
+	 *
+	 * @param shipIndex the ship index
+	 * @return true if every cell of the ship was hit, false otherwise
+	 */
+	public boolean isSunk(int shipIndex) {
+		return shipHits[shipIndex] == shipLengths[shipIndex];
+	}
+
+	/**
+	 * Checks whether the whole fleet is sunk.
+	 *
+	 * @return true if no ship remains afloat, false otherwise
+	 */
+	public boolean isFleetSunk() {
+		return shipsRemaining == 0;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public int shipCount() {
+		return shipCount;
+	}
+
+	@Override
+	public int shipsRemaining() {
+		return shipsRemaining;
+	}
+
+	public int shotsFired() {
+		return shotsFired;
+	}
+
+	public int hits() {
+		return hits;
+	}
+
+	private int cellIndex(int row, int column) {
+		return row * size + column;
+	}
+}
@@ -0,0 +1,109 @@
+package com.api.backend.engine;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Base64;
+import java.util.BitSet;
+
+/**
+ * The BoardCodec class encodes sets of board cells, such as shot cells or the
+ * cells of a ship, into compact strings and decodes them back. Cells are indexed
+ * {@code row * size + column}. Small boards use {@link CellEncoding#BITSET},
+ * boards of at least {@link #RLE_MIN_CELLS} cells use {@link CellEncoding#RLE},
+ * whose length grows with the number of runs rather than the number of cells.
+ *
+ * The class has no dependencies so clients can use it to decode game responses.
+ */
+public final class BoardCodec {
+
+	/** The number of cells from which boards are run length encoded. */
+	public static final int RLE_MIN_CELLS = 1024;
+
+	private BoardCodec() {
+	}
+
+	/**
+	 * Returns the encoding used for a square board of the given size.
+	 *
+	 * @param size the board size
+	 * @return the cell encoding
+	 */
+	public static CellEncoding encodingFor(int size) {
+		return size * size >= RLE_MIN_CELLS ? CellEncoding.RLE : CellEncoding.BITSET;
+	}
+
+	/**
+	 * Encodes a set of cells.
+	 *
+	 * @param cells    the set cells
+	 * @param encoding the encoding to use
+	 * @return the base64 encoded cells
+	 */
+	public static String encode(BitSet cells, CellEncoding encoding) {
+		byte[] bytes = encoding == CellEncoding.RLE ? runLengths(cells) : cells.toByteArray();
+		return Base64.getEncoder().encodeToString(bytes);
+	}
+
+	/**
+	 * Decodes a set of cells.
+	 *
+	 * @param value    the base64 encoded cells
+	 * @param encoding the encoding the cells were written with
+	 * @return the set cells
+	 * @throws IllegalArgumentException if the value is not valid for the encoding
+	 */
+	public static BitSet decode(String value, CellEncoding encoding) {
+		byte[] bytes = Base64.getDecoder().decode(value);
+		return encoding == CellEncoding.RLE ? fromRunLengths(bytes) : BitSet.valueOf(bytes);
+	}
+
+	private static byte[] runLengths(BitSet cells) {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		int from = 0;
+		int start = cells.nextSetBit(0);
+		while (start >= 0) {
+			int end = cells.nextClearBit(start);
+			writeVarint(out, start - from);
+			writeVarint(out, end - start);
+			from = end;
+			start = cells.nextSetBit(end);
+		}
+		return out.toByteArray();
+	}
+
+	private static BitSet fromRunLengths(byte[] bytes) {
+		BitSet cells = new BitSet();
+		int cell = 0;
+		boolean present = false;
+		int run = 0;
+		int shift = 0;
+		for (byte b : bytes) {
+			if (shift > 28) {
+				throw new IllegalArgumentException("Run length too long");
+			}
+			run |= (b & 0x7f) << shift;
+			if ((b & 0x80) != 0) {
+				shift += 7;
+				continue;
+			}
+			if (present) {
+				cells.set(cell, cell + run);
+			}
+			cell += run;
+			present = !present;
+			run = 0;
+			shift = 0;
+		}
+		if (shift != 0) {
+			throw new IllegalArgumentException("Truncated run length");
+		}
+		return cells;
+	}
+
+	private static void writeVarint(ByteArrayOutputStream out, int value) {
+		while ((value & ~0x7f) != 0) {
+			out.write((value & 0x7f) | 0x80);
+			value >>>= 7;
+		}
+		out.write(value);
+	}
+}
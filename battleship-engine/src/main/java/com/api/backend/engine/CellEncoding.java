@@ -0,0 +1,19 @@
+package com.api.backend.engine;
+
+/**
+ * The CellEncoding enum lists the text encodings of a set of board cells.
+ */
+public enum CellEncoding {
+
+	/**
+	 * Base64 of the bitset bytes, cell i is bit {@code i % 8} of byte {@code i / 8}.
+	 */
+	BITSET,
+
+	/**
+	 * Base64 of unsigned LEB128 varints giving the lengths of alternating runs of
+	 * absent and present cells, starting with a run of absent cells. A trailing
+	 * run of absent cells is omitted.
+	 */
+	RLE
+}
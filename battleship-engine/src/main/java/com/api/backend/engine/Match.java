@@ -0,0 +1,71 @@
+package com.api.backend.engine;
+
+/**
+ * The Match class plays one game between two boards. Players are addressed as
+ * 0 and 1; player 0 moves first and the turn passes to the opponent after every
+ * applied shot, as in the API. The rules are those of {@link Shots}.
+ */
+public final class Match {
+
+	public static final int NO_WINNER = -1;
+
+	private final Board[] boards;
+
+	private int currentPlayer;
+
+	private int winner = NO_WINNER;
+
+	/**
+	 * Instantiates a new match.
+	 *
+	 * @param player0Board the board of the first player
+	 * @param player1Board the board of the second player
+	 */
+	public Match(Board player0Board, Board player1Board) {
+		this.boards = new Board[] { player0Board, player1Board };
+	}
+
+	/**
+	 * Fires a shot by the given player at the opponent's board.
+	 *
+	 * @param player the player taking the turn
+	 * @param row    the row index
+	 * @param column the column index
+	 * @return the shot outcome
+	 */
+	public ShotOutcome fire(int player, int row, int column) {
+		Board opponentBoard = boards[Shots.opponent(currentPlayer)];
+		ShotOutcome outcome = Shots.fire(isOver(), currentPlayer, player, opponentBoard.size(), row, column,
+				opponentBoard);
+		if (outcome.isRejected()) {
+			return outcome;
+		}
+		if (Shots.isFleetSunk(opponentBoard)) {
+			winner = player;
+		}
+		currentPlayer = Shots.opponent(player);
+		return outcome;
+	}
+
+	/**
+	 * Gets the board of the given player.
+	 *
+	 * @param player the player
+	 * @return the player's board
+	 */
+	public Board board(int player) {
+		return boards[player];
+	}
+
+	public int currentPlayer() {
+		return currentPlayer;
+	}
+
+	public int winner() {
+		return winner;
+	}
+
+	public boolean isOver() {
+		return winner != NO_WINNER;
+	}
+}
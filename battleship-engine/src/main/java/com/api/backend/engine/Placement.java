@@ -0,0 +1,51 @@
+package com.api.backend.engine;
+
+/**
+ * The Placement class holds the stateless ship placement rules. Cells are given
+ * as parallel row and column arrays so callers never have to allocate cell
+ * objects.
+ */
+public final class Placement {
+
+	private Placement() {
+	}
+
+	/**
+	 * Checks whether the given cell lies on a square board of the given size.
+	 *
+	 * @param size   the board size
+	 * @param row    the row index
+	 * @param column the column index
+	 * @return true if the cell is on the board, false otherwise
+	 */
+	public static boolean isWithinBounds(int size, int row, int column) {
+		return row >= 0 && column >= 0 && row < size && column < size;
+	}
+
+	/**
+	 * Checks whether consecutive cells of a ship are adjacent, either all along
+	 * one row or all along one column.
+	 *
+	 * @param rows    the row index of every ship cell
+	 * @param columns the column index of every ship cell
+	 * @return true if the cells form a horizontal or vertical line, false
+	 *         otherwise
+	 */
+	public static boolean isContiguous(int[] rows, int[] columns) {
+		boolean isHorizontal = true;
+		boolean isVertical = true;
+		for (int i = 1; i < rows.length; i++) {
+			int row = rows[i];
+			int column = columns[i];
+			int prevRow = rows[i - 1];
+			int prevColumn = columns[i - 1];
+			if (row != prevRow || Math.abs(column - prevColumn) > 1) {
+				isHorizontal = false;
+			}
+			if (column != prevColumn || Math.abs(row - prevRow) > 1) {
+				isVertical = false;
+			}
+		}
+		return isHorizontal || isVertical;
+	}
+}
@@ -0,0 +1,12 @@
+package com.api.backend.engine;
+
+/**
+ * The PlacementResult enum lists the results of placing a ship on a board.
+ */
+public enum PlacementResult {
+	VALID,
+	EMPTY,
+	OUT_OF_BOUNDS,
+	OVERLAPPING,
+	NOT_ADJACENT
+}
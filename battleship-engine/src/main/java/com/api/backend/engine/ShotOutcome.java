@@ -0,0 +1,23 @@
+package com.api.backend.engine;
+
+/**
+ * The ShotOutcome enum lists every result of firing at a board or a match.
+ */
+public enum ShotOutcome {
+	MISS,
+	HIT,
+	SUNK,
+	ALREADY_ATTACKED,
+	OUT_OF_BOUNDS,
+	WRONG_TURN,
+	GAME_OVER;
+
+	/**
+	 * Checks whether the shot was rejected without changing any state.
+	 *
+	 * @return true if the shot was not applied, false otherwise
+	 */
+	public boolean isRejected() {
+		return this != MISS && this != HIT && this != SUNK;
+	}
+}
@@ -0,0 +1,63 @@
+package com.api.backend.engine;
+
+/**
+ * The ShotTarget interface is the board a shot is fired at, as seen by
+ * {@link Shots}. Cells are addressed as {@code row * size + column} and ships
+ * by an index chosen by the implementation, so that a board kept in a file, a
+ * map or a database can be played with the same rules as {@link Board}.
+ */
+public interface ShotTarget {
+
+	/**
+	 * Checks whether the given cell has already been fired at.
+	 *
+	 * @param cell the cell
+	 * @return true if the cell was attacked, false otherwise
+	 */
+	boolean isAttacked(int cell);
+
+	/**
+	 * Records a shot at the given cell.
+	 *
+	 * @param cell the cell
+	 */
+	void markAttacked(int cell);
+
+	/**
+	 * Gets the index of the ship occupying the given cell.
+	 *
+	 * @param cell the cell
+	 * @return the ship index, or {@link Shots#NO_SHIP} when the cell is empty
+	 */
+	int shipAt(int cell);
+
+	/**
+	 * Records a hit on the given ship.
+	 *
+	 * @param ship the ship index
+	 * @return the number of hits on the ship, including this one
+	 */
+	int hitShip(int ship);
+
+	/**
+	 * Gets the number of cells of the given ship.
+	 *
+	 * @param ship the ship index
+	 * @return the ship length
+	 */
+	int shipLength(int ship);
+
+	/**
+	 * Marks the given ship as sunk, which takes it out of the ships remaining.
+	 *
+	 * @param ship the ship index
+	 */
+	void sinkShip(int ship);
+
+	/**
+	 * Gets the number of ships still afloat.
+	 *
+	 * @return the ships remaining
+	 */
+	int shipsRemaining();
+}
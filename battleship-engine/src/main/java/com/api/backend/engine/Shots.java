@@ -0,0 +1,93 @@
+package com.api.backend.engine;
+
+/**
+ * The Shots class holds the stateless shot resolution and win detection rules.
+ * Players are addressed as 0 and 1; the turn passes to the opponent after every
+ * applied shot and the shooter wins once the opponent's fleet is sunk. The
+ * board shot at is a {@link ShotTarget}, so that the rules never allocate and
+ * do not depend on how the board is stored.
+ */
+public final class Shots {
+
+	public static final int NO_SHIP = -1;
+
+	private Shots() {
+	}
+
+	/**
+	 * Fires a shot by the given player at the opponent's board. The checks run in
+	 * order: the game is over, it is not the player's turn, the cell is off the
+	 * board, the cell was already attacked. A rejected shot leaves the board
+	 * untouched.
+	 *
+	 * @param gameOver      whether the game already has a winner
+	 * @param currentPlayer the player whose turn it is
+	 * @param shooter       the player firing
+	 * @param size          the board size
+	 * @param row           the row index
+	 * @param column        the column index
+	 * @param target        the opponent's board
+	 * @return the shot outcome
+	 */
+	public static ShotOutcome fire(boolean gameOver, int currentPlayer, int shooter, int size, int row, int column,
+			ShotTarget target) {
+		if (gameOver) {
+			return ShotOutcome.GAME_OVER;
+		}
+		if (shooter != currentPlayer) {
+			return ShotOutcome.WRONG_TURN;
+		}
+		return resolve(size, row, column, target);
+	}
+
+	/**
+	 * Resolves a shot at a board regardless of turns: marks the cell, counts a hit
+	 * on the ship occupying it and sinks the ship once all its cells are hit.
+	 *
+	 * @param size   the board size
+	 * @param row    the row index
+	 * @param column the column index
+	 * @param target the board
+	 * @return the shot outcome
+	 */
+	public static ShotOutcome resolve(int size, int row, int column, ShotTarget target) {
+		if (!Placement.isWithinBounds(size, row, column)) {
+			return ShotOutcome.OUT_OF_BOUNDS;
+		}
+		int cell = row * size + column;
+		if (target.isAttacked(cell)) {
+			return ShotOutcome.ALREADY_ATTACKED;
+		}
+		target.markAttacked(cell);
+		int ship = target.shipAt(cell);
+		if (ship == NO_SHIP) {
+			return ShotOutcome.MISS;
+		}
+		if (target.hitShip(ship) >= target.shipLength(ship)) {
+			target.sinkShip(ship);
+			return ShotOutcome.SUNK;
+		}
+		return ShotOutcome.HIT;
+	}
+
+	/**
+	 * Checks whether the whole fleet of a board is sunk, which makes the player
+	 * who fired the last shot at it the winner.
+	 *
+	 * @param target the board
+	 * @return true if no ship remains afloat, false otherwise
+	 */
+	public static boolean isFleetSunk(ShotTarget target) {
+		return target.shipsRemaining() <= 0;
+	}
+
+	/**
+	 * Gets the opponent of a player, who takes the next turn.
+	 *
+	 * @param player the player
+	 * @return the opponent
+	 */
+	public static int opponent(int player) {
+		return 1 - player;
+	}
+}
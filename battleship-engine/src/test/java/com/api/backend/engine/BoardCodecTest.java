@@ -0,0 +1,52 @@
+package com.api.backend.engine;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Base64;
+import java.util.BitSet;
+
+import org.junit.jupiter.api.Test;
+
+class BoardCodecTest {
+
+	@Test
+	void testEncodingFor_LargeBoardsUseRunLengths() {
+		assertEquals(CellEncoding.BITSET, BoardCodec.encodingFor(10));
+		assertEquals(CellEncoding.RLE, BoardCodec.encodingFor(32));
+	}
+
+	@Test
+	void testBitset_RoundTrip() {
+		BitSet cells = new BitSet();
+		cells.set(0);
+		cells.set(11);
+		cells.set(99);
+
+		String encoded = BoardCodec.encode(cells, CellEncoding.BITSET);
+
+		assertEquals(cells, BoardCodec.decode(encoded, CellEncoding.BITSET));
+		assertEquals("", BoardCodec.encode(new BitSet(), CellEncoding.BITSET));
+	}
+
+	@Test
+	void testRunLengths_RoundTrip() {
+		BitSet cells = new BitSet();
+		cells.set(0, 5);
+		cells.set(300, 310);
+		cells.set(9999);
+
+		String encoded = BoardCodec.encode(cells, CellEncoding.RLE);
+
+		assertEquals(cells, BoardCodec.decode(encoded, CellEncoding.RLE));
+		// 6 runs, the 9689 cells gap needs a two byte varint
+		assertEquals(8, Base64.getDecoder().decode(encoded).length);
+	}
+
+	@Test
+	void testRunLengths_Truncated() {
+		String truncated = Base64.getEncoder().encodeToString(new byte[] { (byte) 0x80 });
+
+		assertThrows(IllegalArgumentException.class, () -> BoardCodec.decode(truncated, CellEncoding.RLE));
+	}
+}
@@ -0,0 +1,76 @@
+package com.api.backend.engine;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class BoardTest {
+
+	private Board board;
+
+	@BeforeEach
+	void setUp() {
+		board = new Board(10);
+	}
+
+	@Test
+	void testPlaceShip_Valid() {
+		assertEquals(PlacementResult.VALID, board.placeShip(new int[] { 0, 0, 0 }, new int[] { 0, 1, 2 }));
+		assertEquals(1, board.shipCount());
+		assertEquals(0, board.shipAt(0, 2));
+		assertEquals(-1, board.shipAt(1, 0));
+	}
+
+	@Test
+	void testPlaceShip_OutOfBounds() {
+		assertEquals(PlacementResult.OUT_OF_BOUNDS, board.placeShip(new int[] { 9, 10 }, new int[] { 0, 0 }));
+		assertEquals(0, board.shipCount());
+	}
+
+	@Test
+	void testPlaceShip_NotAdjacent() {
+		assertEquals(PlacementResult.NOT_ADJACENT, board.placeShip(new int[] { 0, 2 }, new int[] { 0, 0 }));
+	}
+
+	@Test
+	void testPlaceShip_Overlapping() {
+		board.placeShip(new int[] { 0, 1 }, new int[] { 0, 0 });
+
+		assertEquals(PlacementResult.OVERLAPPING, board.placeShip(new int[] { 1, 1 }, new int[] { 0, 1 }));
+		assertEquals(1, board.shipCount());
+	}
+
+	@Test
+	void testFire_MissHitAndSunk() {
+		board.placeShip(new int[] { 0, 0 }, new int[] { 0, 1 });
+
+		assertEquals(ShotOutcome.MISS, board.fire(5, 5));
+		assertEquals(ShotOutcome.HIT, board.fire(0, 0));
+		assertFalse(board.isSunk(0));
+		assertEquals(ShotOutcome.SUNK, board.fire(0, 1));
+		assertTrue(board.isSunk(0));
+		assertTrue(board.isFleetSunk());
+		assertEquals(3, board.shotsFired());
+		assertEquals(2, board.hits());
+	}
+
+	@Test
+	void testFire_Rejected() {
+		board.fire(3, 3);
+
+		assertEquals(ShotOutcome.ALREADY_ATTACKED, board.fire(3, 3));
+		assertEquals(ShotOutcome.OUT_OF_BOUNDS, board.fire(-1, 3));
+		assertEquals(1, board.shotsFired());
+	}
+
+	@Test
+	void testPlaceShip_GrowsFleet() {
+		for (int row = 0; row < 10; row++) {
+			assertEquals(PlacementResult.VALID, board.placeShip(new int[] { row }, new int[] { 0 }));
+		}
+		assertEquals(10, board.shipsRemaining());
+	}
+}
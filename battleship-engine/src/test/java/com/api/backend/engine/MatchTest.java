@@ -0,0 +1,49 @@
+package com.api.backend.engine;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class MatchTest {
+
+	private Match match;
+
+	@BeforeEach
+	void setUp() {
+		Board board0 = new Board(10);
+		board0.placeShip(new int[] { 0 }, new int[] { 0 });
+		Board board1 = new Board(10);
+		board1.placeShip(new int[] { 4, 5 }, new int[] { 4, 4 });
+		match = new Match(board0, board1);
+	}
+
+	@Test
+	void testFire_WrongTurn() {
+		assertEquals(ShotOutcome.WRONG_TURN, match.fire(1, 0, 0));
+		assertEquals(0, match.currentPlayer());
+	}
+
+	@Test
+	void testFire_RejectedShotKeepsTurn() {
+		match.fire(0, 9, 9);
+		match.fire(1, 9, 9);
+
+		assertEquals(ShotOutcome.ALREADY_ATTACKED, match.fire(0, 9, 9));
+		assertEquals(0, match.currentPlayer());
+	}
+
+	@Test
+	void testFire_Winner() {
+		assertEquals(ShotOutcome.HIT, match.fire(0, 4, 4));
+		assertEquals(ShotOutcome.MISS, match.fire(1, 1, 1));
+		assertFalse(match.isOver());
+		assertEquals(ShotOutcome.SUNK, match.fire(0, 5, 4));
+
+		assertTrue(match.isOver());
+		assertEquals(0, match.winner());
+		assertEquals(ShotOutcome.GAME_OVER, match.fire(1, 0, 0));
+	}
+}
@@ -0,0 +1,96 @@
+package com.api.backend.engine;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ShotsTest {
+
+	private Board board;
+
+	@BeforeEach
+	void setUp() {
+		board = new Board(10);
+		board.placeShip(new int[] { 4, 5 }, new int[] { 4, 4 });
+	}
+
+	@Test
+	void testFire_GameOverBeforeTurn() {
+		assertEquals(ShotOutcome.GAME_OVER, Shots.fire(true, 0, 1, 10, 4, 4, board));
+		assertEquals(0, board.shotsFired());
+	}
+
+	@Test
+	void testFire_WrongTurnBeforeBounds() {
+		assertEquals(ShotOutcome.WRONG_TURN, Shots.fire(false, 0, 1, 10, 10, 0, board));
+		assertEquals(ShotOutcome.OUT_OF_BOUNDS, Shots.fire(false, 0, 0, 10, 10, 0, board));
+		assertEquals(0, board.shotsFired());
+	}
+
+	@Test
+	void testFire_SinksTheFleet() {
+		assertEquals(ShotOutcome.MISS, Shots.fire(false, 0, 0, 10, 0, 0, board));
+		assertEquals(ShotOutcome.HIT, Shots.fire(false, 0, 0, 10, 4, 4, board));
+		assertFalse(Shots.isFleetSunk(board));
+		assertEquals(ShotOutcome.ALREADY_ATTACKED, Shots.fire(false, 0, 0, 10, 4, 4, board));
+		assertEquals(ShotOutcome.SUNK, Shots.fire(false, 0, 0, 10, 5, 4, board));
+
+		assertTrue(Shots.isFleetSunk(board));
+		assertEquals(3, board.shotsFired());
+		assertEquals(2, board.hits());
+	}
+
+	@Test
+	void testResolve_UsesTheTargetCellIndex() {
+		int[] marked = { -1 };
+		ShotTarget target = new ShotTarget() {
+
+			@Override
+			public boolean isAttacked(int cell) {
+				return false;
+			}
+
+			@Override
+			public void markAttacked(int cell) {
+				marked[0] = cell;
+			}
+
+			@Override
+			public int shipAt(int cell) {
+				return Shots.NO_SHIP;
+			}
+
+			@Override
+			public int hitShip(int ship) {
+				throw new AssertionError();
+			}
+
+			@Override
+			public int shipLength(int ship) {
+				throw new AssertionError();
+			}
+
+			@Override
+			public void sinkShip(int ship) {
+				throw new AssertionError();
+			}
+
+			@Override
+			public int shipsRemaining() {
+				return 1;
+			}
+		};
+
+		assertEquals(ShotOutcome.MISS, Shots.resolve(10, 3, 7, target));
+		assertEquals(37, marked[0]);
+	}
+
+	@Test
+	void testOpponent() {
+		assertEquals(1, Shots.opponent(0));
+		assertEquals(0, Shots.opponent(1));
+	}
+}